@@ -17,4 +17,14 @@ public interface OgmSession extends Session {
 
 	@Override
 	OgmSessionFactory getSessionFactory();
+
+	/**
+	 * Returns the number of partial flushes since this session was obtained: the auto flushes before the queries and
+	 * the flushes applying, before a read, the pending changes it depends on.
+	 * <p>
+	 * The partial flushes are also reported to the {@link org.hibernate.SessionEventListener}s of the session.
+	 *
+	 * @return the number of partial flushes of this session
+	 */
+	long getPartialFlushCount();
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.HibernateException;
 import org.hibernate.SessionBuilder;
 import org.hibernate.SessionFactory;
@@ -42,4 +44,24 @@ public interface OgmSessionFactory extends SessionFactory {
 
 	@Override
 	OgmSession getCurrentSession() throws HibernateException;
+
+	/**
+	 * Waits until the changes flushed so far have been written to the datastore when write-behind is enabled (see
+	 * {@link org.hibernate.ogm.cfg.OgmProperties#WRITE_BEHIND_ENABLED}). Returns immediately otherwise.
+	 *
+	 * @throws HibernateException if some of the changes could not be written
+	 */
+	void awaitWriteBehind() throws HibernateException;
+
+	/**
+	 * Waits until the changes flushed so far have been written to the datastore when write-behind is enabled (see
+	 * {@link org.hibernate.ogm.cfg.OgmProperties#WRITE_BEHIND_ENABLED}), at most for the given time. Returns
+	 * immediately otherwise.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @param unit the unit of the timeout
+	 * @return {@code true} if the changes have been written, {@code false} if the timeout elapsed before
+	 * @throws HibernateException if some of the changes could not be written
+	 */
+	boolean awaitWriteBehind(long timeout, TimeUnit unit) throws HibernateException;
 }
@@ -15,11 +15,16 @@
 import org.hibernate.ogm.cfg.impl.HibernateSearchIntegration;
 import org.hibernate.ogm.datastore.impl.DatastoreProviderInitiator;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagerInitiator;
+import org.hibernate.ogm.dialect.impl.AssociationRowsGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.AssociationSizeGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.AssociationTargetsGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.AsyncGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.GridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.IdentityColumnAwareGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.MultigetGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.OgmDialectFactoryInitiator;
 import org.hibernate.ogm.dialect.impl.OptimisticLockingAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.ParallelFlushExecutorInitiator;
 import org.hibernate.ogm.dialect.impl.QueryableGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.StoredProcedureGridDialectInitiator;
 import org.hibernate.ogm.jdbc.impl.OgmConnectionProviderInitiator;
@@ -77,6 +82,7 @@ public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
 		serviceRegistryBuilder.addInitiator( OptionsServiceInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( OgmMutableIdentifierGeneratorFactoryInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( EventContextManagerInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( ParallelFlushExecutorInitiator.INSTANCE );
 
 		serviceRegistryBuilder.addInitiator( GridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( QueryableGridDialectInitiator.INSTANCE );
@@ -84,6 +90,10 @@ public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
 		serviceRegistryBuilder.addInitiator( OptimisticLockingAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( MultigetGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( StoredProcedureGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AssociationRowsGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AssociationSizeGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AssociationTargetsGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AsyncGridDialectInitiator.INSTANCE );
 	}
 
 	private boolean isOgmEnabled(Map<?, ?> settings) {
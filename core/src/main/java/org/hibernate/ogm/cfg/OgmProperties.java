@@ -107,6 +107,96 @@ public interface OgmProperties {
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
 
+	/**
+	 * Property for enabling the collection of metrics about the operations executed against the datastore: call
+	 * counts, latencies, batch and payload sizes per operation and per table. Accepts "true" or "false", defaults to
+	 * "false". Metrics are not collected at all if not enabled.
+	 *
+	 * @see #DATASTORE_METRICS_LISTENER
+	 * @see #DATASTORE_METRICS_JMX_ENABLED
+	 */
+	String DATASTORE_METRICS_ENABLED = "hibernate.ogm.datastore.metrics.enabled";
+
+	/**
+	 * Property for setting a {@link org.hibernate.ogm.metrics.DatastoreMetricsListener} which will be notified about
+	 * each operation executed against the datastore. Setting a listener enables the collection of datastore metrics.
+	 * Supported value types are:
+	 * <ul>
+	 * <li>{@link String}: the fully qualified name of a {@code DatastoreMetricsListener} type</li>
+	 * <li>{@link Class}: the class object representing a {@code DatastoreMetricsListener} type</li>
+	 * <li>{@code DatastoreMetricsListener}: a listener instance</li>
+	 * </ul>
+	 */
+	String DATASTORE_METRICS_LISTENER = "hibernate.ogm.datastore.metrics.listener";
+
+	/**
+	 * Property for exposing the datastore metrics via JMX, as {@link org.hibernate.ogm.metrics.DatastoreMetricsMBean},
+	 * when they are enabled. Accepts "true" or "false", defaults to "true".
+	 */
+	String DATASTORE_METRICS_JMX_ENABLED = "hibernate.ogm.datastore.metrics.jmx_enabled";
+
+	/**
+	 * Property for executing the operations queued during a flush in parallel. The operations are split into
+	 * partitions not sharing any table, each partition being executed in the order of the queue; the partitions are
+	 * executed concurrently. Accepts "true" or "false", defaults to "false".
+	 * <p>
+	 * Only meant for datastores without transactions, as the partitions are executed by other threads than the one of
+	 * the session.
+	 *
+	 * @see #PARALLEL_FLUSH_MAX_THREADS
+	 * @see #ASYNC_FLUSH_ENABLED
+	 */
+	String PARALLEL_FLUSH_ENABLED = "hibernate.ogm.datastore.parallel_flush.enabled";
+
+	/**
+	 * Property for setting the maximum number of threads executing the partitions of flushes in parallel. Virtual
+	 * threads are used if the JVM supports them. Accepts an int value, defaults to the number of available processors.
+	 *
+	 * @see #PARALLEL_FLUSH_ENABLED
+	 */
+	String PARALLEL_FLUSH_MAX_THREADS = "hibernate.ogm.datastore.parallel_flush.max_threads";
+
+	/**
+	 * Property for executing the partitions of a flush concurrently through the asynchronous operations of dialects
+	 * implementing {@link org.hibernate.ogm.dialect.async.spi.AsyncGridDialect}. The partitions are split as for
+	 * {@link #PARALLEL_FLUSH_ENABLED}. Accepts "true" or "false", defaults to "false".
+	 * <p>
+	 * Unlike a sequential flush, a failing partition doesn't prevent the partitions already started from being
+	 * applied, so a failed flush may have applied part of its changes to other tables.
+	 *
+	 * @see #PARALLEL_FLUSH_ENABLED
+	 */
+	String ASYNC_FLUSH_ENABLED = "hibernate.ogm.datastore.async_flush.enabled";
+
+	/**
+	 * Property for writing the operations of flushes to the datastore asynchronously. Instead of being executed by the
+	 * committing thread, the operations are handed to a background writer which applies them in the order of the
+	 * flushes, coalescing the pending changes to the same entity. Accepts "true" or "false", defaults to "false".
+	 * <p>
+	 * Only meant for datastores without transactions, as the operations are written once the transaction completed.
+	 * The changes are not visible to other sessions and queries until they have been written; use
+	 * {@link org.hibernate.ogm.OgmSessionFactory#awaitWriteBehind()} to wait for them. Failed writes are reported to
+	 * the {@link #ERROR_HANDLER}, if any.
+	 *
+	 * @see #WRITE_BEHIND_QUEUE_SIZE
+	 */
+	String WRITE_BEHIND_ENABLED = "hibernate.ogm.datastore.write_behind.enabled";
+
+	/**
+	 * Property for setting the maximum number of operations waiting to be written by the background writer. Flushes
+	 * block while the limit is reached. Accepts an int value, defaults to 10000.
+	 *
+	 * @see #WRITE_BEHIND_ENABLED
+	 */
+	String WRITE_BEHIND_QUEUE_SIZE = "hibernate.ogm.datastore.write_behind.queue_size";
+
+	/**
+	 * Property for setting the number of operations a {@link org.hibernate.StatelessSession} queues before executing
+	 * them as one batch, for dialects supporting batches. The pending operations are also executed before reads and
+	 * queries, before the transaction completes and when the session is closed. Accepts an int value, defaults to 1000.
+	 */
+	String STATELESS_SESSION_BATCH_SIZE = "hibernate.ogm.datastore.stateless_session.batch_size";
+
 	/**
 	 * Optional JNDI resource string to fetch a native data store client
 	 */
@@ -30,6 +30,10 @@ public ErrorHandlerEnabledTransactionCoordinatorBuilder(TransactionCoordinatorBu
 		this.errorHandler = errorHandler;
 	}
 
+	public ErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
+
 	@Override
 	public TransactionCoordinator buildTransactionCoordinator(TransactionCoordinatorOwner owner, Options options) {
 		return new ErrorHandlerEnabledTransactionCoordinatorDecorator(
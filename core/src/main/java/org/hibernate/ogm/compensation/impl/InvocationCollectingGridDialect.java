@@ -9,6 +9,8 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ogm.compensation.ErrorHandler;
 import org.hibernate.ogm.compensation.ErrorHandlingStrategy;
@@ -22,6 +24,7 @@
 import org.hibernate.ogm.compensation.operation.InsertTuple;
 import org.hibernate.ogm.compensation.operation.RemoveAssociation;
 import org.hibernate.ogm.compensation.operation.RemoveTuple;
+import org.hibernate.ogm.compensation.operation.UpdateAssociationRows;
 import org.hibernate.ogm.compensation.operation.UpdateTupleWithOptimisticLock;
 import org.hibernate.ogm.compensation.operation.impl.CreateAssociationWithKeyImpl;
 import org.hibernate.ogm.compensation.operation.impl.CreateTupleImpl;
@@ -34,7 +37,9 @@
 import org.hibernate.ogm.compensation.operation.impl.RemoveAssociationImpl;
 import org.hibernate.ogm.compensation.operation.impl.RemoveTupleImpl;
 import org.hibernate.ogm.compensation.operation.impl.RemoveTupleWithOptimisticLockImpl;
+import org.hibernate.ogm.compensation.operation.impl.UpdateAssociationRowsImpl;
 import org.hibernate.ogm.compensation.operation.impl.UpdateTupleWithOptimisticLockImpl;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
@@ -42,6 +47,7 @@
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.impl.ForwardingGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
@@ -127,6 +133,16 @@ public void executeBatch(OperationsQueue queue) {
 		handleAppliedOperation( executeBatch );
 	}
 
+	/**
+	 * The applied and failed operations are reported to the error handler on the thread of the session, so the batch is
+	 * executed synchronously.
+	 */
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		executeBatch( queue );
+		return CompletableFuture.completedFuture( null );
+	}
+
 	@Override
 	public void flushPendingOperations(EntityKey entityKey, TupleContext tupleContext) {
 		OperationsQueue queue = tupleContext.getOperationsQueue();
@@ -185,6 +201,12 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			RemoveAssociationOperation removeAssociationOperation = (RemoveAssociationOperation) operation;
 			gridDialectOperation = new RemoveAssociationImpl( removeAssociationOperation.getAssociationKey() );
 		}
+		else if ( operation instanceof UpdateAssociationRowsOperation ) {
+			UpdateAssociationRowsOperation updateAssociationRowsOperation = (UpdateAssociationRowsOperation) operation;
+			gridDialectOperation = new UpdateAssociationRowsImpl(
+					updateAssociationRowsOperation.getAssociationKey(),
+					updateAssociationRowsOperation.getChanges() );
+		}
 		else {
 			throw new IllegalStateException( "Unsupported operation " + operation );
 		}
@@ -265,6 +287,22 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		handleAppliedOperation( removeAssociation );
 	}
 
+	// AssociationRowsGridDialect
+
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		UpdateAssociationRows updateAssociationRows = new UpdateAssociationRowsImpl( key, changes );
+
+		try {
+			super.updateAssociationRows( key, changes, associationContext );
+		}
+		catch (Exception e) {
+			handleException( updateAssociationRows, e );
+		}
+
+		handleAppliedOperation( updateAssociationRows );
+	}
+
 	// IdentityColumnAwareGridDialect
 
 	@Override
@@ -19,6 +19,9 @@
  * <p>
  * Implements the error handler context interfaces directly as far as possible in order to avoid allocation of
  * intermediary objects.
+ * <p>
+ * The operations of a parallel flush are collected from several threads, so the error handler is invoked for one
+ * failure at a time and sees a copy of the operations applied so far.
  *
  * @author Gunnar Morling
  */
@@ -32,18 +35,18 @@ public OperationCollector(ErrorHandler errorHandler) {
 		this.appliedOperations = new ArrayList<>();
 	}
 
-	public void addAppliedOperation(GridDialectOperation operation) {
+	public synchronized void addAppliedOperation(GridDialectOperation operation) {
 		appliedOperations.add( operation );
 	}
 
-	public ErrorHandlingStrategy onFailedOperation(GridDialectOperation operation, Exception exception) {
+	public synchronized ErrorHandlingStrategy onFailedOperation(GridDialectOperation operation, Exception exception) {
 		DefaultFailedOperationContext context = new DefaultFailedOperationContext( operation, exception );
 		return errorHandler.onFailedGridDialectOperation( context );
 	}
 
 	@Override
-	public List<GridDialectOperation> getAppliedGridDialectOperations() {
-		return Collections.unmodifiableList( appliedOperations );
+	public synchronized List<GridDialectOperation> getAppliedGridDialectOperations() {
+		return Collections.unmodifiableList( new ArrayList<>( appliedOperations ) );
 	}
 
 	private class DefaultFailedOperationContext implements ErrorHandler.FailedGridDialectOperationContext {
@@ -63,7 +66,7 @@ public GridDialectOperation getFailedOperation() {
 
 		@Override
 		public List<GridDialectOperation> getAppliedGridDialectOperations() {
-			return Collections.unmodifiableList( appliedOperations );
+			return OperationCollector.this.getAppliedGridDialectOperations();
 		}
 
 		@Override
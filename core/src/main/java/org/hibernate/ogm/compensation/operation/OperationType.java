@@ -30,5 +30,8 @@ public enum OperationType {
 
 	// OptimisticLockingAwareGridDialect
 	UPDATE_TUPLE_WITH_OPTIMISTIC_LOCK,
-	REMOVE_TUPLE_WITH_OPTIMISTIC_LOCK;
+	REMOVE_TUPLE_WITH_OPTIMISTIC_LOCK,
+
+	// AssociationRowsGridDialect
+	UPDATE_ASSOCIATION_ROWS;
 }
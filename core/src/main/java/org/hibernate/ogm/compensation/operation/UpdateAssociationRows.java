@@ -0,0 +1,22 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.compensation.operation;
+
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+
+/**
+ * Represents one execution of
+ * {@link AssociationRowsGridDialect#updateAssociationRows(AssociationKey, AssociationRowsChanges, org.hibernate.ogm.dialect.spi.AssociationContext)}.
+ */
+public interface UpdateAssociationRows extends GridDialectOperation {
+
+	AssociationKey getAssociationKey();
+
+	AssociationRowsChanges getChanges();
+}
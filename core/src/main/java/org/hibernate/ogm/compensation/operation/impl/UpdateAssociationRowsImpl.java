@@ -0,0 +1,53 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.compensation.operation.impl;
+
+import org.hibernate.ogm.compensation.operation.GridDialectOperation;
+import org.hibernate.ogm.compensation.operation.OperationType;
+import org.hibernate.ogm.compensation.operation.UpdateAssociationRows;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+
+public class UpdateAssociationRowsImpl implements UpdateAssociationRows {
+
+	private final AssociationKey associationKey;
+	private final AssociationRowsChanges changes;
+
+	public UpdateAssociationRowsImpl(AssociationKey associationKey, AssociationRowsChanges changes) {
+		this.associationKey = associationKey;
+		this.changes = changes;
+	}
+
+	@Override
+	public AssociationKey getAssociationKey() {
+		return associationKey;
+	}
+
+	@Override
+	public AssociationRowsChanges getChanges() {
+		return changes;
+	}
+
+	@Override
+	public <T extends GridDialectOperation> T as(Class<T> type) {
+		if ( UpdateAssociationRows.class.isAssignableFrom( type ) ) {
+			return type.cast( this );
+		}
+
+		throw new IllegalArgumentException( "Unexpected type: " + type );
+	}
+
+	@Override
+	public OperationType getType() {
+		return OperationType.UPDATE_ASSOCIATION_ROWS;
+	}
+
+	@Override
+	public String toString() {
+		return "UpdateAssociationRowsImpl [associationKey=" + associationKey + ", changes=" + changes + "]";
+	}
+}
@@ -24,9 +24,13 @@
  */
 public class AssociationRows implements AssociationSnapshot {
 
+	private final AssociationKey associationKey;
+	private final AssociationRowFactory associationRowFactory;
 	private final Map<RowKey, AssociationRow<?>> rows;
 
 	public AssociationRows(AssociationKey associationKey, Collection<?> wrapped, AssociationRowFactory associationRowFactory) {
+		this.associationKey = associationKey;
+		this.associationRowFactory = associationRowFactory;
 		this.rows = CollectionHelper.newLinkedHashMap( wrapped.size() );
 
 		for ( Object object : wrapped ) {
@@ -55,4 +59,31 @@ public Set<RowKey> getRowKeys() {
 	public int size() {
 		return rows.size();
 	}
+
+	/**
+	 * Adds the given row to this snapshot, replacing any existing row with the same key. Allows dialects to keep the
+	 * snapshot in sync with the datastore after having written changes to an association.
+	 *
+	 * @param row the store-specific representation of the row to add
+	 */
+	protected void addRow(Object row) {
+		AssociationRow<?> associationRow = associationRowFactory.createAssociationRow( associationKey, row );
+		rows.put( associationRow.getKey(), associationRow );
+	}
+
+	/**
+	 * Removes the row with the given key from this snapshot.
+	 *
+	 * @param rowKey the key of the row to remove
+	 */
+	protected void removeRow(RowKey rowKey) {
+		rows.remove( rowKey );
+	}
+
+	/**
+	 * Removes all rows from this snapshot.
+	 */
+	protected void removeAllRows() {
+		rows.clear();
+	}
 }
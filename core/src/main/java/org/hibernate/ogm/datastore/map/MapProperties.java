@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map;
+
+/**
+ * Properties for configuring the map datastore via {@code persistence.xml} or
+ * {@link org.hibernate.boot.registry.StandardServiceRegistryBuilder}.
+ */
+public final class MapProperties {
+
+	/**
+	 * Property for setting where entities and associations are stored. Supported values are the
+	 * {@link MapStorageType} enum or the String representations of its constants. Defaults to
+	 * {@link MapStorageType#HEAP}.
+	 */
+	public static final String STORAGE = "hibernate.ogm.map.storage";
+
+	/**
+	 * Property for setting the path of a snapshot file. If the file exists, its content is loaded when the datastore
+	 * starts; the content of the datastore is written to it when the datastore stops. Unset by default, in which case
+	 * the data is lost on shutdown.
+	 */
+	public static final String SNAPSHOT_FILE = "hibernate.ogm.map.snapshot_file";
+
+	/**
+	 * Property for executing JP-QL queries in memory rather than with Hibernate Search. The where clause of the queries
+	 * is evaluated against the stored entities, using the secondary indexes declared with
+	 * {@link org.hibernate.ogm.datastore.map.options.MapIndexes} when they apply. Accepted values are {@code true} and
+	 * {@code false}, defaults to {@code false}.
+	 */
+	public static final String IN_MEMORY_QUERIES = "hibernate.ogm.map.in_memory_queries";
+
+	private MapProperties() {
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map;
+
+/**
+ * Specifies where the map datastore keeps entities and associations.
+ */
+public enum MapStorageType {
+
+	/**
+	 * Entities and associations are kept as maps on the Java heap.
+	 */
+	HEAP,
+
+	/**
+	 * Entities and associations are serialized into direct byte buffers, indexed by an off-heap hash table. This
+	 * reduces the number of objects the garbage collector has to trace for large data sets, at the cost of encoding
+	 * the data on each write and decoding it on each read.
+	 */
+	OFF_HEAP;
+}
@@ -0,0 +1,362 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata.IdSourceType;
+import org.hibernate.ogm.model.key.spi.RowKey;
+
+/**
+ * Binary encodings of the keys and values of the map datastore, used to store them off-heap and in snapshot files.
+ * <p>
+ * The common column value types get a compact encoding, other values are written with Java serialization. The
+ * encoding of a given key is always the same, so that keys can be compared by their encoded form.
+ * <p>
+ * Only the parts of the key metadata taking part in the identity of the keys are encoded: the decoded keys can be used
+ * to look up data, but not for the operations needing the full metadata.
+ */
+final class MapCodecs {
+
+	/**
+	 * Encodes and decodes objects of a given type.
+	 */
+	interface Codec<T> {
+
+		void write(T value, DataOutput output) throws IOException;
+
+		T read(DataInput input) throws IOException;
+	}
+
+	static final Codec<EntityKey> ENTITY_KEY = new Codec<EntityKey>() {
+
+		@Override
+		public void write(EntityKey key, DataOutput output) throws IOException {
+			writeString( key.getTable(), output );
+			writeStrings( key.getColumnNames(), output );
+			writeValues( key.getColumnValues(), output );
+		}
+
+		@Override
+		public EntityKey read(DataInput input) throws IOException {
+			String table = readString( input );
+			String[] columnNames = readStrings( input );
+			return new EntityKey( new DefaultEntityKeyMetadata( table, columnNames ), readValues( input ) );
+		}
+	};
+
+	static final Codec<AssociationKey> ASSOCIATION_KEY = new Codec<AssociationKey>() {
+
+		@Override
+		public void write(AssociationKey key, DataOutput output) throws IOException {
+			writeString( key.getTable(), output );
+			writeStrings( key.getColumnNames(), output );
+			writeValues( key.getColumnValues(), output );
+		}
+
+		@Override
+		public AssociationKey read(DataInput input) throws IOException {
+			DefaultAssociationKeyMetadata metadata = new DefaultAssociationKeyMetadata.Builder()
+					.table( readString( input ) )
+					.columnNames( readStrings( input ) )
+					.build();
+			return new AssociationKey( metadata, readValues( input ), null );
+		}
+	};
+
+	static final Codec<IdSourceKey> ID_SOURCE_KEY = new Codec<IdSourceKey>() {
+
+		@Override
+		public void write(IdSourceKey key, DataOutput output) throws IOException {
+			IdSourceKeyMetadata metadata = key.getMetadata();
+			output.writeByte( metadata.getType().ordinal() );
+			writeString( metadata.getName(), output );
+			writeString( metadata.getKeyColumnName(), output );
+			writeString( metadata.getValueColumnName(), output );
+			writeString( key.getColumnValue(), output );
+		}
+
+		@Override
+		public IdSourceKey read(DataInput input) throws IOException {
+			IdSourceType type = IdSourceType.values()[input.readByte()];
+			String name = readString( input );
+			String keyColumnName = readString( input );
+			String valueColumnName = readString( input );
+			String columnValue = readString( input );
+			if ( type == IdSourceType.SEQUENCE ) {
+				return IdSourceKey.forSequence( DefaultIdSourceKeyMetadata.forSequence( name ) );
+			}
+			return IdSourceKey.forTable( DefaultIdSourceKeyMetadata.forTable( name, keyColumnName, valueColumnName ), columnValue );
+		}
+	};
+
+	static final Codec<Map<String, Object>> TUPLE = new Codec<Map<String, Object>>() {
+
+		@Override
+		public void write(Map<String, Object> tuple, DataOutput output) throws IOException {
+			output.writeInt( tuple.size() );
+			for ( Entry<String, Object> column : tuple.entrySet() ) {
+				writeString( column.getKey(), output );
+				writeValue( column.getValue(), output );
+			}
+		}
+
+		@Override
+		public Map<String, Object> read(DataInput input) throws IOException {
+			int size = input.readInt();
+			Map<String, Object> tuple = new HashMap<>( mapCapacity( size ) );
+			for ( int i = 0; i < size; i++ ) {
+				tuple.put( readString( input ), readValue( input ) );
+			}
+			return tuple;
+		}
+	};
+
+	static final Codec<Map<RowKey, Map<String, Object>>> ASSOCIATION = new Codec<Map<RowKey, Map<String, Object>>>() {
+
+		@Override
+		public void write(Map<RowKey, Map<String, Object>> association, DataOutput output) throws IOException {
+			output.writeInt( association.size() );
+			for ( Entry<RowKey, Map<String, Object>> row : association.entrySet() ) {
+				writeStrings( row.getKey().getColumnNames(), output );
+				writeValues( row.getKey().getColumnValues(), output );
+				TUPLE.write( row.getValue(), output );
+			}
+		}
+
+		@Override
+		public Map<RowKey, Map<String, Object>> read(DataInput input) throws IOException {
+			int size = input.readInt();
+			Map<RowKey, Map<String, Object>> association = new HashMap<>( mapCapacity( size ) );
+			for ( int i = 0; i < size; i++ ) {
+				RowKey rowKey = new RowKey( readStrings( input ), readValues( input ) );
+				association.put( rowKey, TUPLE.read( input ) );
+			}
+			return association;
+		}
+	};
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte BOOLEAN = 4;
+	private static final byte DOUBLE = 5;
+	private static final byte FLOAT = 6;
+	private static final byte SHORT = 7;
+	private static final byte BYTE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte BYTE_ARRAY = 10;
+	private static final byte UUID_VALUE = 11;
+	private static final byte SERIALIZED = 12;
+
+	private MapCodecs() {
+	}
+
+	static <T> byte[] encode(Codec<T> codec, T value) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+			codec.write( value, new DataOutputStream( bytes ) );
+			return bytes.toByteArray();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	static <T> T decode(Codec<T> codec, byte[] bytes) {
+		try {
+			return codec.read( new DataInputStream( new ByteArrayInputStream( bytes ) ) );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static int mapCapacity(int size) {
+		return (int) ( size / 0.75f ) + 1;
+	}
+
+	private static void writeString(String value, DataOutput output) throws IOException {
+		if ( value == null ) {
+			output.writeInt( -1 );
+		}
+		else {
+			byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			output.writeInt( bytes.length );
+			output.write( bytes );
+		}
+	}
+
+	private static String readString(DataInput input) throws IOException {
+		int length = input.readInt();
+		if ( length < 0 ) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	private static void writeStrings(String[] values, DataOutput output) throws IOException {
+		output.writeInt( values.length );
+		for ( String value : values ) {
+			writeString( value, output );
+		}
+	}
+
+	private static String[] readStrings(DataInput input) throws IOException {
+		String[] values = new String[input.readInt()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = readString( input );
+		}
+		return values;
+	}
+
+	private static void writeValues(Object[] values, DataOutput output) throws IOException {
+		output.writeInt( values.length );
+		for ( Object value : values ) {
+			writeValue( value, output );
+		}
+	}
+
+	private static Object[] readValues(DataInput input) throws IOException {
+		Object[] values = new Object[input.readInt()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = readValue( input );
+		}
+		return values;
+	}
+
+	private static void writeValue(Object value, DataOutput output) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof String ) {
+			output.writeByte( STRING );
+			writeString( (String) value, output );
+		}
+		else if ( value instanceof Integer ) {
+			output.writeByte( INTEGER );
+			output.writeInt( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			output.writeByte( LONG );
+			output.writeLong( (Long) value );
+		}
+		else if ( value instanceof Boolean ) {
+			output.writeByte( BOOLEAN );
+			output.writeBoolean( (Boolean) value );
+		}
+		else if ( value instanceof Double ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( (Double) value );
+		}
+		else if ( value instanceof Float ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Short ) {
+			output.writeByte( SHORT );
+			output.writeShort( (Short) value );
+		}
+		else if ( value instanceof Byte ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( value instanceof Character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( (Character) value );
+		}
+		else if ( value instanceof byte[] ) {
+			byte[] bytes = (byte[]) value;
+			output.writeByte( BYTE_ARRAY );
+			output.writeInt( bytes.length );
+			output.write( bytes );
+		}
+		else if ( value instanceof UUID ) {
+			UUID uuid = (UUID) value;
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try ( ObjectOutputStream objectOutput = new ObjectOutputStream( bytes ) ) {
+				objectOutput.writeObject( (Serializable) value );
+			}
+			output.writeByte( SERIALIZED );
+			output.writeInt( bytes.size() );
+			output.write( bytes.toByteArray() );
+		}
+	}
+
+	private static Object readValue(DataInput input) throws IOException {
+		byte type = input.readByte();
+		switch ( type ) {
+			case NULL:
+				return null;
+			case STRING:
+				return readString( input );
+			case INTEGER:
+				return input.readInt();
+			case LONG:
+				return input.readLong();
+			case BOOLEAN:
+				return input.readBoolean();
+			case DOUBLE:
+				return input.readDouble();
+			case FLOAT:
+				return input.readFloat();
+			case SHORT:
+				return input.readShort();
+			case BYTE:
+				return input.readByte();
+			case CHARACTER:
+				return input.readChar();
+			case BYTE_ARRAY:
+				byte[] bytes = new byte[input.readInt()];
+				input.readFully( bytes );
+				return bytes;
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case SERIALIZED:
+				byte[] serialized = new byte[input.readInt()];
+				input.readFully( serialized );
+				try ( ObjectInputStream objectInput = new ObjectInputStream( new ByteArrayInputStream( serialized ) ) ) {
+					return objectInput.readObject();
+				}
+				catch (ClassNotFoundException e) {
+					throw new IOException( e );
+				}
+			default:
+				throw new IOException( "Unknown value type: " + type );
+		}
+	}
+}
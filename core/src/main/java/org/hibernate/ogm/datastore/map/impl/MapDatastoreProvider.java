@@ -8,6 +8,9 @@
 
 import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -23,15 +26,24 @@
 
 import javax.persistence.PessimisticLockException;
 
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.MapStorageType;
+import org.hibernate.ogm.datastore.map.options.MapIndexType;
+import org.hibernate.ogm.query.inmemory.impl.ColumnIndexes;
+import org.hibernate.ogm.datastore.map.query.parsing.impl.MapBasedQueryParserService;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
+import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
@@ -45,16 +57,23 @@
  * Oh and while we lock data when Hibernate ORM acquires locks, we never unlock as ORM expects locks
  * to be released by the transaction commit / rollback which does not happen here.
  *
+ * Entities and associations are kept on the heap or serialized off-heap depending on {@link MapProperties#STORAGE},
+ * and can be persisted across restarts with {@link MapProperties#SNAPSHOT_FILE}. The secondary indexes used by the
+ * in-memory queries are maintained on each write.
+ *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public final class MapDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable {
+public final class MapDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, Configurable {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
-	private final ConcurrentMap<EntityKey, Map<String, Object>> entitiesKeyValueStorage = newConcurrentHashMap();
-	private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associationsKeyValueStorage = newConcurrentHashMap();
+	private Map<EntityKey, Map<String, Object>> entitiesKeyValueStorage = newConcurrentHashMap();
+	private Map<AssociationKey, Map<RowKey, Map<String, Object>>> associationsKeyValueStorage = newConcurrentHashMap();
 	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequencesStorage = newConcurrentHashMap();
 	private final ConcurrentMap<Object, ReadWriteLock> dataLocks = newConcurrentHashMap();
+	private final ConcurrentMap<String, ConcurrentMap<String, SecondaryIndex>> secondaryIndexes = newConcurrentHashMap();
+	private Path snapshotFile;
+	private boolean inMemoryQueries;
 
 	/**
 	 * This simplistic data store only supports thread-bound transactions:
@@ -70,12 +89,49 @@ public Class<? extends GridDialect> getDefaultDialect() {
 		return MapDialect.class;
 	}
 
+	@Override
+	public void configure(Map configurationValues) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues );
+
+		MapStorageType storageType = propertyReader.property( MapProperties.STORAGE, MapStorageType.class )
+				.withDefault( MapStorageType.HEAP )
+				.getValue();
+		if ( storageType == MapStorageType.OFF_HEAP ) {
+			entitiesKeyValueStorage = new OffHeapMap<>( MapCodecs.ENTITY_KEY, MapCodecs.TUPLE );
+			associationsKeyValueStorage = new OffHeapMap<>( MapCodecs.ASSOCIATION_KEY, MapCodecs.ASSOCIATION );
+		}
+
+		String snapshotFileName = propertyReader.property( MapProperties.SNAPSHOT_FILE, String.class ).getValue();
+		snapshotFile = snapshotFileName == null ? null : Paths.get( snapshotFileName );
+
+		inMemoryQueries = propertyReader.property( MapProperties.IN_MEMORY_QUERIES, boolean.class )
+				.withDefault( false )
+				.getValue();
+	}
+
+	@Override
+	public Class<? extends QueryParserService> getDefaultQueryParserServiceType() {
+		// Hibernate Search is used by default
+		return inMemoryQueries ? MapBasedQueryParserService.class : null;
+	}
+
+	@Override
+	public Class<? extends SchemaDefiner> getSchemaDefinerType() {
+		return MapSchemaDefiner.class;
+	}
+
 	@Override
 	public void stop() {
+		if ( snapshotFile != null ) {
+			MapSnapshot.write( snapshotFile, entitiesKeyValueStorage, associationsKeyValueStorage, sequencesStorage,
+					MapCodecs.ENTITY_KEY, MapCodecs.TUPLE, MapCodecs.ASSOCIATION_KEY, MapCodecs.ASSOCIATION );
+			log.debugf( "Wrote the content of MapDatastoreProvider to %s", snapshotFile );
+		}
 		entitiesKeyValueStorage.clear();
 		associationsKeyValueStorage.clear();
 		sequencesStorage.clear();
 		dataLocks.clear();
+		secondaryIndexes.clear();
 		//not nice but that's the best we can do
 		acquiredLocksPerThread.remove();
 		log.debug( "Stopped and cleared MapDatastoreProvider" );
@@ -83,6 +139,11 @@ public void stop() {
 
 	@Override
 	public void start() {
+		if ( snapshotFile != null && Files.exists( snapshotFile ) ) {
+			MapSnapshot.read( snapshotFile, entitiesKeyValueStorage, associationsKeyValueStorage, sequencesStorage,
+					MapCodecs.ENTITY_KEY, MapCodecs.TUPLE, MapCodecs.ASSOCIATION_KEY, MapCodecs.ASSOCIATION );
+			log.debugf( "Loaded the content of MapDatastoreProvider from %s", snapshotFile );
+		}
 		log.debug( "MapDatastoreProvider started" );
 	}
 
@@ -137,6 +198,12 @@ else if ( timeout == 0 ) {
 
 	public void putEntity(EntityKey key, Map<String, Object> tuple) {
 		entitiesKeyValueStorage.put( key, tuple );
+		Map<String, SecondaryIndex> indexes = secondaryIndexes.get( key.getTable() );
+		if ( indexes != null ) {
+			for ( SecondaryIndex index : indexes.values() ) {
+				index.update( key, tuple );
+			}
+		}
 	}
 
 	public Map<String, Object> getEntityTuple(EntityKey key) {
@@ -153,6 +220,41 @@ public List<Map<String, Object>> getEntityTuples(EntityKey... keys) {
 
 	public void removeEntityTuple(EntityKey key) {
 		entitiesKeyValueStorage.remove( key );
+		Map<String, SecondaryIndex> indexes = secondaryIndexes.get( key.getTable() );
+		if ( indexes != null ) {
+			for ( SecondaryIndex index : indexes.values() ) {
+				index.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Defines a secondary index on a column of a table and indexes the entities already stored.
+	 *
+	 * @param table the table of the indexed entities
+	 * @param column the indexed column
+	 * @param type the kind of index
+	 */
+	public void defineIndex(String table, String column, MapIndexType type) {
+		SecondaryIndex index = new SecondaryIndex( column, type );
+		for ( Map.Entry<EntityKey, Map<String, Object>> entity : entitiesKeyValueStorage.entrySet() ) {
+			if ( entity.getKey().getTable().equals( table ) ) {
+				index.update( entity.getKey(), entity.getValue() );
+			}
+		}
+		secondaryIndexes.computeIfAbsent( table, t -> newConcurrentHashMap() ).put( column, index );
+	}
+
+	/**
+	 * @param table the name of a table
+	 * @return the secondary indexes defined on the columns of the given table
+	 */
+	public ColumnIndexes getSecondaryIndexes(String table) {
+		Map<String, SecondaryIndex> indexes = secondaryIndexes.get( table );
+		if ( indexes == null ) {
+			return column -> null;
+		}
+		return indexes::get;
 	}
 
 	public void putAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> associationMap) {
@@ -18,8 +18,15 @@
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.query.inmemory.impl.InMemoryQueryDescriptor;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryHandler;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.NoOpParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -46,12 +53,14 @@
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public class MapDialect extends BaseGridDialect implements MultigetGridDialect {
+public class MapDialect extends BaseGridDialect implements MultigetGridDialect, QueryableGridDialect<InMemoryQueryDescriptor> {
 
 	private final MapDatastoreProvider provider;
+	private final MapQueryHandler queryHandler;
 
 	public MapDialect(MapDatastoreProvider provider) {
 		this.provider = provider;
+		this.queryHandler = new MapQueryHandler( provider );
 	}
 
 	@Override
@@ -108,6 +117,8 @@ public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
 		Map<String,Object> entityRecord = ( (MapTupleSnapshot) tuplePointer.getTuple().getSnapshot() ).getMap();
 		MapHelpers.applyTupleOpsOnMap( tuplePointer.getTuple(), entityRecord );
+		// the off-heap storage only holds a copy of the record
+		provider.putEntity( key, entityRecord );
 	}
 
 	@Override
@@ -150,6 +161,30 @@ public Number nextValue(NextValueRequest request) {
 		return provider.getSharedAtomicInteger( request.getKey(), request.getInitialValue(), request.getIncrement() );
 	}
 
+	/**
+	 * Executes the JP-QL queries parsed when {@link org.hibernate.ogm.datastore.map.MapProperties#IN_MEMORY_QUERIES}
+	 * is enabled.
+	 */
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<InMemoryQueryDescriptor> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		return queryHandler.executeBackendQuery( query, queryParameters );
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<InMemoryQueryDescriptor> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		throw new UnsupportedOperationException( "Update Query not supported by Map Dialect" );
+	}
+
+	@Override
+	public ParameterMetadataBuilder getParameterMetadataBuilder() {
+		return NoOpParameterMetadataBuilder.INSTANCE;
+	}
+
+	@Override
+	public InMemoryQueryDescriptor parseNativeQuery(String nativeQuery) {
+		throw new UnsupportedOperationException( "Native queries not supported by Map Dialect" );
+	}
+
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata metadata) {
 		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap();
@@ -0,0 +1,37 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.options.MapIndex;
+import org.hibernate.ogm.datastore.map.options.MapIndexes;
+import org.hibernate.ogm.datastore.map.options.impl.MapIndexesOption;
+import org.hibernate.ogm.datastore.spi.BaseSchemaDefiner;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.options.spi.OptionsService;
+
+/**
+ * Defines the secondary indexes declared on the entities with {@link MapIndexes}.
+ */
+public class MapSchemaDefiner extends BaseSchemaDefiner {
+
+	@Override
+	public void initializeSchema(SchemaDefinitionContext context) {
+		MapDatastoreProvider provider = (MapDatastoreProvider) context.getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+		OptionsService optionsService = context.getSessionFactory().getServiceRegistry().getService( OptionsService.class );
+
+		for ( Map.Entry<String, Class<?>> tableEntityType : context.getTableEntityTypeMapping().entrySet() ) {
+			MapIndexes indexes = optionsService.context().getEntityOptions( tableEntityType.getValue() ).getUnique( MapIndexesOption.class );
+			if ( indexes != null ) {
+				for ( MapIndex index : indexes.value() ) {
+					provider.defineIndex( tableEntityType.getKey(), index.column(), index.type() );
+				}
+			}
+		}
+	}
+}
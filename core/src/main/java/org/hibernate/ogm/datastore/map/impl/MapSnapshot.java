@@ -0,0 +1,150 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.ogm.datastore.map.impl.MapCodecs.Codec;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Writes the content of the map datastore to a file and reads it back, so that it survives a restart.
+ * <p>
+ * The entities and associations are written as encoded records (see {@link MapCodecs}), which are copied as is from
+ * and to the off-heap storage. The file is written to a temporary file first and then moved, so that an interrupted
+ * write doesn't corrupt the previous snapshot.
+ */
+final class MapSnapshot {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int MAGIC = 0x4f474d4d;
+	private static final int VERSION = 1;
+
+	private MapSnapshot() {
+	}
+
+	static <K1, V1, K2, V2> void write(Path file, Map<K1, V1> entities, Map<K2, V2> associations, Map<IdSourceKey, AtomicInteger> sequences,
+			Codec<K1> entityKeyCodec, Codec<V1> entityCodec, Codec<K2> associationKeyCodec, Codec<V2> associationCodec) {
+		Path temporaryFile = file.resolveSibling( file.getFileName() + ".tmp" );
+		try {
+			try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( VERSION );
+				writeRecords( output, entities, entityKeyCodec, entityCodec );
+				writeRecords( output, associations, associationKeyCodec, associationCodec );
+
+				output.writeInt( sequences.size() );
+				for ( Entry<IdSourceKey, AtomicInteger> sequence : sequences.entrySet() ) {
+					writeRecord( output, MapCodecs.encode( MapCodecs.ID_SOURCE_KEY, sequence.getKey() ), new byte[0] );
+					output.writeInt( sequence.getValue().get() );
+				}
+			}
+			Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (IOException | UncheckedIOException e) {
+			throw log.unableToWriteMapSnapshot( file.toString(), e );
+		}
+	}
+
+	static <K1, V1, K2, V2> void read(Path file, Map<K1, V1> entities, Map<K2, V2> associations, Map<IdSourceKey, AtomicInteger> sequences,
+			Codec<K1> entityKeyCodec, Codec<V1> entityCodec, Codec<K2> associationKeyCodec, Codec<V2> associationCodec) {
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( input.readInt() != MAGIC || input.readInt() != VERSION ) {
+				throw log.invalidMapSnapshot( file.toString() );
+			}
+			readRecords( input, entities, entityKeyCodec, entityCodec );
+			readRecords( input, associations, associationKeyCodec, associationCodec );
+
+			int sequenceCount = input.readInt();
+			for ( int i = 0; i < sequenceCount; i++ ) {
+				IdSourceKey key = MapCodecs.decode( MapCodecs.ID_SOURCE_KEY, readBytes( input ) );
+				readBytes( input );
+				sequences.put( key, new AtomicInteger( input.readInt() ) );
+			}
+		}
+		catch (IOException | UncheckedIOException e) {
+			throw log.unableToReadMapSnapshot( file.toString(), e );
+		}
+	}
+
+	private static <K, V> void writeRecords(DataOutputStream output, Map<K, V> map, Codec<K> keyCodec, Codec<V> valueCodec) throws IOException {
+		if ( map instanceof OffHeapMap ) {
+			OffHeapMap<K, V> offHeapMap = (OffHeapMap<K, V>) map;
+			// The count is written first, records added concurrently are skipped to keep the file consistent
+			int[] remaining = { offHeapMap.size() };
+			output.writeInt( remaining[0] );
+			offHeapMap.forEachRecord( (key, value) -> {
+				if ( remaining[0]-- > 0 ) {
+					writeRecord( output, key, value );
+				}
+			} );
+			for ( ; remaining[0] > 0; remaining[0]-- ) {
+				// records removed concurrently, write empty placeholders skipped when reading
+				writeRecord( output, new byte[0], new byte[0] );
+			}
+		}
+		else {
+			Object[] entries = map.entrySet().toArray();
+			output.writeInt( entries.length );
+			for ( Object entry : entries ) {
+				@SuppressWarnings("unchecked")
+				Entry<K, V> typedEntry = (Entry<K, V>) entry;
+				writeRecord( output, MapCodecs.encode( keyCodec, typedEntry.getKey() ), MapCodecs.encode( valueCodec, typedEntry.getValue() ) );
+			}
+		}
+	}
+
+	private static void writeRecord(DataOutputStream output, byte[] key, byte[] value) {
+		try {
+			output.writeInt( key.length );
+			output.write( key );
+			output.writeInt( value.length );
+			output.write( value );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static <K, V> void readRecords(DataInputStream input, Map<K, V> map, Codec<K> keyCodec, Codec<V> valueCodec) throws IOException {
+		int count = input.readInt();
+		for ( int i = 0; i < count; i++ ) {
+			byte[] key = readBytes( input );
+			byte[] value = readBytes( input );
+			if ( key.length == 0 ) {
+				continue;
+			}
+			if ( map instanceof OffHeapMap ) {
+				( (OffHeapMap<K, V>) map ).putRecord( key, value );
+			}
+			else {
+				map.put( MapCodecs.decode( keyCodec, key ), MapCodecs.decode( valueCodec, value ) );
+			}
+		}
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
@@ -0,0 +1,473 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.ogm.datastore.map.impl.MapCodecs.Codec;
+
+/**
+ * A map storing its entries in direct memory, so that they don't add to the objects managed by the garbage collector.
+ * <p>
+ * The entries are encoded with a {@link Codec} and appended to an arena made of direct buffers. An open-addressing
+ * hash index, itself stored in a direct buffer, maps the encoded keys to the address of their latest record. Updated
+ * and removed records are left in place and reclaimed by compacting the arena once they take more room than the live
+ * ones. As a consequence, {@link #get(Object)} returns a copy of the value: changes to it are only stored by putting
+ * it again.
+ * <p>
+ * Reads may run concurrently, writes are exclusive. The iterators work on the entries present when they were created.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class OffHeapMap<K, V> extends AbstractMap<K, V> {
+
+	/**
+	 * Receives the encoded records of the map.
+	 */
+	interface RecordConsumer {
+
+		void accept(byte[] key, byte[] value);
+	}
+
+	private static final int CHUNK_SIZE = 8 * 1024 * 1024;
+	private static final int RECORD_HEADER_SIZE = 8;
+
+	// An index slot is made of the hash of the key and of the address of its record plus one, 0 meaning empty
+	private static final int SLOT_SIZE = 12;
+	private static final long REMOVED = -1L;
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final Codec<K> keyCodec;
+	private final Codec<V> valueCodec;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// Guarded by lock
+	private List<ByteBuffer> chunks;
+	private ByteBuffer index;
+	private int capacity;
+	private int size;
+	private int usedSlots;
+	private long liveBytes;
+	private long deadBytes;
+
+	OffHeapMap(Codec<K> keyCodec, Codec<V> valueCodec) {
+		this.keyCodec = keyCodec;
+		this.valueCodec = valueCodec;
+		reset();
+	}
+
+	private void reset() {
+		chunks = new ArrayList<>();
+		capacity = INITIAL_CAPACITY;
+		index = ByteBuffer.allocateDirect( capacity * SLOT_SIZE );
+		size = 0;
+		usedSlots = 0;
+		liveBytes = 0;
+		deadBytes = 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		byte[] value = getRecordValue( key );
+		return value == null ? null : MapCodecs.decode( valueCodec, value );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return getRecordValue( key ) != null;
+	}
+
+	private byte[] getRecordValue(Object key) {
+		byte[] keyBytes = encodeKey( key );
+		if ( keyBytes == null ) {
+			return null;
+		}
+
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			int slot = findSlot( keyBytes, hash( keyBytes ) );
+			long address = index.getLong( slot * SLOT_SIZE + 4 );
+			return address > 0 ? readValue( chunks, address - 1 ) : null;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	@Override
+	public V put(K key, V value) {
+		putRecord( MapCodecs.encode( keyCodec, key ), MapCodecs.encode( valueCodec, value ) );
+		// Decoding the previous value would be wasted in most cases
+		return null;
+	}
+
+	/**
+	 * Stores an encoded entry, e.g. read from a snapshot.
+	 */
+	void putRecord(byte[] key, byte[] value) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			int hash = hash( key );
+			int slot = findSlot( key, hash );
+			long previous = index.getLong( slot * SLOT_SIZE + 4 );
+
+			long address = append( key, value );
+			liveBytes += recordSize( key.length, value.length );
+			if ( previous > 0 ) {
+				deadBytes += recordSize( chunks, previous - 1 );
+				liveBytes -= recordSize( chunks, previous - 1 );
+				index.putLong( slot * SLOT_SIZE + 4, address + 1 );
+			}
+			else {
+				slot = findFreeSlot( hash );
+				if ( index.getLong( slot * SLOT_SIZE + 4 ) == 0 ) {
+					usedSlots++;
+				}
+				index.putInt( slot * SLOT_SIZE, hash );
+				index.putLong( slot * SLOT_SIZE + 4, address + 1 );
+				size++;
+				if ( usedSlots > capacity * 3 / 4 ) {
+					rebuildIndex( size * 2 > capacity ? capacity * 2 : capacity );
+				}
+			}
+			compactIfNeeded();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		byte[] keyBytes = encodeKey( key );
+		if ( keyBytes == null ) {
+			return null;
+		}
+
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			int slot = findSlot( keyBytes, hash( keyBytes ) );
+			long address = index.getLong( slot * SLOT_SIZE + 4 );
+			if ( address <= 0 ) {
+				return null;
+			}
+			byte[] value = readValue( chunks, address - 1 );
+			index.putLong( slot * SLOT_SIZE + 4, REMOVED );
+			size--;
+			long recordSize = recordSize( chunks, address - 1 );
+			liveBytes -= recordSize;
+			deadBytes += recordSize;
+			compactIfNeeded();
+			return MapCodecs.decode( valueCodec, value );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return size;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			// The direct buffers are released once no iterator references them anymore
+			reset();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				RecordIterator records = new RecordIterator();
+				return new Iterator<Entry<K, V>>() {
+
+					@Override
+					public boolean hasNext() {
+						return records.hasNext();
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						long address = records.next();
+						K key = MapCodecs.decode( keyCodec, readKey( records.chunks, address ) );
+						V value = MapCodecs.decode( valueCodec, readValue( records.chunks, address ) );
+						return new SimpleImmutableEntry<>( key, value );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return OffHeapMap.this.size();
+			}
+		};
+	}
+
+	/**
+	 * Passes the encoded entries to the given consumer, e.g. to write them to a snapshot.
+	 */
+	void forEachRecord(RecordConsumer consumer) {
+		RecordIterator records = new RecordIterator();
+		while ( records.hasNext() ) {
+			long address = records.next();
+			consumer.accept( readKey( records.chunks, address ), readValue( records.chunks, address ) );
+		}
+	}
+
+	/**
+	 * @return the number of bytes of direct memory used by the map
+	 */
+	long getAllocatedBytes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			long allocated = index.capacity();
+			for ( ByteBuffer chunk : chunks ) {
+				allocated += chunk.capacity();
+			}
+			return allocated;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] encodeKey(Object key) {
+		try {
+			return MapCodecs.encode( keyCodec, (K) key );
+		}
+		catch (ClassCastException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the slot holding the given key or the first empty slot of its probe sequence.
+	 */
+	private int findSlot(byte[] key, int hash) {
+		int mask = capacity - 1;
+		int slot = hash & mask;
+		while ( true ) {
+			long address = index.getLong( slot * SLOT_SIZE + 4 );
+			if ( address == 0 ) {
+				return slot;
+			}
+			if ( address > 0 && index.getInt( slot * SLOT_SIZE ) == hash && keyEquals( address - 1, key ) ) {
+				return slot;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	/**
+	 * Returns the first empty or removed slot of the probe sequence of the given hash.
+	 */
+	private int findFreeSlot(int hash) {
+		int mask = capacity - 1;
+		int slot = hash & mask;
+		while ( index.getLong( slot * SLOT_SIZE + 4 ) > 0 ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		return slot;
+	}
+
+	private boolean keyEquals(long address, byte[] key) {
+		ByteBuffer chunk = chunks.get( chunkIndex( address ) );
+		int offset = chunkOffset( address );
+		if ( chunk.getInt( offset ) != key.length ) {
+			return false;
+		}
+		int keyOffset = offset + RECORD_HEADER_SIZE;
+		for ( int i = 0; i < key.length; i++ ) {
+			if ( chunk.get( keyOffset + i ) != key[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long append(byte[] key, byte[] value) {
+		int recordSize = recordSize( key.length, value.length );
+		ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get( chunks.size() - 1 );
+		if ( chunk == null || chunk.remaining() < recordSize ) {
+			chunk = ByteBuffer.allocateDirect( Math.max( CHUNK_SIZE, recordSize ) );
+			chunks.add( chunk );
+		}
+		int offset = chunk.position();
+		chunk.putInt( key.length );
+		chunk.putInt( value.length );
+		chunk.put( key );
+		chunk.put( value );
+		return ( (long) ( chunks.size() - 1 ) << 32 ) | offset;
+	}
+
+	private void rebuildIndex(int newCapacity) {
+		ByteBuffer oldIndex = index;
+		int oldCapacity = capacity;
+
+		capacity = newCapacity;
+		index = ByteBuffer.allocateDirect( capacity * SLOT_SIZE );
+		usedSlots = 0;
+		for ( int slot = 0; slot < oldCapacity; slot++ ) {
+			long address = oldIndex.getLong( slot * SLOT_SIZE + 4 );
+			if ( address > 0 ) {
+				int hash = oldIndex.getInt( slot * SLOT_SIZE );
+				int newSlot = findFreeSlot( hash );
+				index.putInt( newSlot * SLOT_SIZE, hash );
+				index.putLong( newSlot * SLOT_SIZE + 4, address );
+				usedSlots++;
+			}
+		}
+	}
+
+	/**
+	 * Copies the live records into a new arena once the dead ones take more room than them.
+	 */
+	private void compactIfNeeded() {
+		if ( deadBytes < CHUNK_SIZE || deadBytes < liveBytes ) {
+			return;
+		}
+
+		List<ByteBuffer> oldChunks = chunks;
+		chunks = new ArrayList<>();
+		for ( int slot = 0; slot < capacity; slot++ ) {
+			long address = index.getLong( slot * SLOT_SIZE + 4 );
+			if ( address > 0 ) {
+				long newAddress = append( readKey( oldChunks, address - 1 ), readValue( oldChunks, address - 1 ) );
+				index.putLong( slot * SLOT_SIZE + 4, newAddress + 1 );
+			}
+		}
+		deadBytes = 0;
+	}
+
+	private static byte[] readKey(List<ByteBuffer> chunks, long address) {
+		ByteBuffer chunk = chunks.get( chunkIndex( address ) ).duplicate();
+		int offset = chunkOffset( address );
+		byte[] key = new byte[chunk.getInt( offset )];
+		chunk.position( offset + RECORD_HEADER_SIZE );
+		chunk.get( key );
+		return key;
+	}
+
+	private static byte[] readValue(List<ByteBuffer> chunks, long address) {
+		ByteBuffer chunk = chunks.get( chunkIndex( address ) ).duplicate();
+		int offset = chunkOffset( address );
+		int keyLength = chunk.getInt( offset );
+		byte[] value = new byte[chunk.getInt( offset + 4 )];
+		chunk.position( offset + RECORD_HEADER_SIZE + keyLength );
+		chunk.get( value );
+		return value;
+	}
+
+	private static int recordSize(List<ByteBuffer> chunks, long address) {
+		ByteBuffer chunk = chunks.get( chunkIndex( address ) );
+		int offset = chunkOffset( address );
+		return recordSize( chunk.getInt( offset ), chunk.getInt( offset + 4 ) );
+	}
+
+	private static int recordSize(int keyLength, int valueLength) {
+		return RECORD_HEADER_SIZE + keyLength + valueLength;
+	}
+
+	private static int chunkIndex(long address) {
+		return (int) ( address >>> 32 );
+	}
+
+	private static int chunkOffset(long address) {
+		return (int) address;
+	}
+
+	private static int hash(byte[] key) {
+		// FNV-1a, followed by the finalizer of MurmurHash3 to spread the bits used by the index
+		int hash = 0x811c9dc5;
+		for ( byte b : key ) {
+			hash ^= b;
+			hash *= 0x01000193;
+		}
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+	/**
+	 * Iterates over the addresses of the records present when it was created. The chunks are kept, so that the
+	 * records can still be read after a compaction or clear.
+	 */
+	private class RecordIterator {
+
+		private final List<ByteBuffer> chunks;
+		private final long[] addresses;
+		private int position;
+
+		RecordIterator() {
+			Lock readLock = lock.readLock();
+			readLock.lock();
+			try {
+				this.chunks = new ArrayList<>( OffHeapMap.this.chunks );
+				this.addresses = new long[size];
+				int i = 0;
+				for ( int slot = 0; slot < capacity; slot++ ) {
+					long address = index.getLong( slot * SLOT_SIZE + 4 );
+					if ( address > 0 ) {
+						addresses[i++] = address - 1;
+					}
+				}
+			}
+			finally {
+				readLock.unlock();
+			}
+		}
+
+		boolean hasNext() {
+			return position < addresses.length;
+		}
+
+		long next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			return addresses[position++];
+		}
+	}
+}
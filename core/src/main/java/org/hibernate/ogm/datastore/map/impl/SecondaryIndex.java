@@ -0,0 +1,160 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.hibernate.ogm.datastore.map.options.MapIndexType;
+import org.hibernate.ogm.query.inmemory.impl.ColumnIndex;
+import org.hibernate.ogm.query.inmemory.impl.QueryValues;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * An index of the entities of a table by the value of one of their columns, maintained by the
+ * {@link MapDatastoreProvider} on each write.
+ * <p>
+ * The values are {@link QueryValues#normalize(Object) normalized}, so that a lookup finds the entities whose column
+ * value is equal to the given value, whatever its numeric type. Entities without value are not indexed. The index
+ * remembers the value each entity has been indexed with, as the tuples of the heap storage are updated in place.
+ */
+public final class SecondaryIndex implements ColumnIndex {
+
+	private final String column;
+	private final MapIndexType type;
+	private final ConcurrentMap<Object, Set<EntityKey>> entries;
+	private final ConcurrentMap<EntityKey, Object> indexedValues = newConcurrentHashMap();
+
+	SecondaryIndex(String column, MapIndexType type) {
+		this.column = column;
+		this.type = type;
+		this.entries = type == MapIndexType.SORTED ? new ConcurrentSkipListMap<>( SecondaryIndex::compareKeys ) : newConcurrentHashMap();
+	}
+
+	public String getColumn() {
+		return column;
+	}
+
+	public MapIndexType getType() {
+		return type;
+	}
+
+	synchronized void update(EntityKey key, Map<String, Object> tuple) {
+		Object value = QueryValues.normalize( tuple.get( column ) );
+		Object previous = value == null ? indexedValues.remove( key ) : indexedValues.put( key, value );
+		if ( Objects.equals( previous, value ) ) {
+			return;
+		}
+		if ( previous != null ) {
+			removeEntry( previous, key );
+		}
+		if ( value != null ) {
+			entries.computeIfAbsent( value, v -> ConcurrentHashMap.newKeySet() ).add( key );
+		}
+	}
+
+	synchronized void remove(EntityKey key) {
+		Object previous = indexedValues.remove( key );
+		if ( previous != null ) {
+			removeEntry( previous, key );
+		}
+	}
+
+	private void removeEntry(Object value, EntityKey key) {
+		Set<EntityKey> keys = entries.get( value );
+		if ( keys != null ) {
+			keys.remove( key );
+			if ( keys.isEmpty() ) {
+				entries.remove( value );
+			}
+		}
+	}
+
+	synchronized void clear() {
+		entries.clear();
+		indexedValues.clear();
+	}
+
+	/**
+	 * @param value the value to look up
+	 * @return the keys of the entities having the given value, a read-only view
+	 */
+	@Override
+	public Set<EntityKey> get(Object value) {
+		if ( value == null ) {
+			return Collections.emptySet();
+		}
+		Set<EntityKey> keys = entries.get( QueryValues.normalize( value ) );
+		return keys == null ? Collections.<EntityKey>emptySet() : Collections.unmodifiableSet( keys );
+	}
+
+	/**
+	 * @param lower the lower bound, {@code null} if unbounded
+	 * @param lowerInclusive whether the lower bound is included
+	 * @param upper the upper bound, {@code null} if unbounded
+	 * @param upperInclusive whether the upper bound is included
+	 * @return the keys of the entities having a value within the given bounds or {@code null} if this index is not
+	 * sorted
+	 */
+	@Override
+	public Set<EntityKey> range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+		if ( type != MapIndexType.SORTED ) {
+			return null;
+		}
+
+		Object lowerKey = QueryValues.normalize( lower );
+		Object upperKey = QueryValues.normalize( upper );
+		if ( lowerKey != null && upperKey != null ) {
+			int comparison = compareKeys( lowerKey, upperKey );
+			if ( comparison > 0 || ( comparison == 0 && !( lowerInclusive && upperInclusive ) ) ) {
+				return Collections.emptySet();
+			}
+		}
+
+		NavigableMap<Object, Set<EntityKey>> range = (NavigableMap<Object, Set<EntityKey>>) entries;
+		if ( lowerKey != null ) {
+			range = range.tailMap( lowerKey, lowerInclusive );
+		}
+		if ( upperKey != null ) {
+			range = range.headMap( upperKey, upperInclusive );
+		}
+
+		Set<EntityKey> keys = new HashSet<>();
+		for ( Set<EntityKey> entityKeys : range.values() ) {
+			keys.addAll( entityKeys );
+		}
+		return keys;
+	}
+
+	// values which cannot be compared, e.g. of different types, are ordered by type
+	private static int compareKeys(Object key, Object other) {
+		Integer comparison = QueryValues.compare( key, other );
+		if ( comparison != null ) {
+			return comparison;
+		}
+		int typeComparison = getTypeName( key ).compareTo( getTypeName( other ) );
+		return typeComparison != 0 ? typeComparison : key.toString().compareTo( other.toString() );
+	}
+
+	private static String getTypeName(Object key) {
+		return key instanceof Number ? Number.class.getName() : key.getClass().getName();
+	}
+
+	@Override
+	public String toString() {
+		return "SecondaryIndex [column=" + column + ", type=" + type + "]";
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.options;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * A secondary index on a column of an entity stored in the map datastore, see {@link MapIndexes}.
+ */
+@Target({})
+@Retention(RUNTIME)
+public @interface MapIndex {
+
+	/**
+	 * The name of the indexed column
+	 *
+	 * @return the name of the indexed column
+	 */
+	String column();
+
+	/**
+	 * The kind of index
+	 *
+	 * @return the kind of index
+	 */
+	MapIndexType type() default MapIndexType.HASH;
+}
@@ -0,0 +1,24 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.options;
+
+/**
+ * The kinds of secondary indexes of the map datastore.
+ */
+public enum MapIndexType {
+
+	/**
+	 * A hash index, used by equality and {@code in} conditions.
+	 */
+	HASH,
+
+	/**
+	 * A sorted index, used by equality and {@code in} conditions as well as by comparisons and {@code between}
+	 * conditions.
+	 */
+	SORTED;
+}
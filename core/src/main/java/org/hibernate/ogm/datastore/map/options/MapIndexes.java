@@ -0,0 +1,34 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.options;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.ogm.datastore.map.options.impl.MapIndexesConverter;
+import org.hibernate.ogm.options.spi.MappingOption;
+
+/**
+ * Defines secondary indexes on columns of the annotated entity, used by the queries executed against the map
+ * datastore (see {@link org.hibernate.ogm.datastore.map.MapProperties#IN_MEMORY_QUERIES}) instead of scanning all the
+ * entities of the table.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@MappingOption(MapIndexesConverter.class)
+public @interface MapIndexes {
+
+	/**
+	 * The indexes of the entity
+	 *
+	 * @return the indexes of the entity
+	 */
+	MapIndex[] value();
+}
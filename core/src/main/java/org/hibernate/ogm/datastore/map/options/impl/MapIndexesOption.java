@@ -0,0 +1,16 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.options.impl;
+
+import org.hibernate.ogm.datastore.map.options.MapIndexes;
+import org.hibernate.ogm.options.spi.UniqueOption;
+
+/**
+ * Option for specifying the secondary indexes of an entity stored in the map datastore.
+ */
+public class MapIndexesOption extends UniqueOption<MapIndexes> {
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.query.inmemory.impl.InMemoryQueryDescriptor;
+import org.hibernate.ogm.query.inmemory.impl.InMemoryQueryHandler;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * Executes queries against the entities of the map datastore.
+ * <p>
+ * When a secondary index applies to the where clause, only the entities it returns are tested. Otherwise all the
+ * entities are scanned, in parallel for large data sets.
+ */
+public class MapQueryHandler extends InMemoryQueryHandler {
+
+	/**
+	 * The number of stored entities from which scans are executed in parallel.
+	 */
+	private static final int PARALLEL_SCAN_THRESHOLD = 10_000;
+
+	private final MapDatastoreProvider provider;
+
+	public MapQueryHandler(MapDatastoreProvider provider) {
+		this.provider = provider;
+	}
+
+	@Override
+	protected List<Map<String, Object>> getMatchingEntries(BackendQuery<InMemoryQueryDescriptor> backendQuery, HashMap<String, Object> parameters,
+			Comparator<Map<String, Object>> order, int maxEntries) {
+		InMemoryQueryDescriptor queryDescriptor = backendQuery.getQuery();
+		QueryCondition condition = queryDescriptor.getCondition();
+		// without order by clause, any entities fill the requested page
+		int limit = order == null ? maxEntries : ALL_ENTRIES;
+
+		Set<EntityKey> candidates = condition == null
+				? null
+				: condition.findCandidates( provider.getSecondaryIndexes( queryDescriptor.getTable() ), parameters );
+
+		return candidates == null
+				? scan( queryDescriptor.getTable(), condition, parameters, limit )
+				: lookup( candidates, condition, parameters, limit );
+	}
+
+	private List<Map<String, Object>> scan(String table, QueryCondition condition, Map<String, Object> parameters, int limit) {
+		Map<EntityKey, Map<String, Object>> entities = provider.getEntityMap();
+		Stream<Map.Entry<EntityKey, Map<String, Object>>> stream = entities.size() < PARALLEL_SCAN_THRESHOLD
+				? entities.entrySet().stream()
+				: entities.entrySet().parallelStream();
+
+		Stream<Map<String, Object>> matches = stream
+				.filter( entity -> entity.getKey().getTable().equals( table ) )
+				.map( Map.Entry::getValue )
+				.filter( tuple -> tuple != null && ( condition == null || condition.evaluate( tuple, parameters ) ) );
+		if ( limit != ALL_ENTRIES ) {
+			matches = matches.limit( limit );
+		}
+		return matches.collect( Collectors.toCollection( ArrayList::new ) );
+	}
+
+	private List<Map<String, Object>> lookup(Set<EntityKey> candidates, QueryCondition condition, Map<String, Object> parameters, int limit) {
+		List<Map<String, Object>> matches = new ArrayList<>( candidates.size() );
+		for ( EntityKey candidate : candidates ) {
+			Map<String, Object> tuple = provider.getEntityTuple( candidate );
+			if ( tuple != null && condition.evaluate( tuple, parameters ) ) {
+				matches.add( tuple );
+				if ( matches.size() == limit ) {
+					break;
+				}
+			}
+		}
+		return matches;
+	}
+}
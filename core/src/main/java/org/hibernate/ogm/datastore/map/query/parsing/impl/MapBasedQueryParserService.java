@@ -0,0 +1,22 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.impl;
+
+import org.hibernate.ogm.query.inmemory.parsing.impl.InMemoryBasedQueryParserService;
+import org.hibernate.ogm.query.spi.QueryParserService;
+
+/**
+ * A {@link QueryParserService} implementation which creates queries evaluated in memory against the entities of the
+ * map datastore, rather than through Hibernate Search.
+ */
+public class MapBasedQueryParserService extends InMemoryBasedQueryParserService {
+
+	@Override
+	protected String getDatastoreName() {
+		return "Map";
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.association.spi;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * The rows added to and removed from an association which has not been read.
+ * <p>
+ * Only the last change applied to a given row is kept, so that several changes to the same association can be
+ * merged into one datastore operation.
+ */
+public class AssociationRowsChanges {
+
+	private final Map<RowKey, Tuple> changes = new LinkedHashMap<>();
+
+	public void addRow(RowKey rowKey, Tuple row) {
+		changes.remove( rowKey );
+		changes.put( rowKey, row );
+	}
+
+	public void removeRow(RowKey rowKey) {
+		changes.remove( rowKey );
+		changes.put( rowKey, null );
+	}
+
+	/**
+	 * Applies the given changes after the ones already contained in this object.
+	 *
+	 * @param other the changes to apply
+	 */
+	public void merge(AssociationRowsChanges other) {
+		for ( Map.Entry<RowKey, Tuple> change : other.changes.entrySet() ) {
+			if ( change.getValue() == null ) {
+				removeRow( change.getKey() );
+			}
+			else {
+				addRow( change.getKey(), change.getValue() );
+			}
+		}
+	}
+
+	/**
+	 * @return the rows to add, in the order they have been added
+	 */
+	public Map<RowKey, Tuple> getAddedRows() {
+		Map<RowKey, Tuple> addedRows = new LinkedHashMap<>();
+		for ( Map.Entry<RowKey, Tuple> change : changes.entrySet() ) {
+			if ( change.getValue() != null ) {
+				addedRows.put( change.getKey(), change.getValue() );
+			}
+		}
+		return addedRows;
+	}
+
+	/**
+	 * @return the keys of the rows to remove
+	 */
+	public Set<RowKey> getRemovedRows() {
+		Map<RowKey, Tuple> removedRows = new LinkedHashMap<>();
+		for ( Map.Entry<RowKey, Tuple> change : changes.entrySet() ) {
+			if ( change.getValue() == null ) {
+				removedRows.put( change.getKey(), null );
+			}
+		}
+		return Collections.unmodifiableSet( removedRows.keySet() );
+	}
+
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "AssociationRowsChanges [added=" + getAddedRows().keySet() + ", removed=" + getRemovedRows() + "]";
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.association.spi;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+
+/**
+ * A {@link GridDialect} facet to be implemented by those stores which can add rows to or remove rows from an
+ * association without reading it first.
+ * <p>
+ * It is used to maintain the inverse side of bi-directional many-to-many associations: when the inverse side has not
+ * been loaded into the session, the changed rows are sent to the datastore as is instead of loading the whole
+ * association, applying the change and writing it back.
+ */
+public interface AssociationRowsGridDialect extends GridDialect {
+
+	/**
+	 * Applies the given row changes to the association with the given key. The association has not necessarily been
+	 * read before and might not exist yet in the datastore.
+	 * <p>
+	 * Adding a row which is already present must not create a duplicate, removing a row which is not present must be
+	 * ignored.
+	 *
+	 * @param key The key of the association to update
+	 * @param changes The rows to add and to remove
+	 * @param associationContext Provides additional meta-data useful for the association update
+	 */
+	void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext);
+}
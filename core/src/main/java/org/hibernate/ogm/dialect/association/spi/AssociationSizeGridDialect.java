@@ -0,0 +1,46 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.association.spi;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * A {@link GridDialect} facet to be implemented by those stores which can count the rows of an association or look
+ * for a single row without reading the whole association.
+ * <p>
+ * It is used for extra-lazy collections (see {@code @LazyCollection(LazyCollectionOption.EXTRA)}) which have not
+ * been initialized: {@code size()}, {@code contains()} and {@code containsKey()} are then answered by the datastore
+ * instead of loading all the rows of the association.
+ */
+public interface AssociationSizeGridDialect extends GridDialect {
+
+	/**
+	 * Returns the number of rows of the association with the given key.
+	 *
+	 * @param key The key of the association
+	 * @param associationContext Provides additional meta-data useful for reading the association
+	 * @return the number of rows of the association, {@code 0} if the association does not exist
+	 */
+	int getAssociationSize(AssociationKey key, AssociationContext associationContext);
+
+	/**
+	 * Whether the association with the given key contains at least one row matching the given columns.
+	 * <p>
+	 * The given tuple only contains a subset of the row columns: either the index columns (e.g. to look for the key of
+	 * a map) or the element columns (e.g. to look for an element of a set). The association key columns are never part
+	 * of it.
+	 *
+	 * @param key The key of the association
+	 * @param rowColumns The values of the row columns to look for
+	 * @param associationContext Provides additional meta-data useful for reading the association
+	 * @return {@code true} if a matching row exists, {@code false} otherwise
+	 */
+	boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext);
+}
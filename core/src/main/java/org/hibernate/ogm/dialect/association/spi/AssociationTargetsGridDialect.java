@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.association.spi;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+
+/**
+ * A {@link GridDialect} facet to be implemented by those stores which can read the entities targeted by an
+ * association together with the rows of the association, e.g. by following the relationships of a graph or with a
+ * join in an aggregation.
+ * <p>
+ * It is used when a collection of entities is initialized: the target entities returned along with the association
+ * rows are hydrated right away, instead of being read one by one (or batch by batch) afterwards.
+ */
+public interface AssociationTargetsGridDialect extends GridDialect {
+
+	/**
+	 * Returns the association with the given key, as {@link GridDialect#getAssociation(AssociationKey, AssociationContext)}
+	 * does, together with the tuples of the entities targeted by its rows.
+	 * <p>
+	 * The target tuples must be complete, as returned by {@link GridDialect#getTuple(org.hibernate.ogm.model.key.spi.EntityKey, org.hibernate.ogm.dialect.spi.OperationContext)}.
+	 * A dialect may return the tuples of some of the targets only, or none of them, for instance if the association
+	 * is stored in a way which does not allow to reach its targets efficiently; the missing targets are read
+	 * separately.
+	 *
+	 * @param key The key of the association
+	 * @param associationContext Provides additional meta-data useful for reading the association
+	 * @param targetTupleContext Provides meta-data about the entity type targeted by the association
+	 * @return the association and the tuples of its targets, or {@code null} if the association does not exist
+	 */
+	AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext);
+}
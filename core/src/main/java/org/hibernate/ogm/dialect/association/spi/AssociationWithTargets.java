@@ -0,0 +1,55 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.association.spi;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * An association read from the datastore together with the tuples of the entities targeted by its rows.
+ *
+ * @see AssociationTargetsGridDialect
+ */
+public class AssociationWithTargets {
+
+	private final Association association;
+	private final List<Tuple> targets;
+
+	public AssociationWithTargets(Association association, List<Tuple> targets) {
+		this.association = association;
+		this.targets = targets;
+	}
+
+	/**
+	 * Creates an instance for an association whose targets have not been read.
+	 *
+	 * @param association the association
+	 * @return a new instance without target tuples, {@code null} if the given association is {@code null}
+	 */
+	public static AssociationWithTargets withoutTargets(Association association) {
+		return association == null ? null : new AssociationWithTargets( association, Collections.<Tuple>emptyList() );
+	}
+
+	public Association getAssociation() {
+		return association;
+	}
+
+	/**
+	 * @return the tuples of the entities targeted by the association, in no particular order
+	 */
+	public List<Tuple> getTargets() {
+		return targets;
+	}
+
+	@Override
+	public String toString() {
+		return "AssociationWithTargets [association=" + association + ", targets=" + targets.size() + "]";
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.async.spi;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+
+/**
+ * A {@link GridDialect} facet for stores which can execute operations without blocking the calling thread, e.g. with
+ * an asynchronous client.
+ * <p>
+ * Hibernate OGM uses it to overlap independent datastore operations: when the changes of a flush affect several
+ * tables, the changes to each table are applied concurrently. The calling thread waits for all the operations it
+ * started before going on, so the operations of a session are still executed within the session.
+ * <p>
+ * A dialect implementing this facet must also implement either {@link BatchableGridDialect} or
+ * {@link GroupingByEntityDialect}; the asynchronous methods have the same contract as their blocking counterparts.
+ */
+public interface AsyncGridDialect extends GridDialect {
+
+	/**
+	 * Executes the operations of the given queue, as {@code executeBatch(OperationsQueue)} does.
+	 * <p>
+	 * The operations of the queue must be applied in order. Different queues may be executed concurrently, Hibernate
+	 * OGM only does so for queues affecting different tables.
+	 *
+	 * @param queue the operations to execute
+	 * @return a stage completed when all the operations have been applied, or completed exceptionally with the first
+	 * failure, e.g. a {@link org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException}
+	 */
+	CompletionStage<Void> executeBatchAsync(OperationsQueue queue);
+}
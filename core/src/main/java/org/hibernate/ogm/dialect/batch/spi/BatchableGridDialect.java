@@ -24,4 +24,15 @@ public interface BatchableGridDialect extends GridDialect {
 	 */
 	void executeBatch(OperationsQueue queue);
 
+	/**
+	 * Whether the updates and removals of versioned entities can be batched as
+	 * {@link UpdateTupleWithOptimisticLockOperation}s and {@link RemoveTupleWithOptimisticLockOperation}s, the
+	 * version check being done when the batch is executed.
+	 *
+	 * @return {@code true} if {@link #executeBatch(OperationsQueue)} supports these operations, {@code false} otherwise
+	 */
+	default boolean supportsBatchedOptimisticLocking() {
+		return false;
+	}
+
 }
@@ -6,9 +6,12 @@
  */
 package org.hibernate.ogm.dialect.batch.spi;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
 
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 
 /**
@@ -22,6 +25,9 @@ public class GroupedChangesToEntityOperation implements Operation {
 
 	private final Queue<Operation> operations = new LinkedList<>();
 
+	// The row updates which can still be merged with the subsequent ones on the same association
+	private final Map<AssociationKey, UpdateAssociationRowsOperation> associationRowsOperations = new HashMap<>();
+
 	public GroupedChangesToEntityOperation(EntityKey entityKey) {
 		this.entityKey = entityKey;
 	}
@@ -31,6 +37,21 @@ public EntityKey getEntityKey() {
 	}
 
 	public void addOperation(Operation operation) {
+		if ( operation instanceof UpdateAssociationRowsOperation ) {
+			UpdateAssociationRowsOperation rowsOperation = (UpdateAssociationRowsOperation) operation;
+			UpdateAssociationRowsOperation pendingOperation = associationRowsOperations.get( rowsOperation.getAssociationKey() );
+			if ( pendingOperation != null ) {
+				pendingOperation.getChanges().merge( rowsOperation.getChanges() );
+				return;
+			}
+			associationRowsOperations.put( rowsOperation.getAssociationKey(), rowsOperation );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			associationRowsOperations.remove( ( (InsertOrUpdateAssociationOperation) operation ).getAssociationKey() );
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			associationRowsOperations.remove( ( (RemoveAssociationOperation) operation ).getAssociationKey() );
+		}
 		operations.add( operation );
 	}
 
@@ -40,6 +61,7 @@ public Queue<Operation> getOperations() {
 
 	public void clear() {
 		operations.clear();
+		associationRowsOperations.clear();
 	}
 
 	@Override
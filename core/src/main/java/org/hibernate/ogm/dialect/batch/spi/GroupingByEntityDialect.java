@@ -25,7 +25,8 @@ public interface GroupingByEntityDialect extends GridDialect {
 	void executeBatch(OperationsQueue operationsQueue);
 
 	/**
-	 * Flush all the pending operations.
+	 * Flush the pending operations a read of the given entity depends on, see
+	 * {@link OperationsQueue#flushOperationsOn(java.util.Collection, java.util.function.Consumer)}.
 	 *
 	 * @param entityKey the {@link EntityKey} of the entity which is the origin of this operation
 	 * @param tupleContext the {@link TupleContext}
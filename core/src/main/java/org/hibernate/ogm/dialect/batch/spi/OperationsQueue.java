@@ -6,13 +6,23 @@
  */
 package org.hibernate.ogm.dialect.batch.spi;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import org.hibernate.SessionEventListener;
+import org.hibernate.ogm.metrics.DatastoreOperationType;
+import org.hibernate.ogm.metrics.impl.DatastoreMetrics;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
@@ -23,6 +33,9 @@
  * <p>
  * It keeps track of the elements that are going to be affected by an {@link InsertOrUpdateTupleOperation}.
  * The queue can be closed, in that case it will throw an exception when trying to add or poll an operation.
+ * <p>
+ * A read can flush only the operations it depends on with {@link #flushOperationsOn(Collection, Consumer)}, the other
+ * operations staying queued.
  *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -48,9 +61,23 @@ public boolean isClosed() {
 
 	private final Set<EntityKey> insertionQueue = new HashSet<>();
 
+	private final SessionEventListener sessionEventListener;
+
+	private final DatastoreMetrics metrics;
+
 	private boolean closed = false;
 
 	public OperationsQueue() {
+		this( null, null );
+	}
+
+	/**
+	 * @param sessionEventListener notified of the partial flushes of the queue, may be {@code null}
+	 * @param metrics records the partial flushes of the queue, may be {@code null}
+	 */
+	public OperationsQueue(SessionEventListener sessionEventListener, DatastoreMetrics metrics) {
+		this.sessionEventListener = sessionEventListener;
+		this.metrics = metrics;
 	}
 
 	public void add(Operation operation) {
@@ -105,6 +132,137 @@ public Operation poll() {
 		return operations.poll();
 	}
 
+	/**
+	 * Executes the queued operations a read of the given tables depends on, the other operations staying queued.
+	 * <p>
+	 * These are the operations touching one of the tables, as well as the operations touching a table of one of the
+	 * former, and so on: the operations executed never share a table with the ones left in the queue, so the operations
+	 * on a given table are never reordered. All the operations are executed if the tables of some are unknown.
+	 * <p>
+	 * The flush is reported to the session as a partial flush and recorded as a
+	 * {@link DatastoreOperationType#PARTIAL_FLUSH} in the datastore metrics, if enabled.
+	 *
+	 * @param tables the tables about to be read
+	 * @param executor executes the given queue, usually {@link GroupingByEntityDialect#executeBatch(OperationsQueue)}
+	 */
+	public void flushOperationsOn(Collection<String> tables, Consumer<OperationsQueue> executor) {
+		if ( isClosed() || operations.isEmpty() ) {
+			return;
+		}
+
+		OperationsQueue dependencies = extractOperationsOn( tables );
+		if ( dependencies.size() == 0 ) {
+			return;
+		}
+
+		log.debugf( "Flushing %1$d of %2$d batched operations for a read of %3$s", dependencies.size(), dependencies.size() + size(), tables );
+
+		int flushedOperations = dependencies.size();
+		long start = System.nanoTime();
+		if ( sessionEventListener != null ) {
+			sessionEventListener.partialFlushStart();
+		}
+		try {
+			executor.accept( dependencies );
+		}
+		catch (RuntimeException e) {
+			if ( metrics != null ) {
+				metrics.record( DatastoreOperationType.PARTIAL_FLUSH, null, start, flushedOperations, 0, e );
+			}
+			throw e;
+		}
+		finally {
+			if ( sessionEventListener != null ) {
+				sessionEventListener.partialFlushEnd( flushedOperations, 0 );
+			}
+		}
+		if ( metrics != null ) {
+			metrics.record( DatastoreOperationType.PARTIAL_FLUSH, null, start, flushedOperations, 0, null );
+		}
+	}
+
+	private OperationsQueue extractOperationsOn(Collection<String> tables) {
+		Set<String> dependentTables = new HashSet<>( tables );
+		List<Operation> queued = new ArrayList<>( operations );
+		List<List<String>> tablesPerOperation = new ArrayList<>( queued.size() );
+		for ( Operation operation : queued ) {
+			tablesPerOperation.add( getTables( operation ) );
+		}
+
+		boolean[] extracted = new boolean[queued.size()];
+		int unknown = tablesPerOperation.indexOf( Collections.<String>emptyList() );
+		if ( unknown != -1 ) {
+			// unknown dependencies, everything has to be flushed
+			log.debugf( "Tables touched by batched operation %1$s are unknown, flushing all %2$d batched operations for a read of %3$s",
+					queued.get( unknown ), queued.size(), tables );
+			Arrays.fill( extracted, true );
+		}
+		boolean changed = true;
+		while ( changed ) {
+			changed = false;
+			for ( int i = 0; i < queued.size(); i++ ) {
+				if ( !extracted[i] && !Collections.disjoint( dependentTables, tablesPerOperation.get( i ) ) ) {
+					extracted[i] = true;
+					changed |= dependentTables.addAll( tablesPerOperation.get( i ) );
+				}
+			}
+		}
+
+		OperationsQueue dependencies = new OperationsQueue();
+		Iterator<Operation> iterator = operations.iterator();
+		for ( int i = 0; iterator.hasNext(); i++ ) {
+			Operation operation = iterator.next();
+			if ( extracted[i] ) {
+				iterator.remove();
+				dependencies.operations.add( operation );
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					EntityKey entityKey = ( (GroupedChangesToEntityOperation) operation ).getEntityKey();
+					dependencies.groupedOperations.put( entityKey, groupedOperations.remove( entityKey ) );
+					if ( insertionQueue.remove( entityKey ) ) {
+						dependencies.insertionQueue.add( entityKey );
+					}
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Returns the tables touched by the given operation: the table of the entity and the tables of the associations
+	 * it changes.
+	 *
+	 * @param operation the operation
+	 * @return the tables touched by the operation, empty if unknown
+	 */
+	public static List<String> getTables(Operation operation) {
+		List<String> tables = new ArrayList<>();
+		if ( operation instanceof GroupedChangesToEntityOperation ) {
+			GroupedChangesToEntityOperation groupedChanges = (GroupedChangesToEntityOperation) operation;
+			tables.add( groupedChanges.getEntityKey().getTable() );
+			for ( Operation groupedOperation : groupedChanges.getOperations() ) {
+				if ( groupedOperation instanceof InsertOrUpdateAssociationOperation ) {
+					tables.add( ( (InsertOrUpdateAssociationOperation) groupedOperation ).getAssociationKey().getTable() );
+				}
+				else if ( groupedOperation instanceof RemoveAssociationOperation ) {
+					tables.add( ( (RemoveAssociationOperation) groupedOperation ).getAssociationKey().getTable() );
+				}
+				else if ( groupedOperation instanceof UpdateAssociationRowsOperation ) {
+					tables.add( ( (UpdateAssociationRowsOperation) groupedOperation ).getAssociationKey().getTable() );
+				}
+			}
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			tables.add( ( (RemoveTupleOperation) operation ).getEntityKey().getTable() );
+		}
+		else if ( operation instanceof UpdateTupleWithOptimisticLockOperation ) {
+			tables.add( ( (UpdateTupleWithOptimisticLockOperation) operation ).getEntityKey().getTable() );
+		}
+		else if ( operation instanceof RemoveTupleWithOptimisticLockOperation ) {
+			tables.add( ( (RemoveTupleWithOptimisticLockOperation) operation ).getEntityKey().getTable() );
+		}
+		return tables;
+	}
+
 	public void clear() {
 		groupedOperations.clear();
 		operations.clear();
@@ -137,11 +295,15 @@ public int size() {
 
 	public boolean isMarkedForRemoval(EntityKey entityKey) {
 		for ( Operation operation: operations ) {
-			if ( !( operation instanceof RemoveTupleOperation ) ) {
-				continue;
+			if ( operation instanceof RemoveTupleOperation ) {
+				if ( ( (RemoveTupleOperation) operation ).getEntityKey().equals( entityKey ) ) {
+					return true;
+				}
 			}
-			if ( ( (RemoveTupleOperation) operation ).getEntityKey().equals( entityKey ) ) {
-				return true;
+			else if ( operation instanceof RemoveTupleWithOptimisticLockOperation ) {
+				if ( ( (RemoveTupleWithOptimisticLockOperation) operation ).getEntityKey().equals( entityKey ) ) {
+					return true;
+				}
 			}
 		}
 		return false;
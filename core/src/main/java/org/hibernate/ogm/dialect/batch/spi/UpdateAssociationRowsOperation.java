@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.batch.spi;
+
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Contains the rows to add to or remove from an association which has not been read, see
+ * {@link AssociationRowsGridDialect}.
+ * <p>
+ * The changes applied to the same association within one flush are merged into one operation.
+ */
+public class UpdateAssociationRowsOperation implements GroupableEntityOperation {
+
+	private final AssociationKey associationKey;
+	private final AssociationRowsChanges changes;
+	private final AssociationContext context;
+
+	public UpdateAssociationRowsOperation(AssociationKey associationKey, AssociationRowsChanges changes, AssociationContext context) {
+		this.associationKey = associationKey;
+		this.changes = changes;
+		this.context = context;
+	}
+
+	public AssociationKey getAssociationKey() {
+		return associationKey;
+	}
+
+	public AssociationRowsChanges getChanges() {
+		return changes;
+	}
+
+	public AssociationContext getContext() {
+		return context;
+	}
+
+	@Override
+	public EntityKey getEntityKey() {
+		return getAssociationKey().getEntityKey();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append( getClass().getSimpleName() );
+		sb.append( "[" );
+		sb.append( getEntityKey() );
+		sb.append( ", collectionRole=" );
+		sb.append( getAssociationKey().getMetadata().getCollectionRole() );
+		sb.append( ", changes=" );
+		sb.append( changes );
+		sb.append( "]" );
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.batch.spi;
+
+import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Contains the data required to update a versioned tuple, see
+ * {@link OptimisticLockingAwareGridDialect#updateTupleWithOptimisticLock(EntityKey, Tuple, Tuple, TupleContext)}.
+ * <p>
+ * The dialect executing the batch calls {@link #onStaleState()} if the tuple doesn't have the expected version in the
+ * datastore.
+ */
+public class UpdateTupleWithOptimisticLockOperation implements Operation {
+
+	private final EntityKey entityKey;
+	private final Tuple oldLockState;
+	private final Tuple tuple;
+	private final TupleContext tupleContext;
+	private final Runnable staleStateHandler;
+
+	/**
+	 * @param entityKey the key of the entity to update
+	 * @param oldLockState the column values identifying the expected version of the tuple
+	 * @param tuple the tuple to save
+	 * @param tupleContext the context of the tuple
+	 * @param staleStateHandler raises the failure if the tuple doesn't have the expected version
+	 */
+	public UpdateTupleWithOptimisticLockOperation(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext,
+			Runnable staleStateHandler) {
+		this.entityKey = entityKey;
+		this.oldLockState = oldLockState;
+		this.tuple = tuple;
+		this.tupleContext = tupleContext;
+		this.staleStateHandler = staleStateHandler;
+	}
+
+	public EntityKey getEntityKey() {
+		return entityKey;
+	}
+
+	public Tuple getOldLockState() {
+		return oldLockState;
+	}
+
+	public Tuple getTuple() {
+		return tuple;
+	}
+
+	public TupleContext getTupleContext() {
+		return tupleContext;
+	}
+
+	/**
+	 * Signals that the tuple doesn't have the expected version in the datastore; usually raises a
+	 * {@link org.hibernate.StaleObjectStateException}.
+	 */
+	public void onStaleState() {
+		staleStateHandler.run();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append( getClass().getSimpleName() );
+		sb.append( "[" );
+		sb.append( entityKey );
+		sb.append( ", " );
+		sb.append( oldLockState );
+		sb.append( "]" );
+		return sb.toString();
+	}
+}
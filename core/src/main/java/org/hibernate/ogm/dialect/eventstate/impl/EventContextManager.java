@@ -11,7 +11,7 @@
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.ogm.util.impl.EffectivelyFinal;
 import org.hibernate.ogm.util.impl.Immutable;
@@ -59,35 +59,57 @@ public static boolean isEventContextRequired(ServiceRegistryImplementor serviceR
 	}
 
 	void onEventBegin(EventSource session) {
+		stateHolder.set( createStates( session ) );
+	}
+
+	void onEventFinished() {
+		Map<Class<?>, Object> states = stateHolder.get();
+		if ( states == null ) {
+			return;
+		}
+
+		finish( states );
+		stateHolder.remove();
+	}
+
+	/**
+	 * Creates the states of an event cycle of the given session, without binding them to the current thread.
+	 * <p>
+	 * Used by sessions managing their event cycles themselves, such as stateless sessions: the cycle spans several
+	 * operations, each of them being run within the states with {@link #runWithin(Map, Runnable)}.
+	 *
+	 * @param session the session the event cycle belongs to
+	 * @return the states of the event cycle
+	 * @see #finish(Map)
+	 */
+	public Map<Class<?>, Object> createStates(SharedSessionContractImplementor session) {
 		Map<Class<?>, Object> stateMap = new HashMap<>();
-		stateMap.put( SessionImplementor.class, session );
+		stateMap.put( SharedSessionContractImplementor.class, session );
 
 		for ( Entry<Class<?>, EventStateLifecycle<?>> lifecycle : enabledLifecycles.entrySet() ) {
 			Object value = lifecycle.getValue().create( session );
 			stateMap.put( lifecycle.getKey(), value );
 		}
 
-		stateHolder.set( stateMap );
+		return stateMap;
 	}
 
-	void onEventFinished() {
-		Map<Class<?>, Object> states = stateHolder.get();
-		if ( states == null ) {
-			return;
-		}
-
-		SessionImplementor session = (SessionImplementor) states.get( SessionImplementor.class );
+	/**
+	 * Finishes the event cycle made of the given states, e.g. executing the operations it batched.
+	 *
+	 * @param states the states created by {@link #createStates(SharedSessionContractImplementor)}
+	 */
+	public void finish(Map<Class<?>, Object> states) {
+		SharedSessionContractImplementor session = (SharedSessionContractImplementor) states.get( SharedSessionContractImplementor.class );
 
 		for ( Entry<Class<?>, Object> state : states.entrySet() ) {
 			if ( state.getValue() != session ) {
 				onFinish( state.getKey(), state.getValue(), session );
 			}
 		}
-
-		stateHolder.remove();
 	}
 
-	private <T> void onFinish(Class<T> stateType, Object state, SessionImplementor session) {
+	private <T> void onFinish(Class<T> stateType, Object state, SharedSessionContractImplementor session) {
 		@SuppressWarnings("unchecked")
 		T typedState = (T) state;
 
@@ -118,6 +140,38 @@ public boolean isActive() {
 		return stateHolder.get() != null;
 	}
 
+	/**
+	 * Wraps the given task so that it runs within the event cycle of the current thread, e.g. when it is executed by
+	 * another thread on behalf of the current one. The states must support being accessed from several threads.
+	 * <p>
+	 * <b>Note:</b> Must only be called when being within a supported event cycle.
+	 */
+	public Runnable propagateTo(Runnable task) {
+		return runWithin( getStates(), task );
+	}
+
+	/**
+	 * Wraps the given task so that it runs within an event cycle made of the given states, e.g. when operations
+	 * flushed by a session are executed by a background thread once the event cycle of the session is over.
+	 */
+	public Runnable runWithin(Map<Class<?>, Object> states, Runnable task) {
+		return () -> {
+			Map<Class<?>, Object> previousStates = stateHolder.get();
+			stateHolder.set( states );
+			try {
+				task.run();
+			}
+			finally {
+				if ( previousStates == null ) {
+					stateHolder.remove();
+				}
+				else {
+					stateHolder.set( previousStates );
+				}
+			}
+		};
+	}
+
 	private Map<Class<?>, Object> getStates() {
 		Map<Class<?>, Object> states = stateHolder.get();
 
@@ -12,7 +12,7 @@
 import java.util.Map.Entry;
 
 import org.hibernate.engine.config.spi.ConfigurationService;
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.compensation.impl.ErrorHandlerEnabledTransactionCoordinatorDecorator;
 import org.hibernate.ogm.compensation.impl.OperationCollector;
@@ -20,6 +20,7 @@
 import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.metrics.impl.MetricsCollectingGridDialect;
 import org.hibernate.ogm.util.impl.Immutable;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -69,12 +70,12 @@ public boolean mustBeEnabled(ServiceRegistryImplementor serviceRegistry) {
 		}
 
 		@Override
-		public OperationCollector create(SessionImplementor session) {
+		public OperationCollector create(SharedSessionContractImplementor session) {
 			return ( (ErrorHandlerEnabledTransactionCoordinatorDecorator) session.getTransactionCoordinator() ).getOperationCollector();
 		}
 
 		@Override
-		public void onFinish(OperationCollector state, SessionImplementor session) {
+		public void onFinish(OperationCollector state, SharedSessionContractImplementor session) {
 			// nothing to do
 		}
 	}
@@ -97,12 +98,17 @@ public boolean mustBeEnabled(ServiceRegistryImplementor serviceRegistry) {
 		}
 
 		@Override
-		public OperationsQueue create(SessionImplementor session) {
-			return new OperationsQueue();
+		public OperationsQueue create(SharedSessionContractImplementor session) {
+			GridDialect gridDialect = session.getFactory()
+					.getServiceRegistry()
+					.getService( GridDialect.class );
+			MetricsCollectingGridDialect metricsDialect = GridDialects.getDelegateOrNull( gridDialect, MetricsCollectingGridDialect.class );
+
+			return new OperationsQueue( session.getEventListenerManager(), metricsDialect != null ? metricsDialect.getMetrics() : null );
 		}
 
 		@Override
-		public void onFinish(OperationsQueue operationsQueue, SessionImplementor session) {
+		public void onFinish(OperationsQueue operationsQueue, SharedSessionContractImplementor session) {
 			GridDialect gridDialect = session.getFactory()
 					.getServiceRegistry()
 					.getService( GridDialect.class );
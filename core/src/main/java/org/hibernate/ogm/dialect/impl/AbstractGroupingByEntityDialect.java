@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.dialect.impl;
 
+import java.util.Collections;
+
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
@@ -55,7 +57,7 @@ else if ( operation instanceof RemoveTupleOperation ) {
 
 	@Override
 	public void flushPendingOperations(EntityKey entityKey, TupleContext tupleContext) {
-		executeBatch( tupleContext.getOperationsQueue() );
+		tupleContext.getOperationsQueue().flushOperationsOn( Collections.singleton( entityKey.getTable() ), this::executeBatch );
 	}
 
 	@Override
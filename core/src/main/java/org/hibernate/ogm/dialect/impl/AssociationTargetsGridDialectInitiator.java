@@ -0,0 +1,36 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link AssociationTargetsGridDialect} service if the current grid dialect implements this dialect
+ * facet.
+ */
+public class AssociationTargetsGridDialectInitiator implements StandardServiceInitiator<AssociationTargetsGridDialect> {
+
+	public static final AssociationTargetsGridDialectInitiator INSTANCE = new AssociationTargetsGridDialectInitiator();
+
+	private AssociationTargetsGridDialectInitiator() {
+	}
+
+	@Override
+	public Class<AssociationTargetsGridDialect> getServiceInitiated() {
+		return AssociationTargetsGridDialect.class;
+	}
+
+	@Override
+	public AssociationTargetsGridDialect initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return GridDialects.getDialectFacetOrNull( registry.getService( GridDialect.class ), AssociationTargetsGridDialect.class );
+	}
+}
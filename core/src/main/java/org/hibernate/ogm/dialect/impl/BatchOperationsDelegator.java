@@ -8,7 +8,14 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
@@ -16,6 +23,9 @@
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleWithOptimisticLockOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateTupleWithOptimisticLockOperation;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -37,6 +47,13 @@
  * The {@link TupleContext} and {@link AssociationContext} are also populated with the {@link OperationsQueue}
  * before looking for element in the db. This way the underlying datastore can make assumptions about elements
  * that are in the queue but not in the db.
+ * <p>
+ * If asynchronous flushes are enabled for a dialect implementing {@link AsyncGridDialect}, or if parallel flushes are
+ * enabled, the operations of a batch are split into partitions not sharing any table and the partitions are executed
+ * concurrently.
+ * <p>
+ * In write-behind mode, the operations of a flush are handed to a {@link WriteBehindWriter} which executes them from a
+ * background thread.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
@@ -45,10 +62,47 @@ public class BatchOperationsDelegator extends ForwardingGridDialect<Serializable
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private final EventContextManager eventContext;
+	private final ParallelFlushExecutor parallelFlushExecutor;
+	private final boolean asyncFlush;
+	private final WriteBehindWriter writeBehindWriter;
 
-	public BatchOperationsDelegator(GridDialect dialect, EventContextManager eventContext) {
+	/**
+	 * @param dialect the dialect executing the operations
+	 * @param eventContext gives access to the queue of the current flush
+	 * @param parallelFlushExecutor executes the partitions of a flush concurrently; {@code null} if parallel flushes
+	 * are disabled
+	 * @param asyncFlush whether the partitions of a flush are executed concurrently by the {@link AsyncGridDialect}
+	 * facet of the dialect, see {@link org.hibernate.ogm.cfg.OgmProperties#ASYNC_FLUSH_ENABLED}
+	 * @param writeBehindWriter executes the operations of flushes from a background thread; {@code null} if
+	 * write-behind is disabled
+	 */
+	public BatchOperationsDelegator(GridDialect dialect, EventContextManager eventContext, ParallelFlushExecutor parallelFlushExecutor,
+			boolean asyncFlush, WriteBehindWriter writeBehindWriter) {
 		super( dialect );
 		this.eventContext = eventContext;
+		this.parallelFlushExecutor = parallelFlushExecutor;
+		this.asyncFlush = asyncFlush && GridDialects.hasFacet( dialect, AsyncGridDialect.class );
+		this.writeBehindWriter = writeBehindWriter;
+		if ( writeBehindWriter != null ) {
+			writeBehindWriter.start( this::executeBatchNow );
+		}
+	}
+
+	/**
+	 * @return the writer executing the operations of flushes in write-behind mode, {@code null} if write-behind is
+	 * disabled
+	 */
+	public WriteBehindWriter getWriteBehindWriter() {
+		return writeBehindWriter;
+	}
+
+	@Override
+	public void stop() {
+		// write the pending operations while the datastore is still available
+		if ( writeBehindWriter != null ) {
+			writeBehindWriter.stop();
+		}
+		super.stop();
 	}
 
 	private boolean isBatchDisabled() {
@@ -72,11 +126,28 @@ private OperationsQueue getOperationQueue() {
 
 	@Override
 	public void executeBatch(OperationsQueue operationsQueue) {
+		if ( writeBehindWriter != null && !operationsQueue.isClosed() ) {
+			writeBehindWriter.add( operationsQueue );
+		}
+		else {
+			executeBatchNow( operationsQueue );
+		}
+	}
+
+	private void executeBatchNow(OperationsQueue operationsQueue) {
 		try {
 			if ( GridDialects.hasFacet( getGridDialect(), BatchableGridDialect.class )
 					|| GridDialects.hasFacet( getGridDialect(), GroupingByEntityDialect.class ) ) {
 				log.tracef( "Executing batch" );
-				super.executeBatch( operationsQueue );
+				if ( asyncFlush ) {
+					executePartitions( operationsQueue, true );
+				}
+				else if ( parallelFlushExecutor != null ) {
+					executePartitions( operationsQueue, false );
+				}
+				else {
+					super.executeBatch( operationsQueue );
+				}
 			}
 		}
 		catch ( TupleAlreadyExistsException taee ) {
@@ -88,6 +159,57 @@ public void executeBatch(OperationsQueue operationsQueue) {
 		}
 	}
 
+	/**
+	 * Executes the independent partitions of the queue concurrently, see {@link OperationsQueuePartitioner}. The
+	 * operations of a partition are executed in the order of the queue.
+	 */
+	private void executePartitions(OperationsQueue operationsQueue, boolean async) {
+		try {
+			List<OperationsQueue> partitions = OperationsQueuePartitioner.partition( operationsQueue );
+			if ( partitions.size() < 2 ) {
+				// the drained queue if there is nothing to execute
+				super.executeBatch( partitions.isEmpty() ? operationsQueue : partitions.get( 0 ) );
+			}
+			else if ( async ) {
+				executeAsynchronously( partitions );
+			}
+			else {
+				parallelFlushExecutor.execute( partitions, super::executeBatch, eventContext );
+			}
+		}
+		finally {
+			operationsQueue.clear();
+		}
+	}
+
+	private void executeAsynchronously(List<OperationsQueue> partitions) {
+		List<CompletableFuture<Void>> batches = new ArrayList<>( partitions.size() );
+		RuntimeException failure = null;
+		for ( OperationsQueue partition : partitions ) {
+			try {
+				batches.add( super.executeBatchAsync( partition ).toCompletableFuture() );
+			}
+			catch (RuntimeException e) {
+				// Don't start the remaining batches, but wait for those already running
+				failure = e;
+				break;
+			}
+		}
+
+		try {
+			CompletableFuture.allOf( batches.toArray( new CompletableFuture<?>[batches.size()] ) ).join();
+		}
+		catch (CompletionException e) {
+			if ( failure == null ) {
+				failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		OperationContext contextWithQueue;
@@ -121,11 +243,63 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		}
 	}
 
+	/**
+	 * Queues the update of a versioned tuple, the version being checked when the batch is executed.
+	 * <p>
+	 * The update is not queued if batching is disabled, in write-behind mode (the failure could not be reported to the
+	 * session), if the dialect doesn't support batched optimistic locking or if the tuple is not yet inserted.
+	 *
+	 * @param key the key of the entity to update
+	 * @param oldLockState the column values identifying the expected version of the tuple
+	 * @param tuple the tuple to save
+	 * @param tupleContext the context of the tuple
+	 * @param staleStateHandler raises the failure if the tuple doesn't have the expected version
+	 * @return {@code true} if the update has been queued, {@code false} if it must be executed right away
+	 */
+	public boolean queueUpdateTupleWithOptimisticLock(EntityKey key, Tuple oldLockState, Tuple tuple, TupleContext tupleContext,
+			Runnable staleStateHandler) {
+		if ( !isOptimisticLockingBatched( key ) ) {
+			return false;
+		}
+		getOperationQueue().add( new UpdateTupleWithOptimisticLockOperation( key, oldLockState, tuple, tupleContext, staleStateHandler ) );
+		return true;
+	}
+
+	/**
+	 * Queues the removal of a versioned tuple, the version being checked when the batch is executed.
+	 *
+	 * @param key the key of the entity to remove
+	 * @param oldLockState the column values identifying the expected version of the tuple
+	 * @param tupleContext the context of the tuple
+	 * @param staleStateHandler raises the failure if the tuple doesn't have the expected version
+	 * @return {@code true} if the removal has been queued, {@code false} if it must be executed right away
+	 * @see #queueUpdateTupleWithOptimisticLock(EntityKey, Tuple, Tuple, TupleContext, Runnable)
+	 */
+	public boolean queueRemoveTupleWithOptimisticLock(EntityKey key, Tuple oldLockState, TupleContext tupleContext, Runnable staleStateHandler) {
+		if ( !isOptimisticLockingBatched( key ) ) {
+			return false;
+		}
+		getOperationQueue().add( new RemoveTupleWithOptimisticLockOperation( key, oldLockState, tupleContext, staleStateHandler ) );
+		return true;
+	}
+
+	private boolean isOptimisticLockingBatched(EntityKey key) {
+		return writeBehindWriter == null
+				&& supportsBatchedOptimisticLocking()
+				&& !isBatchDisabled()
+				&& !getOperationQueue().isInTheInsertionQueue( key );
+	}
+
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
 		return super.getAssociation( key, withQueue( associationContext ) );
 	}
 
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext) {
+		return super.getAssociationWithTargets( key, withQueue( associationContext ), withQueue( targetTupleContext ) );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		return super.createAssociation( key, withQueue( associationContext ) );
@@ -151,6 +325,26 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		}
 	}
 
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		if ( isBatchDisabled() ) {
+			super.updateAssociationRows( key, changes, withQueue( associationContext ) );
+		}
+		else {
+			getOperationQueue().add( new UpdateAssociationRowsOperation( key, changes, withQueue( associationContext ) ) );
+		}
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		return super.getAssociationSize( key, withQueue( associationContext ) );
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		return super.containsAssociationRow( key, rowColumns, withQueue( associationContext ) );
+	}
+
 	@Override
 	public void flushPendingOperations(EntityKey entityKey, TupleContext tupleContext) {
 		super.flushPendingOperations( entityKey, withQueue( tupleContext ) );
@@ -9,14 +9,24 @@
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongConsumer;
 
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationSizeGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.locality.spi.DataLocalityAwareGridDialect;
+import org.hibernate.ogm.dialect.locality.spi.LocalTuplesConsumer;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -49,6 +59,7 @@
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.type.Type;
 
 /**
@@ -62,7 +73,7 @@
  *
  * @author Gunnar Morling
  */
-public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, GroupingByEntityDialect, StoredProcedureAwareGridDialect {
+public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, Stoppable, MultigetGridDialect, GroupingByEntityDialect, StoredProcedureAwareGridDialect, AssociationRowsGridDialect, AssociationSizeGridDialect, AssociationTargetsGridDialect, AsyncGridDialect, DataLocalityAwareGridDialect {
 
 	private final GridDialect gridDialect;
 	private final BatchableGridDialect batchableGridDialect;
@@ -73,6 +84,11 @@
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final MultigetGridDialect multigetGridDialect;
 	private final StoredProcedureAwareGridDialect storedProcedureAwareGridDialect;
+	private final AssociationRowsGridDialect associationRowsGridDialect;
+	private final AssociationSizeGridDialect associationSizeGridDialect;
+	private final AssociationTargetsGridDialect associationTargetsGridDialect;
+	private final AsyncGridDialect asyncGridDialect;
+	private final DataLocalityAwareGridDialect dataLocalityAwareGridDialect;
 
 	@SuppressWarnings("unchecked")
 	public ForwardingGridDialect(GridDialect gridDialect) {
@@ -87,6 +103,11 @@ public ForwardingGridDialect(GridDialect gridDialect) {
 		this.optimisticLockingAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, OptimisticLockingAwareGridDialect.class );
 		this.multigetGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetGridDialect.class );
 		this.storedProcedureAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, StoredProcedureAwareGridDialect.class );
+		this.associationRowsGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, AssociationRowsGridDialect.class );
+		this.associationSizeGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, AssociationSizeGridDialect.class );
+		this.associationTargetsGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, AssociationTargetsGridDialect.class );
+		this.asyncGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, AsyncGridDialect.class );
+		this.dataLocalityAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, DataLocalityAwareGridDialect.class );
 	}
 
 	/**
@@ -192,6 +213,11 @@ else if ( groupingByEntityGridDialect != null ) {
 		}
 	}
 
+	@Override
+	public boolean supportsBatchedOptimisticLocking() {
+		return batchableGridDialect != null && batchableGridDialect.supportsBatchedOptimisticLocking();
+	}
+
 	/*
 	 * @see org.hibernate.ogm.dialect.queryable.spi.QueryableGridDialect
 	 */
@@ -262,6 +288,61 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return multigetGridDialect.getTuples( keys, tupleContext );
 	}
 
+	/*
+	 * @see org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect
+	 */
+
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		associationRowsGridDialect.updateAssociationRows( key, changes, associationContext );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.association.spi.AssociationSizeGridDialect
+	 */
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		return associationSizeGridDialect.getAssociationSize( key, associationContext );
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		return associationSizeGridDialect.containsAssociationRow( key, rowColumns, associationContext );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect
+	 */
+
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext) {
+		return associationTargetsGridDialect.getAssociationWithTargets( key, associationContext, targetTupleContext );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.async.spi.AsyncGridDialect
+	 */
+
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		return asyncGridDialect.executeBatchAsync( queue );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.locality.spi.DataLocalityAwareGridDialect
+	 */
+
+	@Override
+	public boolean isDataLocalityAware(EntityKeyMetadata entityKeyMetadata) {
+		return dataLocalityAwareGridDialect.isDataLocalityAware( entityKeyMetadata );
+	}
+
+	@Override
+	public void forEachTupleWhereStored(LocalTuplesConsumer consumer, String entityName, EntityKeyMetadata entityKeyMetadata, LongConsumer progress) {
+		dataLocalityAwareGridDialect.forEachTupleWhereStored( consumer, entityName, entityKeyMetadata, progress );
+	}
+
 	/*
 	 * @see org.hibernate.service.spi.ServiceRegistryAwareService
 	 */
@@ -284,6 +365,17 @@ public void configure(Map configurationValues) {
 		}
 	}
 
+	/*
+	 * @see org.hibernate.service.spi.Stoppable
+	 */
+
+	@Override
+	public void stop() {
+		if ( gridDialect instanceof Stoppable ) {
+			( (Stoppable) gridDialect ).stop();
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
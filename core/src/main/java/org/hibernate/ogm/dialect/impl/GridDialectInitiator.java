@@ -11,13 +11,19 @@
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.compensation.ErrorHandler;
+import org.hibernate.ogm.compensation.impl.ErrorHandlerEnabledTransactionCoordinatorBuilder;
 import org.hibernate.ogm.compensation.impl.InvocationCollectingGridDialect;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.metrics.DatastoreMetricsListener;
+import org.hibernate.ogm.metrics.impl.DatastoreMetrics;
+import org.hibernate.ogm.metrics.impl.MetricsCollectingGridDialect;
 import org.hibernate.ogm.util.configurationreader.impl.DefaultClassPropertyReaderContext;
 import org.hibernate.ogm.util.configurationreader.impl.Instantiator;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
@@ -39,6 +45,8 @@ public class GridDialectInitiator implements StandardServiceInitiator<GridDialec
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_WRITE_BEHIND_QUEUE_SIZE = 10_000;
+
 	private GridDialectInitiator() {
 	}
 
@@ -56,11 +64,62 @@ public GridDialect initiateService(Map configurationValues, ServiceRegistryImple
 
 		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues, registry.getService( ClassLoaderService.class ) );
 
+		DatastoreMetrics metrics = createDatastoreMetrics( propertyReader );
+		ParallelFlushExecutor parallelFlushExecutor = registry.getService( ParallelFlushExecutor.class );
+		boolean asyncFlush = propertyReader.property( OgmProperties.ASYNC_FLUSH_ENABLED, boolean.class )
+				.withDefault( false )
+				.getValue();
+		WriteBehindWriter writeBehindWriter = createWriteBehindWriter( propertyReader, registry, eventContext );
+
 		return ( (DefaultClassPropertyReaderContext<GridDialect>) propertyReader.property( OgmProperties.GRID_DIALECT, GridDialect.class )
 				.instantiate() )
 				.withDefaultImplementation( registry.getService( DatastoreProvider.class ).getDefaultDialect() )
-				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext ) )
+				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext, metrics, parallelFlushExecutor, asyncFlush,
+						writeBehindWriter ) )
+				.getValue();
+	}
+
+	private DatastoreMetrics createDatastoreMetrics(ConfigurationPropertyReader propertyReader) {
+		DatastoreMetricsListener listener = propertyReader.property( OgmProperties.DATASTORE_METRICS_LISTENER, DatastoreMetricsListener.class )
+				.instantiate()
 				.getValue();
+		boolean enabled = propertyReader.property( OgmProperties.DATASTORE_METRICS_ENABLED, boolean.class )
+				.withDefault( listener != null )
+				.getValue();
+
+		if ( !enabled ) {
+			return null;
+		}
+
+		boolean jmxEnabled = propertyReader.property( OgmProperties.DATASTORE_METRICS_JMX_ENABLED, boolean.class )
+				.withDefault( true )
+				.getValue();
+
+		log.info( "Datastore metrics are active" );
+		return new DatastoreMetrics( listener, jmxEnabled );
+	}
+
+	private WriteBehindWriter createWriteBehindWriter(ConfigurationPropertyReader propertyReader, ServiceRegistryImplementor registry, EventContextManager eventContext) {
+		boolean enabled = propertyReader.property( OgmProperties.WRITE_BEHIND_ENABLED, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		if ( !enabled ) {
+			return null;
+		}
+
+		int queueSize = propertyReader.property( OgmProperties.WRITE_BEHIND_QUEUE_SIZE, int.class )
+				.withDefault( DEFAULT_WRITE_BEHIND_QUEUE_SIZE )
+				.getValue();
+
+		// Use the error handler of the transactions, so that the same instance is notified
+		TransactionCoordinatorBuilder transactionCoordinatorBuilder = registry.getService( TransactionCoordinatorBuilder.class );
+		ErrorHandler errorHandler = transactionCoordinatorBuilder instanceof ErrorHandlerEnabledTransactionCoordinatorBuilder
+				? ( (ErrorHandlerEnabledTransactionCoordinatorBuilder) transactionCoordinatorBuilder ).getErrorHandler()
+				: null;
+
+		log.info( "Write-behind is active" );
+		return new WriteBehindWriter( queueSize, errorHandler, eventContext );
 	}
 
 	private static class GridDialectInstantiator implements Instantiator<GridDialect> {
@@ -68,11 +127,20 @@ private static class GridDialectInstantiator implements Instantiator<GridDialect
 		private final DatastoreProvider datastore;
 		private final boolean errorHandlerConfigured;
 		private final EventContextManager eventContext;
+		private final DatastoreMetrics metrics;
+		private final ParallelFlushExecutor parallelFlushExecutor;
+		private final boolean asyncFlush;
+		private final WriteBehindWriter writeBehindWriter;
 
-		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext) {
+		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext, DatastoreMetrics metrics,
+				ParallelFlushExecutor parallelFlushExecutor, boolean asyncFlush, WriteBehindWriter writeBehindWriter) {
 			this.datastore = datastore;
 			this.errorHandlerConfigured = errorHandlerConfigured;
 			this.eventContext = eventContext;
+			this.metrics = metrics;
+			this.parallelFlushExecutor = parallelFlushExecutor;
+			this.asyncFlush = asyncFlush;
+			this.writeBehindWriter = writeBehindWriter;
 		}
 
 		@Override
@@ -94,13 +162,17 @@ public GridDialect newInstance(Class<? extends GridDialect> clazz) {
 				}
 				GridDialect gridDialect = (GridDialect) injector.newInstance( datastore );
 
+				if ( metrics != null ) {
+					gridDialect = new MetricsCollectingGridDialect( gridDialect, metrics );
+				}
+
 				if ( errorHandlerConfigured ) {
 					gridDialect = new InvocationCollectingGridDialect( gridDialect, eventContext );
 				}
 
 				if ( GridDialects.hasFacet( gridDialect, BatchableGridDialect.class ) ||
 						GridDialects.hasFacet( gridDialect, GroupingByEntityDialect.class ) ) {
-					gridDialect = new BatchOperationsDelegator( gridDialect, eventContext );
+					gridDialect = new BatchOperationsDelegator( gridDialect, eventContext, parallelFlushExecutor, asyncFlush, writeBehindWriter );
 				}
 
 				log.useGridDialect( gridDialect.getClass() );
@@ -9,7 +9,10 @@
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
@@ -99,6 +102,12 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, associationContext );
 	}
 
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext) {
+		log.tracef( "Reading association with key %1$s and its targets from datastore and context %2$s", key, associationContext );
+		return super.getAssociationWithTargets( key, associationContext, targetTupleContext );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		log.tracef( "Creating association with key %1$s", key );
@@ -122,6 +131,24 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		super.removeAssociation( key, associationContext );
 	}
 
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		log.tracef( "Updating rows of association with key %1$s in datastore: %2$s", key, changes );
+		super.updateAssociationRows( key, changes, associationContext );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		log.tracef( "Counting rows of association with key %1$s", key );
+		return super.getAssociationSize( key, associationContext );
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		log.tracef( "Looking for row %1$s in association with key %2$s", rowColumns, key );
+		return super.containsAssociationRow( key, rowColumns, associationContext );
+	}
+
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		log.tracef( "Extracting next value from key %1$s", request.getKey() );
@@ -140,6 +167,12 @@ public void executeBatch(OperationsQueue queue) {
 		super.executeBatch( queue );
 	}
 
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		log.tracef( "Executing batch asynchronously with %1$s items", queue.size() );
+		return super.executeBatchAsync( queue );
+	}
+
 	@Override
 	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
 		log.tracef( "Executing backend query: %1$s", query.getQuery() );
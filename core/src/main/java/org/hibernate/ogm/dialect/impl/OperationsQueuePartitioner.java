@@ -0,0 +1,104 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+
+/**
+ * Splits the operations of an {@link OperationsQueue} into independent partitions which can be executed concurrently.
+ * <p>
+ * Two operations end up in the same partition if they touch a common table, be it the table of the entity or the
+ * table of one of its associations. As a key always belongs to a single table, all the operations on a given key are
+ * part of the same partition, in the order of the original queue.
+ *
+ * @see BatchOperationsDelegator
+ */
+final class OperationsQueuePartitioner {
+
+	private OperationsQueuePartitioner() {
+	}
+
+	/**
+	 * Drains the given queue into independent partitions.
+	 *
+	 * @param queue the queue to drain
+	 * @return the partitions, in the order of their first operation; a single partition if the tables of some
+	 * operations are unknown
+	 */
+	static List<OperationsQueue> partition(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return Collections.emptyList();
+		}
+
+		List<Operation> operations = new ArrayList<>( queue.size() );
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			operations.add( operation );
+			operation = queue.poll();
+		}
+
+		int[] parents = new int[operations.size()];
+		Map<String, Integer> firstOperationPerTable = new HashMap<>();
+		for ( int i = 0; i < operations.size(); i++ ) {
+			parents[i] = i;
+			List<String> tables = OperationsQueue.getTables( operations.get( i ) );
+			if ( tables.isEmpty() ) {
+				return Collections.singletonList( toQueue( operations ) );
+			}
+			for ( String table : tables ) {
+				Integer first = firstOperationPerTable.putIfAbsent( table, i );
+				if ( first != null ) {
+					union( parents, first, i );
+				}
+			}
+		}
+
+		Map<Integer, OperationsQueue> partitions = new LinkedHashMap<>();
+		for ( int i = 0; i < operations.size(); i++ ) {
+			partitions.computeIfAbsent( find( parents, i ), root -> new OperationsQueue() ).add( operations.get( i ) );
+		}
+		return new ArrayList<>( partitions.values() );
+	}
+
+	private static OperationsQueue toQueue(List<Operation> operations) {
+		OperationsQueue queue = new OperationsQueue();
+		for ( Operation operation : operations ) {
+			queue.add( operation );
+		}
+		return queue;
+	}
+
+	private static int find(int[] parents, int i) {
+		int root = i;
+		while ( parents[root] != root ) {
+			root = parents[root];
+		}
+		while ( parents[i] != root ) {
+			int next = parents[i];
+			parents[i] = root;
+			i = next;
+		}
+		return root;
+	}
+
+	private static void union(int[] parents, int i, int j) {
+		int rootI = find( parents, i );
+		int rootJ = find( parents, j );
+		if ( rootI != rootJ ) {
+			// keep the smallest index as root, the partitions are ordered by their first operation
+			parents[Math.max( rootI, rootJ )] = Math.min( rootI, rootJ );
+		}
+	}
+}
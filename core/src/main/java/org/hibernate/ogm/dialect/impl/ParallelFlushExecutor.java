@@ -0,0 +1,141 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.exception.impl.Exceptions;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Executes the partitions of a flush concurrently, see {@link OgmProperties#PARALLEL_FLUSH_ENABLED}.
+ * <p>
+ * The partitions are executed by a bounded pool of threads, using virtual threads if the JVM supports them. The pool
+ * is shut down when the session factory is closed.
+ */
+public class ParallelFlushExecutor implements Service, Stoppable {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+	private final ThreadPoolExecutor executor;
+
+	public ParallelFlushExecutor(int maxThreads) {
+		if ( maxThreads < 1 ) {
+			throw log.invalidParallelFlushMaxThreads( maxThreads );
+		}
+		this.executor = new ThreadPoolExecutor( maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				createThreadFactory( maxThreads ) );
+		this.executor.allowCoreThreadTimeOut( true );
+	}
+
+	/**
+	 * Executes each partition with the given batch executor and waits until all of them are done. The tasks run within
+	 * the event cycle of the calling thread.
+	 * <p>
+	 * The first failure is rethrown once all the partitions are done, the failures of other partitions being added to
+	 * it as suppressed exceptions.
+	 *
+	 * @param partitions the partitions to execute
+	 * @param batchExecutor executes the operations of one partition
+	 * @param eventContext the event context of the calling thread
+	 */
+	public void execute(List<OperationsQueue> partitions, Consumer<OperationsQueue> batchExecutor, EventContextManager eventContext) {
+		List<Future<?>> executions = new ArrayList<>( partitions.size() );
+		for ( OperationsQueue partition : partitions ) {
+			Runnable task = () -> batchExecutor.accept( partition );
+			executions.add( executor.submit( eventContext.isActive() ? eventContext.propagateTo( task ) : task ) );
+		}
+
+		Throwable failure = null;
+		for ( Future<?> execution : executions ) {
+			try {
+				execution.get();
+			}
+			catch (ExecutionException e) {
+				failure = addFailure( failure, e.getCause() );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failure = addFailure( failure, log.interruptedDuringParallelFlush( e ) );
+			}
+		}
+
+		if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		else if ( failure != null ) {
+			Exceptions.<RuntimeException>sneakyThrow( (Exception) failure );
+		}
+	}
+
+	/**
+	 * Shuts the pool down, waiting for the partitions being executed.
+	 */
+	@Override
+	public void stop() {
+		executor.shutdown();
+		try {
+			if ( !executor.awaitTermination( TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS ) ) {
+				log.parallelFlushThreadsNotTerminated( TERMINATION_TIMEOUT_SECONDS );
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			executor.shutdownNow();
+		}
+	}
+
+	private static Throwable addFailure(Throwable failure, Throwable newFailure) {
+		if ( failure == null ) {
+			return newFailure;
+		}
+		failure.addSuppressed( newFailure );
+		return failure;
+	}
+
+	private static ThreadFactory createThreadFactory(int maxThreads) {
+		try {
+			// Thread.ofVirtual().name( ... ).factory(), available as of Java 21
+			Class<?> builderType = Class.forName( "java.lang.Thread$Builder" );
+			Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+			builder = builderType.getMethod( "name", String.class, long.class ).invoke( builder, "Hibernate OGM parallel flush ", 1L );
+			ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod( "factory" ).invoke( builder );
+			log.parallelFlushThreads( maxThreads, "virtual" );
+			return threadFactory;
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			log.debugf( e, "Virtual threads are not available" );
+		}
+
+		log.parallelFlushThreads( maxThreads, "platform" );
+		return runnable -> {
+			Thread thread = new Thread( runnable, "Hibernate OGM parallel flush" );
+			thread.setDaemon( true );
+			return thread;
+		};
+	}
+}
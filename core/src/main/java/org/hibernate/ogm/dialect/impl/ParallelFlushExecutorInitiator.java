@@ -0,0 +1,55 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link ParallelFlushExecutor} service if parallel flushes are enabled via
+ * {@link OgmProperties#PARALLEL_FLUSH_ENABLED}. Being a service, its pool is shut down with the service registry.
+ */
+public class ParallelFlushExecutorInitiator implements StandardServiceInitiator<ParallelFlushExecutor> {
+
+	public static final ParallelFlushExecutorInitiator INSTANCE = new ParallelFlushExecutorInitiator();
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private ParallelFlushExecutorInitiator() {
+	}
+
+	@Override
+	public Class<ParallelFlushExecutor> getServiceInitiated() {
+		return ParallelFlushExecutor.class;
+	}
+
+	@Override
+	public ParallelFlushExecutor initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues );
+		boolean enabled = propertyReader.property( OgmProperties.PARALLEL_FLUSH_ENABLED, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		if ( !enabled ) {
+			return null;
+		}
+
+		int maxThreads = propertyReader.property( OgmProperties.PARALLEL_FLUSH_MAX_THREADS, int.class )
+				.withDefault( Runtime.getRuntime().availableProcessors() )
+				.getValue();
+
+		log.info( "Parallel flushes are active" );
+		return new ParallelFlushExecutor( maxThreads );
+	}
+}
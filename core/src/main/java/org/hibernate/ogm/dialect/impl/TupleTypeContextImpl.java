@@ -37,9 +37,11 @@ public class TupleTypeContextImpl implements TupleTypeContext {
 
 	private final Map<String, String> roles;
 	private final Set<String> polymorphicEntityColumns;
+	private final Set<String> lazyEmbeddedCollectionColumns;
 
 	public TupleTypeContextImpl(List<String> selectableColumns,
 			Set<String> polymorphicEntityColumns,
+			Set<String> lazyEmbeddedCollectionColumns,
 			Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata,
 			Map<String, String> roles,
 			OptionsContext optionsContext,
@@ -47,6 +49,7 @@ public TupleTypeContextImpl(List<String> selectableColumns,
 			Object discriminatorValue) {
 
 		this.polymorphicEntityColumns = Collections.unmodifiableSet( polymorphicEntityColumns );
+		this.lazyEmbeddedCollectionColumns = Collections.unmodifiableSet( lazyEmbeddedCollectionColumns );
 		this.selectableColumns = Collections.unmodifiableList( selectableColumns );
 		this.associatedEntityMetadata = Collections.unmodifiableMap( associatedEntityMetadata );
 		this.roles = Collections.unmodifiableMap( roles );
@@ -65,6 +68,11 @@ public Set<String> getPolymorphicEntityColumns() {
 		return polymorphicEntityColumns;
 	}
 
+	@Override
+	public Set<String> getLazyEmbeddedCollectionColumns() {
+		return lazyEmbeddedCollectionColumns;
+	}
+
 	@Override
 	public OptionsContext getOptionsContext() {
 		return optionsContext;
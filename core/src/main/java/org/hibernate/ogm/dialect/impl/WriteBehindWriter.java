@@ -0,0 +1,510 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.compensation.ErrorHandler;
+import org.hibernate.ogm.compensation.impl.OperationCollector;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleWithOptimisticLockOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateTupleWithOptimisticLockOperation;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Writes the operations of flushes to the datastore from a background thread, see
+ * {@link OgmProperties#WRITE_BEHIND_ENABLED}.
+ * <p>
+ * The flushed operations are appended to the pending batch as long as the writer hasn't started to execute it. The
+ * changes to an entity already part of the pending batch are merged into its {@link GroupedChangesToEntityOperation},
+ * so that the entity is written once for several flushes.
+ * <p>
+ * The tuples and associations of the session keep changing after the flush, so the operations are copied when added:
+ * the writer only sees the changes as of the flush. The snapshots are shared, the session never changes them. The
+ * changes to a tuple or association already written by a pending operation are applied to the copy of that
+ * operation, the pending work being identified by {@link EntityKey} and {@link AssociationKey}. A new batch is
+ * started if the entity has been removed within the pending batch, so that the operations on a given key are always
+ * applied in the order of the flushes.
+ * <p>
+ * The number of pending operations is bounded: flushes block until the writer caught up if the limit is reached.
+ * <p>
+ * The batches are executed within an event cycle of their own, so that failures are reported to the
+ * {@link ErrorHandler}, if configured, with the operations of the failed batch applied so far.
+ */
+public class WriteBehindWriter {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final int queueSize;
+	private final ErrorHandler errorHandler;
+	private final EventContextManager eventContext;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+
+	// Guarded by lock
+	private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+	private PendingBatch executingBatch;
+	private int pendingOperations;
+	private boolean stopped;
+	// The failures not reported by a flush barrier yet
+	private Throwable failure;
+
+	private Consumer<OperationsQueue> batchExecutor;
+	private Thread writerThread;
+
+	/**
+	 * @param queueSize the maximum number of operations waiting to be written
+	 * @param errorHandler the error handler to report failures to, may be {@code null}
+	 * @param eventContext the event context manager
+	 */
+	public WriteBehindWriter(int queueSize, ErrorHandler errorHandler, EventContextManager eventContext) {
+		if ( queueSize < 1 ) {
+			throw log.invalidWriteBehindQueueSize( queueSize );
+		}
+		this.queueSize = queueSize;
+		this.errorHandler = errorHandler;
+		this.eventContext = eventContext;
+	}
+
+	/**
+	 * Starts the background thread.
+	 *
+	 * @param batchExecutor writes the operations of a batch to the datastore
+	 */
+	public void start(Consumer<OperationsQueue> batchExecutor) {
+		this.batchExecutor = batchExecutor;
+		this.writerThread = new Thread( this::writeBatches, "Hibernate OGM write-behind" );
+		this.writerThread.setDaemon( true );
+		this.writerThread.start();
+	}
+
+	/**
+	 * Drains the given queue into the pending batch, waiting for room if the writer is lagging behind. The operations
+	 * are copied, see {@link #copy(Operation)}, and executed right away once the writer has been stopped.
+	 *
+	 * @param queue the operations of a flush
+	 */
+	public void add(OperationsQueue queue) {
+		List<Operation> operations = new ArrayList<>( queue.size() );
+		int operationCount = 0;
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			operations.add( copy( operation ) );
+			operationCount += operationCount( operation );
+			operation = queue.poll();
+		}
+
+		lock.lock();
+		try {
+			// Operations merged into pending ones don't take room, but this is only known once merged. A flush larger
+			// than the queue is let through when nothing else is pending, it would wait forever otherwise
+			while ( !stopped && pendingOperations > 0 && pendingOperations + operationCount > queueSize ) {
+				notFull.awaitUninterruptibly();
+			}
+
+			if ( !stopped ) {
+				PendingBatch batch = pendingBatches.peekLast();
+				if ( batch == null || !batch.accepts( operations ) ) {
+					batch = new PendingBatch();
+					pendingBatches.addLast( batch );
+				}
+				for ( Operation flushed : operations ) {
+					pendingOperations += batch.add( flushed );
+				}
+				notEmpty.signal();
+				return;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+
+		OperationsQueue stoppedQueue = new OperationsQueue();
+		for ( Operation flushed : operations ) {
+			stoppedQueue.add( flushed );
+		}
+		batchExecutor.accept( stoppedQueue );
+	}
+
+	/**
+	 * Waits until the operations added so far have been written to the datastore. Fails if some operations could not
+	 * be written since the previous call, be it operations added before or after the previous call.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @param unit the unit of the timeout
+	 * @return {@code true} if the operations have been written, {@code false} if the timeout elapsed before
+	 * @throws org.hibernate.HibernateException if some of the operations could not be written
+	 */
+	public boolean awaitFlush(long timeout, TimeUnit unit) {
+		CompletableFuture<?> flush;
+		lock.lock();
+		try {
+			List<CompletableFuture<Void>> batches = new ArrayList<>( pendingBatches.size() + 1 );
+			if ( executingBatch != null ) {
+				batches.add( executingBatch.written );
+			}
+			for ( PendingBatch batch : pendingBatches ) {
+				batches.add( batch.written );
+			}
+			flush = CompletableFuture.allOf( batches.toArray( new CompletableFuture<?>[batches.size()] ) );
+		}
+		finally {
+			lock.unlock();
+		}
+
+		try {
+			flush.get( timeout, unit );
+		}
+		catch (TimeoutException e) {
+			return false;
+		}
+		catch (ExecutionException e) {
+			// not expected, the failures of the batches are kept aside
+			throw log.writeBehindFailed( e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedDuringWriteBehind( e );
+		}
+
+		Throwable unreportedFailure;
+		lock.lock();
+		try {
+			unreportedFailure = failure;
+			failure = null;
+		}
+		finally {
+			lock.unlock();
+		}
+
+		if ( unreportedFailure != null ) {
+			throw log.writeBehindFailed( unreportedFailure );
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the pending operations and stops the background thread. Subsequent flushes are executed right away.
+	 */
+	public void stop() {
+		lock.lock();
+		try {
+			stopped = true;
+			notEmpty.signal();
+			notFull.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+
+		if ( writerThread != null ) {
+			try {
+				writerThread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void writeBatches() {
+		while ( true ) {
+			PendingBatch batch;
+			lock.lock();
+			try {
+				while ( pendingBatches.isEmpty() && !stopped ) {
+					notEmpty.awaitUninterruptibly();
+				}
+				batch = pendingBatches.pollFirst();
+				if ( batch == null ) {
+					return;
+				}
+				executingBatch = batch;
+			}
+			finally {
+				lock.unlock();
+			}
+
+			Throwable batchFailure = null;
+			try {
+				write( batch );
+			}
+			catch (RuntimeException | Error e) {
+				log.unableToWriteBehind( batch.operationCount, e );
+				batchFailure = e;
+			}
+			finally {
+				lock.lock();
+				try {
+					if ( batchFailure != null ) {
+						if ( failure == null ) {
+							failure = batchFailure;
+						}
+						else {
+							failure.addSuppressed( batchFailure );
+						}
+					}
+					batch.written.complete( null );
+					executingBatch = null;
+					pendingOperations -= batch.operationCount;
+					notFull.signalAll();
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	private void write(PendingBatch batch) {
+		// The batch is executed within an event cycle of its own, there is no session and no queue to batch into
+		Map<Class<?>, Object> states = new HashMap<>();
+		states.put( OperationsQueue.class, OperationsQueue.CLOSED_QUEUE );
+		if ( errorHandler != null ) {
+			states.put( OperationCollector.class, new OperationCollector( errorHandler ) );
+		}
+
+		eventContext.runWithin( states, () -> batchExecutor.accept( batch.toQueue() ) ).run();
+	}
+
+	/**
+	 * Copies the state of the given operation the session may still change, that is the changes of the tuples and
+	 * associations it writes.
+	 */
+	private static Operation copy(Operation operation) {
+		if ( operation instanceof GroupedChangesToEntityOperation ) {
+			GroupedChangesToEntityOperation groupedChanges = (GroupedChangesToEntityOperation) operation;
+			GroupedChangesToEntityOperation copy = new GroupedChangesToEntityOperation( groupedChanges.getEntityKey() );
+			for ( Operation groupedOperation : groupedChanges.getOperations() ) {
+				copy.addOperation( copy( groupedOperation ) );
+			}
+			return copy;
+		}
+		else if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) operation;
+			return new InsertOrUpdateTupleOperation( new TuplePointer( copy( tupleOperation.getTuplePointer().getTuple() ) ),
+					tupleOperation.getEntityKey(), tupleOperation.getTupleContext() );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation associationOperation = (InsertOrUpdateAssociationOperation) operation;
+			Association copy = new Association( associationOperation.getAssociation().getSnapshot() );
+			applyChanges( associationOperation.getAssociation(), copy );
+			return new InsertOrUpdateAssociationOperation( copy, associationOperation.getAssociationKey(), associationOperation.getContext() );
+		}
+		else if ( operation instanceof UpdateAssociationRowsOperation ) {
+			UpdateAssociationRowsOperation rowsOperation = (UpdateAssociationRowsOperation) operation;
+			AssociationRowsChanges changes = new AssociationRowsChanges();
+			changes.merge( rowsOperation.getChanges() );
+			return new UpdateAssociationRowsOperation( rowsOperation.getAssociationKey(), changes, rowsOperation.getContext() );
+		}
+		else if ( operation instanceof UpdateTupleWithOptimisticLockOperation ) {
+			UpdateTupleWithOptimisticLockOperation lockOperation = (UpdateTupleWithOptimisticLockOperation) operation;
+			return new UpdateTupleWithOptimisticLockOperation( lockOperation.getEntityKey(), copy( lockOperation.getOldLockState() ),
+					copy( lockOperation.getTuple() ), lockOperation.getTupleContext(), lockOperation::onStaleState );
+		}
+		else if ( operation instanceof RemoveTupleWithOptimisticLockOperation ) {
+			RemoveTupleWithOptimisticLockOperation lockOperation = (RemoveTupleWithOptimisticLockOperation) operation;
+			return new RemoveTupleWithOptimisticLockOperation( lockOperation.getEntityKey(), copy( lockOperation.getOldLockState() ),
+					lockOperation.getTupleContext(), lockOperation::onStaleState );
+		}
+		// the other operations only refer to keys
+		return operation;
+	}
+
+	private static Tuple copy(Tuple tuple) {
+		if ( tuple == null ) {
+			return null;
+		}
+		Tuple copy = new Tuple( tuple.getSnapshot(), tuple.getSnapshotType() );
+		applyChanges( tuple, copy );
+		return copy;
+	}
+
+	/**
+	 * Applies the changes of the given tuple to the target, after the changes already made to the latter.
+	 */
+	private static void applyChanges(Tuple tuple, Tuple target) {
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			if ( operation.getType() == TupleOperationType.REMOVE ) {
+				target.remove( operation.getColumn() );
+			}
+			else {
+				target.put( operation.getColumn(), operation.getValue() );
+			}
+		}
+	}
+
+	/**
+	 * Applies the changes of the given association to the target, after the changes already made to the latter.
+	 */
+	private static void applyChanges(Association association, Association target) {
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case CLEAR:
+					target.clear();
+					break;
+				case PUT:
+					target.put( operation.getKey(), copy( operation.getValue() ) );
+					break;
+				case REMOVE:
+					target.remove( operation.getKey() );
+					break;
+			}
+		}
+	}
+
+	private static int operationCount(Operation operation) {
+		if ( operation instanceof GroupedChangesToEntityOperation ) {
+			return ( (GroupedChangesToEntityOperation) operation ).getOperations().size();
+		}
+		return 1;
+	}
+
+	/**
+	 * The operations of one or more flushes, written together.
+	 */
+	private static class PendingBatch {
+
+		private final List<Operation> operations = new ArrayList<>();
+		private final Map<EntityKey, GroupedChangesToEntityOperation> groupedOperations = new HashMap<>();
+		// The pending writes the subsequent changes to the same tuple or association are applied to
+		private final Map<EntityKey, Tuple> pendingTuples = new HashMap<>();
+		private final Map<AssociationKey, Association> pendingAssociations = new HashMap<>();
+		private final Set<EntityKey> removedKeys = new HashSet<>();
+		private final CompletableFuture<Void> written = new CompletableFuture<>();
+		private int operationCount;
+
+		/**
+		 * Whether the given operations can be merged into this batch without changing the order of the operations on
+		 * an entity.
+		 */
+		boolean accepts(List<Operation> flushedOperations) {
+			for ( Operation operation : flushedOperations ) {
+				if ( operation instanceof GroupedChangesToEntityOperation
+						&& removedKeys.contains( ( (GroupedChangesToEntityOperation) operation ).getEntityKey() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * @return the number of operations added to the batch, the ones merged with pending operations excluded
+		 */
+		int add(Operation operation) {
+			int added = 0;
+			if ( operation instanceof GroupedChangesToEntityOperation ) {
+				GroupedChangesToEntityOperation groupedChanges = (GroupedChangesToEntityOperation) operation;
+				GroupedChangesToEntityOperation pendingChanges = groupedOperations.get( groupedChanges.getEntityKey() );
+				if ( pendingChanges == null ) {
+					pendingChanges = new GroupedChangesToEntityOperation( groupedChanges.getEntityKey() );
+					groupedOperations.put( groupedChanges.getEntityKey(), pendingChanges );
+					operations.add( pendingChanges );
+				}
+				for ( Operation groupedOperation : groupedChanges.getOperations() ) {
+					if ( !mergeIntoPending( groupedOperation ) ) {
+						pendingChanges.addOperation( groupedOperation );
+						added++;
+					}
+				}
+			}
+			else {
+				if ( operation instanceof RemoveTupleOperation ) {
+					removedKeys.add( ( (RemoveTupleOperation) operation ).getEntityKey() );
+					pendingTuples.remove( ( (RemoveTupleOperation) operation ).getEntityKey() );
+				}
+				operations.add( operation );
+				added++;
+			}
+
+			operationCount += added;
+			return added;
+		}
+
+		/**
+		 * Applies the changes of the given operation to the pending write of the same tuple or association, if any.
+		 *
+		 * @return {@code true} if the changes have been merged, {@code false} if the operation has to be added
+		 */
+		private boolean mergeIntoPending(Operation operation) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) operation;
+				Tuple tuple = tupleOperation.getTuplePointer().getTuple();
+				Tuple pendingTuple = pendingTuples.get( tupleOperation.getEntityKey() );
+				if ( pendingTuple != null && tuple != null ) {
+					applyChanges( tuple, pendingTuple );
+					return true;
+				}
+				if ( tuple != null ) {
+					pendingTuples.put( tupleOperation.getEntityKey(), tuple );
+				}
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation associationOperation = (InsertOrUpdateAssociationOperation) operation;
+				Association pendingAssociation = pendingAssociations.get( associationOperation.getAssociationKey() );
+				if ( pendingAssociation != null ) {
+					applyChanges( associationOperation.getAssociation(), pendingAssociation );
+					return true;
+				}
+				pendingAssociations.put( associationOperation.getAssociationKey(), associationOperation.getAssociation() );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				// the association has to be written again after its removal
+				pendingAssociations.remove( ( (RemoveAssociationOperation) operation ).getAssociationKey() );
+			}
+			else if ( operation instanceof UpdateAssociationRowsOperation ) {
+				// the rows are updated after the pending write, which must not receive the subsequent changes
+				pendingAssociations.remove( ( (UpdateAssociationRowsOperation) operation ).getAssociationKey() );
+			}
+			return false;
+		}
+
+		OperationsQueue toQueue() {
+			OperationsQueue queue = new OperationsQueue();
+			for ( Operation operation : operations ) {
+				queue.add( operation );
+			}
+			return queue;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.locality.spi;
+
+import java.util.function.LongConsumer;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * A {@link GridDialect} facet for distributed stores which can process the tuples on the nodes storing them, rather
+ * than sending them to the node requesting them.
+ * <p>
+ * Hibernate OGM uses it for mass indexing: each node of the datastore builds the documents of the entities it stores.
+ * The session factory must therefore run on every node storing data.
+ */
+public interface DataLocalityAwareGridDialect extends GridDialect {
+
+	/**
+	 * Whether the tuples of the given entity type can be processed on the nodes storing them.
+	 *
+	 * @param entityKeyMetadata the meta-data of the entity type
+	 * @return {@code true} if {@link #forEachTupleWhereStored(LocalTuplesConsumer, String, EntityKeyMetadata, LongConsumer)}
+	 * can be used for the entity type, {@code false} otherwise
+	 */
+	boolean isDataLocalityAware(EntityKeyMetadata entityKeyMetadata);
+
+	/**
+	 * Applies the given consumer to the tuples of an entity type, on the nodes storing them, as
+	 * {@link GridDialect#forEachTuple(ModelConsumer, TupleTypeContext, EntityKeyMetadata)} does on the current node.
+	 * Each tuple is consumed once, by one of the nodes storing it.
+	 * <p>
+	 * The method returns once all the nodes have consumed their tuples.
+	 *
+	 * @param consumer the consumer, sent to the nodes storing the tuples
+	 * @param entityName the name of the entity type, used to look up its persister on each node
+	 * @param entityKeyMetadata the meta-data of the entity type
+	 * @param progress notified on the current node with the value returned by the consumer, each time a node is done
+	 */
+	void forEachTupleWhereStored(LocalTuplesConsumer consumer, String entityName, EntityKeyMetadata entityKeyMetadata, LongConsumer progress);
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.locality.spi;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+
+/**
+ * Consumes the tuples stored on a node of the datastore, on that node.
+ * <p>
+ * Implementations are sent to the nodes storing the data, they must be serializable and must not depend on the state
+ * of the node which created them.
+ *
+ * @see DataLocalityAwareGridDialect
+ */
+public interface LocalTuplesConsumer extends Serializable {
+
+	/**
+	 * Consumes the tuples stored on the current node.
+	 *
+	 * @param sessionFactory the session factory running on the current node
+	 * @param supplier provides the tuples stored on the current node
+	 * @return the number of tuples consumed
+	 */
+	long consume(SessionFactoryImplementor sessionFactory, TuplesSupplier supplier);
+}
@@ -47,6 +47,17 @@ public interface TupleTypeContext {
 	 */
 	Set<String> getPolymorphicEntityColumns();
 
+	/**
+	 * Returns those columns of {@link #getSelectableColumns()} which represent lazily loaded collections stored within
+	 * the entity structure.
+	 * <p>
+	 * A dialect may choose not to load these columns when reading the entities of a query, as they are only needed
+	 * once the collection gets initialized.
+	 *
+	 * @return the columns of the lazily loaded collections embedded in the entity
+	 */
+	Set<String> getLazyEmbeddedCollectionColumns();
+
 	/**
 	 * Whether the given column is part of a *-to-one association or not. If so, a dialect may choose to not persist the
 	 * column value in the corresponding tuple data structure itself but e.g. as a native relationship (in the case of
@@ -6,9 +6,11 @@
  */
 package org.hibernate.ogm.hibernatecore.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.naming.NamingException;
 import javax.naming.Reference;
@@ -37,9 +39,16 @@
 import org.hibernate.internal.SessionFactoryRegistry.ObjectFactoryImpl;
 import org.hibernate.ogm.OgmSession;
 import org.hibernate.ogm.OgmSessionFactory;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.engine.spi.OgmSessionBuilderImplementor;
 import org.hibernate.ogm.engine.spi.OgmSessionFactoryImplementor;
 import org.hibernate.ogm.exception.NotSupportedException;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
 
 /**
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
@@ -49,11 +58,26 @@ public class OgmSessionFactoryImpl extends SessionFactoryDelegatingImpl implemen
 
 	private static final IdentifierGenerator UUID_GENERATOR = UUIDGenerator.buildSessionFactoryUniqueIdentifierGenerator();
 
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int DEFAULT_STATELESS_SESSION_BATCH_SIZE = 1000;
+
 	private final String uuid;
+	private final int statelessSessionBatchSize;
 
 	public OgmSessionFactoryImpl(SessionFactoryImplementor delegate) {
 		super( delegate );
 
+		statelessSessionBatchSize = new ConfigurationPropertyReader( delegate.getProperties() )
+				.property( OgmProperties.STATELESS_SESSION_BATCH_SIZE, int.class )
+				.withDefault( DEFAULT_STATELESS_SESSION_BATCH_SIZE )
+				.withValidator( batchSize -> {
+					if ( batchSize <= 0 ) {
+						throw log.invalidStatelessSessionBatchSize( batchSize );
+					}
+				} )
+				.getValue();
+
 		try {
 			uuid = (String) UUID_GENERATOR.generate( null, null );
 		}
@@ -92,6 +116,21 @@ public OgmSession getCurrentSession() throws HibernateException {
 		return new OgmSessionImpl( this, (EventSource) session );
 	}
 
+	@Override
+	public void awaitWriteBehind() throws HibernateException {
+		awaitWriteBehind( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public boolean awaitWriteBehind(long timeout, TimeUnit unit) throws HibernateException {
+		GridDialect gridDialect = getServiceRegistry().getService( GridDialect.class );
+		BatchOperationsDelegator batchDelegator = GridDialects.getDelegateOrNull( gridDialect, BatchOperationsDelegator.class );
+		if ( batchDelegator == null || batchDelegator.getWriteBehindWriter() == null ) {
+			return true;
+		}
+		return batchDelegator.getWriteBehindWriter().awaitFlush( timeout, unit );
+	}
+
 	@Override
 	public CriteriaBuilder getCriteriaBuilder() {
 		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
@@ -100,17 +139,17 @@ public CriteriaBuilder getCriteriaBuilder() {
 	@SuppressWarnings("rawtypes")
 	@Override
 	public StatelessSessionBuilder withStatelessOptions() {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return new OgmStatelessSessionBuilderDelegator( delegate().withStatelessOptions(), statelessSessionBatchSize );
 	}
 
 	@Override
 	public StatelessSession openStatelessSession() {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return withStatelessOptions().openStatelessSession();
 	}
 
 	@Override
 	public StatelessSession openStatelessSession(Connection connection) {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return withStatelessOptions().connection( connection ).openStatelessSession();
 	}
 
 	@Override
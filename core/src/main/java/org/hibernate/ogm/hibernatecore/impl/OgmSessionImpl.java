@@ -55,9 +55,12 @@ public class OgmSessionImpl extends SessionDelegatorBaseImpl implements OgmSessi
 
 	private final OgmSessionFactoryImpl factory;
 
+	private final PartialFlushCounter partialFlushCounter = new PartialFlushCounter();
+
 	public OgmSessionImpl(OgmSessionFactory factory, EventSource delegate) {
 		super( delegate );
 		this.factory = (OgmSessionFactoryImpl) factory;
+		delegate.getEventListenerManager().addListener( partialFlushCounter );
 	}
 
 	//Overridden methods
@@ -71,6 +74,11 @@ public OgmSessionFactoryImplementor getSessionFactory() {
 		return factory;
 	}
 
+	@Override
+	public long getPartialFlushCount() {
+		return partialFlushCounter.getPartialFlushCount();
+	}
+
 	@Override
 	public CriteriaBuilder getCriteriaBuilder() {
 		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
@@ -0,0 +1,52 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import java.sql.Connection;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Opens {@link OgmStatelessSessionImpl}s with the options of the given Hibernate ORM builder.
+ */
+@SuppressWarnings("rawtypes")
+public class OgmStatelessSessionBuilderDelegator implements StatelessSessionBuilder {
+
+	private final StatelessSessionBuilder builder;
+	private final int batchSize;
+
+	public OgmStatelessSessionBuilderDelegator(StatelessSessionBuilder builder, int batchSize) {
+		this.builder = builder;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public StatelessSession openStatelessSession() {
+		StatelessSession session = builder.openStatelessSession();
+		return new OgmStatelessSessionImpl( (SharedSessionContractImplementor) session, batchSize );
+	}
+
+	@Override
+	public StatelessSessionBuilder connection(Connection connection) {
+		builder.connection( connection );
+		return this;
+	}
+
+	@Override
+	public StatelessSessionBuilder tenantIdentifier(String tenantIdentifier) {
+		builder.tenantIdentifier( tenantIdentifier );
+		return this;
+	}
+
+	@Override
+	public StatelessSessionBuilder setQueryParameterValidation(boolean enabled) {
+		builder.setQueryParameterValidation( enabled );
+		return this;
+	}
+}
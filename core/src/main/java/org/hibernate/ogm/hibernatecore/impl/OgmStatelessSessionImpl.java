@@ -0,0 +1,490 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.transaction.Synchronization;
+
+import org.hibernate.Criteria;
+import org.hibernate.LockMode;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.exception.NotSupportedException;
+import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.procedure.ProcedureCall;
+import org.hibernate.procedure.internal.NoSQLProcedureCallImpl;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.Query;
+
+/**
+ * An OGM specific stateless session, delegating to the Hibernate ORM {@code StatelessSession} for reads and queries.
+ * <p>
+ * Inserts, updates and deletes are executed by the entity persisters without keeping the entities, nor snapshots of
+ * their state: an entity entry only exists while its persister writes it. The writes are deferred and executed as a
+ * batch every {@code batchSize} operations, before reads and queries, before the transaction commits and when the
+ * session is closed. A batch runs within one event cycle, so that the dialects batching their operations execute them
+ * together, and the tuples of the updated entities are read beforehand with one multi-get per entity type when the
+ * dialect supports it. The pending writes are discarded when the transaction rolls back.
+ */
+public class OgmStatelessSessionImpl implements StatelessSession {
+
+	private final SharedSessionContractImplementor delegate;
+	private final GridDialect gridDialect;
+	private final MultigetGridDialect multigetGridDialect;
+	private final EventContextManager eventContext;
+	private final int batchSize;
+	private final Synchronization pendingWritesSynchronization;
+
+	private final List<PendingWrite> pendingWrites = new ArrayList<>();
+	private final Map<EntityKey, OgmEntityPersister> updatedEntities = new HashMap<>();
+
+	public OgmStatelessSessionImpl(SharedSessionContractImplementor delegate, int batchSize) {
+		this.delegate = delegate;
+		this.gridDialect = delegate.getFactory().getServiceRegistry().getService( GridDialect.class );
+		this.multigetGridDialect = delegate.getFactory().getServiceRegistry().getService( MultigetGridDialect.class );
+		this.eventContext = delegate.getFactory().getServiceRegistry().getService( EventContextManager.class );
+		this.batchSize = batchSize;
+		this.pendingWritesSynchronization = new PendingWritesSynchronization();
+	}
+
+	@Override
+	public Serializable insert(Object entity) {
+		return insert( null, entity );
+	}
+
+	@Override
+	public Serializable insert(String entityName, Object entity) {
+		delegate.checkOpen();
+		OgmEntityPersister persister = (OgmEntityPersister) delegate.getEntityPersister( entityName, entity );
+		Serializable generatedId = persister.getIdentifierGenerator().generate( delegate, entity );
+		Object[] state = persister.getPropertyValues( entity );
+		if ( persister.isVersioned() ) {
+			boolean substitute = Versioning.seedVersion( state, persister.getVersionProperty(), persister.getVersionType(), delegate );
+			if ( substitute ) {
+				persister.setPropertyValues( entity, state );
+			}
+		}
+
+		if ( generatedId == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			// The identifier is generated by the datastore, the insert cannot be deferred
+			Serializable[] insertedId = new Serializable[1];
+			executePendingOperations();
+			addPendingWrite( tuples -> write( entity, null, state, Status.SAVING, persister, null, () -> {
+				insertedId[0] = persister.insert( state, entity, delegate );
+			} ) );
+			executePendingOperations();
+			persister.setIdentifier( entity, insertedId[0], delegate );
+			return insertedId[0];
+		}
+
+		EntityKey key = EntityKeyBuilder.fromPersister( persister, generatedId, delegate );
+		addPendingWrite( tuples -> {
+			Tuple tuple = write( entity, generatedId, state, Status.SAVING, persister, null, () -> {
+				persister.insert( generatedId, state, entity, delegate );
+			} );
+			tuples.put( key, tuple );
+		} );
+
+		persister.setIdentifier( entity, generatedId, delegate );
+		return generatedId;
+	}
+
+	@Override
+	public void update(Object entity) {
+		update( null, entity );
+	}
+
+	@Override
+	public void update(String entityName, Object entity) {
+		delegate.checkOpen();
+		OgmEntityPersister persister = (OgmEntityPersister) delegate.getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifier( entity, delegate );
+		Object[] state = persister.getPropertyValues( entity );
+		Object oldVersion;
+		if ( persister.isVersioned() ) {
+			oldVersion = persister.getVersion( entity );
+			Object newVersion = Versioning.increment( oldVersion, persister.getVersionType(), delegate );
+			Versioning.setVersion( state, newVersion, persister );
+			persister.setPropertyValues( entity, state );
+		}
+		else {
+			oldVersion = null;
+		}
+
+		// Without snapshot, the columns not mapped to updatable properties (e.g. the discriminator) come from the
+		// stored tuple, as for the update of a detached entity; the tuples are read for the whole batch
+		EntityKey key = EntityKeyBuilder.fromPersister( persister, id, delegate );
+		updatedEntities.put( key, persister );
+		addPendingWrite( tuples -> {
+			Tuple tuple = write( entity, id, state, Status.MANAGED, persister, tuples.get( key ), () -> {
+				persister.update( id, state, null, false, null, oldVersion, entity, null, delegate );
+			} );
+			tuples.put( key, tuple );
+		} );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		delete( null, entity );
+	}
+
+	@Override
+	public void delete(String entityName, Object entity) {
+		delegate.checkOpen();
+		OgmEntityPersister persister = (OgmEntityPersister) delegate.getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifier( entity, delegate );
+		Object version = persister.getVersion( entity );
+		EntityKey key = EntityKeyBuilder.fromPersister( persister, id, delegate );
+		addPendingWrite( tuples -> {
+			persister.delete( id, version, entity, delegate );
+			tuples.put( key, null );
+		} );
+	}
+
+	/**
+	 * Runs the write of an entity by its persister with a transient entry for the entity, the persister keeping the
+	 * tuple of the entity in the entry.
+	 *
+	 * @return the tuple of the entity once written
+	 */
+	private Tuple write(Object entity, Serializable id, Object[] state, Status status, EntityPersister persister, Tuple tuple, Runnable operation) {
+		PersistenceContext persistenceContext = delegate.getPersistenceContext();
+		Object version = Versioning.getVersion( state, persister );
+
+		persistenceContext.addEntry( entity, status, state, null, id, version, LockMode.NONE, true, persister, false );
+		try {
+			TuplePointer tuplePointer = OgmEntityEntryState.getStateFor( delegate, entity ).getTuplePointer();
+			tuplePointer.setTuple( tuple );
+			operation.run();
+			return tuplePointer.getTuple();
+		}
+		finally {
+			persistenceContext.removeEntry( entity );
+		}
+	}
+
+	/**
+	 * Defers the given write, executing the pending writes once the batch size is reached.
+	 */
+	private void addPendingWrite(PendingWrite write) {
+		if ( pendingWrites.isEmpty() && delegate.isTransactionInProgress() ) {
+			delegate.getTransactionCoordinator().getLocalSynchronizations().registerSynchronization( pendingWritesSynchronization );
+		}
+
+		pendingWrites.add( write );
+		if ( pendingWrites.size() >= batchSize ) {
+			executePendingOperations();
+		}
+	}
+
+	/**
+	 * Executes the writes deferred since the last batch within one event cycle.
+	 */
+	private void executePendingOperations() {
+		if ( pendingWrites.isEmpty() ) {
+			return;
+		}
+
+		List<PendingWrite> writes = new ArrayList<>( pendingWrites );
+		Map<EntityKey, Tuple> tuples = readTuples( updatedEntities );
+		discardPendingOperations();
+
+		Map<Class<?>, Object> states = eventContext.createStates( delegate );
+		eventContext.runWithin( states, () -> {
+			for ( PendingWrite write : writes ) {
+				write.execute( tuples );
+			}
+		} ).run();
+		eventContext.finish( states );
+	}
+
+	private void discardPendingOperations() {
+		pendingWrites.clear();
+		updatedEntities.clear();
+	}
+
+	/**
+	 * Reads the tuples of the given entities, with one multi-get per entity type if the dialect supports it.
+	 */
+	private Map<EntityKey, Tuple> readTuples(Map<EntityKey, OgmEntityPersister> entities) {
+		Map<OgmEntityPersister, List<EntityKey>> keysByPersister = new HashMap<>();
+		for ( Entry<EntityKey, OgmEntityPersister> entity : entities.entrySet() ) {
+			keysByPersister.computeIfAbsent( entity.getValue(), persister -> new ArrayList<>() ).add( entity.getKey() );
+		}
+
+		Map<EntityKey, Tuple> tuples = new HashMap<>();
+		for ( Entry<OgmEntityPersister, List<EntityKey>> keys : keysByPersister.entrySet() ) {
+			TupleContext tupleContext = keys.getKey().getTupleContext( delegate );
+			if ( multigetGridDialect != null ) {
+				List<Tuple> found = multigetGridDialect.getTuples( keys.getValue().toArray( new EntityKey[keys.getValue().size()] ), tupleContext );
+				for ( int i = 0; i < found.size(); i++ ) {
+					tuples.put( keys.getValue().get( i ), found.get( i ) );
+				}
+			}
+			else {
+				for ( EntityKey key : keys.getValue() ) {
+					tuples.put( key, gridDialect.getTuple( key, tupleContext ) );
+				}
+			}
+		}
+		return tuples;
+	}
+
+	@Override
+	public Object get(String entityName, Serializable id) {
+		executePendingOperations();
+		return ( (StatelessSession) delegate ).get( entityName, id );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Object get(Class entityClass, Serializable id) {
+		executePendingOperations();
+		return ( (StatelessSession) delegate ).get( entityClass, id );
+	}
+
+	@Override
+	public Object get(String entityName, Serializable id, LockMode lockMode) {
+		executePendingOperations();
+		return ( (StatelessSession) delegate ).get( entityName, id, lockMode );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Object get(Class entityClass, Serializable id, LockMode lockMode) {
+		executePendingOperations();
+		return ( (StatelessSession) delegate ).get( entityClass, id, lockMode );
+	}
+
+	@Override
+	public void refresh(Object entity) {
+		executePendingOperations();
+		( (StatelessSession) delegate ).refresh( entity );
+	}
+
+	@Override
+	public void refresh(String entityName, Object entity) {
+		executePendingOperations();
+		( (StatelessSession) delegate ).refresh( entityName, entity );
+	}
+
+	@Override
+	public void refresh(Object entity, LockMode lockMode) {
+		executePendingOperations();
+		( (StatelessSession) delegate ).refresh( entity, lockMode );
+	}
+
+	@Override
+	public void refresh(String entityName, Object entity, LockMode lockMode) {
+		executePendingOperations();
+		( (StatelessSession) delegate ).refresh( entityName, entity, lockMode );
+	}
+
+	@Override
+	public Connection connection() {
+		return ( (StatelessSession) delegate ).connection();
+	}
+
+	@Override
+	public void close() {
+		if ( delegate.isOpen() ) {
+			try {
+				executePendingOperations();
+			}
+			finally {
+				delegate.close();
+			}
+		}
+	}
+
+	@Override
+	public String getTenantIdentifier() {
+		return delegate.getTenantIdentifier();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
+	@Override
+	public boolean isConnected() {
+		return delegate.isConnected();
+	}
+
+	@Override
+	public Transaction beginTransaction() {
+		return delegate.beginTransaction();
+	}
+
+	@Override
+	public Transaction getTransaction() {
+		return delegate.getTransaction();
+	}
+
+	@Override
+	public Integer getJdbcBatchSize() {
+		return delegate.getJdbcBatchSize();
+	}
+
+	@Override
+	public void setJdbcBatchSize(Integer jdbcBatchSize) {
+		delegate.setJdbcBatchSize( jdbcBatchSize );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public org.hibernate.Query getNamedQuery(String queryName) {
+		executePendingOperations();
+		return delegate.getNamedQuery( queryName );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public org.hibernate.Query createQuery(String queryString) {
+		executePendingOperations();
+		return delegate.createQuery( queryString );
+	}
+
+	@Override
+	public <R> Query<R> createQuery(String queryString, Class<R> resultType) {
+		executePendingOperations();
+		return delegate.createQuery( queryString, resultType );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Query createNamedQuery(String name) {
+		executePendingOperations();
+		return delegate.createNamedQuery( name );
+	}
+
+	@Override
+	public <R> Query<R> createNamedQuery(String name, Class<R> resultType) {
+		executePendingOperations();
+		return delegate.createNamedQuery( name, resultType );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public NativeQuery createNativeQuery(String sqlString) {
+		throw new NotSupportedException( "OGM-18", "Native queries are not supported by stateless sessions yet" );
+	}
+
+	@Override
+	public <R> NativeQuery<R> createNativeQuery(String sqlString, Class<R> resultClass) {
+		throw new NotSupportedException( "OGM-18", "Native queries are not supported by stateless sessions yet" );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public NativeQuery createNativeQuery(String sqlString, String resultSetMapping) {
+		throw new NotSupportedException( "OGM-18", "Native queries are not supported by stateless sessions yet" );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public NativeQuery getNamedNativeQuery(String name) {
+		throw new NotSupportedException( "OGM-18", "Native queries are not supported by stateless sessions yet" );
+	}
+
+	@Override
+	public ProcedureCall getNamedProcedureCall(String name) {
+		executePendingOperations();
+		return delegate.getNamedProcedureCall( name );
+	}
+
+	@Override
+	public ProcedureCall createStoredProcedureCall(String procedureName) {
+		executePendingOperations();
+		return new NoSQLProcedureCallImpl( delegate, procedureName );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public ProcedureCall createStoredProcedureCall(String procedureName, Class... resultClasses) {
+		executePendingOperations();
+		return new NoSQLProcedureCallImpl( delegate, procedureName, resultClasses );
+	}
+
+	@Override
+	public ProcedureCall createStoredProcedureCall(String procedureName, String... resultSetMappings) {
+		executePendingOperations();
+		return new NoSQLProcedureCallImpl( delegate, procedureName, resultSetMappings );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Criteria createCriteria(Class persistentClass) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Criteria createCriteria(Class persistentClass, String alias) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	public Criteria createCriteria(String entityName) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	public Criteria createCriteria(String entityName, String alias) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	/**
+	 * A deferred write, given the tuples read or written so far in its batch.
+	 */
+	private interface PendingWrite {
+
+		void execute(Map<EntityKey, Tuple> tuples);
+	}
+
+	/**
+	 * Executes the pending writes before the transaction commits, as the flush of a session does, and discards them
+	 * if the transaction rolls back.
+	 */
+	private class PendingWritesSynchronization implements Synchronization {
+
+		@Override
+		public void beforeCompletion() {
+			executePendingOperations();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			if ( status != javax.transaction.Status.STATUS_COMMITTED ) {
+				discardPendingOperations();
+			}
+		}
+	}
+}
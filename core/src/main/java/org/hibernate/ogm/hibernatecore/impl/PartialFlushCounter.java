@@ -0,0 +1,26 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Counts the partial flushes of a session, as returned by {@link OgmSessionImpl#getPartialFlushCount()}.
+ */
+class PartialFlushCounter extends BaseSessionEventListener {
+
+	private long partialFlushCount;
+
+	@Override
+	public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+		partialFlushCount++;
+	}
+
+	long getPartialFlushCount() {
+		return partialFlushCount;
+	}
+}
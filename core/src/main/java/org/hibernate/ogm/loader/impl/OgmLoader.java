@@ -32,6 +32,7 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
@@ -77,6 +78,7 @@ public class OgmLoader implements UniqueEntityLoader, BatchableEntityLoader, Tup
 	private final CollectionAliases[] collectionAliases;
 	private final GridDialect gridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final AssociationTargetsGridDialect associationTargetsGridDialect;
 	private final int batchSize;
 
 	/**
@@ -94,6 +96,7 @@ public OgmLoader(OgmCollectionPersister[] collectionPersisters) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.associationTargetsGridDialect = serviceRegistry.getService( AssociationTargetsGridDialect.class );
 
 		//NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -121,6 +124,7 @@ public OgmLoader(OgmEntityPersister[] entityPersisters, int batchSize) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.associationTargetsGridDialect = serviceRegistry.getService( AssociationTargetsGridDialect.class );
 
 		// NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -606,7 +610,17 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				.session( session )
 				.build();
 
-			Association assoc = associationPersister.getAssociationOrNull();
+			Association assoc;
+			OgmEntityPersister targetPersister = getFetchableTargetPersister( persister );
+			if ( targetPersister != null ) {
+				// read the target entities together with the association rows, so they don't have to be loaded one by one
+				List<Tuple> targetTuples = new ArrayList<>();
+				assoc = associationPersister.getAssociationOrNull( associationTargetsGridDialect, targetPersister.getTupleContext( session ), targetTuples );
+				loadTargetEntities( targetPersister, targetTuples, session );
+			}
+			else {
+				assoc = associationPersister.getAssociationOrNull();
+			}
 			if ( assoc != null ) {
 				for ( RowKey rowKey : assoc.getKeys() ) {
 					resultset.addTuple( assoc.get( rowKey ) );
@@ -616,6 +630,32 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 		return resultset;
 	}
 
+	/**
+	 * Returns the persister of the entities targeted by the given collection if they can be read together with the
+	 * association rows, {@code null} otherwise.
+	 */
+	private OgmEntityPersister getFetchableTargetPersister(OgmCollectionPersister persister) {
+		if ( associationTargetsGridDialect == null || !persister.getElementType().isEntityType() ) {
+			return null;
+		}
+		EntityPersister elementPersister = persister.getElementPersister();
+		// the tuples of a polymorphic association may belong to any of the sub-classes of the element type
+		if ( !( elementPersister instanceof OgmEntityPersister ) || elementPersister.getEntityMetamodel().hasSubclasses() ) {
+			return null;
+		}
+		return (OgmEntityPersister) elementPersister;
+	}
+
+	private void loadTargetEntities(OgmEntityPersister targetPersister, List<Tuple> targetTuples, SharedSessionContractImplementor session) {
+		if ( targetTuples.isEmpty() ) {
+			return;
+		}
+		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
+		ogmLoadingContext.setTuples( targetTuples );
+		TupleBasedEntityLoader loader = (TupleBasedEntityLoader) targetPersister.getAppropriateLoader( LockOptions.READ, session );
+		loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
+	}
+
 	private Object getResultColumnOrRow(Object[] row) {
 		//getResultColumnOrRow
 		//today we don't use this to apply the result transformer and we don't have operations to do like other loaders
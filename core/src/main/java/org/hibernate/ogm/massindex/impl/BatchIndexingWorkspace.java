@@ -10,6 +10,8 @@
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.locality.spi.DataLocalityAwareGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
@@ -75,8 +77,15 @@ public void run() {
 			OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( indexedTypeIdentifier.getPojoType() );
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
 
-			final SessionAwareRunnable consumer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleTypeContext(), keyMetadata );
+			if ( isDataLocalityAware( keyMetadata ) ) {
+				// the documents are built by the nodes storing the entities, only the counts come back
+				LocalTupleIndexer consumer = new LocalTupleIndexer( indexedTypeIdentifier.getPojoType(), cacheMode, tenantId );
+				( (DataLocalityAwareGridDialect) gridDialect ).forEachTupleWhereStored( consumer, persister.getEntityName(), keyMetadata, this::documentsIndexed );
+			}
+			else {
+				final SessionAwareRunnable consumer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
+				gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleTypeContext(), keyMetadata );
+			}
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
@@ -86,4 +95,14 @@ public void run() {
 			endAllSignal.countDown();
 		}
 	}
+
+	private boolean isDataLocalityAware(EntityKeyMetadata keyMetadata) {
+		return GridDialects.hasFacet( gridDialect, DataLocalityAwareGridDialect.class )
+				&& ( (DataLocalityAwareGridDialect) gridDialect ).isDataLocalityAware( keyMetadata );
+	}
+
+	private void documentsIndexed(long count) {
+		monitor.documentsBuilt( (int) count );
+		monitor.documentsAdded( count );
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.locality.spi.DataLocalityAwareGridDialect;
+import org.hibernate.ogm.dialect.locality.spi.LocalTuplesConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.search.backend.spi.BatchBackend;
+import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
+import org.hibernate.search.engine.integration.impl.ExtendedSearchIntegrator;
+import org.hibernate.search.exception.ErrorHandler;
+import org.hibernate.search.hcore.util.impl.ContextHelper;
+import org.hibernate.search.spi.IndexedTypeIdentifier;
+import org.hibernate.search.spi.impl.PojoIndexedTypeIdentifier;
+
+/**
+ * Indexes the tuples stored on a node of the datastore, on that node.
+ * <p>
+ * Used by the {@link BatchIndexingWorkspace} when the dialect is a {@link DataLocalityAwareGridDialect}: each node
+ * builds the documents of its tuples with a {@link TupleIndexer} and its own {@link BatchBackend}, flushed before
+ * returning the number of documents built.
+ */
+public class LocalTupleIndexer implements LocalTuplesConsumer {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<?> indexedType;
+	private final CacheMode cacheMode;
+	private final String tenantId;
+
+	public LocalTupleIndexer(Class<?> indexedType, CacheMode cacheMode, String tenantId) {
+		this.indexedType = indexedType;
+		this.cacheMode = cacheMode;
+		this.tenantId = tenantId;
+	}
+
+	@Override
+	public long consume(SessionFactoryImplementor sessionFactory, TuplesSupplier supplier) {
+		ExtendedSearchIntegrator searchIntegrator = ContextHelper.getSearchIntegratorBySFI( sessionFactory );
+		ErrorHandler errorHandler = searchIntegrator.getErrorHandler();
+		IndexedTypeIdentifier indexedTypeIdentifier = new PojoIndexedTypeIdentifier( indexedType );
+
+		LocalProgressMonitor monitor = new LocalProgressMonitor();
+		BatchBackend backend = searchIntegrator.makeBatchBackend( monitor );
+		TupleIndexer indexer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, backend, errorHandler, tenantId );
+
+		new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, indexer ).consume( supplier );
+		backend.flush( searchIntegrator.getIndexedTypesPolymorphic( indexedTypeIdentifier.asTypeSet() ) );
+		return monitor.documentsBuilt.sum();
+	}
+
+	/**
+	 * Counts the documents built on the current node; the progress is reported by the node running the mass indexer.
+	 */
+	private static class LocalProgressMonitor implements MassIndexerProgressMonitor {
+
+		private final LongAdder documentsBuilt = new LongAdder();
+
+		@Override
+		public void documentsAdded(long increment) {
+		}
+
+		@Override
+		public void documentsBuilt(int number) {
+			documentsBuilt.add( number );
+		}
+
+		@Override
+		public void entitiesLoaded(int size) {
+		}
+
+		@Override
+		public void addToTotalCount(long count) {
+		}
+
+		@Override
+		public void indexingCompleted() {
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Implementations are notified about each operation executed against the datastore, e.g. to feed an external
+ * monitoring system.
+ * <p>
+ * Listeners are invoked synchronously, on the thread executing the operation, so they should return quickly.
+ * Implementations must be thread-safe.
+ * <p>
+ * Listeners are registered via the {@link OgmProperties#DATASTORE_METRICS_LISTENER} property.
+ *
+ * @see OgmProperties#DATASTORE_METRICS_LISTENER
+ */
+@Experimental
+public interface DatastoreMetricsListener {
+
+	/**
+	 * Callback method invoked once a grid dialect operation has been executed, successfully or not.
+	 */
+	void onDatastoreOperation(DatastoreOperationEvent event);
+
+	/**
+	 * Describes an operation executed against the datastore.
+	 */
+	interface DatastoreOperationEvent {
+
+		/**
+		 * The type of the operation.
+		 */
+		DatastoreOperationType getOperationType();
+
+		/**
+		 * The table, collection or cache targeted by the operation; {@code null} if the operation is not bound to a
+		 * single table, e.g. the execution of a batch.
+		 */
+		String getTable();
+
+		/**
+		 * The time it took to execute the operation, in nanoseconds.
+		 */
+		long getDurationNanos();
+
+		/**
+		 * The number of elements processed at once by the operation: the number of keys read by
+		 * {@link DatastoreOperationType#GET_TUPLES} or the number of queued operations executed by
+		 * {@link DatastoreOperationType#EXECUTE_BATCH} and {@link DatastoreOperationType#PARTIAL_FLUSH}; 1 for the
+		 * other operations.
+		 */
+		int getBatchSize();
+
+		/**
+		 * The size of the data read or written: the number of columns of the tuples or the number of rows of the
+		 * associations; 0 if unknown.
+		 */
+		int getPayloadSize();
+
+		/**
+		 * The exception raised by the operation or {@code null} if it has been executed successfully.
+		 */
+		Exception getException();
+	}
+}
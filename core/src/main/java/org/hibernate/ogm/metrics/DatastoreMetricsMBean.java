@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Exposes the datastore metrics via JMX, under the object name
+ * {@code org.hibernate.ogm:type=DatastoreMetrics,name=<session factory name>}, or {@code name="default"} if the session
+ * factory has no name.
+ * <p>
+ * Operations are identified by the names of the {@link DatastoreOperationType} constants. Passing {@code null} as
+ * operation or as table aggregates the metrics of all operations or of all tables respectively.
+ *
+ * @see OgmProperties#DATASTORE_METRICS_ENABLED
+ */
+@Experimental
+public interface DatastoreMetricsMBean {
+
+	String OBJECT_NAME_PREFIX = "org.hibernate.ogm:type=DatastoreMetrics,name=";
+
+	/**
+	 * @return the names of the operations which have been executed at least once
+	 */
+	String[] getOperations();
+
+	/**
+	 * @return the tables, collections or caches which have been accessed at least once
+	 */
+	String[] getTables();
+
+	/**
+	 * @return the upper bounds of the buckets of the latency histograms, in microseconds; the last bucket has no upper
+	 * bound
+	 */
+	long[] getLatencyHistogramBucketsMicros();
+
+	long getOperationCount(String operation, String table);
+
+	long getFailedOperationCount(String operation, String table);
+
+	double getAverageLatencyMillis(String operation, String table);
+
+	double getMaxLatencyMillis(String operation, String table);
+
+	/**
+	 * @return the number of operations per latency bucket, see {@link #getLatencyHistogramBucketsMicros()}
+	 */
+	long[] getLatencyHistogram(String operation, String table);
+
+	double getAverageBatchSize(String operation, String table);
+
+	double getAveragePayloadSize(String operation, String table);
+
+	/**
+	 * Resets all the metrics.
+	 */
+	void clear();
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics;
+
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * The grid dialect operations for which datastore metrics are collected.
+ *
+ * @see DatastoreMetricsListener
+ */
+@Experimental
+public enum DatastoreOperationType {
+	GET_TUPLE,
+	GET_TUPLES,
+	CREATE_TUPLE,
+	INSERT_OR_UPDATE_TUPLE,
+	INSERT_TUPLE,
+	REMOVE_TUPLE,
+	UPDATE_TUPLE_WITH_OPTIMISTIC_LOCK,
+	REMOVE_TUPLE_WITH_OPTIMISTIC_LOCK,
+	GET_ASSOCIATION,
+	CREATE_ASSOCIATION,
+	INSERT_OR_UPDATE_ASSOCIATION,
+	REMOVE_ASSOCIATION,
+	UPDATE_ASSOCIATION_ROWS,
+	GET_ASSOCIATION_SIZE,
+	CONTAINS_ASSOCIATION_ROW,
+	EXECUTE_BATCH,
+	FLUSH_PENDING_OPERATIONS,
+	PARTIAL_FLUSH,
+	EXECUTE_BACKEND_QUERY,
+	EXECUTE_BACKEND_UPDATE_QUERY,
+	CALL_STORED_PROCEDURE,
+	NEXT_VALUE,
+	FOR_EACH_TUPLE;
+}
@@ -0,0 +1,308 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.hibernate.ogm.metrics.DatastoreMetricsListener;
+import org.hibernate.ogm.metrics.DatastoreMetricsListener.DatastoreOperationEvent;
+import org.hibernate.ogm.metrics.DatastoreMetricsMBean;
+import org.hibernate.ogm.metrics.DatastoreOperationType;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Collects the metrics of the operations executed against the datastore, per operation type and per table, and
+ * notifies the configured {@link DatastoreMetricsListener}, if any.
+ */
+public class DatastoreMetrics implements DatastoreMetricsMBean {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final ConcurrentMap<StatisticsKey, OperationStatistics> statistics = new ConcurrentHashMap<>();
+	private final DatastoreMetricsListener listener;
+	private final boolean jmxEnabled;
+
+	private volatile ObjectName objectName;
+
+	/**
+	 * @param listener the listener to notify about each operation, may be {@code null}
+	 * @param jmxEnabled whether the metrics should be exposed via JMX
+	 */
+	public DatastoreMetrics(DatastoreMetricsListener listener, boolean jmxEnabled) {
+		this.listener = listener;
+		this.jmxEnabled = jmxEnabled;
+	}
+
+	/**
+	 * Records the execution of an operation.
+	 *
+	 * @param operationType the type of the operation
+	 * @param table the table targeted by the operation, may be {@code null}
+	 * @param startNanos the value of {@link System#nanoTime()} when the operation started
+	 * @param batchSize the number of elements processed by the operation
+	 * @param payloadSize the size of the data read or written by the operation
+	 * @param exception the exception raised by the operation, if any
+	 */
+	public void record(DatastoreOperationType operationType, String table, long startNanos, int batchSize, int payloadSize, Exception exception) {
+		long durationNanos = System.nanoTime() - startNanos;
+		statistics.computeIfAbsent( new StatisticsKey( operationType, table ), k -> new OperationStatistics() )
+				.record( durationNanos, batchSize, payloadSize, exception != null );
+
+		if ( listener != null ) {
+			listener.onDatastoreOperation( new DatastoreOperationEventImpl( operationType, table, durationNanos, batchSize, payloadSize, exception ) );
+		}
+	}
+
+	/**
+	 * Exposes the metrics via JMX, if enabled.
+	 *
+	 * @param name the name of the session factory using these metrics
+	 */
+	public void registerMBean(String name) {
+		if ( !jmxEnabled || objectName != null ) {
+			return;
+		}
+		try {
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+			ObjectName candidate = new ObjectName( OBJECT_NAME_PREFIX + ObjectName.quote( name ) );
+			mBeanServer.registerMBean( new StandardMBean( this, DatastoreMetricsMBean.class ), candidate );
+			objectName = candidate;
+		}
+		catch (Exception e) {
+			log.unableToRegisterDatastoreMetricsMBean( name, e );
+		}
+	}
+
+	public void unregisterMBean() {
+		if ( objectName != null ) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean( objectName );
+			}
+			catch (Exception e) {
+				log.unableToUnregisterDatastoreMetricsMBean( objectName.toString(), e );
+			}
+			objectName = null;
+		}
+	}
+
+	@Override
+	public String[] getOperations() {
+		Set<String> operations = new TreeSet<>();
+		for ( StatisticsKey key : statistics.keySet() ) {
+			operations.add( key.operationType.name() );
+		}
+		return operations.toArray( new String[operations.size()] );
+	}
+
+	@Override
+	public String[] getTables() {
+		Set<String> tables = new TreeSet<>();
+		for ( StatisticsKey key : statistics.keySet() ) {
+			if ( key.table != null ) {
+				tables.add( key.table );
+			}
+		}
+		return tables.toArray( new String[tables.size()] );
+	}
+
+	@Override
+	public long[] getLatencyHistogramBucketsMicros() {
+		return OperationStatistics.LATENCY_BUCKETS_MICROS.clone();
+	}
+
+	@Override
+	public long getOperationCount(String operation, String table) {
+		long count = 0;
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			count += stats.getCount();
+		}
+		return count;
+	}
+
+	@Override
+	public long getFailedOperationCount(String operation, String table) {
+		long count = 0;
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			count += stats.getFailedCount();
+		}
+		return count;
+	}
+
+	@Override
+	public double getAverageLatencyMillis(String operation, String table) {
+		long count = 0;
+		long totalNanos = 0;
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			count += stats.getCount();
+			totalNanos += stats.getTotalNanos();
+		}
+		return count == 0 ? 0 : toMillis( totalNanos ) / count;
+	}
+
+	@Override
+	public double getMaxLatencyMillis(String operation, String table) {
+		long maxNanos = 0;
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			maxNanos = Math.max( maxNanos, stats.getMaxNanos() );
+		}
+		return toMillis( maxNanos );
+	}
+
+	@Override
+	public long[] getLatencyHistogram(String operation, String table) {
+		long[] histogram = new long[OperationStatistics.LATENCY_BUCKETS_MICROS.length + 1];
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			for ( int i = 0; i < histogram.length; i++ ) {
+				histogram[i] += stats.getLatencyHistogramBucket( i );
+			}
+		}
+		return histogram;
+	}
+
+	@Override
+	public double getAverageBatchSize(String operation, String table) {
+		long count = 0;
+		long totalBatchSize = 0;
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			count += stats.getCount();
+			totalBatchSize += stats.getTotalBatchSize();
+		}
+		return count == 0 ? 0 : (double) totalBatchSize / count;
+	}
+
+	@Override
+	public double getAveragePayloadSize(String operation, String table) {
+		long count = 0;
+		long totalPayloadSize = 0;
+		for ( OperationStatistics stats : select( operation, table ) ) {
+			count += stats.getCount();
+			totalPayloadSize += stats.getTotalPayloadSize();
+		}
+		return count == 0 ? 0 : (double) totalPayloadSize / count;
+	}
+
+	@Override
+	public void clear() {
+		statistics.clear();
+	}
+
+	private List<OperationStatistics> select(String operation, String table) {
+		List<OperationStatistics> selected = new ArrayList<>();
+		for ( Map.Entry<StatisticsKey, OperationStatistics> entry : statistics.entrySet() ) {
+			StatisticsKey key = entry.getKey();
+			if ( ( operation == null || key.operationType.name().equals( operation ) )
+					&& ( table == null || table.equals( key.table ) ) ) {
+				selected.add( entry.getValue() );
+			}
+		}
+		return selected;
+	}
+
+	private static double toMillis(long nanos) {
+		return (double) nanos / TimeUnit.MILLISECONDS.toNanos( 1 );
+	}
+
+	private static class StatisticsKey {
+
+		private final DatastoreOperationType operationType;
+		private final String table;
+		private final int hashCode;
+
+		StatisticsKey(DatastoreOperationType operationType, String table) {
+			this.operationType = operationType;
+			this.table = table;
+			this.hashCode = 31 * operationType.hashCode() + Objects.hashCode( table );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			StatisticsKey other = (StatisticsKey) obj;
+			return operationType == other.operationType && Objects.equals( table, other.table );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static class DatastoreOperationEventImpl implements DatastoreOperationEvent {
+
+		private final DatastoreOperationType operationType;
+		private final String table;
+		private final long durationNanos;
+		private final int batchSize;
+		private final int payloadSize;
+		private final Exception exception;
+
+		DatastoreOperationEventImpl(DatastoreOperationType operationType, String table, long durationNanos, int batchSize, int payloadSize, Exception exception) {
+			this.operationType = operationType;
+			this.table = table;
+			this.durationNanos = durationNanos;
+			this.batchSize = batchSize;
+			this.payloadSize = payloadSize;
+			this.exception = exception;
+		}
+
+		@Override
+		public DatastoreOperationType getOperationType() {
+			return operationType;
+		}
+
+		@Override
+		public String getTable() {
+			return table;
+		}
+
+		@Override
+		public long getDurationNanos() {
+			return durationNanos;
+		}
+
+		@Override
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		@Override
+		public int getPayloadSize() {
+			return payloadSize;
+		}
+
+		@Override
+		public Exception getException() {
+			return exception;
+		}
+
+		@Override
+		public String toString() {
+			return "DatastoreOperationEvent [operationType=" + operationType + ", table=" + table + ", durationNanos=" + durationNanos
+					+ ", batchSize=" + batchSize + ", payloadSize=" + payloadSize + ", exception=" + exception + "]";
+		}
+	}
+}
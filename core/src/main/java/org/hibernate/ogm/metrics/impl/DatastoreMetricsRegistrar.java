@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics.impl;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+
+/**
+ * Exposes the datastore metrics via JMX for as long as the session factory is open, if they are enabled.
+ */
+public class DatastoreMetricsRegistrar implements SessionFactoryObserver {
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		DatastoreMetrics metrics = getMetrics( factory );
+		if ( metrics != null ) {
+			String name = ( (SessionFactoryImplementor) factory ).getName();
+			metrics.registerMBean( name != null ? name : "default" );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosed(SessionFactory factory) {
+		DatastoreMetrics metrics = getMetrics( factory );
+		if ( metrics != null ) {
+			metrics.unregisterMBean();
+		}
+	}
+
+	private static DatastoreMetrics getMetrics(SessionFactory factory) {
+		GridDialect gridDialect = ( (SessionFactoryImplementor) factory ).getServiceRegistry().getService( GridDialect.class );
+		MetricsCollectingGridDialect metricsDialect = GridDialects.getDelegateOrNull( gridDialect, MetricsCollectingGridDialect.class );
+		return metricsDialect != null ? metricsDialect.getMetrics() : null;
+	}
+}
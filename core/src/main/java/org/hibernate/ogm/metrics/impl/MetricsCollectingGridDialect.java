@@ -0,0 +1,450 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics.impl;
+
+import static org.hibernate.ogm.metrics.DatastoreOperationType.CALL_STORED_PROCEDURE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.CONTAINS_ASSOCIATION_ROW;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.CREATE_ASSOCIATION;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.CREATE_TUPLE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.EXECUTE_BACKEND_QUERY;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.EXECUTE_BACKEND_UPDATE_QUERY;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.EXECUTE_BATCH;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.FLUSH_PENDING_OPERATIONS;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.FOR_EACH_TUPLE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.GET_ASSOCIATION;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.GET_ASSOCIATION_SIZE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.GET_TUPLE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.GET_TUPLES;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.INSERT_OR_UPDATE_ASSOCIATION;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.INSERT_OR_UPDATE_TUPLE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.INSERT_TUPLE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.NEXT_VALUE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.REMOVE_ASSOCIATION;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.REMOVE_TUPLE;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.REMOVE_TUPLE_WITH_OPTIMISTIC_LOCK;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.UPDATE_ASSOCIATION_ROWS;
+import static org.hibernate.ogm.metrics.DatastoreOperationType.UPDATE_TUPLE_WITH_OPTIMISTIC_LOCK;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.impl.ForwardingGridDialect;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.EntityMetadataInformation;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
+
+/**
+ * A wrapper dialect which measures the operations executed by the real dialect and passes them on to
+ * {@link DatastoreMetrics}.
+ * <p>
+ * It is only used when datastore metrics are enabled, so there is no overhead otherwise. The latency of queries and
+ * stored procedures only covers their execution, not the iteration over their results.
+ *
+ * @see org.hibernate.ogm.cfg.OgmProperties#DATASTORE_METRICS_ENABLED
+ */
+public class MetricsCollectingGridDialect extends ForwardingGridDialect<Serializable> {
+
+	private final DatastoreMetrics metrics;
+
+	public MetricsCollectingGridDialect(GridDialect gridDialect, DatastoreMetrics metrics) {
+		super( gridDialect );
+		this.metrics = metrics;
+	}
+
+	public DatastoreMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		long start = System.nanoTime();
+		Tuple tuple;
+		try {
+			tuple = super.getTuple( key, operationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( GET_TUPLE, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( GET_TUPLE, key.getTable(), start, 1, columnCount( tuple ), null );
+		return tuple;
+	}
+
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		String table = keys.length == 0 ? null : keys[0].getTable();
+		long start = System.nanoTime();
+		List<Tuple> tuples;
+		try {
+			tuples = super.getTuples( keys, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( GET_TUPLES, table, start, keys.length, 0, e );
+			throw e;
+		}
+		int payloadSize = 0;
+		for ( Tuple tuple : tuples ) {
+			payloadSize += columnCount( tuple );
+		}
+		metrics.record( GET_TUPLES, table, start, keys.length, payloadSize, null );
+		return tuples;
+	}
+
+	@Override
+	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
+		long start = System.nanoTime();
+		Tuple tuple;
+		try {
+			tuple = super.createTuple( key, operationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( CREATE_TUPLE, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( CREATE_TUPLE, key.getTable(), start, 1, 0, null );
+		return tuple;
+	}
+
+	@Override
+	public Tuple createTuple(EntityKeyMetadata entityKeyMetadata, OperationContext operationContext) {
+		long start = System.nanoTime();
+		Tuple tuple;
+		try {
+			tuple = super.createTuple( entityKeyMetadata, operationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( CREATE_TUPLE, entityKeyMetadata.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( CREATE_TUPLE, entityKeyMetadata.getTable(), start, 1, 0, null );
+		return tuple;
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
+		int payloadSize = operationCount( tuplePointer.getTuple() );
+		long start = System.nanoTime();
+		try {
+			super.insertOrUpdateTuple( key, tuplePointer, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( INSERT_OR_UPDATE_TUPLE, key.getTable(), start, 1, payloadSize, e );
+			throw e;
+		}
+		metrics.record( INSERT_OR_UPDATE_TUPLE, key.getTable(), start, 1, payloadSize, null );
+	}
+
+	@Override
+	public void insertTuple(EntityKeyMetadata entityKeyMetadata, Tuple tuple, TupleContext tupleContext) {
+		int payloadSize = operationCount( tuple );
+		long start = System.nanoTime();
+		try {
+			super.insertTuple( entityKeyMetadata, tuple, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( INSERT_TUPLE, entityKeyMetadata.getTable(), start, 1, payloadSize, e );
+			throw e;
+		}
+		metrics.record( INSERT_TUPLE, entityKeyMetadata.getTable(), start, 1, payloadSize, null );
+	}
+
+	@Override
+	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			super.removeTuple( key, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( REMOVE_TUPLE, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( REMOVE_TUPLE, key.getTable(), start, 1, 0, null );
+	}
+
+	@Override
+	public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
+		int payloadSize = operationCount( tuple );
+		long start = System.nanoTime();
+		boolean updated;
+		try {
+			updated = super.updateTupleWithOptimisticLock( entityKey, oldLockState, tuple, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( UPDATE_TUPLE_WITH_OPTIMISTIC_LOCK, entityKey.getTable(), start, 1, payloadSize, e );
+			throw e;
+		}
+		metrics.record( UPDATE_TUPLE_WITH_OPTIMISTIC_LOCK, entityKey.getTable(), start, 1, payloadSize, null );
+		return updated;
+	}
+
+	@Override
+	public boolean removeTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		boolean removed;
+		try {
+			removed = super.removeTupleWithOptimisticLock( entityKey, oldLockState, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( REMOVE_TUPLE_WITH_OPTIMISTIC_LOCK, entityKey.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( REMOVE_TUPLE_WITH_OPTIMISTIC_LOCK, entityKey.getTable(), start, 1, 0, null );
+		return removed;
+	}
+
+	@Override
+	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		Association association;
+		try {
+			association = super.getAssociation( key, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( GET_ASSOCIATION, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( GET_ASSOCIATION, key.getTable(), start, 1, association == null ? 0 : association.size(), null );
+		return association;
+	}
+
+	@Override
+	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		Association association;
+		try {
+			association = super.createAssociation( key, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( CREATE_ASSOCIATION, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( CREATE_ASSOCIATION, key.getTable(), start, 1, 0, null );
+		return association;
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		int payloadSize = association.getOperations().size();
+		long start = System.nanoTime();
+		try {
+			super.insertOrUpdateAssociation( key, association, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( INSERT_OR_UPDATE_ASSOCIATION, key.getTable(), start, 1, payloadSize, e );
+			throw e;
+		}
+		metrics.record( INSERT_OR_UPDATE_ASSOCIATION, key.getTable(), start, 1, payloadSize, null );
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		try {
+			super.removeAssociation( key, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( REMOVE_ASSOCIATION, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( REMOVE_ASSOCIATION, key.getTable(), start, 1, 0, null );
+	}
+
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		int payloadSize = changes.getAddedRows().size() + changes.getRemovedRows().size();
+		long start = System.nanoTime();
+		try {
+			super.updateAssociationRows( key, changes, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( UPDATE_ASSOCIATION_ROWS, key.getTable(), start, 1, payloadSize, e );
+			throw e;
+		}
+		metrics.record( UPDATE_ASSOCIATION_ROWS, key.getTable(), start, 1, payloadSize, null );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		int size;
+		try {
+			size = super.getAssociationSize( key, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( GET_ASSOCIATION_SIZE, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( GET_ASSOCIATION_SIZE, key.getTable(), start, 1, 0, null );
+		return size;
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		boolean contained;
+		try {
+			contained = super.containsAssociationRow( key, rowColumns, associationContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( CONTAINS_ASSOCIATION_ROW, key.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( CONTAINS_ASSOCIATION_ROW, key.getTable(), start, 1, 0, null );
+		return contained;
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		int batchSize = queue.size();
+		long start = System.nanoTime();
+		return super.executeBatchAsync( queue ).whenComplete( (result, e) -> {
+			metrics.record( EXECUTE_BATCH, null, start, batchSize, 0, unwrap( e ) );
+		} );
+	}
+
+	private static Exception unwrap(Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+		if ( cause == null || cause instanceof Exception ) {
+			return (Exception) cause;
+		}
+		return new CompletionException( cause );
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		int batchSize = queue.size();
+		long start = System.nanoTime();
+		try {
+			super.executeBatch( queue );
+		}
+		catch (RuntimeException e) {
+			metrics.record( EXECUTE_BATCH, null, start, batchSize, 0, e );
+			throw e;
+		}
+		metrics.record( EXECUTE_BATCH, null, start, batchSize, 0, null );
+	}
+
+	@Override
+	public void flushPendingOperations(EntityKey entityKey, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			super.flushPendingOperations( entityKey, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( FLUSH_PENDING_OPERATIONS, entityKey.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( FLUSH_PENDING_OPERATIONS, entityKey.getTable(), start, 1, 0, null );
+	}
+
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		String table = table( query );
+		long start = System.nanoTime();
+		ClosableIterator<Tuple> result;
+		try {
+			result = super.executeBackendQuery( query, queryParameters, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( EXECUTE_BACKEND_QUERY, table, start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( EXECUTE_BACKEND_QUERY, table, start, 1, 0, null );
+		return result;
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		String table = table( query );
+		long start = System.nanoTime();
+		int updated;
+		try {
+			updated = super.executeBackendUpdateQuery( query, queryParameters, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( EXECUTE_BACKEND_UPDATE_QUERY, table, start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( EXECUTE_BACKEND_UPDATE_QUERY, table, start, 1, updated, null );
+		return updated;
+	}
+
+	@Override
+	public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName, ProcedureQueryParameters queryParameters, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		ClosableIterator<Tuple> result;
+		try {
+			result = super.callStoredProcedure( storedProcedureName, queryParameters, tupleContext );
+		}
+		catch (RuntimeException e) {
+			metrics.record( CALL_STORED_PROCEDURE, null, start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( CALL_STORED_PROCEDURE, null, start, 1, 0, null );
+		return result;
+	}
+
+	@Override
+	public Number nextValue(NextValueRequest request) {
+		long start = System.nanoTime();
+		Number value;
+		try {
+			value = super.nextValue( request );
+		}
+		catch (RuntimeException e) {
+			metrics.record( NEXT_VALUE, request.getKey().getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( NEXT_VALUE, request.getKey().getTable(), start, 1, 0, null );
+		return value;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
+		long start = System.nanoTime();
+		try {
+			super.forEachTuple( consumer, tupleTypeContext, entityKeyMetadata );
+		}
+		catch (RuntimeException e) {
+			metrics.record( FOR_EACH_TUPLE, entityKeyMetadata.getTable(), start, 1, 0, e );
+			throw e;
+		}
+		metrics.record( FOR_EACH_TUPLE, entityKeyMetadata.getTable(), start, 1, 0, null );
+	}
+
+	private static int columnCount(Tuple tuple) {
+		return tuple == null ? 0 : tuple.getColumnNames().size();
+	}
+
+	private static int operationCount(Tuple tuple) {
+		return tuple == null ? 0 : tuple.getOperations().size();
+	}
+
+	private static String table(BackendQuery<?> query) {
+		EntityMetadataInformation metadataInformation = query.getSingleEntityMetadataInformationOrNull();
+		return metadataInformation == null ? null : metadataInformation.getEntityKeyMetadata().getTable();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.metrics.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics collected for one operation type on one table.
+ * <p>
+ * All the counters can be updated concurrently without locking.
+ */
+class OperationStatistics {
+
+	/**
+	 * The upper bounds of the latency histogram buckets, in microseconds. The last bucket collects all the operations
+	 * slower than the last bound.
+	 */
+	static final long[] LATENCY_BUCKETS_MICROS = { 100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000 };
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator( Long::max, 0L );
+	private final LongAdder totalBatchSize = new LongAdder();
+	private final LongAdder totalPayloadSize = new LongAdder();
+	private final LongAdder[] latencyHistogram = new LongAdder[LATENCY_BUCKETS_MICROS.length + 1];
+
+	OperationStatistics() {
+		for ( int i = 0; i < latencyHistogram.length; i++ ) {
+			latencyHistogram[i] = new LongAdder();
+		}
+	}
+
+	void record(long durationNanos, int batchSize, int payloadSize, boolean failed) {
+		count.increment();
+		if ( failed ) {
+			failedCount.increment();
+		}
+		totalNanos.add( durationNanos );
+		maxNanos.accumulate( durationNanos );
+		totalBatchSize.add( batchSize );
+		totalPayloadSize.add( payloadSize );
+		latencyHistogram[bucket( durationNanos )].increment();
+	}
+
+	private static int bucket(long durationNanos) {
+		long durationMicros = TimeUnit.NANOSECONDS.toMicros( durationNanos );
+		for ( int i = 0; i < LATENCY_BUCKETS_MICROS.length; i++ ) {
+			if ( durationMicros <= LATENCY_BUCKETS_MICROS[i] ) {
+				return i;
+			}
+		}
+		return LATENCY_BUCKETS_MICROS.length;
+	}
+
+	long getCount() {
+		return count.sum();
+	}
+
+	long getFailedCount() {
+		return failedCount.sum();
+	}
+
+	long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	long getTotalBatchSize() {
+		return totalBatchSize.sum();
+	}
+
+	long getTotalPayloadSize() {
+		return totalPayloadSize.sum();
+	}
+
+	long getLatencyHistogramBucket(int bucket) {
+		return latencyHistogram[bucket].sum();
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.persister.impl;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.type.descriptor.impl.GridValueBinder;
+import org.hibernate.ogm.type.impl.AbstractGenericBasicType;
+import org.hibernate.ogm.type.spi.GridType;
+
+/**
+ * Writes the property values of the entities of a given persister into their tuple.
+ * <p>
+ * Built once per persister: the single-column basic properties are written with the {@link GridValueBinder} of their
+ * type, and skipped upfront if their column is not insertable. The other properties are dehydrated by their
+ * {@link GridType}.
+ */
+public final class EntityDehydrator {
+
+	private final GridType[] gridTypes;
+	private final String[][] columnNames;
+	private final boolean[][] insertable;
+	private final GridValueBinder<Object>[] binders;
+	private final boolean[] bound;
+
+	@SuppressWarnings("unchecked")
+	EntityDehydrator(GridType[] gridTypes, String[][] columnNames, boolean[][] insertable) {
+		this.gridTypes = gridTypes;
+		this.columnNames = columnNames;
+		this.insertable = insertable;
+		this.binders = new GridValueBinder[gridTypes.length];
+		this.bound = new boolean[gridTypes.length];
+
+		for ( int i = 0; i < gridTypes.length; i++ ) {
+			if ( gridTypes[i] instanceof AbstractGenericBasicType && columnNames[i].length == 1 ) {
+				binders[i] = ( (AbstractGenericBasicType<Object>) gridTypes[i] ).getBinder();
+				bound[i] = insertable[i][0];
+			}
+		}
+	}
+
+	/**
+	 * Writes the values of the included properties into the given tuple.
+	 *
+	 * @param tuple the tuple of the entity
+	 * @param values the property values, in the order of the properties of the persister
+	 * @param includeProperties whether each property should be written
+	 * @param session the session
+	 */
+	public void dehydrate(Tuple tuple, Object[] values, boolean[] includeProperties, SharedSessionContractImplementor session) {
+		for ( int i = 0; i < gridTypes.length; i++ ) {
+			if ( includeProperties[i] ) {
+				GridValueBinder<Object> binder = binders[i];
+				if ( binder == null ) {
+					gridTypes[i].nullSafeSet( tuple, values[i], columnNames[i], insertable[i], session );
+				}
+				else if ( bound[i] ) {
+					binder.bind( tuple, values[i], columnNames[i] );
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.persister.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.type.descriptor.impl.GridValueExtractor;
+import org.hibernate.ogm.type.impl.AbstractGenericBasicType;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Reads the property values of the entities of a given persister from their tuple.
+ * <p>
+ * Built once per persister: the column names, laziness and selectability of the properties are resolved upfront, and
+ * the single-column basic properties are read with the {@link GridValueExtractor} of their type, instead of going
+ * through the {@link GridType} methods on each read. The values of pass-through extractors are read straight from the
+ * tuple, unless trace logging is enabled. The other properties are hydrated by their {@link GridType}.
+ */
+public final class EntityHydrator {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final GridType[] gridTypes;
+	private final String[][] columnNames;
+	private final GridValueExtractor<?>[] extractors;
+	private final String[] extractedColumns;
+	private final boolean[] passThrough;
+	private final boolean[] selectable;
+	private final boolean[] lazy;
+
+	EntityHydrator(GridType[] gridTypes, String[][] columnNames, boolean[] selectable, boolean[] lazy) {
+		this.gridTypes = gridTypes;
+		this.columnNames = columnNames;
+		this.selectable = selectable;
+		this.lazy = lazy;
+		this.extractors = new GridValueExtractor<?>[gridTypes.length];
+		this.extractedColumns = new String[gridTypes.length];
+		this.passThrough = new boolean[gridTypes.length];
+
+		for ( int i = 0; i < gridTypes.length; i++ ) {
+			if ( gridTypes[i] instanceof AbstractGenericBasicType && columnNames[i].length == 1 ) {
+				extractors[i] = ( (AbstractGenericBasicType<?>) gridTypes[i] ).getExtractor();
+				extractedColumns[i] = columnNames[i][0];
+				passThrough[i] = extractors[i].isPassThrough();
+			}
+		}
+	}
+
+	/**
+	 * Reads the values of all the properties, without resolving associations.
+	 *
+	 * @param tuple the tuple of the entity
+	 * @param allProperties whether lazy properties should be read as well
+	 * @param session the session
+	 * @param owner the entity, if already instantiated
+	 * @return the hydrated property values, in the order of the properties of the persister
+	 */
+	public Object[] hydrate(Tuple tuple, boolean allProperties, SharedSessionContractImplementor session, Object owner) {
+		boolean trace = log.isTraceEnabled();
+		Object[] values = new Object[gridTypes.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( !selectable[i] ) {
+				values[i] = PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			}
+			else if ( allProperties || !lazy[i] ) {
+				values[i] = hydrate( tuple, i, trace, session, owner );
+			}
+			else {
+				values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Reads the value of the given property, without resolving associations.
+	 *
+	 * @param tuple the tuple of the entity
+	 * @param property the index of the property
+	 * @param session the session
+	 * @param owner the entity, if already instantiated
+	 * @return the hydrated property value
+	 */
+	public Object hydrate(Tuple tuple, int property, SharedSessionContractImplementor session, Object owner) {
+		return hydrate( tuple, property, log.isTraceEnabled(), session, owner );
+	}
+
+	private Object hydrate(Tuple tuple, int property, boolean trace, SharedSessionContractImplementor session, Object owner) {
+		GridValueExtractor<?> extractor = extractors[property];
+		if ( extractor == null ) {
+			return gridTypes[property].hydrate( tuple, columnNames[property], session, owner );
+		}
+		// the extractor only adds trace logging to the read of pass-through values
+		if ( passThrough[property] && !trace ) {
+			return tuple.get( extractedColumns[property] );
+		}
+		return extractor.extract( tuple, extractedColumns[property] );
+	}
+}
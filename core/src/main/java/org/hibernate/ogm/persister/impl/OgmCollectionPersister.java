@@ -12,6 +12,7 @@
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.AssertionFailure;
@@ -30,6 +31,9 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.mapping.Collection;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationSizeGridDialect;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -97,6 +101,8 @@ public class OgmCollectionPersister extends AbstractCollectionPersister implemen
 	private final GridType gridTypeOfAssociatedId;
 	private final AssociationType associationType;
 	private final GridDialect gridDialect;
+	private final AssociationRowsGridDialect associationRowsGridDialect;
+	private final AssociationSizeGridDialect associationSizeGridDialect;
 	private final AssociationKeyMetadata associationKeyMetadata;
 
 	/**
@@ -124,6 +130,8 @@ public OgmCollectionPersister(final Collection collection, final CollectionDataA
 		ServiceRegistry registry = factory.getServiceRegistry();
 		final TypeTranslator typeTranslator = registry.getService( TypeTranslator.class );
 		this.gridDialect = registry.getService( GridDialect.class );
+		this.associationRowsGridDialect = registry.getService( AssociationRowsGridDialect.class );
+		this.associationSizeGridDialect = registry.getService( AssociationSizeGridDialect.class );
 
 		keyGridType = typeTranslator.getType( getKeyType() );
 		elementGridType = typeTranslator.getType( getElementType() );
@@ -496,11 +504,69 @@ private RowKey getTupleKeyForDelete(Serializable key, PersistentCollection colle
 	@Override
 	public int getSize(Serializable key, SharedSessionContractImplementor session) {
 		AssociationPersister associationPersister = getAssociationPersister( session.getPersistenceContext().getEntity( new org.hibernate.engine.spi.EntityKey( key, getOwnerEntityPersister() ) ), key, session );
+
+		// let the datastore count the rows unless the association has been read already
+		if ( associationSizeGridDialect != null && !associationPersister.isAssociationLoaded() ) {
+			return associationSizeGridDialect.getAssociationSize( associationPersister.getAssociationKey(), associationPersister.getAssociationContext() );
+		}
+
 		final Association collectionMetadata = associationPersister.getAssociationOrNull();
 
 		return collectionMetadata == null ? 0 : collectionMetadata.size();
 	}
 
+	@Override
+	public boolean indexExists(Serializable key, Object index, SharedSessionContractImplementor session) {
+		Tuple rowColumns = new Tuple();
+		indexGridType.nullSafeSet( rowColumns, incrementIndexByBase( index ), getIndexColumnNames(), session );
+		return associationRowExists( key, rowColumns, session );
+	}
+
+	@Override
+	public boolean elementExists(Serializable key, Object element, SharedSessionContractImplementor session) {
+		if ( elementIsPureFormula ) {
+			throw new AssertionFailure( "cannot use a formula-based element in the where condition" );
+		}
+
+		Tuple rowColumns = new Tuple();
+		getElementGridType().nullSafeSet( rowColumns, element, getElementColumnNames(), session );
+		return associationRowExists( key, rowColumns, session );
+	}
+
+	/**
+	 * Whether the association identified by the given key contains a row matching the given index or element columns.
+	 * The datastore is asked directly unless the association has been read already.
+	 */
+	private boolean associationRowExists(Serializable key, Tuple rowColumns, SharedSessionContractImplementor session) {
+		AssociationPersister associationPersister = getAssociationPersister( session.getPersistenceContext().getEntity( new org.hibernate.engine.spi.EntityKey( key, getOwnerEntityPersister() ) ), key, session );
+
+		if ( associationSizeGridDialect != null && !associationPersister.isAssociationLoaded() ) {
+			return associationSizeGridDialect.containsAssociationRow( associationPersister.getAssociationKey(), rowColumns, associationPersister.getAssociationContext() );
+		}
+
+		Association association = associationPersister.getAssociationOrNull();
+		if ( association == null ) {
+			return false;
+		}
+
+		for ( RowKey rowKey : association.getKeys() ) {
+			if ( matches( association.get( rowKey ), rowColumns ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean matches(Tuple associationRow, Tuple rowColumns) {
+		for ( String column : rowColumns.getColumnNames() ) {
+			if ( !Objects.equals( associationRow.get( column ), rowColumns.get( column ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public FilterAliasGenerator getFilterAliasGenerator(String rootAlias) {
 		return new StaticFilterAliasGenerator( rootAlias );
@@ -678,6 +744,11 @@ else if ( associationType == AssociationType.ASSOCIATION_TABLE_TO_ENTITY ) {
 
 			AssociationPersister associationPersister = inverseCollectionPersister.getAssociationPersister( entity, elementColumnValues, session );
 
+			if ( canUpdateInverseRowsWithoutReading( associationPersister ) ) {
+				updateInverseRowsWithoutReading( associationPersister, associationRow, action, rowKey, elementColumnNames, elementColumnValues );
+				return;
+			}
+
 			// TODO what happens when a row should be *updated* ?: I suspect ADD works OK as it's a put()
 			if ( action == Action.ADD ) {
 				RowKey inverseRowKey = getInverseRowKey( associationRow );
@@ -708,6 +779,45 @@ else if ( action == Action.REMOVE ) {
 		}
 	}
 
+	/**
+	 * Whether the row can be added to or removed from the inverse side of the association without reading it, which
+	 * is the case if the dialect supports it and the inverse side has not been read within the session yet. Indexed
+	 * collections (lists and maps) are always read as their rows cannot be identified without the index.
+	 */
+	private boolean canUpdateInverseRowsWithoutReading(AssociationPersister associationPersister) {
+		return associationRowsGridDialect != null
+				&& inverseCollectionPersister.getAssociationKeyMetadata().getRowKeyIndexColumnNames().length == 0
+				&& !associationPersister.isAssociationLoaded()
+				&& !associationPersister.hostingEntityRequiresReadAfterUpdate();
+	}
+
+	private void updateInverseRowsWithoutReading(AssociationPersister associationPersister, Tuple associationRow, Action action, RowKey rowKey,
+			String[] elementColumnNames, Object[] elementColumnValues) {
+		RowKey inverseRowKey = getInverseRowKey( associationRow );
+		AssociationRowsChanges changes = new AssociationRowsChanges();
+
+		if ( action == Action.ADD ) {
+			Tuple inverseAssociationRow = new Tuple();
+			for ( String columnName : inverseRowKey.getColumnNames() ) {
+				inverseAssociationRow.put( columnName, associationRow.get( columnName ) );
+			}
+			changes.addRow( inverseRowKey, inverseAssociationRow );
+		}
+		else if ( action == Action.REMOVE ) {
+			if ( rowKey == null ) {
+				throw new AssertionFailure( "Deleting a collection tuple that is not present: " + "table {"
+						+ getTableName() + "} key column names {" + Arrays.toString( elementColumnNames )
+						+ "} key column values {" + Arrays.toString( elementColumnValues ) + "}" );
+			}
+			changes.removeRow( inverseRowKey );
+		}
+		else {
+			throw new AssertionFailure( "Unknown action type: " + action );
+		}
+
+		associationRowsGridDialect.updateAssociationRows( associationPersister.getAssociationKey(), changes, associationPersister.getAssociationContext() );
+	}
+
 	private RowKey getInverseRowKey(Tuple associationRow) {
 		String[] inverseRowKeyColumnNames = inverseCollectionPersister.getAssociationKeyMetadata().getRowKeyColumnNames();
 		Object[] columnValues = new Object[inverseRowKeyColumnNames.length];
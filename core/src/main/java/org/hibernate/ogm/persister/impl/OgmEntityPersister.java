@@ -24,7 +24,6 @@
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.StaleObjectStateException;
-import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -50,6 +49,7 @@
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
+import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
 import org.hibernate.ogm.dialect.impl.ExceptionThrowingLockingStrategy;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.impl.TupleContextImpl;
@@ -96,7 +96,6 @@
 import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.spi.PersisterCreationContext;
 import org.hibernate.pretty.MessageHelper;
-import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.tuple.GenerationTiming;
 import org.hibernate.tuple.NonIdentifierAttribute;
@@ -138,6 +137,8 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 	private final GridType[] gridPropertyTypes;
 	private final GridType gridVersionType;
 	private final GridType gridIdentifierType;
+	private final EntityHydrator hydrator;
+	private final EntityDehydrator dehydrator;
 	private final String jpaEntityName;
 
 	// Copy from AbstractEntityPersister
@@ -159,6 +160,12 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 	 */
 	private final InvocationCollectingGridDialect invocationCollectingGridDialect;
 
+	/**
+	 * Queues the version-checked updates and removals if the dialect supports it; {@code null} if there is an error
+	 * handler, as it is notified of the outcome of each of these operations.
+	 */
+	private final BatchOperationsDelegator batchOperationsDelegator;
+
 	private final EntityKeyMetadata entityKeyMetadata;
 	private final DuplicateInsertPreventionStrategy duplicateInsertPreventionStrategy;
 	/**
@@ -243,6 +250,9 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 				gridDialect,
 				InvocationCollectingGridDialect.class
 		);
+		this.batchOperationsDelegator = invocationCollectingGridDialect == null
+				? GridDialects.getDelegateOrNull( gridDialect, BatchOperationsDelegator.class )
+				: null;
 		this.canGridDialectDoMultiget = GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
 
 		if ( factory.getIdentifierGenerator( getEntityName() ) instanceof OgmIdentityGenerator && identityColumnAwareGridDialect == null ) {
@@ -332,6 +342,12 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 		}
 		gridVersionType = typeTranslator.getType( getVersionType() );
 		gridIdentifierType = typeTranslator.getType( getIdentifierType() );
+		String[][] propertyColumnNames = new String[length][];
+		for ( int index = 0; index < length; index++ ) {
+			propertyColumnNames[index] = getPropertyColumnNames( index );
+		}
+		hydrator = new EntityHydrator( gridPropertyTypes, propertyColumnNames, getPropertySelectable(), getPropertyLaziness() );
+		dehydrator = new EntityDehydrator( gridPropertyTypes, propertyColumnNames, getPropertyColumnInsertable() );
 		jpaEntityName = persistentClass.getJpaEntityName();
 		entityKeyMetadata = new DefaultEntityKeyMetadata( getTableName(), getIdentifierColumnNames() );
 		duplicateInsertPreventionStrategy = gridDialect.getDuplicateInsertPreventionStrategy( entityKeyMetadata );
@@ -510,6 +526,28 @@ else if ( propertyType.isComponentType() ) {
 		return embeddedCollections;
 	}
 
+	/**
+	 * Returns the names of those columns of {@link #getEmbeddedCollectionColumns()} which represent a lazily loaded
+	 * collection of this entity.
+	 */
+	private Set<String> getLazyEmbeddedCollectionColumns() {
+		Set<String> lazyCollections = new HashSet<>();
+
+		for ( String property : getPropertyNames() ) {
+			Type propertyType = getPropertyType( property );
+
+			if ( propertyType.isCollectionType() ) {
+				OgmCollectionPersister collectionPersister = (OgmCollectionPersister) ( (CollectionType) propertyType ).getAssociatedJoinable( getFactory() );
+
+				if ( collectionPersister.isLazy() && gridDialect.isStoredInEntityStructure( collectionPersister.getAssociationKeyMetadata(), collectionPersister.getAssociationTypeContext( property ) ) ) {
+					lazyCollections.add( property );
+				}
+			}
+		}
+
+		return lazyCollections;
+	}
+
 	private void collectEmbeddedCollectionColumns(ComponentType componentType, String dotName, List<String> embeddedCollections) {
 		for ( String propertyName : componentType.getPropertyNames() ) {
 			Type type = componentType.getSubtypes()[componentType.getPropertyIndex( propertyName )];
@@ -615,6 +653,7 @@ private TupleTypeContextImpl createTupleTypeContext() {
 		return new TupleTypeContextImpl(
 				selectableColumnNames,
 				polymorphicEntityColumns,
+				getLazyEmbeddedCollectionColumns(),
 				associatedEntityKeyMetadata,
 				roles,
 				optionsService.context().getEntityOptions( getMappedClass() ),
@@ -657,12 +696,11 @@ public Object[] getDatabaseSnapshot(Serializable id, SharedSessionContractImplem
 			return null;
 		}
 		//otherwise return the "hydrated" state (ie. associations are not resolved)
-		GridType[] types = gridPropertyTypes;
-		Object[] values = new Object[types.length];
+		Object[] values = new Object[gridPropertyTypes.length];
 		boolean[] includeProperty = getPropertyUpdateability();
-		for ( int i = 0; i < types.length; i++ ) {
+		for ( int i = 0; i < values.length; i++ ) {
 			if ( includeProperty[i] ) {
-				values[i] = types[i].hydrate( resultset, getPropertyAliases( "", i ), session, null ); //null owner ok??
+				values[i] = hydrator.hydrate( resultset, i, session, null ); //null owner ok??
 			}
 		}
 		return values;
@@ -1011,85 +1049,9 @@ public Object[] hydrate(
 			log.trace( "Hydrating entity: " + MessageHelper.infoString( this, id, getFactory() ) );
 		}
 
-		final OgmEntityPersister rootPersister = (OgmEntityPersister) rootLoadable;
-
-
-		final boolean hasDeferred = rootPersister.hasSequentialSelect();
-		boolean sequentialSelectEmpty = false;
-		if ( hasDeferred ) {
-			//note: today we don't have sequential select in OGM
-			//check AbstractEntityPersister#hydrate for the detail
-		}
-
-		final String[] propNames = getPropertyNames();
-		final Type[] types = getPropertyTypes();
-		final Object[] values = new Object[types.length];
-		final boolean[] laziness = getPropertyLaziness();
-		final String[] propSubclassNames = getSubclassPropertySubclassNameClosure();
-		final boolean[] propertySelectable = getPropertySelectable();
-		for ( int i = 0; i < types.length; i++ ) {
-			values[i] = hydrateValue(
-					resultset,
-					session,
-					object,
-					i,
-					propertySelectable,
-					allProperties,
-					laziness,
-					hasDeferred,
-					rootPersister,
-					propNames,
-					propSubclassNames,
-					sequentialSelectEmpty );
-		}
-		return values;
-	}
-
-	private Object hydrateValue(
-			Tuple resultset,
-			SharedSessionContractImplementor session,
-			Object object,
-			int index,
-			boolean[] propertySelectable,
-			boolean allProperties,
-			boolean[] laziness,
-			boolean hasDeferred,
-			OgmEntityPersister rootPersister,
-			String[] propNames,
-			String[] propSubclassNames,
-			boolean sequentialSelectEmpty
-			) {
-		Object value;
-		if ( !propertySelectable[index] ) {
-			value = PropertyAccessStrategyBackRefImpl.UNKNOWN;
-		}
-		else if ( allProperties || !laziness[index] ) {
-			//decide which ResultSet to get the property value from:
-			final boolean propertyIsDeferred = hasDeferred &&
-					rootPersister.isSubclassPropertyDeferred( propNames[index], propSubclassNames[index] );
-			if ( propertyIsDeferred && sequentialSelectEmpty ) {
-				value = null;
-			}
-			else {
-				//FIXME We don't handle deferred property yet
-				//final ResultSet propertyResultSet = propertyIsDeferred ? sequentialResultSet : rs;
-				GridType[] gridTypes = gridPropertyTypes;
-				final String[] cols;
-				if ( propertyIsDeferred ) {
-					cols = getPropertyAliases( "", index );
-				}
-				else {
-					//TODO What to do?
-					//: suffixedPropertyColumns[i];
-					cols = getPropertyAliases( "", index );
-				}
-				value = gridTypes[index].hydrate( resultset, cols, session, object ); //null owner ok??
-			}
-		}
-		else {
-			value = LazyPropertyInitializer.UNFETCHED_PROPERTY;
-		}
-		return value;
+		//note: today we don't have sequential select in OGM
+		//check AbstractEntityPersister#hydrate for the detail
+		return hydrator.hydrate( resultset, allProperties, session, object );
 	}
 
 	@Override
@@ -1250,7 +1212,10 @@ tupleInDatastore, getPropertyColumnNames( i ), session, object
 					Tuple oldVersionTuple = new Tuple();
 					oldVersionTuple.put( getVersionColumnName(), oldVersion );
 
-					boolean success = optimisticLockingAwareGridDialect.updateTupleWithOptimisticLock( key, oldVersionTuple, resultset, getTupleContext( session ) );
+					// The version is checked when the batch is executed if the update can be queued
+					boolean queued = batchOperationsDelegator != null && batchOperationsDelegator.queueUpdateTupleWithOptimisticLock(
+							key, oldVersionTuple, resultset, getTupleContext( session ), () -> raiseStaleObjectStateException( id ) );
+					boolean success = queued || optimisticLockingAwareGridDialect.updateTupleWithOptimisticLock( key, oldVersionTuple, resultset, getTupleContext( session ) );
 
 					// If there is an error handler registered, pass the applied/failed operation to it as needed
 					if ( success ) {
@@ -1328,19 +1293,8 @@ private void dehydrate(
 			log.trace( "Dehydrating entity: " + MessageHelper.infoString( this, id, getFactory() ) );
 		}
 
-		for ( int propertyIndex = 0; propertyIndex < getEntityMetamodel().getPropertySpan(); propertyIndex++ ) {
-			if ( isPropertyOfTable( propertyIndex, tableIndex ) ) {
-				if ( includeProperties[propertyIndex] ) {
-					getGridPropertyTypes()[propertyIndex].nullSafeSet(
-							tuple,
-							fields[propertyIndex],
-							getPropertyColumnNames( propertyIndex ),
-							getPropertyColumnInsertable()[propertyIndex],
-							session
-					);
-				}
-			}
-		}
+		// all the properties are part of the single table of the entity, see #isPropertyOfTable()
+		dehydrator.dehydrate( tuple, fields, includeProperties, session );
 	}
 
 	/**
@@ -1552,7 +1506,10 @@ public void delete(Serializable id, Object version, Object object, SharedSession
 				Tuple versionTuple = new Tuple();
 				versionTuple.put( getVersionColumnName(), version );
 
-				boolean success = optimisticLockingAwareGridDialect.removeTupleWithOptimisticLock( key, versionTuple, getTupleContext( session ) );
+				// The version is checked when the batch is executed if the removal can be queued
+				boolean queued = batchOperationsDelegator != null && batchOperationsDelegator.queueRemoveTupleWithOptimisticLock(
+						key, versionTuple, getTupleContext( session ), () -> raiseStaleObjectStateException( id ) );
+				boolean success = queued || optimisticLockingAwareGridDialect.removeTupleWithOptimisticLock( key, versionTuple, getTupleContext( session ) );
 
 				// If there is an error handler registered, pass the applied/failed operation to it as needed
 				if ( success ) {
@@ -1776,6 +1733,14 @@ protected GridType[] getGridPropertyTypes() {
 		return gridPropertyTypes;
 	}
 
+	public EntityHydrator getHydrator() {
+		return hydrator;
+	}
+
+	public EntityDehydrator getDehydrator() {
+		return dehydrator;
+	}
+
 	@Override
 	public boolean isBatchLoadable() {
 		return batchSize > 1;
@@ -1889,7 +1854,7 @@ private void processGeneratedProperties(
 			propertyIndex++;
 			final ValueGeneration valueGeneration = attribute.getValueGenerationStrategy();
 			if ( isReadRequired( valueGeneration, matchTiming ) ) {
-				Object hydratedState = gridPropertyTypes[propertyIndex].hydrate( tuple, getPropertyAliases( "", propertyIndex ), session, entity );
+				Object hydratedState = hydrator.hydrate( tuple, propertyIndex, session, entity );
 				state[propertyIndex] = gridPropertyTypes[propertyIndex].resolve( hydratedState, session, entity );
 				setPropertyValue( entity, propertyIndex, state[propertyIndex] );
 			}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.ogm.util.Experimental;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Keyset pagination (also known as seek pagination) for JP-QL queries.
+ * <p>
+ * With {@code setFirstResult()}, the datastore reads and discards all the results of the previous pages, so the cost of
+ * a page grows with its position. With keyset pagination, the query is instead restricted to the results following the
+ * last result of the previous page, by a range condition on the properties of the order by clause:
+ *
+ * <pre>
+ * List&lt;Poem&gt; nextPage = session.createQuery( "from Poem p order by p.year, p.id", Poem.class )
+ *     .addQueryHint( KeysetPagination.after( lastPoem.getYear(), lastPoem.getId() ) )
+ *     .setMaxResults( 20 )
+ *     .list();
+ * </pre>
+ *
+ * With JPA, the hint is added to the query unwrapped as {@code org.hibernate.query.Query}.
+ * <p>
+ * The keyset must have one value per property of the order by clause, in the same order. The order by clause should
+ * define a total order, e.g. by ending with the id, otherwise results sharing the sort key of the last result of a page
+ * are skipped. Results with {@code null} values for the sort properties are not returned.
+ * <p>
+ * The values are bound to the query as parameters, typed after the corresponding properties, so they must be given as
+ * instances of the property types. They are carried by the hint in serialized form and therefore must be
+ * {@link Serializable}.
+ */
+@Experimental("This API is still under active development")
+public final class KeysetPagination {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final String HINT_PREFIX = "ogm-keyset:";
+
+	private KeysetPagination() {
+	}
+
+	/**
+	 * Creates the query hint restricting a query to the results following the given sort key.
+	 *
+	 * @param lastSortKey the values of the properties of the order by clause for the last result of the previous page
+	 * @return the hint to add to the query with {@code org.hibernate.query.Query#addQueryHint(String)}
+	 */
+	public static String after(Object... lastSortKey) {
+		if ( lastSortKey == null || lastSortKey.length == 0 ) {
+			throw new IllegalArgumentException( "The keyset must contain at least one value" );
+		}
+
+		ArrayList<Serializable> values = new ArrayList<>( lastSortKey.length );
+		for ( Object value : lastSortKey ) {
+			if ( value == null ) {
+				throw new IllegalArgumentException( "The values of the keyset cannot be null" );
+			}
+			if ( !( value instanceof Serializable ) ) {
+				throw new IllegalArgumentException( "The values of the keyset must be serializable: " + value );
+			}
+			values.add( (Serializable) value );
+		}
+		return HINT_PREFIX + Base64.getEncoder().encodeToString( SerializationHelper.serialize( values ) );
+	}
+
+	/**
+	 * Returns the values of the keyset given with the query hints, if any.
+	 *
+	 * @param queryHints the hints of a query, may be {@code null}
+	 * @return the values of the keyset or {@code null} if the query is not restricted by a keyset
+	 */
+	public static List<Object> getLastSortKey(List<String> queryHints) {
+		if ( queryHints == null ) {
+			return null;
+		}
+
+		List<Object> lastSortKey = null;
+		for ( String hint : queryHints ) {
+			if ( hint.startsWith( HINT_PREFIX ) ) {
+				lastSortKey = parse( hint );
+			}
+		}
+		return lastSortKey;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> parse(String hint) {
+		List<Object> values;
+		try {
+			byte[] bytes = Base64.getDecoder().decode( hint.substring( HINT_PREFIX.length() ) );
+			values = (List<Object>) SerializationHelper.deserialize( bytes );
+		}
+		catch (RuntimeException e) {
+			throw log.invalidKeysetHint( hint );
+		}
+
+		if ( values == null || values.isEmpty() ) {
+			throw log.invalidKeysetHint( hint );
+		}
+		return Collections.unmodifiableList( values );
+	}
+}
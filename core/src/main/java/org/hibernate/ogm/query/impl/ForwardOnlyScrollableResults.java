@@ -0,0 +1,261 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * Scrollable results over the tuples returned by a query, each row being loaded when the results are scrolled to it.
+ * <p>
+ * Only scrolling forward is supported, the tuples being read once from the datastore.
+ */
+public class ForwardOnlyScrollableResults implements ScrollableResultsImplementor {
+
+	private final ClosableIterator<Tuple> tuples;
+	private final Type[] types;
+	private final SharedSessionContractImplementor session;
+	private final Function<Tuple, Object[]> rowLoader;
+
+	private Object[] currentRow;
+	private int rowNumber = -1;
+	private boolean closed;
+
+	/**
+	 * @param tuples the tuples returned by the query
+	 * @param types the types of the columns of the rows
+	 * @param session the session loading the rows
+	 * @param rowLoader converts a tuple into a row
+	 */
+	public ForwardOnlyScrollableResults(ClosableIterator<Tuple> tuples, Type[] types, SharedSessionContractImplementor session,
+			Function<Tuple, Object[]> rowLoader) {
+		this.tuples = tuples;
+		this.types = types;
+		this.session = session;
+		this.rowLoader = rowLoader;
+	}
+
+	@Override
+	public boolean next() {
+		if ( closed || !tuples.hasNext() ) {
+			currentRow = null;
+			return false;
+		}
+
+		currentRow = rowLoader.apply( tuples.next() );
+		rowNumber++;
+		// e.g. a stateless session releases the entities loaded for the row
+		session.afterScrollOperation();
+		return true;
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+		}
+
+		boolean more = currentRow != null;
+		for ( int i = 0; i < positions; i++ ) {
+			more = next();
+			if ( !more ) {
+				break;
+			}
+		}
+		return more;
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			currentRow = null;
+			tuples.close();
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public int getNumberOfTypes() {
+		return types.length;
+	}
+
+	@Override
+	public boolean previous() {
+		throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+	}
+
+	@Override
+	public boolean last() {
+		throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+	}
+
+	@Override
+	public boolean first() {
+		throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+	}
+
+	@Override
+	public void afterLast() {
+		throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		throw new UnsupportedOperationException( "Hibernate OGM only supports scrolling forward" );
+	}
+
+	@Override
+	public boolean isFirst() {
+		return currentRow != null && rowNumber == 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		return currentRow != null && !tuples.hasNext();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public Object[] get() {
+		if ( currentRow == null ) {
+			throw new IllegalStateException( "The results are not positioned on a row" );
+		}
+		return currentRow;
+	}
+
+	@Override
+	public Object get(int col) {
+		return get()[col];
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types[i];
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
@@ -10,6 +10,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -31,6 +32,7 @@
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.type.Type;
 
 /**
@@ -83,6 +85,28 @@ protected List<?> list(SharedSessionContractImplementor session, org.hibernate.e
 		}
 	}
 
+	/**
+	 * Returns forward-only results loading each row when the results are scrolled to it, instead of loading all the
+	 * rows beforehand; {@link org.hibernate.query.Query#stream()} is based on it.
+	 */
+	@Override
+	public ScrollableResultsImplementor scroll(org.hibernate.engine.spi.QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		if ( hasScalars ) {
+			return new ForwardOnlyScrollableResults( tuples, queryReturnTypes, session, tuple -> row( session, tuple ) );
+		}
+		else {
+			TupleBasedEntityLoader loader = getLoader( session, queryReturnTypes[0].getReturnedClass() );
+			return new ForwardOnlyScrollableResults( tuples, queryReturnTypes, session, tuple -> new Object[] { entity( session, loader, tuple ) } );
+		}
+	}
+
+	private Object entity(SharedSessionContractImplementor session, TupleBasedEntityLoader loader, Tuple tuple) {
+		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
+		ogmLoadingContext.setTuples( Collections.singletonList( tuple ) );
+		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext ).get( 0 );
+	}
+
 	// At the moment we only support the case where one entity type is returned
 	private List<Object> listOfEntities(SharedSessionContractImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
@@ -103,15 +127,7 @@ private List<Tuple> getTuplesAsList(ClosableIterator<Tuple> tuples) {
 	private List<Object> listOfArrays(SharedSessionContractImplementor session, Iterator<Tuple> tuples) {
 		List<Object> results = new ArrayList<Object>();
 		while ( tuples.hasNext() ) {
-			Tuple tuple = tuples.next();
-			Object[] entry = new Object[queryReturnTypes.length];
-
-			int i = 0;
-			for ( Type type : queryReturnTypes ) {
-				GridType gridType = typeTranslator.getType( type );
-				entry[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
-				i++;
-			}
+			Object[] entry = row( session, tuples.next() );
 
 			if ( entry.length == 1 ) {
 				results.add( entry[0] );
@@ -124,6 +140,19 @@ private List<Object> listOfArrays(SharedSessionContractImplementor session, Iter
 		return results;
 	}
 
+	private Object[] row(SharedSessionContractImplementor session, Tuple tuple) {
+		Object[] entry = new Object[queryReturnTypes.length];
+
+		int i = 0;
+		for ( Type type : queryReturnTypes ) {
+			GridType gridType = typeTranslator.getType( type );
+			entry[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
+			i++;
+		}
+
+		return entry;
+	}
+
 	private TupleBasedEntityLoader getLoader(SharedSessionContractImplementor session, Class<?> entityClass) {
 		OgmEntityPersister persister = (OgmEntityPersister) ( session.getFactory() ).getMetamodel().entityPersister( entityClass.getName() );
 		TupleBasedEntityLoader loader = (TupleBasedEntityLoader) persister.getAppropriateLoader( LockOptions.READ, session );
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -26,7 +27,9 @@
 import org.hibernate.hql.internal.ast.HqlParser;
 import org.hibernate.hql.internal.ast.HqlSqlWalker;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl.JavaConstantConverter;
+import org.hibernate.hql.internal.ast.tree.QueryNode;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
+import org.hibernate.hql.internal.ast.tree.SqlNode;
 import org.hibernate.hql.internal.ast.util.NodeTraverser;
 import org.hibernate.hql.spi.QueryTranslator;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
@@ -34,6 +37,8 @@
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.KeysetPagination;
+import org.hibernate.ogm.query.parsing.impl.KeysetRestriction;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.query.spi.QueryParsingResult;
 import org.hibernate.ogm.type.spi.GridType;
@@ -54,7 +59,8 @@
  * Query conversion is done by invoking the dialect's query parser service. Results are loaded through OgmQueryLoader.
  * Depending on whether a store supports parameterized queries (Neo4j does, MongoDB doesn't) we either use one and the
  * same loader for a query executed several times with different parameter values or we create a new loader for each set
- * of parameter values.
+ * of parameter values. The values of a keyset (see {@link KeysetPagination}) are bound as additional named parameters,
+ * typed after the properties of the order by clause, so restricted queries are cached like the other queries.
  *
  * @author Gunnar Morling
  */
@@ -74,12 +80,22 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	 */
 	private OgmQueryLoader loader;
 
+	/**
+	 * The query loader for the query restricted by a keyset in case the dialect supports parameterized queries.
+	 */
+	private volatile OgmQueryLoader keysetLoader;
+
 	/**
 	 * Needed to create query loaders. This won't be required anymore once {@link OgmQueryLoader} doesn't depend that
 	 * much on {@link QueryLoader}.
 	 */
 	private SelectClause selectClause;
 
+	/**
+	 * The types of the properties of the order by clause, needed to bind the values of a keyset.
+	 */
+	private List<Type> sortKeyTypes;
+
 	/**
 	 * When the query is only targeting one type, we register the EntityMetadataInformation for this type.
 	 */
@@ -111,7 +127,9 @@ public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserS
 	protected void doCompile(Map replacements, boolean shallow) throws QueryException, MappingException {
 		try {
 			// Unfortunately, we cannot obtain the select clause from the delegate, so we need to parse it again
-			selectClause = getSelectClause( replacements, null );
+			HqlSqlWalker walker = analyze( replacements, null );
+			selectClause = walker.getSelectClause();
+			sortKeyTypes = getSortKeyTypes( walker );
 			Type[] queryReturnTypes = selectClause.getQueryReturnTypes();
 			singleEntityMetadataInformation = determineSingleEntityInformation( queryReturnTypes );
 		}
@@ -120,19 +138,24 @@ protected void doCompile(Map replacements, boolean shallow) throws QueryExceptio
 		}
 
 		if ( queryParser.supportsParameters() ) {
-			loader = getLoader( null );
+			loader = getLoader( null, 0 );
 		}
 	}
 
 	@Override
 	public List<?> list(SharedSessionContractImplementor session, QueryParameters queryParameters) throws HibernateException {
-		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		List<Object> lastSortKey = KeysetPagination.getLastSortKey( queryParameters.getQueryHints() );
+		if ( lastSortKey != null ) {
+			QueryParameters keysetParameters = withKeyset( queryParameters, lastSortKey );
+			return getKeysetLoader( keysetParameters ).list( session, keysetParameters );
+		}
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters, 0 );
 		return loaderToUse.list( session, queryParameters );
 	}
 
-	private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
+	private <T> OgmQueryLoader getLoader(QueryParameters queryParameters, int keysetSize) {
 		QueryParsingResult queryParsingResult = queryParameters != null
-				? getQuery( queryParameters )
+				? getQuery( queryParameters, keysetSize )
 				: queryParser.parseQuery( sessionFactory, query );
 
 		BackendQuery<T> query = new BackendQuery<T>( (T) queryParsingResult.getQueryObject(), singleEntityMetadataInformation );
@@ -140,6 +163,16 @@ private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
 		return new OgmQueryLoader( delegate, sessionFactory, selectClause, query, queryParsingResult.getColumnNames() );
 	}
 
+	private OgmQueryLoader getKeysetLoader(QueryParameters keysetParameters) {
+		if ( !queryParser.supportsParameters() ) {
+			return getLoader( keysetParameters, sortKeyTypes.size() );
+		}
+		if ( keysetLoader == null ) {
+			keysetLoader = getLoader( keysetParameters, sortKeyTypes.size() );
+		}
+		return keysetLoader;
+	}
+
 	/**
 	 * Determine the relevant information for the entity type selected by this query or {@code null} in case this
 	 * query does not select exactly one entity type (e.g. in case of scalar values or joins (if supported in future revisions)).
@@ -162,16 +195,37 @@ private EntityMetadataInformation determineSingleEntityInformation(Type[] queryR
 		return metadataInformation;
 	}
 
-	private QueryParsingResult getQuery(QueryParameters queryParameters) {
-		CacheKey cacheKey = new CacheKey( queryParameters.getNamedParameters() );
+	/**
+	 * Returns a copy of the given parameters with the values of the keyset as additional named parameters, typed after
+	 * the corresponding properties of the order by clause.
+	 */
+	private QueryParameters withKeyset(QueryParameters queryParameters, List<Object> lastSortKey) {
+		if ( lastSortKey.size() != sortKeyTypes.size() ) {
+			throw log.keysetDoesNotMatchSortKey( lastSortKey.size(), sortKeyTypes.size() );
+		}
+
+		Map<String, TypedValue> namedParameters = new HashMap<>( queryParameters.getNamedParameters() );
+		for ( int i = 0; i < lastSortKey.size(); i++ ) {
+			namedParameters.put( KeysetRestriction.parameterName( i ), new TypedValue( sortKeyTypes.get( i ), lastSortKey.get( i ) ) );
+		}
+
+		QueryParameters keysetParameters = queryParameters.createCopyUsing( queryParameters.getRowSelection() );
+		keysetParameters.setNamedParameters( namedParameters );
+		return keysetParameters;
+	}
+
+	private QueryParsingResult getQuery(QueryParameters queryParameters, int keysetSize) {
+		// Queries with parameters do not depend on the parameter values
+		Map<String, TypedValue> namedParameters = queryParser.supportsParameters()
+				? Collections.<String, TypedValue>emptyMap()
+				: queryParameters.getNamedParameters();
+		CacheKey cacheKey = new CacheKey( namedParameters, keysetSize );
 		QueryParsingResult parsingResult = queryCache.get( cacheKey );
 
 		if ( parsingResult == null ) {
-			parsingResult = queryParser.parseQuery(
-					sessionFactory,
-					query,
-					getNamedParameterValuesConvertedByGridType( queryParameters )
-			);
+			parsingResult = keysetSize == 0
+					? queryParser.parseQuery( sessionFactory, query, getNamedParameterValuesConvertedByGridType( queryParameters ) )
+					: queryParser.parseQuery( sessionFactory, query, getNamedParameterValuesConvertedByGridType( queryParameters ), keysetSize );
 
 			QueryParsingResult cached = queryCache.putIfAbsent( cacheKey, parsingResult );
 			if ( cached != null ) {
@@ -202,7 +256,13 @@ public Iterator<?> iterate(QueryParameters queryParameters, EventSource session)
 
 	@Override
 	public ScrollableResultsImplementor scroll(QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		List<Object> lastSortKey = KeysetPagination.getLastSortKey( queryParameters.getQueryHints() );
+		if ( lastSortKey != null ) {
+			QueryParameters keysetParameters = withKeyset( queryParameters, lastSortKey );
+			return getKeysetLoader( keysetParameters ).scroll( keysetParameters, session );
+		}
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters, 0 );
+		return loaderToUse.scroll( queryParameters, session );
 	}
 
 	@Override
@@ -210,7 +270,7 @@ public int executeUpdate(QueryParameters queryParameters, SharedSessionContractI
 		throw new UnsupportedOperationException( "Not yet implemented" );
 	}
 
-	private SelectClause getSelectClause(Map<?, ?> replacements, String collectionRole) throws Exception {
+	private HqlSqlWalker analyze(Map<?, ?> replacements, String collectionRole) throws Exception {
 		if ( replacements == null ) {
 			replacements = Collections.emptyMap();
 		}
@@ -219,9 +279,21 @@ private SelectClause getSelectClause(Map<?, ?> replacements, String collectionRo
 		final HqlParser parser = parse( true );
 
 		// PHASE 2 : Analyze the HQL AST, and produce an SQL AST.
-		final HqlSqlWalker w = analyze( parser, replacements, collectionRole );
+		return analyze( parser, replacements, collectionRole );
+	}
 
-		return w.getSelectClause();
+	private List<Type> getSortKeyTypes(HqlSqlWalker walker) {
+		List<Type> types = new ArrayList<>();
+		if ( walker.getAST() instanceof QueryNode && ( (QueryNode) walker.getAST() ).hasOrderByClause() ) {
+			// The children are the sort expressions, each followed by its optional direction
+			AST node = ( (QueryNode) walker.getAST() ).getOrderByClause().getFirstChild();
+			for ( ; node != null; node = node.getNextSibling() ) {
+				if ( node instanceof SqlNode && ( (SqlNode) node ).getDataType() != null ) {
+					types.add( ( (SqlNode) node ).getDataType() );
+				}
+			}
+		}
+		return types;
 	}
 
 	private HqlSqlWalker analyze(HqlParser parser, Map<?, ?> tokenReplacements, String collectionRole) throws QueryException, RecognitionException {
@@ -260,11 +332,13 @@ private HqlParser parse(boolean filter) throws TokenStreamException, Recognition
 	private static class CacheKey {
 
 		private final Map<String, TypedValue> parameters;
+		private final int keysetSize;
 		private final int hashCode;
 
-		public CacheKey(Map<String, TypedValue> parameters) {
+		public CacheKey(Map<String, TypedValue> parameters, int keysetSize) {
 			this.parameters = Collections.unmodifiableMap( parameters );
-			this.hashCode = parameters.hashCode();
+			this.keysetSize = keysetSize;
+			this.hashCode = 31 * parameters.hashCode() + keysetSize;
 		}
 
 		@Override
@@ -292,7 +366,7 @@ public boolean equals(Object obj) {
 			else if ( !parameters.equals( other.parameters ) ) {
 				return false;
 			}
-			return true;
+			return keysetSize == other.keysetSize;
 		}
 	}
 }
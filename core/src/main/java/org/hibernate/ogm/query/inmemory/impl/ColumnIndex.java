@@ -0,0 +1,34 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * An index of the entities of a table by the value of one of their columns, used to find the candidates of a
+ * {@link QueryCondition} without scanning the table.
+ */
+public interface ColumnIndex {
+
+	/**
+	 * @param value the value to look up
+	 * @return the keys of the entities having the given value
+	 */
+	Set<EntityKey> get(Object value);
+
+	/**
+	 * @param lower the lower bound, {@code null} if unbounded
+	 * @param lowerInclusive whether the lower bound is included
+	 * @param upper the upper bound, {@code null} if unbounded
+	 * @param upperInclusive whether the upper bound is included
+	 * @return the keys of the entities having a value within the given bounds or {@code null} if this index does not
+	 * support range lookups
+	 */
+	Set<EntityKey> range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive);
+}
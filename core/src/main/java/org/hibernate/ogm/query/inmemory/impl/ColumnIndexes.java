@@ -0,0 +1,19 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+/**
+ * Gives access to the indexes defined on the columns of a table.
+ */
+public interface ColumnIndexes {
+
+	/**
+	 * @param column the name of a column
+	 * @return the index on the given column or {@code null} if the column is not indexed
+	 */
+	ColumnIndex getIndex(String column);
+}
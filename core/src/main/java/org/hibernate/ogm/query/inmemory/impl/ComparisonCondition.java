@@ -0,0 +1,106 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Compares the value of a column to a literal or to a named parameter.
+ */
+public class ComparisonCondition extends QueryCondition {
+
+	/**
+	 * The comparison operators.
+	 */
+	public enum Operator {
+		LESS( "<" ),
+		LESS_OR_EQUAL( "<=" ),
+		EQUALS( "=" ),
+		GREATER_OR_EQUAL( ">=" ),
+		GREATER( ">" );
+
+		private final String symbol;
+
+		Operator(String symbol) {
+			this.symbol = symbol;
+		}
+
+		public String getSymbol() {
+			return symbol;
+		}
+	}
+
+	private final String column;
+	private final Operator operator;
+	private final Object value;
+
+	public ComparisonCondition(String column, Operator operator, Object value) {
+		this.column = column;
+		this.operator = operator;
+		this.value = value;
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		Object columnValue = entry.get( column );
+		Object operand = QueryValues.resolve( value, parameters );
+
+		if ( operator == Operator.EQUALS ) {
+			return QueryValues.equal( columnValue, operand );
+		}
+
+		Integer comparison = QueryValues.compare( columnValue, operand );
+		if ( comparison == null ) {
+			return false;
+		}
+		switch ( operator ) {
+			case LESS:
+				return comparison < 0;
+			case LESS_OR_EQUAL:
+				return comparison <= 0;
+			case GREATER_OR_EQUAL:
+				return comparison >= 0;
+			case GREATER:
+				return comparison > 0;
+			default:
+				throw new UnsupportedOperationException( "Unsupported operator: " + operator );
+		}
+	}
+
+	@Override
+	public Set<EntityKey> findCandidates(ColumnIndexes indexes, Map<String, Object> parameters) {
+		ColumnIndex index = indexes.getIndex( column );
+		if ( index == null ) {
+			return null;
+		}
+
+		Object operand = QueryValues.resolve( value, parameters );
+		switch ( operator ) {
+			case EQUALS:
+				return index.get( operand );
+			case LESS:
+				return index.range( null, false, operand, false );
+			case LESS_OR_EQUAL:
+				return index.range( null, false, operand, true );
+			case GREATER_OR_EQUAL:
+				return index.range( operand, true, null, false );
+			case GREATER:
+				return index.range( operand, false, null, false );
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		query.append( column ).append( ' ' ).append( operator.getSymbol() ).append( ' ' );
+		QueryValues.appendValue( query, value );
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Checks whether the value of a column is one of the given values.
+ * <p>
+ * A named parameter of the list can be bound to a collection of values.
+ */
+public class InCondition extends QueryCondition {
+
+	private final String column;
+	private final Object[] values;
+
+	public InCondition(String column, Object[] values) {
+		this.column = column;
+		this.values = values;
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		Object columnValue = entry.get( column );
+		for ( Object value : values ) {
+			Object operand = QueryValues.resolve( value, parameters );
+			if ( operand instanceof Collection ) {
+				for ( Object element : (Collection<?>) operand ) {
+					if ( QueryValues.equal( columnValue, element ) ) {
+						return true;
+					}
+				}
+			}
+			else if ( QueryValues.equal( columnValue, operand ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Set<EntityKey> findCandidates(ColumnIndexes indexes, Map<String, Object> parameters) {
+		ColumnIndex index = indexes.getIndex( column );
+		if ( index == null ) {
+			return null;
+		}
+
+		Set<EntityKey> candidates = new HashSet<>();
+		for ( Object value : values ) {
+			Object operand = QueryValues.resolve( value, parameters );
+			Collection<?> elements = operand instanceof Collection ? (Collection<?>) operand : Collections.singleton( operand );
+			for ( Object element : elements ) {
+				candidates.addAll( index.get( element ) );
+			}
+		}
+		return candidates;
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		query.append( column ).append( " in (" );
+		QueryValues.appendValues( query, Arrays.asList( values ) );
+		query.append( ')' );
+	}
+}
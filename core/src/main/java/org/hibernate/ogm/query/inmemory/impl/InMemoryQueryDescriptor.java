@@ -0,0 +1,68 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Describes a query evaluated in memory against the entities of a datastore: the queried table, the where clause, the
+ * projections and the order by clause.
+ */
+public class InMemoryQueryDescriptor implements Serializable {
+
+	private final String table;
+	private final QueryCondition condition;
+	private final String[] projections;
+	private final List<SortField> sortFields;
+
+	public InMemoryQueryDescriptor(String table, QueryCondition condition, String[] projections, List<SortField> sortFields) {
+		this.table = table;
+		this.condition = condition;
+		this.projections = projections;
+		this.sortFields = sortFields;
+	}
+
+	public String getTable() {
+		return table;
+	}
+
+	/**
+	 * @return the where clause of the query or {@code null} if all the entities of the table are selected
+	 */
+	public QueryCondition getCondition() {
+		return condition;
+	}
+
+	/**
+	 * @return the selected columns or {@code null} if the whole entities are selected
+	 */
+	public String[] getProjections() {
+		return projections;
+	}
+
+	public List<SortField> getSortFields() {
+		return sortFields;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder query = new StringBuilder();
+		if ( projections != null ) {
+			query.append( "select " ).append( String.join( ", ", projections ) ).append( ' ' );
+		}
+		query.append( "from " ).append( table );
+		if ( condition != null ) {
+			query.append( " where " );
+			condition.appendTo( query );
+		}
+		for ( int i = 0; i < sortFields.size(); i++ ) {
+			query.append( i == 0 ? " order by " : ", " ).append( sortFields.get( i ) );
+		}
+		return query.toString();
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+import org.hibernate.ogm.util.impl.CollectionHelper;
+
+/**
+ * Executes queries evaluated in memory against the entities of a datastore.
+ * <p>
+ * Datastores access their entries in {@link #getMatchingEntries(BackendQuery, HashMap, Comparator, int)}, which returns
+ * the entries satisfying the where clause. The order by clause, the row selection and the projections are then
+ * applied to them.
+ */
+public abstract class InMemoryQueryHandler {
+
+	/**
+	 * Returned by {@link #getMaxEntries(RowSelection)} when all the matching entries are needed.
+	 */
+	protected static final int ALL_ENTRIES = -1;
+
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<InMemoryQueryDescriptor> backendQuery, QueryParameters queryParameters) {
+		InMemoryQueryDescriptor queryDescriptor = backendQuery.getQuery();
+		List<SortField> sortFields = queryDescriptor.getSortFields();
+		Comparator<Map<String, Object>> order = sortFields == null || sortFields.isEmpty() ? null : new SortFieldsComparator( sortFields );
+		RowSelection rowSelection = queryParameters.getRowSelection();
+
+		List<Map<String, Object>> matches = getMatchingEntries( backendQuery, getParameterValues( queryParameters ), order, getMaxEntries( rowSelection ) );
+		if ( order != null ) {
+			matches.sort( order );
+		}
+		List<Map<String, Object>> selection = applyRowSelection( matches, rowSelection );
+		return CollectionHelper.newClosableIterator( toTuples( selection, queryDescriptor.getProjections() ) );
+	}
+
+	/**
+	 * Returns the column values of the entries of the queried table satisfying the where clause.
+	 * <p>
+	 * The returned entries are sorted and paginated afterwards. Implementations may sort them beforehand and only
+	 * return the first {@code maxEntries} of them; if no order is given, any {@code maxEntries} matching entries can be
+	 * returned.
+	 *
+	 * @param backendQuery the query to execute
+	 * @param parameters the values of the named parameters of the query
+	 * @param order the order of the entries or {@code null} if the query has no order by clause
+	 * @param maxEntries the number of entries needed by the row selection or {@link #ALL_ENTRIES}
+	 * @return the matching entries, a modifiable list
+	 */
+	protected abstract List<Map<String, Object>> getMatchingEntries(BackendQuery<InMemoryQueryDescriptor> backendQuery, HashMap<String, Object> parameters,
+			Comparator<Map<String, Object>> order, int maxEntries);
+
+	/**
+	 * Creates the snapshot of a tuple returned by the query.
+	 *
+	 * @param entry an entry returned by {@link #getMatchingEntries(BackendQuery, HashMap, Comparator, int)}
+	 * @return the snapshot of the entry
+	 */
+	protected TupleSnapshot createSnapshot(Map<String, Object> entry) {
+		return new MapTupleSnapshot( entry );
+	}
+
+	private static HashMap<String, Object> getParameterValues(QueryParameters queryParameters) {
+		HashMap<String, Object> parameters = new HashMap<>();
+		for ( Map.Entry<String, TypedGridValue> parameter : queryParameters.getNamedParameters().entrySet() ) {
+			parameters.put( parameter.getKey(), parameter.getValue().getValue() );
+		}
+		return parameters;
+	}
+
+	private static int getMaxEntries(RowSelection rowSelection) {
+		if ( rowSelection == null || rowSelection.getMaxRows() == null ) {
+			return ALL_ENTRIES;
+		}
+		long maxEntries = ( rowSelection.getFirstRow() == null ? 0L : rowSelection.getFirstRow() ) + rowSelection.getMaxRows();
+		return maxEntries > Integer.MAX_VALUE ? ALL_ENTRIES : (int) maxEntries;
+	}
+
+	private static List<Map<String, Object>> applyRowSelection(List<Map<String, Object>> matches, RowSelection rowSelection) {
+		if ( rowSelection == null ) {
+			return matches;
+		}
+
+		int firstRow = rowSelection.getFirstRow() == null ? 0 : Math.min( rowSelection.getFirstRow(), matches.size() );
+		int lastRow = rowSelection.getMaxRows() == null ? matches.size() : (int) Math.min( (long) firstRow + rowSelection.getMaxRows(), matches.size() );
+		return matches.subList( firstRow, lastRow );
+	}
+
+	private List<Tuple> toTuples(List<Map<String, Object>> matches, String[] projections) {
+		List<Tuple> tuples = new ArrayList<>( matches.size() );
+		for ( Map<String, Object> match : matches ) {
+			if ( projections == null ) {
+				tuples.add( new Tuple( createSnapshot( match ), SnapshotType.UPDATE ) );
+			}
+			else {
+				Map<String, Object> projection = new LinkedHashMap<>();
+				for ( String column : projections ) {
+					projection.put( column, match.get( column ) );
+				}
+				tuples.add( new Tuple( new MapTupleSnapshot( projection ), SnapshotType.UPDATE ) );
+			}
+		}
+		return tuples;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Map;
+
+/**
+ * Checks whether a column has no value.
+ */
+public class IsNullCondition extends QueryCondition {
+
+	private final String column;
+
+	public IsNullCondition(String column) {
+		this.column = column;
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		return entry.get( column ) == null;
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		query.append( column ).append( " is null" );
+	}
+}
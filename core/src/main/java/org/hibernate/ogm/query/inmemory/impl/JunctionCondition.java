@@ -0,0 +1,87 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * A conjunction or a disjunction of conditions.
+ */
+public class JunctionCondition extends QueryCondition {
+
+	private final boolean conjunction;
+	private final List<QueryCondition> children;
+
+	private JunctionCondition(boolean conjunction, List<QueryCondition> children) {
+		this.conjunction = conjunction;
+		this.children = children;
+	}
+
+	public static JunctionCondition and(List<QueryCondition> children) {
+		return new JunctionCondition( true, children );
+	}
+
+	public static JunctionCondition or(List<QueryCondition> children) {
+		return new JunctionCondition( false, children );
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		// a conjunction is false as soon as one of its children is false, a disjunction is true as soon as one is true
+		for ( QueryCondition child : children ) {
+			if ( child.evaluate( entry, parameters ) != conjunction ) {
+				return !conjunction;
+			}
+		}
+		return conjunction;
+	}
+
+	/**
+	 * The candidates of a conjunction are the smallest set of candidates of its children, those of a disjunction are
+	 * the union of the candidates of its children, provided that an index applies to all of them.
+	 */
+	@Override
+	public Set<EntityKey> findCandidates(ColumnIndexes indexes, Map<String, Object> parameters) {
+		Set<EntityKey> candidates = null;
+		for ( QueryCondition child : children ) {
+			Set<EntityKey> childCandidates = child.findCandidates( indexes, parameters );
+			if ( conjunction ) {
+				if ( childCandidates != null && ( candidates == null || childCandidates.size() < candidates.size() ) ) {
+					candidates = childCandidates;
+				}
+			}
+			else if ( childCandidates == null ) {
+				return null;
+			}
+			else {
+				if ( candidates == null ) {
+					candidates = new HashSet<>();
+				}
+				candidates.addAll( childCandidates );
+			}
+		}
+		return candidates;
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		String operator = conjunction ? " and " : " or ";
+		for ( int i = 0; i < children.size(); i++ ) {
+			if ( i > 0 ) {
+				query.append( operator );
+			}
+			query.append( '(' );
+			children.get( i ).appendTo( query );
+			query.append( ')' );
+		}
+	}
+}
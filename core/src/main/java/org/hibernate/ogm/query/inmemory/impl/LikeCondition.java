@@ -0,0 +1,84 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Matches the value of a text column against a pattern, where {@code %} stands for any sequence of characters and
+ * {@code _} for any single character.
+ */
+public class LikeCondition extends QueryCondition {
+
+	private final String column;
+	private final String pattern;
+	private final Character escapeCharacter;
+
+	// compiled once per node evaluating the condition
+	private transient Pattern regex;
+
+	public LikeCondition(String column, String pattern, Character escapeCharacter) {
+		this.column = column;
+		this.pattern = pattern;
+		this.escapeCharacter = escapeCharacter;
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		Object columnValue = entry.get( column );
+		return columnValue != null && getRegex().matcher( columnValue.toString() ).matches();
+	}
+
+	private Pattern getRegex() {
+		if ( regex == null ) {
+			regex = toRegex( pattern, escapeCharacter );
+		}
+		return regex;
+	}
+
+	private static Pattern toRegex(String pattern, Character escapeCharacter) {
+		StringBuilder regex = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+		boolean escaped = false;
+		for ( char c : pattern.toCharArray() ) {
+			if ( escaped ) {
+				literal.append( c );
+				escaped = false;
+			}
+			else if ( escapeCharacter != null && c == escapeCharacter ) {
+				escaped = true;
+			}
+			else if ( c == '%' || c == '_' ) {
+				appendLiteral( regex, literal );
+				regex.append( c == '%' ? ".*" : "." );
+			}
+			else {
+				literal.append( c );
+			}
+		}
+		appendLiteral( regex, literal );
+		return Pattern.compile( regex.toString(), Pattern.DOTALL );
+	}
+
+	private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+		if ( literal.length() > 0 ) {
+			regex.append( Pattern.quote( literal.toString() ) );
+			literal.setLength( 0 );
+		}
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		query.append( column ).append( " like " );
+		QueryValues.appendValue( query, pattern );
+		if ( escapeCharacter != null ) {
+			query.append( " escape " );
+			QueryValues.appendValue( query, escapeCharacter );
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Map;
+
+/**
+ * Negates a condition.
+ */
+public class NegationCondition extends QueryCondition {
+
+	private final QueryCondition child;
+
+	public NegationCondition(QueryCondition child) {
+		this.child = child;
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		return !child.evaluate( entry, parameters );
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		query.append( "not (" );
+		child.appendTo( query );
+		query.append( ')' );
+	}
+}
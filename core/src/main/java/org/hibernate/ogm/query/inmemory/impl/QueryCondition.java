@@ -0,0 +1,60 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * A condition of the where clause of a query evaluated in memory against the entities of a datastore.
+ * <p>
+ * Conditions are serializable, so that they can be sent to the nodes owning the entities of a data grid and be
+ * evaluated there. As with the other datastores supporting queries, a comparison involving a column without value is false, so that
+ * its negation is true.
+ */
+public abstract class QueryCondition implements Serializable {
+
+	/**
+	 * Evaluates this condition against the columns of an entity.
+	 *
+	 * @param entry the column values of the entity
+	 * @param parameters the values of the named parameters of the query
+	 * @return whether the entity satisfies this condition
+	 */
+	public abstract boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters);
+
+	/**
+	 * Finds the keys of the entities which may satisfy this condition using the column indexes of the table.
+	 * <p>
+	 * The entities of the returned keys still have to be tested with {@link #evaluate(Map, Map)}, but no entity outside
+	 * of them satisfies the condition.
+	 *
+	 * @param indexes the column indexes of the queried table
+	 * @param parameters the values of the named parameters of the query
+	 * @return the keys of the candidate entities or {@code null} if no index applies to this condition
+	 */
+	public Set<EntityKey> findCandidates(ColumnIndexes indexes, Map<String, Object> parameters) {
+		return null;
+	}
+
+	/**
+	 * Appends this condition to the given textual representation of a query.
+	 *
+	 * @param query the query being rendered
+	 */
+	public abstract void appendTo(StringBuilder query);
+
+	@Override
+	public String toString() {
+		StringBuilder query = new StringBuilder();
+		appendTo( query );
+		return query.toString();
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.io.Serializable;
+
+/**
+ * A named parameter used as operand of a {@link QueryCondition}; its value is bound when the query is executed.
+ */
+public class QueryParameter implements Serializable {
+
+	private final String name;
+
+	public QueryParameter(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String toString() {
+		return ":" + name;
+	}
+}
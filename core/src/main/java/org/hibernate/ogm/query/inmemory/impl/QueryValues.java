@@ -0,0 +1,166 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compares and renders the values used by {@link QueryCondition}s.
+ * <p>
+ * Numbers are compared by value, whatever their type, as a column value and the literal it is compared to are not
+ * always represented by the same class.
+ */
+public final class QueryValues {
+
+	private QueryValues() {
+	}
+
+	/**
+	 * @param operand a literal value or a {@link QueryParameter}
+	 * @param parameters the values of the named parameters of the query
+	 * @return the value of the operand
+	 */
+	public static Object resolve(Object operand, Map<String, Object> parameters) {
+		if ( operand instanceof QueryParameter ) {
+			return parameters.get( ( (QueryParameter) operand ).getName() );
+		}
+		return operand;
+	}
+
+	/**
+	 * @return whether both values are equal; a {@code null} value is not equal to any value
+	 */
+	public static boolean equal(Object value, Object other) {
+		if ( value == null || other == null ) {
+			return false;
+		}
+		if ( value instanceof Number && other instanceof Number ) {
+			return compareNumbers( (Number) value, (Number) other ) == 0;
+		}
+		return Objects.deepEquals( value, other );
+	}
+
+	/**
+	 * @return the result of the comparison of both values, or {@code null} if one of them is {@code null} or if they
+	 * cannot be compared
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static Integer compare(Object value, Object other) {
+		if ( value == null || other == null ) {
+			return null;
+		}
+		if ( value instanceof Number && other instanceof Number ) {
+			return compareNumbers( (Number) value, (Number) other );
+		}
+		if ( value instanceof Comparable && value.getClass().isInstance( other ) ) {
+			return ( (Comparable) value ).compareTo( other );
+		}
+		if ( value instanceof Character || other instanceof Character ) {
+			return value.toString().compareTo( other.toString() );
+		}
+		return null;
+	}
+
+	/**
+	 * Converts a value into the representation used as key by the column indexes, so that values which are
+	 * {@link #equal(Object, Object) equal} have equal keys.
+	 *
+	 * @param value a column value or an operand
+	 * @return the normalized value
+	 */
+	public static Object normalize(Object value) {
+		if ( value instanceof byte[] ) {
+			return ByteBuffer.wrap( (byte[]) value );
+		}
+		if ( !( value instanceof Number ) ) {
+			return value instanceof Character ? value.toString() : value;
+		}
+		Number number = (Number) value;
+		if ( isIntegral( number ) ) {
+			return number.longValue();
+		}
+		BigDecimal decimal = toBigDecimal( number );
+		if ( decimal == null ) {
+			// NaN or infinite
+			return number.doubleValue();
+		}
+		try {
+			return decimal.longValueExact();
+		}
+		catch (ArithmeticException e) {
+			return decimal.stripTrailingZeros();
+		}
+	}
+
+	private static int compareNumbers(Number value, Number other) {
+		if ( isIntegral( value ) && isIntegral( other ) ) {
+			return Long.compare( value.longValue(), other.longValue() );
+		}
+		BigDecimal decimal = toBigDecimal( value );
+		BigDecimal otherDecimal = toBigDecimal( other );
+		if ( decimal == null || otherDecimal == null ) {
+			// NaN or infinite
+			return Double.compare( value.doubleValue(), other.doubleValue() );
+		}
+		return decimal.compareTo( otherDecimal );
+	}
+
+	private static boolean isIntegral(Number number) {
+		return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+		if ( number instanceof BigDecimal ) {
+			return (BigDecimal) number;
+		}
+		if ( number instanceof BigInteger ) {
+			return new BigDecimal( (BigInteger) number );
+		}
+		if ( isIntegral( number ) ) {
+			return BigDecimal.valueOf( number.longValue() );
+		}
+		double doubleValue = number.doubleValue();
+		if ( Double.isNaN( doubleValue ) || Double.isInfinite( doubleValue ) ) {
+			return null;
+		}
+		return BigDecimal.valueOf( doubleValue );
+	}
+
+	/**
+	 * Appends a value to the textual representation of a query, quoting text values.
+	 */
+	public static void appendValue(StringBuilder query, Object value) {
+		if ( value instanceof String || value instanceof Character ) {
+			query.append( '\'' ).append( value.toString().replace( "'", "''" ) ).append( '\'' );
+		}
+		else if ( value instanceof Collection ) {
+			appendValues( query, (Collection<?>) value );
+		}
+		else {
+			query.append( value );
+		}
+	}
+
+	/**
+	 * Appends a comma-separated list of values to the textual representation of a query.
+	 */
+	public static void appendValues(StringBuilder query, Collection<?> values) {
+		boolean first = true;
+		for ( Object value : values ) {
+			if ( !first ) {
+				query.append( ", " );
+			}
+			appendValue( query, value );
+			first = false;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Checks whether the value of a column is between two bounds, both included.
+ */
+public class RangeCondition extends QueryCondition {
+
+	private final String column;
+	private final Object lower;
+	private final Object upper;
+
+	public RangeCondition(String column, Object lower, Object upper) {
+		this.column = column;
+		this.lower = lower;
+		this.upper = upper;
+	}
+
+	@Override
+	public boolean evaluate(Map<String, Object> entry, Map<String, Object> parameters) {
+		Object columnValue = entry.get( column );
+		Integer lowerComparison = QueryValues.compare( columnValue, QueryValues.resolve( lower, parameters ) );
+		Integer upperComparison = QueryValues.compare( columnValue, QueryValues.resolve( upper, parameters ) );
+
+		return lowerComparison != null && lowerComparison >= 0 && upperComparison != null && upperComparison <= 0;
+	}
+
+	@Override
+	public Set<EntityKey> findCandidates(ColumnIndexes indexes, Map<String, Object> parameters) {
+		ColumnIndex index = indexes.getIndex( column );
+		if ( index == null ) {
+			return null;
+		}
+		return index.range( QueryValues.resolve( lower, parameters ), true, QueryValues.resolve( upper, parameters ), true );
+	}
+
+	@Override
+	public void appendTo(StringBuilder query) {
+		query.append( column ).append( " between " );
+		QueryValues.appendValue( query, lower );
+		query.append( " and " );
+		QueryValues.appendValue( query, upper );
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.io.Serializable;
+
+/**
+ * A column of the order by clause of a query evaluated in memory.
+ */
+public class SortField implements Serializable {
+
+	private final String column;
+	private final boolean ascending;
+
+	public SortField(String column, boolean ascending) {
+		this.column = column;
+		this.ascending = ascending;
+	}
+
+	public String getColumn() {
+		return column;
+	}
+
+	public boolean isAscending() {
+		return ascending;
+	}
+
+	@Override
+	public String toString() {
+		return column + ( ascending ? " asc" : " desc" );
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.impl;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders the column values of entities according to the order by clause of a query.
+ * <p>
+ * The comparator is serializable, so that the entities of a data grid can be sorted by the nodes owning them. Null
+ * values come first in ascending order, values which cannot be compared are considered equal.
+ */
+public class SortFieldsComparator implements Comparator<Map<String, Object>>, Serializable {
+
+	private final List<SortField> sortFields;
+
+	public SortFieldsComparator(List<SortField> sortFields) {
+		this.sortFields = sortFields;
+	}
+
+	@Override
+	public int compare(Map<String, Object> entry, Map<String, Object> other) {
+		for ( SortField sortField : sortFields ) {
+			int comparison = compareValues( entry.get( sortField.getColumn() ), other.get( sortField.getColumn() ) );
+			if ( comparison != 0 ) {
+				return sortField.isAscending() ? comparison : -comparison;
+			}
+		}
+		return 0;
+	}
+
+	private static int compareValues(Object value, Object other) {
+		if ( value == null || other == null ) {
+			return value == other ? 0 : ( value == null ? -1 : 1 );
+		}
+		Integer comparison = QueryValues.compare( value, other );
+		return comparison == null ? 0 : comparison;
+	}
+}
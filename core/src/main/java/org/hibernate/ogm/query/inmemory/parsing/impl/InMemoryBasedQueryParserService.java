@@ -0,0 +1,71 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.QueryParser;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.ogm.query.spi.BaseQueryParserService;
+import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.ogm.service.impl.SessionFactoryEntityNamesResolver;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Base for the {@link QueryParserService} implementations which create queries evaluated in memory against the
+ * entities of a datastore, rather than through Hibernate Search.
+ */
+public abstract class InMemoryBasedQueryParserService extends BaseQueryParserService {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private volatile SessionFactoryEntityNamesResolver entityNamesResolver;
+
+	/**
+	 * @return the name of the datastore, as shown in the error messages
+	 */
+	protected abstract String getDatastoreName();
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters) {
+		throw new UnsupportedOperationException( "The " + getDatastoreName() + " query parser supports parameterized queries" );
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		QueryParser queryParser = new QueryParser();
+		InMemoryProcessingChain processingChain = createProcessingChain( sessionFactory );
+		InMemoryQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
+
+		log.createdQuery( queryString, result );
+
+		return result;
+	}
+
+	@Override
+	public boolean supportsParameters() {
+		return true;
+	}
+
+	private InMemoryProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory) {
+		EntityNamesResolver entityNamesResolver = getDefinedEntityNames( sessionFactory );
+		return new InMemoryProcessingChain( sessionFactory, entityNamesResolver, Collections.emptyMap(), getDatastoreName() );
+	}
+
+	private EntityNamesResolver getDefinedEntityNames(SessionFactory sessionFactory) {
+		if ( entityNamesResolver == null ) {
+			entityNamesResolver = new SessionFactoryEntityNamesResolver( sessionFactory );
+		}
+		return entityNamesResolver;
+	}
+}
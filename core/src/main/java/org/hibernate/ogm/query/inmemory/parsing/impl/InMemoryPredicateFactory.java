@@ -0,0 +1,93 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl;
+
+import java.util.List;
+
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
+import org.hibernate.hql.ast.spi.predicate.ConjunctionPredicate;
+import org.hibernate.hql.ast.spi.predicate.DisjunctionPredicate;
+import org.hibernate.hql.ast.spi.predicate.InPredicate;
+import org.hibernate.hql.ast.spi.predicate.IsNullPredicate;
+import org.hibernate.hql.ast.spi.predicate.LikePredicate;
+import org.hibernate.hql.ast.spi.predicate.NegationPredicate;
+import org.hibernate.hql.ast.spi.predicate.PredicateFactory;
+import org.hibernate.hql.ast.spi.predicate.RangePredicate;
+import org.hibernate.hql.ast.spi.predicate.RootPredicate;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryComparisonPredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryConjunctionPredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryDisjunctionPredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryInPredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryIsNullPredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryLikePredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryNegationPredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryRangePredicate;
+import org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl.InMemoryRootPredicate;
+
+/**
+ * Factory for {@link org.hibernate.hql.ast.spi.predicate.Predicate}s creating the {@link QueryCondition}s of queries
+ * evaluated in memory.
+ */
+public class InMemoryPredicateFactory implements PredicateFactory<QueryCondition> {
+
+	private final InMemoryPropertyHelper propertyHelper;
+
+	public InMemoryPredicateFactory(InMemoryPropertyHelper propertyHelper) {
+		this.propertyHelper = propertyHelper;
+	}
+
+	@Override
+	public RootPredicate<QueryCondition> getRootPredicate(String entityType) {
+		return new InMemoryRootPredicate();
+	}
+
+	@Override
+	public ComparisonPredicate<QueryCondition> getComparisonPredicate(String entityType, ComparisonPredicate.Type comparisonType, List<String> propertyPath, Object value) {
+		String columnName = propertyHelper.getColumnName( entityType, propertyPath );
+		return new InMemoryComparisonPredicate( columnName, comparisonType, value );
+	}
+
+	@Override
+	public InPredicate<QueryCondition> getInPredicate(String entityType, List<String> propertyPath, List<Object> typedElements) {
+		String columnName = propertyHelper.getColumnName( entityType, propertyPath );
+		return new InMemoryInPredicate( columnName, typedElements );
+	}
+
+	@Override
+	public RangePredicate<QueryCondition> getRangePredicate(String entityType, List<String> propertyPath, Object lowerValue, Object upperValue) {
+		String columnName = propertyHelper.getColumnName( entityType, propertyPath );
+		return new InMemoryRangePredicate( columnName, lowerValue, upperValue );
+	}
+
+	@Override
+	public NegationPredicate<QueryCondition> getNegationPredicate() {
+		return new InMemoryNegationPredicate();
+	}
+
+	@Override
+	public DisjunctionPredicate<QueryCondition> getDisjunctionPredicate() {
+		return new InMemoryDisjunctionPredicate();
+	}
+
+	@Override
+	public ConjunctionPredicate<QueryCondition> getConjunctionPredicate() {
+		return new InMemoryConjunctionPredicate();
+	}
+
+	@Override
+	public LikePredicate<QueryCondition> getLikePredicate(String entityType, List<String> propertyPath, String patternValue, Character escapeCharacter) {
+		String columnName = propertyHelper.getColumnName( entityType, propertyPath );
+		return new InMemoryLikePredicate( columnName, patternValue, escapeCharacter );
+	}
+
+	@Override
+	public IsNullPredicate<QueryCondition> getIsNullPredicate(String entityType, List<String> propertyPath) {
+		String columnName = propertyHelper.getColumnName( entityType, propertyPath );
+		return new InMemoryIsNullPredicate( columnName );
+	}
+}
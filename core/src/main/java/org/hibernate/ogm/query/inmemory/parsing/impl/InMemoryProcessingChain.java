@@ -0,0 +1,48 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.ast.spi.AstProcessingChain;
+import org.hibernate.hql.ast.spi.AstProcessor;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.hql.ast.spi.QueryRendererProcessor;
+import org.hibernate.hql.ast.spi.QueryResolverProcessor;
+import org.hibernate.ogm.query.parsing.impl.HibernateOGMQueryResolverDelegate;
+
+/**
+ * AST processing chain for creating queries evaluated in memory from HQL queries.
+ */
+public class InMemoryProcessingChain implements AstProcessingChain<InMemoryQueryParsingResult> {
+
+	private final QueryResolverProcessor resolverProcessor;
+	private final QueryRendererProcessor rendererProcessor;
+	private final InMemoryQueryRendererDelegate rendererDelegate;
+
+	public InMemoryProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNamesResolver, Map<String, Object> namedParameters,
+			String datastoreName) {
+		HibernateOGMQueryResolverDelegate resolverDelegate = new HibernateOGMQueryResolverDelegate();
+		rendererDelegate = new InMemoryQueryRendererDelegate(
+				sessionFactory, entityNamesResolver, new InMemoryPropertyHelper( sessionFactory, entityNamesResolver ), namedParameters, datastoreName );
+		this.resolverProcessor = new QueryResolverProcessor( resolverDelegate );
+		this.rendererProcessor = new QueryRendererProcessor( rendererDelegate );
+	}
+
+	@Override
+	public Iterator<AstProcessor> iterator() {
+		return Arrays.asList( resolverProcessor, rendererProcessor ).iterator();
+	}
+
+	@Override
+	public InMemoryQueryParsingResult getResult() {
+		return rendererDelegate.getResult();
+	}
+}
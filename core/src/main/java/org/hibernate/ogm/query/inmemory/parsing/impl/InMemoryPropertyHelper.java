@@ -0,0 +1,57 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.ogm.query.inmemory.impl.QueryParameter;
+import org.hibernate.ogm.query.parsing.impl.ParserPropertyHelper;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Property helper dealing with queries evaluated in memory.
+ */
+public class InMemoryPropertyHelper extends ParserPropertyHelper {
+
+	private final SessionFactoryImplementor sessionFactory;
+
+	public InMemoryPropertyHelper(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames) {
+		super( sessionFactory, entityNames );
+		this.sessionFactory = sessionFactory;
+	}
+
+	public String getColumnName(String entityType, List<String> propertyPath) {
+		return getColumn( getPersister( entityType ), propertyPath );
+	}
+
+	@Override
+	protected Type getPropertyType(String entityType, List<String> propertyPath) {
+		Type propertyType = super.getPropertyType( entityType, propertyPath );
+		if ( isElementCollection( propertyType ) ) {
+			// For collection of elements we return the type of the collection
+			return ( (CollectionType) propertyType ).getElementType( sessionFactory );
+		}
+		return propertyType;
+	}
+
+	@Override
+	public Object convertToBackendType(String entityType, List<String> propertyPath, Object value) {
+		// parameters are bound to values already converted by the type of the parameter
+		if ( value instanceof QueryParameter ) {
+			return value;
+		}
+
+		Type propertyType = getPropertyType( entityType, propertyPath );
+		GridType ogmType = sessionFactory.getServiceRegistry().getService( TypeTranslator.class ).getType( propertyType );
+		return ogmType.convertToBackendType( value, sessionFactory );
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl;
+
+import java.util.List;
+
+import org.hibernate.ogm.query.inmemory.impl.InMemoryQueryDescriptor;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+import org.hibernate.ogm.query.inmemory.impl.SortField;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+
+/**
+ * The result of walking a query parse tree using a {@link InMemoryQueryRendererDelegate}.
+ */
+public class InMemoryQueryParsingResult implements QueryParsingResult {
+
+	private final InMemoryQueryDescriptor descriptor;
+	private final List<String> projections;
+
+	public InMemoryQueryParsingResult(String table, QueryCondition condition, List<String> projections, List<SortField> sortFields) {
+		String[] projectionArray = projections.isEmpty() ? null : projections.toArray( new String[projections.size()] );
+		this.descriptor = new InMemoryQueryDescriptor( table, condition, projectionArray, sortFields );
+		this.projections = projections;
+	}
+
+	@Override
+	public Object getQueryObject() {
+		return descriptor;
+	}
+
+	@Override
+	public List<String> getColumnNames() {
+		return projections;
+	}
+
+	@Override
+	public String toString() {
+		return "InMemoryQueryParsingResult{" +
+				"query='" + descriptor + '\'' +
+				", projections=" + projections +
+				'}';
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.ast.origin.hql.resolve.path.PathedPropertyReferenceSource;
+import org.hibernate.hql.ast.origin.hql.resolve.path.PropertyPath;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
+import org.hibernate.ogm.query.inmemory.impl.ComparisonCondition;
+import org.hibernate.ogm.query.inmemory.impl.ComparisonCondition.Operator;
+import org.hibernate.ogm.query.inmemory.impl.InCondition;
+import org.hibernate.ogm.query.inmemory.impl.JunctionCondition;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+import org.hibernate.ogm.query.inmemory.impl.QueryParameter;
+import org.hibernate.ogm.query.inmemory.impl.SortField;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.parsing.impl.KeepNamedParametersQueryRendererDelegate;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Parser delegate which creates queries evaluated in memory in form of {@link QueryCondition}s.
+ */
+public class InMemoryQueryRendererDelegate extends KeepNamedParametersQueryRendererDelegate<QueryCondition, InMemoryQueryParsingResult> {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String datastoreName;
+	private final List<SortField> sortFields = new ArrayList<>();
+	private boolean entityProjected;
+
+	public InMemoryQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames,
+			InMemoryPropertyHelper propertyHelper, Map<String, Object> namedParameters, String datastoreName) {
+		super(
+				propertyHelper, entityNames, getSingleEntityQueryBuilder( propertyHelper ),
+				namedParameters
+		);
+		this.sessionFactory = sessionFactory;
+		this.datastoreName = datastoreName;
+	}
+
+	private static SingleEntityQueryBuilder<QueryCondition> getSingleEntityQueryBuilder(InMemoryPropertyHelper propertyHelper) {
+		return SingleEntityQueryBuilder.getInstance( new InMemoryPredicateFactory( propertyHelper ), propertyHelper );
+	}
+
+	@Override
+	public InMemoryQueryParsingResult getResult() {
+		OgmEntityPersister ogmEntityPersister = (OgmEntityPersister) ( sessionFactory )
+				.getMetamodel()
+				.entityPersister( targetTypeName );
+
+		String table = ogmEntityPersister
+				.getEntityKeyMetadata()
+				.getTable();
+
+		if ( entityProjected && !projections.isEmpty() ) {
+			throw new UnsupportedOperationException( "Projections mixing entities and properties are not supported by " + datastoreName );
+		}
+
+		QueryCondition condition = applyInheritanceStrategy( ogmEntityPersister, builder.build() );
+		return new InMemoryQueryParsingResult( table, condition, projections, sortFields );
+	}
+
+	private QueryCondition applyInheritanceStrategy(OgmEntityPersister entityPersister, QueryCondition condition) {
+		String discriminatorColumnName = entityPersister.getDiscriminatorColumnName();
+
+		if ( discriminatorColumnName != null ) {
+			QueryCondition discriminatorCondition = getConditionOnDiscriminatorValue( entityPersister, discriminatorColumnName );
+			return condition == null ? discriminatorCondition : JunctionCondition.and( Arrays.asList( condition, discriminatorCondition ) );
+		}
+		else if ( entityPersister.hasSubclasses() ) {
+			Set<String> subclassEntityNames = entityPersister.getEntityMetamodel().getSubclassEntityNames();
+			throw LOG.queriesOnPolymorphicEntitiesAreNotSupportedWithTablePerClass( datastoreName, subclassEntityNames );
+		}
+		return condition;
+	}
+
+	private QueryCondition getConditionOnDiscriminatorValue(OgmEntityPersister entityPersister, String discriminatorColumnName) {
+		Object discriminatorValue = entityPersister.getDiscriminatorValue();
+		Set<String> subclassEntityNames = entityPersister.getEntityMetamodel().getSubclassEntityNames();
+
+		if ( subclassEntityNames.size() == 1 ) {
+			return new ComparisonCondition( discriminatorColumnName, Operator.EQUALS, discriminatorValue );
+		}
+
+		List<Object> discriminatorValues = new ArrayList<>();
+		for ( String subclass : subclassEntityNames ) {
+			OgmEntityPersister subclassPersister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( subclass );
+			discriminatorValues.add( subclassPersister.getDiscriminatorValue() );
+		}
+		return new InCondition( discriminatorColumnName, discriminatorValues.toArray() );
+	}
+
+	@Override
+	public void setPropertyPath(PropertyPath propertyPath) {
+		if ( status == Status.DEFINING_SELECT ) {
+			PathedPropertyReferenceSource last = propertyPath.getLastNode();
+
+			if ( last.isAlias() ) {
+				entityProjected = true;
+			}
+			else {
+				String columnName = getColumnName( propertyPath );
+				projections.add( columnName );
+			}
+		}
+		else {
+			this.propertyPath = propertyPath;
+		}
+	}
+
+	@Override
+	protected void addSortField(PropertyPath propertyPath, String collateName, boolean isAscending) {
+		sortFields.add( new SortField( getColumnName( propertyPath ), isAscending ) );
+	}
+
+	private String getColumnName(PropertyPath propertyPath) {
+		return ( (InMemoryPropertyHelper) propertyHelper ).getColumnName( targetTypeName, propertyPath.getNodeNamesWithoutAlias() );
+	}
+
+	@Override
+	protected Object getObjectParameter(String comparativePredicate) {
+		return new QueryParameter( comparativePredicate.substring( 1 ) );
+	}
+}
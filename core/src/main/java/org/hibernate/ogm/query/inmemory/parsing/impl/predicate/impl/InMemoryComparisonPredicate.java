@@ -0,0 +1,47 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
+import org.hibernate.ogm.query.inmemory.impl.ComparisonCondition;
+import org.hibernate.ogm.query.inmemory.impl.ComparisonCondition.Operator;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * In-memory query implementation of {@link ComparisonPredicate}.
+ */
+public class InMemoryComparisonPredicate extends ComparisonPredicate<QueryCondition> {
+
+	public InMemoryComparisonPredicate(String propertyName, Type comparisonType, Object value) {
+		super( propertyName, comparisonType, value );
+	}
+
+	@Override
+	protected QueryCondition getStrictlyLessQuery() {
+		return new ComparisonCondition( propertyName, Operator.LESS, value );
+	}
+
+	@Override
+	protected QueryCondition getLessOrEqualsQuery() {
+		return new ComparisonCondition( propertyName, Operator.LESS_OR_EQUAL, value );
+	}
+
+	@Override
+	protected QueryCondition getEqualsQuery() {
+		return new ComparisonCondition( propertyName, Operator.EQUALS, value );
+	}
+
+	@Override
+	protected QueryCondition getGreaterOrEqualsQuery() {
+		return new ComparisonCondition( propertyName, Operator.GREATER_OR_EQUAL, value );
+	}
+
+	@Override
+	protected QueryCondition getStrictlyGreaterQuery() {
+		return new ComparisonCondition( propertyName, Operator.GREATER, value );
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.hql.ast.spi.predicate.ConjunctionPredicate;
+import org.hibernate.hql.ast.spi.predicate.Predicate;
+import org.hibernate.ogm.query.inmemory.impl.JunctionCondition;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * In-memory query implementation of {@link ConjunctionPredicate}.
+ */
+public class InMemoryConjunctionPredicate extends ConjunctionPredicate<QueryCondition> {
+
+	@Override
+	public QueryCondition getQuery() {
+		List<QueryCondition> conditions = new ArrayList<>( children.size() );
+		for ( Predicate<QueryCondition> child : children ) {
+			conditions.add( child.getQuery() );
+		}
+		return JunctionCondition.and( conditions );
+	}
+}
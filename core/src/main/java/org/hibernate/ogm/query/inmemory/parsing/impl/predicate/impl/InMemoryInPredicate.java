@@ -0,0 +1,28 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import java.util.List;
+
+import org.hibernate.hql.ast.spi.predicate.InPredicate;
+import org.hibernate.ogm.query.inmemory.impl.InCondition;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * In-memory query implementation of {@link InPredicate}.
+ */
+public class InMemoryInPredicate extends InPredicate<QueryCondition> {
+
+	public InMemoryInPredicate(String propertyName, List<Object> values) {
+		super( propertyName, values );
+	}
+
+	@Override
+	public QueryCondition getQuery() {
+		return new InCondition( propertyName, values.toArray() );
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.LikePredicate;
+import org.hibernate.ogm.query.inmemory.impl.LikeCondition;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * In-memory query implementation of {@link LikePredicate}.
+ */
+public class InMemoryLikePredicate extends LikePredicate<QueryCondition> {
+
+	public InMemoryLikePredicate(String propertyName, String patternValue, Character escapeCharacter) {
+		super( propertyName, patternValue, escapeCharacter );
+	}
+
+	@Override
+	public QueryCondition getQuery() {
+		return new LikeCondition( propertyName, patternValue, escapeCharacter );
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.NegationPredicate;
+import org.hibernate.ogm.query.inmemory.impl.NegationCondition;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * In-memory query implementation of {@link NegationPredicate}.
+ */
+public class InMemoryNegationPredicate extends NegationPredicate<QueryCondition> {
+
+	@Override
+	public QueryCondition getQuery() {
+		return new NegationCondition( getChild().getQuery() );
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.RangePredicate;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+import org.hibernate.ogm.query.inmemory.impl.RangeCondition;
+
+/**
+ * In-memory query implementation of {@link RangePredicate}.
+ */
+public class InMemoryRangePredicate extends RangePredicate<QueryCondition> {
+
+	public InMemoryRangePredicate(String propertyName, Object lower, Object upper) {
+		super( propertyName, lower, upper );
+	}
+
+	@Override
+	public QueryCondition getQuery() {
+		return new RangeCondition( propertyName, lower, upper );
+	}
+}
@@ -0,0 +1,21 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.inmemory.parsing.impl.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.RootPredicate;
+import org.hibernate.ogm.query.inmemory.impl.QueryCondition;
+
+/**
+ * In-memory query implementation of {@link RootPredicate}; a query without where clause has no condition.
+ */
+public class InMemoryRootPredicate extends RootPredicate<QueryCondition> {
+
+	@Override
+	public QueryCondition getQuery() {
+		return child == null ? null : child.getQuery();
+	}
+}
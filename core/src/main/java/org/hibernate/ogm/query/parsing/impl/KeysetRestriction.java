@@ -0,0 +1,121 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.parsing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
+import org.hibernate.ogm.query.KeysetPagination;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Restricts a query to the results following a given keyset, see {@link KeysetPagination}.
+ * <p>
+ * For a query ordered by {@code a asc, b desc} and the keyset {@code (x, y)}, the restriction is
+ * {@code a > x or ( a = x and b < y )}. It is added to the predicates of the query builder, so each datastore renders
+ * it like the conditions of the where clause.
+ * <p>
+ * The values of the keyset are not part of the restriction: it refers to them as the named parameters returned by
+ * {@link #parameterName(int)}, which are bound like the other parameters of the query. Datastores supporting
+ * parameterized queries can therefore parse a restricted query once for all the keysets.
+ * <p>
+ * The sort fields are only known once the order by clause has been parsed, after the where clause. Renderer delegates
+ * therefore call {@link #beginWhereClause(SingleEntityQueryBuilder)} when the where clause starts, to group its
+ * conditions with the restriction added by {@link #applyTo(SingleEntityQueryBuilder, Function)}.
+ */
+public class KeysetRestriction {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final String PARAMETER_PREFIX = "ogmKeyset";
+
+	private final int keysetSize;
+	private final List<List<String>> sortFields = new ArrayList<>();
+	private final List<Boolean> ascending = new ArrayList<>();
+	private boolean whereClause;
+
+	public KeysetRestriction(int keysetSize) {
+		this.keysetSize = keysetSize;
+	}
+
+	/**
+	 * Creates the restriction for a keyset of the given size.
+	 *
+	 * @param keysetSize the number of values of the keyset, 0 if there is no keyset
+	 * @return the restriction or {@code null} if there is no keyset
+	 */
+	public static KeysetRestriction forKeyset(int keysetSize) {
+		return keysetSize == 0 ? null : new KeysetRestriction( keysetSize );
+	}
+
+	/**
+	 * Returns the name of the named parameter holding a value of the keyset.
+	 *
+	 * @param index the position of the value in the keyset
+	 * @return the name of the parameter
+	 */
+	public static String parameterName(int index) {
+		return PARAMETER_PREFIX + index;
+	}
+
+	public void beginWhereClause(SingleEntityQueryBuilder<?> builder) {
+		builder.pushAndPredicate();
+		whereClause = true;
+	}
+
+	public void addSortField(List<String> propertyPath, boolean isAscending) {
+		sortFields.add( propertyPath );
+		ascending.add( isAscending );
+	}
+
+	/**
+	 * Adds the restriction to the predicates of the given builder; to be called once, before building the query.
+	 *
+	 * @param builder the query builder
+	 * @param parameterValue returns the value to compare with for a named parameter given as {@code :name}, as for the
+	 * parameters of the where clause
+	 */
+	public void applyTo(SingleEntityQueryBuilder<?> builder, Function<String, Object> parameterValue) {
+		if ( sortFields.size() != keysetSize ) {
+			throw log.keysetDoesNotMatchSortKey( keysetSize, sortFields.size() );
+		}
+
+		List<Object> values = new ArrayList<>( keysetSize );
+		for ( int i = 0; i < keysetSize; i++ ) {
+			values.add( parameterValue.apply( ":" + parameterName( i ) ) );
+		}
+
+		if ( sortFields.size() > 1 ) {
+			builder.pushOrPredicate();
+		}
+		for ( int i = 0; i < sortFields.size(); i++ ) {
+			if ( i > 0 ) {
+				builder.pushAndPredicate();
+				for ( int j = 0; j < i; j++ ) {
+					builder.addComparisonPredicate( sortFields.get( j ), ComparisonPredicate.Type.EQUALS, values.get( j ) );
+				}
+			}
+			ComparisonPredicate.Type type = ascending.get( i ) ? ComparisonPredicate.Type.GREATER : ComparisonPredicate.Type.LESS;
+			builder.addComparisonPredicate( sortFields.get( i ), type, values.get( i ) );
+			if ( i > 0 ) {
+				builder.popBooleanPredicate();
+			}
+		}
+		if ( sortFields.size() > 1 ) {
+			builder.popBooleanPredicate();
+		}
+
+		if ( whereClause ) {
+			builder.popBooleanPredicate();
+		}
+	}
+}
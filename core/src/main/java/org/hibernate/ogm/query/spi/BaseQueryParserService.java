@@ -6,11 +6,15 @@
  */
 package org.hibernate.ogm.query.spi;
 
+import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
 
 /**
  * Common base functionality for {@link QueryParserService} implementations.
@@ -19,6 +23,16 @@
  */
 public abstract class BaseQueryParserService implements QueryParserService {
 
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * Keyset pagination is not supported by default.
+	 */
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters, int keysetSize) {
+		throw log.keysetPaginationNotSupported( getClass().getName() );
+	}
+
 	/**
 	 * Unwraps the given named parameters if they are wrapped into {@link TypedValue}s.
 	 *
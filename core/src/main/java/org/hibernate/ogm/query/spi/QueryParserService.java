@@ -54,4 +54,22 @@ public interface QueryParserService extends Service {
 	 * @return the parsed query
 	 */
 	QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString);
+
+	/**
+	 * Parses the given query, restricted to the results following a keyset in the order of the query, see
+	 * {@link org.hibernate.ogm.query.KeysetPagination}.
+	 * <p>
+	 * The values of the keyset are given as additional named parameters, named after
+	 * {@link org.hibernate.ogm.query.parsing.impl.KeysetRestriction#parameterName(int)}. If this implementation supports
+	 * parameterized queries, the resulting query has parameters for them as well and the given parameter values are
+	 * ignored.
+	 *
+	 * @param sessionFactory the session factory
+	 * @param queryString the query to parse
+	 * @param namedParameters contains the parameters of the query, including the values of the keyset, and the
+	 * corresponding values
+	 * @param keysetSize the number of values of the keyset
+	 * @return the parsed query
+	 */
+	QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters, int keysetSize);
 }
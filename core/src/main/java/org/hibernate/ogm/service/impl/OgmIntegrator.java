@@ -20,6 +20,7 @@
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagingPersistEventListener;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagingPersistEventListener.EventContextManagingPersistEventListenerDuplicationStrategy;
 import org.hibernate.ogm.dialect.impl.SessionFactoryLifecycleAwareDialectInitializer;
+import org.hibernate.ogm.metrics.impl.DatastoreMetricsRegistrar;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
 /**
@@ -48,6 +49,7 @@ private void doIntegrate(Metadata metadata, SessionFactoryImplementor sessionFac
 
 		sessionFactory.addObserver( new SchemaDefiningObserver( metadata ) );
 		sessionFactory.addObserver( new SessionFactoryLifecycleAwareDialectInitializer() );
+		sessionFactory.addObserver( new DatastoreMetricsRegistrar() );
 
 		attachEventContextManagingListenersIfRequired( serviceRegistry );
 	}
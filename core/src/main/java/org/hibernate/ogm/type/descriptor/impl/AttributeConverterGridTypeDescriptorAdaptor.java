@@ -54,6 +54,27 @@ public <X> GridValueBinder<X> getBinder(JavaTypeDescriptor<X> javaTypeDescriptor
 		return new GridValueBinder<X>() {
 			@Override
 			public void bind(Tuple resultset, X value, String[] names) {
+				final Object convertedValue = doConversion( value );
+				try {
+					realBinder.bind( resultset, convertedValue, names );
+				}
+				catch ( Exception e ) {
+					throw log.failureWhenUsingAttributeConverter( converter.getClass(), e );
+				}
+			}
+
+			@Override
+			public void bind(Object[] columnValues, int index, X value) {
+				final Object convertedValue = doConversion( value );
+				try {
+					realBinder.bind( columnValues, index, convertedValue );
+				}
+				catch ( Exception e ) {
+					throw log.failureWhenUsingAttributeConverter( converter.getClass(), e );
+				}
+			}
+
+			private Object doConversion(X value) {
 				final Object convertedValue;
 				try {
 					convertedValue = converter.toRelationalValue( value );
@@ -66,12 +87,7 @@ public void bind(Tuple resultset, X value, String[] names) {
 				}
 
 				log.debugf( "Converted value on binding : %s -> %s", value, convertedValue );
-				try {
-					realBinder.bind( resultset, convertedValue, names );
-				}
-				catch ( Exception e ) {
-					throw log.failureWhenUsingAttributeConverter( converter.getClass(), e );
-				}
+				return convertedValue;
 			}
 		};
 	}
@@ -75,8 +75,35 @@ public void bind(Tuple resultset, X value, String[] names) {
 		}
 	}
 
+	@Override
+	public void bind(Object[] columnValues, int index, X value) {
+		if ( value == null ) {
+			log.tracef( "binding [null] to column [%1$s]", index );
+			columnValues[index] = null;
+		}
+		else {
+			if ( log.isTraceEnabled() ) {
+				log.tracef( "binding [%1$s] to column [%2$s]", javaDescriptor.extractLoggableRepresentation( value ), index );
+			}
+			doBind( columnValues, index, value, DEFAULT_OPTIONS );
+		}
+	}
+
 	/**
 	 * Perform the binding.  Safe to assume that value is not null.
 	 */
 	protected abstract void doBind(Tuple resultset, X value, String[] names, WrapperOptions options);
+
+	/**
+	 * Perform the binding of a single column value into an array. Safe to assume that value is not null.
+	 * <p>
+	 * The default implementation goes through a temporary {@link Tuple}, see {@link SingleColumnGridBinder} for
+	 * binders avoiding it.
+	 */
+	protected void doBind(Object[] columnValues, int index, X value, WrapperOptions options) {
+		Tuple resultset = new Tuple();
+		String[] names = { "value" };
+		doBind( resultset, value, names, options );
+		columnValues[index] = resultset.get( names[0] );
+	}
 }
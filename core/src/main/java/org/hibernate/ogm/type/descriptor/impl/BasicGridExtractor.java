@@ -31,6 +31,11 @@ public BasicGridExtractor(JavaTypeDescriptor<J> javaTypeDescriptor, boolean wrap
 		this.wrap = wrap;
 	}
 
+	@Override
+	public boolean isPassThrough() {
+		return !wrap;
+	}
+
 	@Override
 	public J extract(final Tuple resultset, final String name) {
 		@SuppressWarnings("unchecked")
@@ -22,11 +22,11 @@ public class ByteArrayMappedGridTypeDescriptor implements GridTypeDescriptor {
 
 	@Override
 	public <X> GridValueBinder<X> getBinder(final JavaTypeDescriptor<X> javaTypeDescriptor) {
-		return new BasicGridBinder<X>( javaTypeDescriptor, this ) {
+		return new SingleColumnGridBinder<X>( javaTypeDescriptor, this ) {
 
 			@Override
-			protected void doBind(Tuple resultset, X value, String[] names, WrapperOptions options) {
-				resultset.put( names[0], javaTypeDescriptor.unwrap( value, byte[].class, options ) );
+			protected Object toColumnValue(X value, WrapperOptions options) {
+				return javaTypeDescriptor.unwrap( value, byte[].class, options );
 			}
 		};
 	}
@@ -16,4 +16,21 @@
 public interface GridValueBinder<X> {
 	//WrappedOptions for streams?
 	void bind(Tuple resultset, X value, String[] names);
+
+	/**
+	 * Writes the column value of a single column value straight into the given array.
+	 * <p>
+	 * The default implementation goes through a temporary {@link Tuple}; binders should override it to avoid that
+	 * allocation.
+	 *
+	 * @param columnValues the array to write the column value into
+	 * @param index the position of the column in the array
+	 * @param value the value to bind
+	 */
+	default void bind(Object[] columnValues, int index, X value) {
+		Tuple resultset = new Tuple();
+		String[] names = { "value" };
+		bind( resultset, value, names );
+		columnValues[index] = resultset.get( names[0] );
+	}
 }
@@ -16,4 +16,14 @@
 public interface GridValueExtractor<X> {
 	//WrappedOptions for streams?
 	X extract(Tuple resultset, String name);
+
+	/**
+	 * Whether this extractor returns the column values as they are stored in the tuple, in which case callers may
+	 * read them straight from the tuple.
+	 *
+	 * @return {@code true} if the extracted values are the column values, {@code false} otherwise
+	 */
+	default boolean isPassThrough() {
+		return false;
+	}
 }
@@ -6,7 +6,6 @@
  */
 package org.hibernate.ogm.type.descriptor.impl;
 
-import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 
@@ -21,10 +20,10 @@ public class IntegerMappedGridTypeDescriptor implements GridTypeDescriptor {
 
 	@Override
 	public <X> GridValueBinder<X> getBinder(final JavaTypeDescriptor<X> javaTypeDescriptor) {
-		return new BasicGridBinder<X>( javaTypeDescriptor, this ) {
+		return new SingleColumnGridBinder<X>( javaTypeDescriptor, this ) {
 			@Override
-			protected void doBind(Tuple resultset, X value, String[] names, WrapperOptions options) {
-				resultset.put( names[0], javaTypeDescriptor.unwrap( value, Integer.class, options ) );
+			protected Object toColumnValue(X value, WrapperOptions options) {
+				return javaTypeDescriptor.unwrap( value, Integer.class, options );
 			}
 		};
 	}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.type.descriptor.impl;
+
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+
+/**
+ * A {@link BasicGridBinder} for values mapped to exactly one column.
+ * <p>
+ * Implementations only convert the value into its column value, which can then be written into a {@link Tuple} or
+ * straight into an array of column values without allocating a temporary tuple.
+ */
+public abstract class SingleColumnGridBinder<X> extends BasicGridBinder<X> {
+
+	public SingleColumnGridBinder(JavaTypeDescriptor<X> javaDescriptor, GridTypeDescriptor gridDescriptor) {
+		super( javaDescriptor, gridDescriptor );
+	}
+
+	@Override
+	protected final void doBind(Tuple resultset, X value, String[] names, WrapperOptions options) {
+		resultset.put( names[0], toColumnValue( value, options ) );
+	}
+
+	@Override
+	protected final void doBind(Object[] columnValues, int index, X value, WrapperOptions options) {
+		columnValues[index] = toColumnValue( value, options );
+	}
+
+	/**
+	 * Converts the value into the value stored in the datastore. Safe to assume that value is not null.
+	 */
+	protected abstract Object toColumnValue(X value, WrapperOptions options);
+}
@@ -108,6 +108,14 @@ public final GridTypeDescriptor getGridTypeDescriptor() {
 		return gridTypeDescriptor;
 	}
 
+	public final GridValueExtractor<T> getExtractor() {
+		return typeExtractor;
+	}
+
+	public final GridValueBinder<T> getBinder() {
+		return typeBinder;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public final Class getReturnedClass() {
@@ -249,11 +257,17 @@ public final void nullSafeSet(Tuple st, Object value, String[] names, boolean[]
 		}
 	}
 
+	@Override
+	@SuppressWarnings({ "unchecked" })
+	public final void nullSafeSet(Object[] columnValues, int index, Object value, SharedSessionContractImplementor session) {
+		typeBinder.bind( columnValues, index, (T) value );
+	}
+
 	@Override
 	public Object convertToBackendType(Object value, SessionFactoryImplementor sessionFactory) {
-		Tuple tuple = new Tuple();
-		nullSafeSet( tuple, value, new String[] { "dummy" }, (SessionImplementor) null );
-		return tuple.get( "dummy" );
+		Object[] columnValues = new Object[1];
+		nullSafeSet( columnValues, 0, value, (SessionImplementor) null );
+		return columnValues[0];
 	}
 
 //	public void set(PreparedStatement st, T value, int index, SessionImplementor session) throws HibernateException, SQLException {
@@ -86,6 +86,17 @@ public void nullSafeSet(Tuple resultset, Object value, String[] names, SharedSes
 		nullSafeSet( resultset, value, names, trueSettable, session );
 	}
 
+	@Override
+	public void nullSafeSet(Object[] columnValues, int index, Object value, SharedSessionContractImplementor session)
+			throws HibernateException {
+		Object[] subvalues = nullSafeGetValues( value, componentType.getEntityMode() );
+		int columnCurrentIndex = index;
+		for ( int i = 0; i < propertySpan; i++ ) {
+			propertyTypes[i].nullSafeSet( columnValues, columnCurrentIndex, subvalues[i], session );
+			columnCurrentIndex += propertyTypes[i].getColumnSpan( session.getFactory() );
+		}
+	}
+
 	@Override
 	public Object hydrate(Tuple rs, String[] names, SharedSessionContractImplementor session, Object owner)
 			throws HibernateException {
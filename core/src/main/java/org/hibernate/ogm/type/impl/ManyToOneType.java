@@ -61,6 +61,13 @@ public void nullSafeSet(Tuple resultset, Object value, String[] names, SharedSes
 		idGridType.nullSafeSet( resultset, getIdentifier( value, session ), names, session );
 	}
 
+	@Override
+	public void nullSafeSet(Object[] columnValues, int index, Object value, SharedSessionContractImplementor session)
+			throws HibernateException {
+		GridType idGridType = getIdGridType( session.getFactory() );
+		idGridType.nullSafeSet( columnValues, index, getIdentifier( value, session ), session );
+	}
+
 	@Override
 	public Object hydrate(Tuple rs, String[] names, SharedSessionContractImplementor session, Object owner)
 			throws HibernateException {
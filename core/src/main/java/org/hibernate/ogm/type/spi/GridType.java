@@ -303,6 +303,34 @@ void nullSafeSet(Tuple resultset, Object value, String[] names, boolean[] settab
 	void nullSafeSet(Tuple resultset, Object value, String[] names, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Write the column values of an instance of the mapped class straight into an array, without going through a
+	 * {@link Tuple}. Implementors should handle possibility of null values. A multi-column type should be written
+	 * to the array starting from <tt>index</tt>.
+	 * <p>
+	 * The default implementation writes the value into a temporary {@link Tuple} and reads the column values back;
+	 * types used for identifiers should override it.
+	 *
+	 * @param columnValues the array to write the column values into
+	 * @param index the position of the first column of the value in the array
+	 * @param value the object to write
+	 * @param session the session
+	 *
+	 * @throws HibernateException if an error occurs writing the value
+	 */
+	default void nullSafeSet(Object[] columnValues, int index, Object value, SharedSessionContractImplementor session)
+	throws HibernateException {
+		String[] names = new String[getColumnSpan( session.getFactory() )];
+		for ( int i = 0; i < names.length; i++ ) {
+			names[i] = String.valueOf( i );
+		}
+		Tuple resultset = new Tuple();
+		nullSafeSet( resultset, value, names, session );
+		for ( int i = 0; i < names.length; i++ ) {
+			columnValues[index + i] = resultset.get( names[i] );
+		}
+	}
+
 	/**
 	 * Returns the value which has been stored in the datastore so that we can perform queries on it.
 	 *
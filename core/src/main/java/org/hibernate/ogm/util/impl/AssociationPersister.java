@@ -9,15 +9,19 @@
 import static org.hibernate.ogm.util.impl.TransactionContextHelper.transactionContext;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
@@ -25,6 +29,7 @@
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.persister.entity.EntityPersister;
@@ -206,6 +211,20 @@ public Association getAssociation() {
 	 * Does not create an association if it is not found
 	 */
 	public Association getAssociationOrNull() {
+		return getAssociationOrNull( null, null, null );
+	}
+
+	/**
+	 * Does not create an association if it is not found. If the association has to be read from the datastore, the
+	 * tuples of the entities targeted by its rows are read within the same operation and added to the given list.
+	 *
+	 * @param associationTargetsGridDialect the dialect reading the association targets, {@code null} to read the
+	 * association only
+	 * @param targetTupleContext the tuple context of the entity type targeted by the association
+	 * @param targetTuples receives the tuples of the targets, if the association is read from the datastore
+	 * @return the association or {@code null} if it does not exist
+	 */
+	public Association getAssociationOrNull(AssociationTargetsGridDialect associationTargetsGridDialect, TupleContext targetTupleContext, List<Tuple> targetTuples) {
 		if ( association == null ) {
 			if ( hostingEntity != null ) {
 				OgmEntityEntryState entryState = OgmEntityEntryState.getStateFor( session, hostingEntity );
@@ -216,7 +235,7 @@ public Association getAssociationOrNull() {
 			}
 
 			if ( association == null ) {
-				association = gridDialect.getAssociation( getAssociationKey(), getAssociationContext() );
+				association = readAssociation( associationTargetsGridDialect, targetTupleContext, targetTuples );
 				if ( hostingEntity != null ) {
 					OgmEntityEntryState.getStateFor( session, hostingEntity )
 							.setAssociation( associationKeyMetadata.getCollectionRole(), association );
@@ -226,6 +245,34 @@ public Association getAssociationOrNull() {
 		return association;
 	}
 
+	private Association readAssociation(AssociationTargetsGridDialect associationTargetsGridDialect, TupleContext targetTupleContext, List<Tuple> targetTuples) {
+		if ( associationTargetsGridDialect == null ) {
+			return gridDialect.getAssociation( getAssociationKey(), getAssociationContext() );
+		}
+
+		AssociationWithTargets associationWithTargets = associationTargetsGridDialect.getAssociationWithTargets( getAssociationKey(), getAssociationContext(), targetTupleContext );
+		if ( associationWithTargets == null ) {
+			return null;
+		}
+		targetTuples.addAll( associationWithTargets.getTargets() );
+		return associationWithTargets.getAssociation();
+	}
+
+	/**
+	 * Whether the association has already been read within the current session. If not, changes to single rows may
+	 * be sent to the datastore without reading the association first.
+	 *
+	 * @return {@code true} if the association has been read already, {@code false} otherwise
+	 */
+	public boolean isAssociationLoaded() {
+		if ( association != null ) {
+			return true;
+		}
+
+		return hostingEntity != null
+				&& OgmEntityEntryState.getStateFor( session, hostingEntity ).hasAssociation( associationKeyMetadata.getCollectionRole() );
+	}
+
 	/**
 	 * Writes out the changes gathered in the {@link Association} managed by this persister to the datastore.
 	 */
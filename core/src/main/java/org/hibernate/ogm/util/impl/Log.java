@@ -340,4 +340,60 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 101, value = "Error introspecting an object instance.")
 	HibernateException errorIntrospectingObject(@Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 102, value = "Unable to register the datastore metrics MBean '%s'.")
+	void unableToRegisterDatastoreMetricsMBean(String name, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 103, value = "Unable to unregister the datastore metrics MBean '%s'.")
+	void unableToUnregisterDatastoreMetricsMBean(String objectName, @Cause Exception e);
+
+	@Message(id = 104, value = "Keyset pagination requires one value per property of the order by clause, but the keyset has %1$d values and the query is ordered by %2$d properties.")
+	HibernateException keysetDoesNotMatchSortKey(int keysetSize, int sortKeySize);
+
+	@Message(id = 105, value = "Invalid keyset pagination hint: '%s'.")
+	HibernateException invalidKeysetHint(String hint);
+
+	@Message(id = 106, value = "Keyset pagination is not supported by the query parser service '%s'.")
+	HibernateException keysetPaginationNotSupported(String queryParserService);
+
+	@Message(id = 107, value = "The maximum number of threads of parallel flushes must be greater than 0, but was %d.")
+	HibernateException invalidParallelFlushMaxThreads(int maxThreads);
+
+	@Message(id = 108, value = "Interrupted while waiting for the operations of a parallel flush.")
+	HibernateException interruptedDuringParallelFlush(@Cause InterruptedException cause);
+
+	@Message(id = 109, value = "The size of the write-behind queue must be greater than 0, but was %d.")
+	HibernateException invalidWriteBehindQueueSize(int queueSize);
+
+	@LogMessage(level = ERROR)
+	@Message(id = 110, value = "Unable to write %d operations flushed in write-behind mode.")
+	void unableToWriteBehind(int operationCount, @Cause Throwable e);
+
+	@Message(id = 111, value = "Some operations flushed in write-behind mode could not be written to the datastore.")
+	HibernateException writeBehindFailed(@Cause Throwable cause);
+
+	@Message(id = 112, value = "Interrupted while waiting for the operations flushed in write-behind mode.")
+	HibernateException interruptedDuringWriteBehind(@Cause InterruptedException cause);
+
+	@Message(id = 113, value = "Unable to write the snapshot of the map datastore to '%s'.")
+	HibernateException unableToWriteMapSnapshot(String file, @Cause Exception cause);
+
+	@Message(id = 114, value = "Unable to read the snapshot of the map datastore from '%s'.")
+	HibernateException unableToReadMapSnapshot(String file, @Cause Exception cause);
+
+	@Message(id = 115, value = "The file '%s' is not a snapshot of the map datastore written by this version of Hibernate OGM.")
+	HibernateException invalidMapSnapshot(String file);
+
+	@Message(id = 116, value = "The batch size of stateless sessions must be greater than 0, but was %d.")
+	HibernateException invalidStatelessSessionBatchSize(int batchSize);
+
+	@LogMessage(level = INFO)
+	@Message(id = 117, value = "Parallel flushes use up to %d %s threads.")
+	void parallelFlushThreads(int maxThreads, String threadType);
+
+	@LogMessage(level = WARN)
+	@Message(id = 118, value = "The threads of parallel flushes did not terminate within %d seconds, interrupting them.")
+	void parallelFlushThreadsNotTerminated(long timeoutSeconds);
 }
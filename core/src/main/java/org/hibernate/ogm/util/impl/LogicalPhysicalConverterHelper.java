@@ -29,9 +29,8 @@ public static Object[] getColumnValuesFromResultset(Tuple resultset, String[] pr
 
 	public static Object[] getColumnsValuesFromObjectValue(Object uniqueKey, GridType gridUniqueKeyType, String[] propertyColumnNames,
 			SharedSessionContractImplementor session) {
-		Tuple tempResultset = new Tuple();
-		gridUniqueKeyType.nullSafeSet( tempResultset, uniqueKey, propertyColumnNames, session ) ;
-		Object[] columnValuesFromResultset = LogicalPhysicalConverterHelper.getColumnValuesFromResultset( tempResultset, propertyColumnNames );
-		return columnValuesFromResultset;
+		Object[] columnValues = new Object[propertyColumnNames.length];
+		gridUniqueKeyType.nullSafeSet( columnValues, 0, uniqueKey, session );
+		return columnValues;
 	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.extralazy;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Checks that {@code size()}, {@code contains()} and {@code containsKey()} on extra-lazy collections return the
+ * expected results without initializing the collection.
+ */
+public class ExtraLazyCollectionTest extends OgmTestCase {
+
+	@After
+	public void cleanUp() {
+		deleteAll( Shelf.class, "fiction", "empty" );
+		deleteAll( Book.class, "dune", "solaris", "hyperion", "ulysses" );
+		checkCleanCache();
+	}
+
+	@Test
+	public void testSizeAndContainsDoNotInitializeSet() {
+		inTransaction( session -> {
+			Book dune = new Book( "dune", "Dune" );
+			Book solaris = new Book( "solaris", "Solaris" );
+			Book hyperion = new Book( "hyperion", "Hyperion" );
+			Book ulysses = new Book( "ulysses", "Ulysses" );
+
+			Shelf fiction = new Shelf( "fiction" );
+			fiction.getBooks().add( dune );
+			fiction.getBooks().add( solaris );
+			fiction.getBooks().add( hyperion );
+
+			persistAll( session, dune, solaris, hyperion, ulysses, fiction, new Shelf( "empty" ) );
+		} );
+
+		inTransaction( session -> {
+			Shelf fiction = session.get( Shelf.class, "fiction" );
+			Shelf empty = session.get( Shelf.class, "empty" );
+
+			assertThat( fiction.getBooks().size() ).isEqualTo( 3 );
+			assertThat( fiction.getBooks().contains( session.get( Book.class, "solaris" ) ) ).isTrue();
+			assertThat( fiction.getBooks().contains( session.get( Book.class, "ulysses" ) ) ).isFalse();
+			assertThat( Hibernate.isInitialized( fiction.getBooks() ) ).isFalse();
+
+			assertThat( empty.getBooks().size() ).isEqualTo( 0 );
+			assertThat( empty.getBooks().contains( session.get( Book.class, "dune" ) ) ).isFalse();
+			assertThat( Hibernate.isInitialized( empty.getBooks() ) ).isFalse();
+		} );
+	}
+
+	@Test
+	@SkipByGridDialect(
+			value = { GridDialectType.INFINISPAN_REMOTE },
+			comment = "hibernate core doesn't supply required primary key metadata for collections"
+	)
+	public void testSizeAndContainsKeyDoNotInitializeMap() {
+		inTransaction( session -> {
+			Book dune = new Book( "dune", "Dune" );
+			Book solaris = new Book( "solaris", "Solaris" );
+
+			Shelf fiction = new Shelf( "fiction" );
+			fiction.getBooksByPosition().put( "top", dune );
+			fiction.getBooksByPosition().put( "bottom", solaris );
+
+			persistAll( session, dune, solaris, fiction );
+		} );
+
+		inTransaction( session -> {
+			Shelf fiction = session.get( Shelf.class, "fiction" );
+
+			assertThat( fiction.getBooksByPosition().size() ).isEqualTo( 2 );
+			assertThat( fiction.getBooksByPosition().containsKey( "top" ) ).isTrue();
+			assertThat( fiction.getBooksByPosition().containsKey( "middle" ) ).isFalse();
+			assertThat( Hibernate.isInitialized( fiction.getBooksByPosition() ) ).isFalse();
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Shelf.class, Book.class };
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.extralazy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinTable;
+import javax.persistence.MapKeyColumn;
+import javax.persistence.OneToMany;
+
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+
+@Entity
+public class Shelf {
+
+	@Id
+	private String id;
+
+	@OneToMany
+	@JoinTable(name = "Shelf_books")
+	@LazyCollection(LazyCollectionOption.EXTRA)
+	private Set<Book> books = new HashSet<>();
+
+	@OneToMany
+	@JoinTable(name = "Shelf_booksByPosition")
+	@MapKeyColumn(name = "position")
+	@LazyCollection(LazyCollectionOption.EXTRA)
+	private Map<String, Book> booksByPosition = new HashMap<>();
+
+	public Shelf() {
+	}
+
+	public Shelf(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Set<Book> getBooks() {
+		return books;
+	}
+
+	public void setBooks(Set<Book> books) {
+		this.books = books;
+	}
+
+	public Map<String, Book> getBooksByPosition() {
+		return booksByPosition;
+	}
+
+	public void setBooksByPosition(Map<String, Book> booksByPosition) {
+		this.booksByPosition = booksByPosition;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.targets;
+
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class Binding {
+
+	private String cover;
+
+	private Integer pages;
+
+	public Binding() {
+	}
+
+	public Binding(String cover, Integer pages) {
+		this.cover = cover;
+		this.pages = pages;
+	}
+
+	public String getCover() {
+		return cover;
+	}
+
+	public void setCover(String cover) {
+		this.cover = cover;
+	}
+
+	public Integer getPages() {
+		return pages;
+	}
+
+	public void setPages(Integer pages) {
+		this.pages = pages;
+	}
+}
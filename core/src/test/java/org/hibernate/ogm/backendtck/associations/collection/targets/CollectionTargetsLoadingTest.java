@@ -0,0 +1,135 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.targets;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.utils.InvokedOperationsLoggingDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the entities of a collection are loaded correctly, and together with the association rows if the
+ * dialect supports it, see {@link AssociationTargetsGridDialect}.
+ */
+public class CollectionTargetsLoadingTest extends OgmTestCase {
+
+	@Before
+	public void populate() {
+		inTransaction( session -> {
+			Author herbert = new Author( "herbert", "Frank Herbert" );
+			Author simmons = new Author( "simmons", "Dan Simmons" );
+
+			Library library = new Library( "central" );
+			library.getVolumes().add( new Volume( "dune", "Dune", new Binding( "hardcover", 412 ), herbert ) );
+			library.getVolumes().add( new Volume( "messiah", "Dune Messiah", new Binding( "paperback", 256 ), herbert ) );
+			library.getVolumes().add( new Volume( "hyperion", "Hyperion", null, simmons ) );
+
+			persistAll( session, herbert, simmons );
+			persistAll( session, library.getVolumes().toArray() );
+			persistAll( session, library, new Library( "empty" ) );
+		} );
+	}
+
+	@After
+	public void cleanUp() {
+		deleteAll( Library.class, "central", "empty" );
+		deleteAll( Volume.class, "dune", "messiah", "hyperion" );
+		deleteAll( Author.class, "herbert", "simmons" );
+		checkCleanCache();
+	}
+
+	@Test
+	public void shouldLoadCollectionEntities() {
+		inTransaction( session -> {
+			Library library = session.get( Library.class, "central" );
+			getOperationsLogger().reset();
+
+			assertThat( library.getVolumes() ).onProperty( "title" ).containsOnly( "Dune", "Dune Messiah", "Hyperion" );
+			if ( isAssociationTargetsDialect() ) {
+				assertThat( getOperationsLogger().getOperations() ).containsExactly( "getAssociationWithTargets" );
+			}
+
+			for ( Volume volume : library.getVolumes() ) {
+				assertThat( Hibernate.isInitialized( volume ) ).isTrue();
+				if ( volume.getId().equals( "hyperion" ) ) {
+					assertThat( volume.getBinding() ).isNull();
+					assertThat( volume.getAuthor().getName() ).isEqualTo( "Dan Simmons" );
+				}
+				else {
+					assertThat( volume.getBinding().getCover() ).isEqualTo( volume.getId().equals( "dune" ) ? "hardcover" : "paperback" );
+					assertThat( volume.getAuthor().getName() ).isEqualTo( "Frank Herbert" );
+				}
+			}
+
+			Library empty = session.get( Library.class, "empty" );
+			assertThat( empty.getVolumes() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void shouldKeepEntitiesAlreadyInSession() {
+		inTransaction( session -> {
+			Volume dune = session.get( Volume.class, "dune" );
+			dune.setTitle( "Dune (1965)" );
+
+			Library library = session.get( Library.class, "central" );
+			assertThat( library.getVolumes() ).contains( dune );
+			assertThat( library.getVolumes() ).onProperty( "title" ).containsOnly( "Dune (1965)", "Dune Messiah", "Hyperion" );
+		} );
+		inTransaction( session -> {
+			assertThat( session.get( Volume.class, "dune" ).getTitle() ).isEqualTo( "Dune (1965)" );
+		} );
+	}
+
+	@Test
+	public void shouldUpdateLoadedCollectionEntities() {
+		inTransaction( session -> {
+			Library library = session.get( Library.class, "central" );
+			for ( Volume volume : library.getVolumes() ) {
+				volume.setTitle( volume.getTitle().toUpperCase() );
+			}
+			library.getVolumes().removeIf( volume -> volume.getId().equals( "hyperion" ) );
+		} );
+		inTransaction( session -> {
+			Library library = session.get( Library.class, "central" );
+			assertThat( library.getVolumes() ).onProperty( "title" ).containsOnly( "DUNE", "DUNE MESSIAH" );
+			assertThat( session.get( Volume.class, "hyperion" ).getTitle() ).isEqualTo( "HYPERION" );
+		} );
+	}
+
+	private boolean isAssociationTargetsDialect() {
+		return GridDialects.hasFacet( getGridDialect(), AssociationTargetsGridDialect.class );
+	}
+
+	private GridDialect getGridDialect() {
+		return getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+	}
+
+	private InvokedOperationsLoggingDialect getOperationsLogger() {
+		return GridDialects.getDelegateOrNull( getGridDialect(), InvokedOperationsLoggingDialect.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.GRID_DIALECT, InvokedOperationsLoggingDialect.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Library.class, Volume.class, Author.class };
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.targets;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinTable;
+import javax.persistence.OneToMany;
+
+@Entity
+public class Library {
+
+	@Id
+	private String id;
+
+	@OneToMany
+	@JoinTable(name = "Library_volumes")
+	private Set<Volume> volumes = new HashSet<>();
+
+	public Library() {
+	}
+
+	public Library(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Set<Volume> getVolumes() {
+		return volumes;
+	}
+
+	public void setVolumes(Set<Volume> volumes) {
+		this.volumes = volumes;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.targets;
+
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+@Entity
+public class Volume {
+
+	@Id
+	private String id;
+
+	private String title;
+
+	@Embedded
+	private Binding binding;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	public Volume() {
+	}
+
+	public Volume(String id, String title, Binding binding, Author author) {
+		this.id = id;
+		this.title = title;
+		this.binding = binding;
+		this.author = author;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public Binding getBinding() {
+		return binding;
+	}
+
+	public void setBinding(Binding binding) {
+		this.binding = binding;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(Author author) {
+		this.author = author;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.hibernatecore;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.hibernatecore.impl.OgmStatelessSessionImpl;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test for the writes and queries of {@link StatelessSession}s.
+ */
+public class StatelessSessionTest extends OgmTestCase {
+
+	private static final String[] IDS = { "bookmark-1", "bookmark-2", "bookmark-3" };
+
+	@After
+	public void removeBookmarks() {
+		deleteAll( Bookmark.class, (Serializable[]) IDS );
+	}
+
+	@Test
+	public void shouldOpenOgmStatelessSession() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			assertThat( session.getClass() ).isEqualTo( OgmStatelessSessionImpl.class );
+		}
+	}
+
+	@Test
+	public void shouldInsertUpdateAndDeleteEntities() {
+		// The batch size being 2, the last insert is executed when the transaction completes
+		inStatelessTransaction( session -> {
+			for ( int i = 0; i < IDS.length; i++ ) {
+				session.insert( new Bookmark( IDS[i], "Title " + i ) );
+			}
+		} );
+
+		inTransaction( session -> {
+			for ( int i = 0; i < IDS.length; i++ ) {
+				Bookmark bookmark = session.get( Bookmark.class, IDS[i] );
+				assertThat( bookmark.getTitle() ).isEqualTo( "Title " + i );
+				assertThat( bookmark.getVersion() ).isEqualTo( 0 );
+			}
+		} );
+
+		inStatelessTransaction( session -> {
+			Bookmark bookmark = (Bookmark) session.get( Bookmark.class, IDS[0] );
+			bookmark.setTitle( "Updated title" );
+			session.update( bookmark );
+			assertThat( bookmark.getVersion() ).isEqualTo( 1 );
+
+			session.delete( session.get( Bookmark.class, IDS[1] ) );
+		} );
+
+		inTransaction( session -> {
+			Bookmark bookmark = session.get( Bookmark.class, IDS[0] );
+			assertThat( bookmark.getTitle() ).isEqualTo( "Updated title" );
+			assertThat( bookmark.getVersion() ).isEqualTo( 1 );
+
+			assertThat( session.get( Bookmark.class, IDS[1] ) ).isNull();
+			assertThat( session.get( Bookmark.class, IDS[2] ) ).isNotNull();
+		} );
+	}
+
+	@Test
+	public void shouldReadPendingInserts() {
+		inStatelessTransaction( session -> {
+			session.insert( new Bookmark( IDS[0], "Title" ) );
+
+			Bookmark bookmark = (Bookmark) session.get( Bookmark.class, IDS[0] );
+			assertThat( bookmark.getTitle() ).isEqualTo( "Title" );
+		} );
+	}
+
+	@Test
+	public void shouldUpdateEntityInsertedInTheSameBatch() {
+		inStatelessTransaction( session -> {
+			Bookmark bookmark = new Bookmark( IDS[0], "Title" );
+			session.insert( bookmark );
+			bookmark.setTitle( "Updated title" );
+			session.update( bookmark );
+		} );
+
+		inTransaction( session -> {
+			Bookmark bookmark = session.get( Bookmark.class, IDS[0] );
+			assertThat( bookmark.getTitle() ).isEqualTo( "Updated title" );
+			assertThat( bookmark.getVersion() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void shouldDiscardPendingWritesOnRollback() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.insert( new Bookmark( IDS[0], "Rolled back" ) );
+			transaction.rollback();
+
+			// The writes of the next transaction are still executed on commit
+			transaction = session.beginTransaction();
+			session.insert( new Bookmark( IDS[1], "Committed" ) );
+			transaction.commit();
+
+			inTransaction( regularSession -> {
+				assertThat( regularSession.get( Bookmark.class, IDS[1] ) ).isNotNull();
+			} );
+		}
+
+		inTransaction( session -> {
+			assertThat( session.get( Bookmark.class, IDS[0] ) ).isNull();
+		} );
+	}
+
+	@Test
+	@SkipByGridDialect(value = INFINISPAN, comment = "Hibernate Search based queries cannot be scrolled")
+	public void shouldStreamQueryResults() {
+		inStatelessTransaction( session -> {
+			for ( int i = 0; i < IDS.length; i++ ) {
+				session.insert( new Bookmark( IDS[i], "Title " + i ) );
+			}
+		} );
+
+		inStatelessTransaction( session -> {
+			try ( Stream<Bookmark> bookmarks = session.createQuery( "FROM Bookmark b", Bookmark.class ).stream() ) {
+				List<String> ids = bookmarks.map( Bookmark::getId ).collect( Collectors.toList() );
+				assertThat( ids ).containsOnly( (Object[]) IDS );
+			}
+
+			try ( Stream<String> titles = session.createQuery( "SELECT b.title FROM Bookmark b", String.class ).stream() ) {
+				List<String> result = titles.collect( Collectors.toList() );
+				assertThat( result ).containsOnly( "Title 0", "Title 1", "Title 2" );
+			}
+		} );
+	}
+
+	private void inStatelessTransaction(Consumer<StatelessSession> consumer) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				consumer.accept( session );
+				transaction.commit();
+			}
+			catch (Throwable t) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw t;
+			}
+		}
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.STATELESS_SESSION_BATCH_SIZE, 2 );
+		// Hibernate Search based queries cannot be scrolled
+		cfg.put( MapProperties.IN_MEMORY_QUERIES, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Bookmark.class };
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries.pagination;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.ogm.query.KeysetPagination;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.hibernate.ogm.utils.Throwables;
+import org.hibernate.query.Query;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test pagination with {@link KeysetPagination}.
+ */
+@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Keyset pagination is not supported by these dialects")
+public class KeysetPaginationTest extends OgmTestCase {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private final Poem portia = new Poem( 1L, "Portia", "Oscar Wilde", 1881 );
+	private final Poem athanasia = new Poem( 2L, "Athanasia", "Oscar Wilde", 1879 );
+	private final Poem imperatrix = new Poem( 3L, "Ave Imperatrix", "Oscar Wilde", 1882 );
+	private final Poem intellectualis = new Poem( 4L, "Amor Intellectualis", "Oscar Wilde", 1881 );
+	private final Poem apologia = new Poem( 5L, "Apologias", "Oscar Wilde", 1881 );
+	private final Poem easter = new Poem( 6L, "Easter Day", "Oscar Wilde", 1881 );
+	private final Poem rome = new Poem( 7L, "Rome Unvisited", "Oscar Wilde", 1881 );
+	private final Poem nightingale = new Poem( 8L, "Ode to a Nightingale", "John Keats", 1819 );
+
+	private final Poem[] poems = { portia, athanasia, imperatrix, intellectualis, apologia, easter, rome, nightingale };
+
+	private final Letter toRobbie = new Letter( 1L, "Robert Ross", date( 1898, Calendar.MAY, 18 ) );
+	private final Letter toAlfred = new Letter( 2L, "Lord Alfred Douglas", date( 1897, Calendar.JANUARY, 1 ) );
+	private final Letter toReggie = new Letter( 3L, "Reginald Turner", date( 1898, Calendar.MAY, 18 ) );
+	private final Letter toAda = new Letter( 4L, "Ada Leverson", date( 1895, Calendar.FEBRUARY, 20 ) );
+
+	@Before
+	public void init() {
+		inTransaction( session -> {
+			persistAll( session, (Object[]) poems );
+			persistAll( session, toRobbie, toAlfred, toReggie, toAda );
+		} );
+	}
+
+	@After
+	public void tearDown() {
+		deleteAll( Poem.class, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L );
+		deleteAll( Letter.class, 1L, 2L, 3L, 4L );
+		checkCleanCache();
+	}
+
+	@Test
+	public void testPagesWithSingleSortKey() {
+		inTransaction( session -> {
+			String query = "FROM Poem p WHERE p.author = 'Oscar Wilde' ORDER BY p.name";
+
+			List<Poem> page = findPage( session, Poem.class, query, 3 );
+			assertThat( page ).containsExactly( intellectualis, apologia, athanasia );
+
+			page = findPage( session, Poem.class, query, 3, last( page ).getName() );
+			assertThat( page ).containsExactly( imperatrix, easter, portia );
+
+			page = findPage( session, Poem.class, query, 3, last( page ).getName() );
+			assertThat( page ).containsExactly( rome );
+
+			page = findPage( session, Poem.class, query, 3, last( page ).getName() );
+			assertThat( page ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testPagesWithSortKeyInBothDirections() {
+		inTransaction( session -> {
+			String query = "FROM Poem p ORDER BY p.year DESC, p.id";
+
+			List<Poem> all = new ArrayList<>();
+			List<Poem> page = findPage( session, Poem.class, query, 3 );
+			while ( !page.isEmpty() ) {
+				all.addAll( page );
+				page = findPage( session, Poem.class, query, 3, last( page ).getYear(), last( page ).getId() );
+			}
+
+			assertThat( all ).containsExactly( imperatrix, portia, intellectualis, apologia, easter, rome, athanasia, nightingale );
+		} );
+	}
+
+	@Test
+	public void testPagesWithDateSortKey() {
+		inTransaction( session -> {
+			String query = "FROM Letter l ORDER BY l.sent, l.id";
+
+			List<Letter> page = findPage( session, Letter.class, query, 2 );
+			assertThat( page ).containsExactly( toAda, toAlfred );
+
+			page = findPage( session, Letter.class, query, 2, last( page ).getSent(), last( page ).getId() );
+			assertThat( page ).containsExactly( toRobbie, toReggie );
+
+			page = findPage( session, Letter.class, query, 2, last( page ).getSent(), last( page ).getId() );
+			assertThat( page ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testPagesWithParameters() {
+		inTransaction( session -> {
+			String query = "FROM Poem p WHERE p.year = :year OR p.author = :author ORDER BY p.id DESC";
+
+			List<Poem> page = session.createQuery( query, Poem.class )
+					.setParameter( "year", 1881 )
+					.setParameter( "author", "John Keats" )
+					.addQueryHint( KeysetPagination.after( 7L ) )
+					.setMaxResults( 3 )
+					.list();
+
+			assertThat( page ).containsExactly( easter, apologia, intellectualis );
+		} );
+	}
+
+	@Test
+	public void testKeysetMustMatchSortKey() throws Throwable {
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM000104" );
+
+		try ( Session session = openSession() ) {
+			findPage( session, Poem.class, "FROM Poem p ORDER BY p.year, p.id", 3, 1881 );
+		}
+		catch (Exception e) {
+			throw Throwables.getRootCause( e );
+		}
+	}
+
+	@Test
+	public void testHintRoundTrip() {
+		Date date = date( 1881, Calendar.JULY, 1 );
+		String hint = KeysetPagination.after( 1881, "a:b", "", date );
+		assertThat( KeysetPagination.getLastSortKey( Arrays.asList( "other", hint ) ) ).containsExactly( 1881, "a:b", "", date );
+		assertThat( KeysetPagination.getLastSortKey( Arrays.asList( "other" ) ) ).isNull();
+	}
+
+	private <T> List<T> findPage(Session session, Class<T> resultClass, String queryString, int maxResults, Object... lastSortKey) {
+		Query<T> query = session.createQuery( queryString, resultClass ).setMaxResults( maxResults );
+		if ( lastSortKey.length > 0 ) {
+			query.addQueryHint( KeysetPagination.after( lastSortKey ) );
+		}
+		return query.list();
+	}
+
+	private static <T> T last(List<T> page) {
+		return page.get( page.size() - 1 );
+	}
+
+	private static Date date(int year, int month, int day) {
+		return new GregorianCalendar( year, month, day ).getTime();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Poem.class, Letter.class };
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries.pagination;
+
+import java.util.Date;
+import java.util.Objects;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+@Entity
+public class Letter {
+
+	@Id
+	private Long id;
+
+	private String recipient;
+
+	@Temporal(TemporalType.DATE)
+	private Date sent;
+
+	public Letter() {
+	}
+
+	public Letter(Long id, String recipient, Date sent) {
+		this.id = id;
+		this.recipient = recipient;
+		this.sent = sent;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getRecipient() {
+		return recipient;
+	}
+
+	public void setRecipient(String recipient) {
+		this.recipient = recipient;
+	}
+
+	public Date getSent() {
+		return sent;
+	}
+
+	public void setSent(Date sent) {
+		this.sent = sent;
+	}
+
+	@Override
+	public String toString() {
+		return "Letter [" + id + ", " + recipient + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		Letter that = (Letter) o;
+		return Objects.equals( id, that.id ) &&
+				Objects.equals( recipient, that.recipient );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( id, recipient );
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSessionFactory;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.test.batch.BatchExecutionTest.SampleBatchableDatastoreProvider;
+import org.hibernate.ogm.test.batch.BatchExecutionTest.SampleBatchableDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.TestHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the execution of the partitions of a flush by an {@link AsyncGridDialect}, see
+ * {@link OgmProperties#ASYNC_FLUSH_ENABLED}.
+ */
+public class AsyncFlushTest extends OgmTestCase {
+
+	private static final List<String> appliedBatches = Collections.synchronizedList( new ArrayList<>() );
+
+	private static volatile boolean failOnHelicopter;
+
+	@Before
+	public void before() {
+		appliedBatches.clear();
+		failOnHelicopter = false;
+	}
+
+	@Test
+	public void testTablesAreFlushedAsynchronously() throws Exception {
+		persistHypothesesAndHelicopter( sessionFactory );
+
+		assertThat( appliedBatches ).containsOnly( "async: Hypothesis,Hypothesis", "async: Helicopter" );
+	}
+
+	@Test
+	public void testFailingPartitionDoesNotPreventTheOthers() throws Exception {
+		failOnHelicopter = true;
+
+		try {
+			persistHypothesesAndHelicopter( sessionFactory );
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (Exception e) {
+			assertThat( hasCause( e, EntityAlreadyExistsException.class ) ).as( "Unexpected exception " + e ).isTrue();
+		}
+
+		// the partition of the other table is applied nevertheless
+		assertThat( appliedBatches ).containsOnly( "async: Hypothesis,Hypothesis" );
+	}
+
+	@Test
+	public void testFlushIsSynchronousByDefault() throws Exception {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, AsyncFlushDatastoreProvider.class.getName() );
+		OgmSessionFactory synchronousSessionFactory = TestHelper.getDefaultTestSessionFactory( settings, getAnnotatedClasses() );
+		try {
+			persistHypothesesAndHelicopter( synchronousSessionFactory );
+		}
+		finally {
+			synchronousSessionFactory.close();
+		}
+
+		assertThat( appliedBatches ).containsOnly( "sync: Hypothesis,Helicopter,Hypothesis" );
+	}
+
+	private static void persistHypothesesAndHelicopter(OgmSessionFactory sessionFactory) {
+		try ( Session session = sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			session.persist( helicopter( "Lama" ) );
+			session.persist( new Hypothesis( "hypo-2" ) );
+			transaction.commit();
+		}
+	}
+
+	private static boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+		while ( throwable != null ) {
+			if ( type.isInstance( throwable ) ) {
+				return true;
+			}
+			throwable = throwable.getCause();
+		}
+		return false;
+	}
+
+	private static Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, AsyncFlushDatastoreProvider.class.getName() );
+		settings.put( OgmProperties.ASYNC_FLUSH_ENABLED, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Hypothesis.class, Helicopter.class };
+	}
+
+	public static class AsyncFlushDatastoreProvider extends SampleBatchableDatastoreProvider {
+
+		@Override
+		public Class<? extends GridDialect> getDefaultDialect() {
+			return AsyncFlushDialect.class;
+		}
+	}
+
+	public static class AsyncFlushDialect extends SampleBatchableDialect implements AsyncGridDialect {
+
+		public AsyncFlushDialect(AsyncFlushDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			appliedBatches.add( "sync: " + tables( keys( queue ) ) );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+			List<EntityKey> keys = keys( queue );
+			return CompletableFuture.runAsync( () -> {
+				for ( EntityKey key : keys ) {
+					if ( failOnHelicopter && key.getTable().equals( "Helicopter" ) ) {
+						throw new TupleAlreadyExistsException( key );
+					}
+				}
+				appliedBatches.add( "async: " + tables( keys ) );
+			} );
+		}
+
+		private static List<EntityKey> keys(OperationsQueue queue) {
+			List<EntityKey> keys = new ArrayList<>();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				keys.add( ( (GroupedChangesToEntityOperation) operation ).getEntityKey() );
+				operation = queue.poll();
+			}
+			return keys;
+		}
+
+		private static String tables(List<EntityKey> keys) {
+			return keys.stream().map( EntityKey::getTable ).collect( Collectors.joining( "," ) );
+		}
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleWithOptimisticLockOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateTupleWithOptimisticLockOperation;
+import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the version-checked updates and removals are queued and checked when the batch is executed if the dialect
+ * supports it, see {@link BatchableGridDialect#supportsBatchedOptimisticLocking()}.
+ */
+public class BatchedOptimisticLockingTest extends OgmTestCase {
+
+	static final List<Operation> executedVersionedWrites = new ArrayList<>();
+
+	@Before
+	public void persistComet() {
+		inTransaction( session -> session.persist( new Comet( "comet-1", "Halley" ) ) );
+		executedVersionedWrites.clear();
+	}
+
+	@After
+	public void removeComet() {
+		inTransaction( session -> {
+			Comet comet = session.get( Comet.class, "comet-1" );
+			if ( comet != null ) {
+				session.delete( comet );
+			}
+		} );
+	}
+
+	@Test
+	public void testUpdateIsCheckedInBatch() {
+		inTransaction( session -> session.get( Comet.class, "comet-1" ).setName( "Hale-Bopp" ) );
+
+		assertThat( executedVersionedWrites ).hasSize( 1 );
+		assertThat( executedVersionedWrites.get( 0 ) ).isInstanceOf( UpdateTupleWithOptimisticLockOperation.class );
+		inTransaction( session -> {
+			Comet comet = session.get( Comet.class, "comet-1" );
+			assertThat( comet.getName() ).isEqualTo( "Hale-Bopp" );
+			assertThat( comet.getVersion() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testStaleUpdateIsDetectedInBatch() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.get( Comet.class, "comet-1" ).setName( "Hale-Bopp" );
+
+		inTransaction( other -> other.get( Comet.class, "comet-1" ).setName( "Encke" ) );
+
+		assertStale( session, transaction );
+		inTransaction( other -> assertThat( other.get( Comet.class, "comet-1" ).getName() ).isEqualTo( "Encke" ) );
+	}
+
+	@Test
+	public void testStaleRemovalIsDetectedInBatch() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.delete( session.get( Comet.class, "comet-1" ) );
+
+		inTransaction( other -> other.get( Comet.class, "comet-1" ).setName( "Encke" ) );
+
+		assertStale( session, transaction );
+		assertThat( executedVersionedWrites.get( executedVersionedWrites.size() - 1 ) ).isInstanceOf( RemoveTupleWithOptimisticLockOperation.class );
+		inTransaction( other -> assertThat( other.get( Comet.class, "comet-1" ) ).isNotNull() );
+	}
+
+	private void assertStale(Session session, Transaction transaction) {
+		try {
+			transaction.commit();
+			fail( "Expected the stale entity to be detected" );
+		}
+		catch (Exception e) {
+			Throwable cause = e;
+			while ( cause != null && !( cause instanceof StaleObjectStateException ) ) {
+				cause = cause.getCause();
+			}
+			assertThat( cause ).isInstanceOf( StaleObjectStateException.class );
+			assertThat( ( (StaleObjectStateException) cause ).getIdentifier() ).isEqualTo( "comet-1" );
+		}
+		finally {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+			session.close();
+		}
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.GRID_DIALECT, BatchableMapDialect.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Comet.class };
+	}
+
+	@Entity
+	public static class Comet {
+
+		@Id
+		private String id;
+		private String name;
+
+		@Version
+		private int version;
+
+		public Comet() {
+		}
+
+		public Comet(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+
+		public void setVersion(int version) {
+			this.version = version;
+		}
+	}
+
+	/**
+	 * A map dialect executing the batches one operation after the other, checking the versions as the last step.
+	 */
+	@SuppressWarnings("serial")
+	public static class BatchableMapDialect extends MapDialect implements BatchableGridDialect, OptimisticLockingAwareGridDialect {
+
+		public BatchableMapDialect(MapDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public boolean supportsBatchedOptimisticLocking() {
+			return true;
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			List<Operation> versionedWrites = new ArrayList<>();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+						if ( groupedOperation instanceof InsertOrUpdateTupleOperation ) {
+							InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) groupedOperation;
+							insertOrUpdateTuple( tupleOperation.getEntityKey(), tupleOperation.getTuplePointer(), tupleOperation.getTupleContext() );
+						}
+						else if ( groupedOperation instanceof InsertOrUpdateAssociationOperation ) {
+							InsertOrUpdateAssociationOperation associationOperation = (InsertOrUpdateAssociationOperation) groupedOperation;
+							insertOrUpdateAssociation( associationOperation.getAssociationKey(), associationOperation.getAssociation(),
+									associationOperation.getContext() );
+						}
+						else if ( groupedOperation instanceof RemoveAssociationOperation ) {
+							RemoveAssociationOperation associationOperation = (RemoveAssociationOperation) groupedOperation;
+							removeAssociation( associationOperation.getAssociationKey(), associationOperation.getContext() );
+						}
+					}
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation removeOperation = (RemoveTupleOperation) operation;
+					removeTuple( removeOperation.getEntityKey(), removeOperation.getTupleContext() );
+				}
+				else {
+					versionedWrites.add( operation );
+				}
+				operation = queue.poll();
+			}
+
+			for ( Operation versionedWrite : versionedWrites ) {
+				executedVersionedWrites.add( versionedWrite );
+				if ( versionedWrite instanceof UpdateTupleWithOptimisticLockOperation ) {
+					UpdateTupleWithOptimisticLockOperation update = (UpdateTupleWithOptimisticLockOperation) versionedWrite;
+					if ( !updateTupleWithOptimisticLock( update.getEntityKey(), update.getOldLockState(), update.getTuple(), update.getTupleContext() ) ) {
+						update.onStaleState();
+					}
+				}
+				else {
+					RemoveTupleWithOptimisticLockOperation removal = (RemoveTupleWithOptimisticLockOperation) versionedWrite;
+					if ( !removeTupleWithOptimisticLock( removal.getEntityKey(), removal.getOldLockState(), removal.getTupleContext() ) ) {
+						removal.onStaleState();
+					}
+				}
+			}
+		}
+
+		@Override
+		public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
+			if ( !hasVersion( entityKey, oldLockState, tupleContext ) ) {
+				return false;
+			}
+			insertOrUpdateTuple( entityKey, new TuplePointer( tuple ), tupleContext );
+			return true;
+		}
+
+		@Override
+		public boolean removeTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
+			if ( !hasVersion( entityKey, oldLockState, tupleContext ) ) {
+				return false;
+			}
+			removeTuple( entityKey, tupleContext );
+			return true;
+		}
+
+		private boolean hasVersion(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
+			Tuple stored = getTuple( entityKey, tupleContext );
+			if ( stored == null ) {
+				return false;
+			}
+			for ( String column : oldLockState.getColumnNames() ) {
+				if ( !oldLockState.get( column ).equals( stored.get( column ) ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
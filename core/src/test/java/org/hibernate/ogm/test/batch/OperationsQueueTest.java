@@ -10,14 +10,23 @@
 import static org.hibernate.ogm.utils.GridDialectOperationContexts.emptyTupleContext;
 import static org.hibernate.ogm.utils.GridDialectOperationContexts.emptyAssociationContext;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.fest.assertions.Assertions;
+import org.hibernate.BaseSessionEventListener;
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
+import org.hibernate.ogm.metrics.DatastoreOperationType;
+import org.hibernate.ogm.metrics.impl.DatastoreMetrics;
 import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
@@ -27,6 +36,8 @@
 import org.hibernate.ogm.model.key.spi.AssociationType;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Tuple;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -122,6 +133,46 @@ public void testAddUpdateTupleAndUpdateAssociationOperation() throws Exception {
 		Assertions.assertThat( groupedOperation.getOperations().poll() ).isEqualTo( insertOrUpdateAssociation );
 	}
 
+	@Test
+	public void testUpdateAssociationRowsOperationsAreMerged() throws Exception {
+		AssociationKey associationKey = getAssociationKey( entityKey() );
+		RowKey first = new RowKey( new String[] { "column1", "column2" }, new Object[] { "1", "1" } );
+		RowKey second = new RowKey( new String[] { "column1", "column2" }, new Object[] { "1", "2" } );
+
+		UpdateAssociationRowsOperation addFirst = new UpdateAssociationRowsOperation( associationKey, addedRow( first ), emptyAssociationContext() );
+		queue.add( addFirst );
+		queue.add( new UpdateAssociationRowsOperation( associationKey, addedRow( second ), emptyAssociationContext() ) );
+		queue.add( new UpdateAssociationRowsOperation( associationKey, removedRow( first ), emptyAssociationContext() ) );
+
+		Assertions.assertThat( queue.size() ).isEqualTo( 1 );
+
+		GroupedChangesToEntityOperation groupedOperation = (GroupedChangesToEntityOperation) queue.poll();
+		Assertions.assertThat( groupedOperation.getOperations() ).containsOnly( addFirst );
+		Assertions.assertThat( addFirst.getChanges().getAddedRows().keySet() ).containsOnly( second );
+		Assertions.assertThat( addFirst.getChanges().getRemovedRows() ).containsOnly( first );
+	}
+
+	@Test
+	public void testUpdateAssociationRowsOperationsAreNotMergedAcrossAssociationUpdates() throws Exception {
+		AssociationKey associationKey = getAssociationKey( entityKey() );
+		RowKey first = new RowKey( new String[] { "column1", "column2" }, new Object[] { "1", "1" } );
+		RowKey second = new RowKey( new String[] { "column1", "column2" }, new Object[] { "1", "2" } );
+
+		UpdateAssociationRowsOperation addFirst = new UpdateAssociationRowsOperation( associationKey, addedRow( first ), emptyAssociationContext() );
+		queue.add( addFirst );
+		InsertOrUpdateAssociationOperation insertOrUpdateAssociation = new InsertOrUpdateAssociationOperation( null, associationKey,
+				emptyAssociationContext() );
+		queue.add( insertOrUpdateAssociation );
+		UpdateAssociationRowsOperation addSecond = new UpdateAssociationRowsOperation( associationKey, addedRow( second ), emptyAssociationContext() );
+		queue.add( addSecond );
+
+		GroupedChangesToEntityOperation groupedOperation = (GroupedChangesToEntityOperation) queue.poll();
+		Assertions.assertThat( groupedOperation.getOperations().poll() ).isEqualTo( addFirst );
+		Assertions.assertThat( groupedOperation.getOperations().poll() ).isEqualTo( insertOrUpdateAssociation );
+		Assertions.assertThat( groupedOperation.getOperations().poll() ).isEqualTo( addSecond );
+		Assertions.assertThat( addFirst.getChanges().getAddedRows().keySet() ).containsOnly( first );
+	}
+
 	@Test
 	public void testEmptyQueueSize() throws Exception {
 		Assertions.assertThat( queue.size() ).isEqualTo( 0 );
@@ -141,8 +192,97 @@ public void testQueueSizeWhenAddingRemoveTupleOperation() throws Exception {
 		Assertions.assertThat( queue.size() ).isEqualTo( 1 );
 	}
 
+	@Test
+	public void testFlushOperationsOnTablesLeavesIndependentOperationsQueued() throws Exception {
+		EntityKey owner = entityKey( "Owner" );
+		EntityKey other = entityKey( "Other" );
+		queue.add( new InsertOrUpdateTupleOperation( null, owner, emptyTupleContext() ) );
+		queue.add( new InsertOrUpdateTupleOperation( null, other, emptyTupleContext() ) );
+		queue.add( new RemoveTupleOperation( entityKey( "Removed" ), emptyTupleContext() ) );
+
+		List<Operation> flushed = new ArrayList<>();
+		queue.flushOperationsOn( Collections.singleton( "Owner" ), dependencies -> flushed.addAll( drain( dependencies ) ) );
+
+		Assertions.assertThat( flushed ).hasSize( 1 );
+		Assertions.assertThat( ( (GroupedChangesToEntityOperation) flushed.get( 0 ) ).getEntityKey() ).isEqualTo( owner );
+		Assertions.assertThat( queue.size() ).isEqualTo( 2 );
+		Assertions.assertThat( queue.isInTheInsertionQueue( owner ) ).isFalse();
+		Assertions.assertThat( queue.isInTheInsertionQueue( other ) ).isTrue();
+	}
+
+	@Test
+	public void testFlushOperationsOnTablesIncludesOperationsSharingATable() throws Exception {
+		EntityKey owner = entityKey( "Owner" );
+		queue.add( new InsertOrUpdateTupleOperation( null, owner, emptyTupleContext() ) );
+		queue.add( new InsertOrUpdateAssociationOperation( null, getAssociationKey( owner ), emptyAssociationContext() ) );
+		// shares the association table with the owner, so it is flushed as well
+		EntityKey sharingAssociationTable = entityKey( "Sharing" );
+		queue.add( new InsertOrUpdateAssociationOperation( null, getAssociationKey( sharingAssociationTable ), emptyAssociationContext() ) );
+		queue.add( new InsertOrUpdateTupleOperation( null, entityKey( "Other" ), emptyTupleContext() ) );
+
+		List<Operation> flushed = new ArrayList<>();
+		queue.flushOperationsOn( Collections.singleton( "Owner" ), dependencies -> flushed.addAll( drain( dependencies ) ) );
+
+		Assertions.assertThat( flushed ).hasSize( 2 );
+		Assertions.assertThat( ( (GroupedChangesToEntityOperation) flushed.get( 0 ) ).getEntityKey() ).isEqualTo( owner );
+		Assertions.assertThat( ( (GroupedChangesToEntityOperation) flushed.get( 1 ) ).getEntityKey() ).isEqualTo( sharingAssociationTable );
+		Assertions.assertThat( queue.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testFlushOperationsOnTablesIsReportedAsPartialFlush() throws Exception {
+		List<Integer> partialFlushes = new ArrayList<>();
+		List<Integer> recordedFlushes = new ArrayList<>();
+		queue = new OperationsQueue( new BaseSessionEventListener() {
+
+			@Override
+			public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+				partialFlushes.add( numberOfEntities );
+			}
+		}, new DatastoreMetrics( event -> {
+			Assertions.assertThat( event.getOperationType() ).isEqualTo( DatastoreOperationType.PARTIAL_FLUSH );
+			recordedFlushes.add( event.getBatchSize() );
+		}, false ) );
+		queue.add( new InsertOrUpdateTupleOperation( null, entityKey( "Owner" ), emptyTupleContext() ) );
+
+		queue.flushOperationsOn( Collections.singleton( "Other" ), dependencies -> drain( dependencies ) );
+		Assertions.assertThat( partialFlushes ).isEmpty();
+		Assertions.assertThat( recordedFlushes ).isEmpty();
+
+		queue.flushOperationsOn( Collections.singleton( "Owner" ), dependencies -> drain( dependencies ) );
+		Assertions.assertThat( partialFlushes ).containsExactly( 1 );
+		Assertions.assertThat( recordedFlushes ).containsExactly( 1 );
+		Assertions.assertThat( queue.size() ).isEqualTo( 0 );
+	}
+
+	private List<Operation> drain(OperationsQueue dependencies) {
+		List<Operation> operations = new ArrayList<>();
+		Operation operation = dependencies.poll();
+		while ( operation != null ) {
+			operations.add( operation );
+			operation = dependencies.poll();
+		}
+		return operations;
+	}
+
+	private AssociationRowsChanges addedRow(RowKey rowKey) {
+		AssociationRowsChanges changes = new AssociationRowsChanges();
+		changes.addRow( rowKey, new Tuple() );
+		return changes;
+	}
+
+	private AssociationRowsChanges removedRow(RowKey rowKey) {
+		AssociationRowsChanges changes = new AssociationRowsChanges();
+		changes.removeRow( rowKey );
+		return changes;
+	}
+
 	private EntityKey entityKey() {
-		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "MetadataTable", new String[] {} );
+		return entityKey( "MetadataTable" );
+	}
+
+	private EntityKey entityKey(String table) {
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( table, new String[] {} );
 		EntityKey key = new EntityKey( keyMetadata, new Object[] {} );
 		return key;
 	}
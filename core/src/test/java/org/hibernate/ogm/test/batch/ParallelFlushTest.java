@@ -0,0 +1,220 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSessionFactory;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.compensation.ErrorHandler;
+import org.hibernate.ogm.compensation.ErrorHandlingStrategy;
+import org.hibernate.ogm.compensation.operation.OperationType;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.test.batch.BatchExecutionTest.SampleBatchableDatastoreProvider;
+import org.hibernate.ogm.test.batch.BatchExecutionTest.SampleBatchableDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.TestHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the execution of the operations of a flush in parallel, see {@link OgmProperties#PARALLEL_FLUSH_ENABLED}.
+ */
+public class ParallelFlushTest extends OgmTestCase {
+
+	private static final List<String> executedBatches = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<String> executingThreads = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<Thread> flushThreads = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<ErrorHandler.FailedGridDialectOperationContext> failedOperations = Collections.synchronizedList( new ArrayList<>() );
+
+	private static volatile boolean failOnHelicopter;
+
+	@Before
+	public void before() {
+		executedBatches.clear();
+		executingThreads.clear();
+		flushThreads.clear();
+		failedOperations.clear();
+		failOnHelicopter = false;
+	}
+
+	@Test
+	public void testTablesAreFlushedInParallel() throws Exception {
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			session.persist( helicopter( "Lama" ) );
+			session.persist( new Hypothesis( "hypo-2" ) );
+			transaction.commit();
+		}
+
+		// one batch per table, the operations of a table in the order of the queue
+		assertThat( executedBatches ).containsOnly( "Hypothesis,Hypothesis", "Helicopter" );
+		assertThat( executingThreads ).hasSize( 2 );
+		for ( String thread : executingThreads ) {
+			assertThat( thread ).startsWith( "Hibernate OGM parallel flush" );
+		}
+	}
+
+	@Test
+	public void testSingleTableIsFlushedByTheSessionThread() throws Exception {
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			session.persist( new Hypothesis( "hypo-2" ) );
+			transaction.commit();
+		}
+
+		assertThat( executedBatches ).containsOnly( "Hypothesis,Hypothesis" );
+		assertThat( executingThreads ).containsOnly( Thread.currentThread().getName() );
+	}
+
+	@Test
+	public void testFailureIsReportedToErrorHandler() throws Exception {
+		failOnHelicopter = true;
+
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			session.persist( helicopter( "Lama" ) );
+			try {
+				transaction.commit();
+				fail( "Expected exception wasn't raised" );
+			}
+			catch (Exception e) {
+				assertThat( hasCause( e, EntityAlreadyExistsException.class ) ).as( "Unexpected exception " + e ).isTrue();
+			}
+		}
+
+		// the partition of the other table is executed nevertheless
+		assertThat( executedBatches ).containsOnly( "Hypothesis", "Helicopter" );
+		assertThat( failedOperations ).hasSize( 1 );
+		assertThat( failedOperations.get( 0 ).getFailedOperation().getType() ).isEqualTo( OperationType.EXECUTE_BATCH );
+		assertThat( failedOperations.get( 0 ).getException() ).isInstanceOf( TupleAlreadyExistsException.class );
+	}
+
+	@Test
+	public void testThreadsAreStoppedWhenSessionFactoryIsClosed() throws Exception {
+		Map<String, Object> settings = new HashMap<>();
+		configure( settings );
+		OgmSessionFactory otherSessionFactory = TestHelper.getDefaultTestSessionFactory( settings, getAnnotatedClasses() );
+		try ( Session session = otherSessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			session.persist( helicopter( "Lama" ) );
+			transaction.commit();
+		}
+		finally {
+			otherSessionFactory.close();
+		}
+
+		// the idle threads would otherwise be kept alive for a minute
+		assertThat( flushThreads ).hasSize( 2 );
+		for ( Thread thread : flushThreads ) {
+			thread.join( 10_000 );
+			assertThat( thread.isAlive() ).as( thread.getName() + " is still alive" ).isFalse();
+		}
+	}
+
+	private static boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+		while ( throwable != null ) {
+			if ( type.isInstance( throwable ) ) {
+				return true;
+			}
+			throwable = throwable.getCause();
+		}
+		return false;
+	}
+
+	private static Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, ParallelFlushDatastoreProvider.class.getName() );
+		settings.put( OgmProperties.PARALLEL_FLUSH_ENABLED, true );
+		settings.put( OgmProperties.PARALLEL_FLUSH_MAX_THREADS, 2 );
+		settings.put( OgmProperties.ERROR_HANDLER, new RecordingErrorHandler() );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Hypothesis.class, Helicopter.class };
+	}
+
+	public static class ParallelFlushDatastoreProvider extends SampleBatchableDatastoreProvider {
+
+		@Override
+		public Class<? extends GridDialect> getDefaultDialect() {
+			return ParallelFlushDialect.class;
+		}
+	}
+
+	public static class ParallelFlushDialect extends SampleBatchableDialect {
+
+		public ParallelFlushDialect(ParallelFlushDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			List<String> tables = new ArrayList<>();
+			EntityKey helicopterKey = null;
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				EntityKey key = ( (GroupedChangesToEntityOperation) operation ).getEntityKey();
+				tables.add( key.getTable() );
+				if ( key.getTable().equals( "Helicopter" ) ) {
+					helicopterKey = key;
+				}
+				operation = queue.poll();
+			}
+			executedBatches.add( String.join( ",", tables ) );
+			executingThreads.add( Thread.currentThread().getName() );
+			if ( Thread.currentThread().getName().startsWith( "Hibernate OGM parallel flush" ) ) {
+				flushThreads.add( Thread.currentThread() );
+			}
+
+			if ( failOnHelicopter && helicopterKey != null ) {
+				throw new TupleAlreadyExistsException( helicopterKey );
+			}
+		}
+	}
+
+	private static class RecordingErrorHandler implements ErrorHandler {
+
+		@Override
+		public void onRollback(RollbackContext context) {
+		}
+
+		@Override
+		public ErrorHandlingStrategy onFailedGridDialectOperation(FailedGridDialectOperationContext context) {
+			failedOperations.add( context );
+			return ErrorHandlingStrategy.ABORT;
+		}
+	}
+}
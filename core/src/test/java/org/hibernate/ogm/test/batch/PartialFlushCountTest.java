@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.search.annotations.Indexed;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test that the partial flushes of a session can be read with {@link OgmSession#getPartialFlushCount()}.
+ */
+public class PartialFlushCountTest extends OgmTestCase {
+
+	@After
+	public void removeMoons() {
+		deleteAll( Moon.class, "moon-1", "moon-2" );
+	}
+
+	@Test
+	public void testPartialFlushesAreCountedPerSession() {
+		try ( OgmSession session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			assertThat( session.getPartialFlushCount() ).isEqualTo( 0 );
+
+			session.persist( new Moon( "moon-1", "Io" ) );
+			session.createQuery( "from Moon", Moon.class ).list();
+			assertThat( session.getPartialFlushCount() ).isEqualTo( 1 );
+
+			session.persist( new Moon( "moon-2", "Europa" ) );
+			session.createQuery( "from Moon", Moon.class ).list();
+			assertThat( session.getPartialFlushCount() ).isEqualTo( 2 );
+
+			transaction.commit();
+		}
+
+		try ( OgmSession session = openSession() ) {
+			assertThat( session.getPartialFlushCount() ).isEqualTo( 0 );
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Moon.class };
+	}
+
+	@Entity(name = "Moon")
+	@Indexed
+	public static class Moon {
+
+		@Id
+		private String id;
+		private String name;
+
+		public Moon() {
+		}
+
+		public Moon(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
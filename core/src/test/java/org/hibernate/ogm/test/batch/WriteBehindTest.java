@@ -0,0 +1,308 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.compensation.ErrorHandler;
+import org.hibernate.ogm.compensation.ErrorHandlingStrategy;
+import org.hibernate.ogm.compensation.operation.OperationType;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.test.batch.BatchExecutionTest.SampleBatchableDatastoreProvider;
+import org.hibernate.ogm.test.batch.BatchExecutionTest.SampleBatchableDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the asynchronous execution of the operations of flushes, see {@link OgmProperties#WRITE_BEHIND_ENABLED}.
+ */
+public class WriteBehindTest extends OgmTestCase {
+
+	private static final List<String> executedBatches = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<String> executingThreads = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<Object> writtenDescriptions = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<ErrorHandler.FailedGridDialectOperationContext> failedOperations = Collections.synchronizedList( new ArrayList<>() );
+
+	private static volatile boolean failOnHelicopter;
+	private static volatile CountDownLatch writerBlocked;
+	private static volatile CountDownLatch writerReleased;
+
+	@Before
+	public void before() {
+		executedBatches.clear();
+		executingThreads.clear();
+		writtenDescriptions.clear();
+		failedOperations.clear();
+		failOnHelicopter = false;
+		writerBlocked = null;
+		writerReleased = null;
+	}
+
+	@After
+	public void after() {
+		if ( writerReleased != null ) {
+			writerReleased.countDown();
+		}
+	}
+
+	@Test
+	public void testFlushIsWrittenByBackgroundThread() throws Exception {
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			transaction.commit();
+		}
+
+		assertThat( getSessionFactory().awaitWriteBehind( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		assertThat( executedBatches ).containsExactly( "Hypothesis[1]" );
+		assertThat( executingThreads ).containsOnly( "Hibernate OGM write-behind" );
+	}
+
+	@Test
+	public void testPendingChangesToSameEntityAreCoalesced() throws Exception {
+		blockWriter();
+
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			transaction.commit();
+			assertThat( writerBlocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			// the writer is busy with the first flush, the following ones are pending
+			transaction = session.beginTransaction();
+			Hypothesis hypothesis = new Hypothesis( "hypo-2" );
+			session.persist( hypothesis );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			hypothesis.setDescription( "Updated" );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-3" ) );
+			transaction.commit();
+		}
+
+		writerReleased.countDown();
+		getSessionFactory().awaitWriteBehind();
+
+		// hypo-2 is written once for both flushes, together with hypo-3
+		assertThat( executedBatches ).containsExactly( "Hypothesis[1]", "Hypothesis[1],Hypothesis[1]" );
+	}
+
+	@Test
+	public void testChangesAfterFlushAreNotSeenByPendingWrite() throws Exception {
+		blockWriter();
+
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Hypothesis hypothesis = new Hypothesis( "hypo-1" );
+			hypothesis.setDescription( "Initial" );
+			session.persist( hypothesis );
+			transaction.commit();
+			assertThat( writerBlocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			// the writer is busy with the first flush, the tuple it writes must not see these changes
+			transaction = session.beginTransaction();
+			hypothesis.setDescription( "Updated" );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			hypothesis.setDescription( "Updated again" );
+			transaction.commit();
+		}
+
+		writerReleased.countDown();
+		getSessionFactory().awaitWriteBehind();
+
+		// the second update is applied to the pending write of the first one
+		assertThat( executedBatches ).containsExactly( "Hypothesis[1]", "Hypothesis[1]" );
+		assertThat( writtenDescriptions ).containsExactly( "Initial", "Updated again" );
+	}
+
+	@Test
+	public void testFlushWaitsIfQueueIsFull() throws Exception {
+		blockWriter();
+
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-1" ) );
+			transaction.commit();
+			assertThat( writerBlocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-2" ) );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			session.persist( new Hypothesis( "hypo-3" ) );
+			transaction.commit();
+		}
+
+		// the queue has room for three operations
+		CompletableFuture<Void> blockedFlush = CompletableFuture.runAsync( () -> {
+			try ( Session session = openSession() ) {
+				Transaction transaction = session.beginTransaction();
+				session.persist( new Hypothesis( "hypo-4" ) );
+				transaction.commit();
+			}
+		} );
+
+		Thread.sleep( 200 );
+		assertThat( blockedFlush.isDone() ).isFalse();
+
+		writerReleased.countDown();
+		blockedFlush.get( 10, TimeUnit.SECONDS );
+		getSessionFactory().awaitWriteBehind();
+
+		// the blocked flush may have been merged with the pending ones
+		assertThat( executedBatches.get( 0 ) ).isEqualTo( "Hypothesis[1]" );
+		assertThat( String.join( ",", executedBatches ) ).isEqualTo( "Hypothesis[1],Hypothesis[1],Hypothesis[1],Hypothesis[1]" );
+	}
+
+	@Test
+	public void testFailureIsReportedToErrorHandlerAndBarrier() throws Exception {
+		failOnHelicopter = true;
+
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Helicopter helicopter = new Helicopter();
+			helicopter.setName( "Lama" );
+			session.persist( helicopter );
+			transaction.commit();
+		}
+
+		try {
+			getSessionFactory().awaitWriteBehind();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM000111" );
+		}
+
+		assertThat( failedOperations ).hasSize( 1 );
+		assertThat( failedOperations.get( 0 ).getFailedOperation().getType() ).isEqualTo( OperationType.EXECUTE_BATCH );
+		assertThat( failedOperations.get( 0 ).getException() ).isInstanceOf( TupleAlreadyExistsException.class );
+	}
+
+	private static void blockWriter() {
+		writerBlocked = new CountDownLatch( 1 );
+		writerReleased = new CountDownLatch( 1 );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, WriteBehindDatastoreProvider.class.getName() );
+		settings.put( OgmProperties.WRITE_BEHIND_ENABLED, true );
+		settings.put( OgmProperties.WRITE_BEHIND_QUEUE_SIZE, 3 );
+		settings.put( OgmProperties.ERROR_HANDLER, new RecordingErrorHandler() );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Hypothesis.class, Helicopter.class };
+	}
+
+	public static class WriteBehindDatastoreProvider extends SampleBatchableDatastoreProvider {
+
+		@Override
+		public Class<? extends GridDialect> getDefaultDialect() {
+			return WriteBehindDialect.class;
+		}
+	}
+
+	public static class WriteBehindDialect extends SampleBatchableDialect {
+
+		public WriteBehindDialect(WriteBehindDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			List<String> groups = new ArrayList<>();
+			List<Tuple> tuples = new ArrayList<>();
+			EntityKey helicopterKey = null;
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				GroupedChangesToEntityOperation groupedChanges = (GroupedChangesToEntityOperation) operation;
+				EntityKey key = groupedChanges.getEntityKey();
+				groups.add( key.getTable() + "[" + groupedChanges.getOperations().size() + "]" );
+				if ( key.getTable().equals( "Helicopter" ) ) {
+					helicopterKey = key;
+				}
+				for ( Operation groupedOperation : groupedChanges.getOperations() ) {
+					if ( groupedOperation instanceof InsertOrUpdateTupleOperation ) {
+						tuples.add( ( (InsertOrUpdateTupleOperation) groupedOperation ).getTuplePointer().getTuple() );
+					}
+				}
+				operation = queue.poll();
+			}
+			executedBatches.add( String.join( ",", groups ) );
+			executingThreads.add( Thread.currentThread().getName() );
+
+			CountDownLatch blocked = writerBlocked;
+			if ( blocked != null && blocked.getCount() > 0 ) {
+				blocked.countDown();
+				try {
+					writerReleased.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			// read once released, as a slow write would
+			for ( Tuple tuple : tuples ) {
+				if ( tuple.getColumnNames().contains( "description" ) ) {
+					writtenDescriptions.add( tuple.get( "description" ) );
+				}
+			}
+
+			if ( failOnHelicopter && helicopterKey != null ) {
+				throw new TupleAlreadyExistsException( helicopterKey );
+			}
+		}
+	}
+
+	private static class RecordingErrorHandler implements ErrorHandler {
+
+		@Override
+		public void onRollback(RollbackContext context) {
+		}
+
+		@Override
+		public ErrorHandlingStrategy onFailedGridDialectOperation(FailedGridDialectOperationContext context) {
+			failedOperations.add( context );
+			return ErrorHandlingStrategy.ABORT;
+		}
+	}
+}
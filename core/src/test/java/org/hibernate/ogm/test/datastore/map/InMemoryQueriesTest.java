@@ -0,0 +1,189 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.options.MapIndex;
+import org.hibernate.ogm.datastore.map.options.MapIndexType;
+import org.hibernate.ogm.datastore.map.options.MapIndexes;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.query.inmemory.impl.ColumnIndex;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the execution of JP-QL queries by the map datastore, see {@link MapProperties#IN_MEMORY_QUERIES}.
+ */
+public class InMemoryQueriesTest extends OgmTestCase {
+
+	@Before
+	public void populate() {
+		inTransaction( session -> {
+			session.persist( new Hike( 1L, "Tour du Mont Blanc", "France", 4 ) );
+			session.persist( new Hike( 2L, "Haute Route", "Switzerland", 5 ) );
+			session.persist( new Hike( 3L, "Alta Via 1", "Italy", 3 ) );
+			session.persist( new Hike( 4L, "GR20", "France", 5 ) );
+			session.persist( new Hike( 5L, "Walker's Haute Route", "Switzerland", null ) );
+		} );
+	}
+
+	@After
+	public void cleanUp() {
+		deleteAll( Hike.class, 1L, 2L, 3L, 4L, 5L );
+	}
+
+	@Test
+	public void testIndexesAreMaintained() {
+		ColumnIndex countryIndex = getProvider().getSecondaryIndexes( "Hike" ).getIndex( "country" );
+		assertThat( countryIndex.get( "France" ) ).hasSize( 2 );
+
+		inTransaction( session -> session.get( Hike.class, 4L ).setCountry( "Corsica" ) );
+
+		assertThat( countryIndex.get( "France" ) ).hasSize( 1 );
+		assertThat( countryIndex.get( "Corsica" ) ).hasSize( 1 );
+		assertThat( getProvider().getSecondaryIndexes( "Hike" ).getIndex( "name" ) ).isNull();
+	}
+
+	@Test
+	public void testEqualityOnHashIndex() {
+		assertThat( names( "from Hike h where h.country = 'France' order by h.name" ) ).containsExactly( "GR20", "Tour du Mont Blanc" );
+	}
+
+	@Test
+	public void testRangeOnSortedIndex() {
+		assertThat( names( "from Hike h where h.difficulty >= 4 order by h.id" ) ).containsExactly( "Tour du Mont Blanc", "Haute Route", "GR20" );
+		assertThat( names( "from Hike h where h.difficulty between 3 and 4 order by h.id" ) ).containsExactly( "Tour du Mont Blanc", "Alta Via 1" );
+	}
+
+	@Test
+	public void testConjunctionAndDisjunction() {
+		assertThat( names( "from Hike h where h.country = 'Switzerland' and h.difficulty = 5" ) ).containsExactly( "Haute Route" );
+		assertThat( names( "from Hike h where h.country in ('Italy', 'Switzerland') or h.difficulty < 4 order by h.id" ) )
+				.containsExactly( "Haute Route", "Alta Via 1", "Walker's Haute Route" );
+	}
+
+	@Test
+	public void testPredicatesWithoutIndex() {
+		assertThat( names( "from Hike h where h.name like '%Haute%' order by h.name desc" ) ).containsExactly( "Walker's Haute Route", "Haute Route" );
+		assertThat( names( "from Hike h where h.difficulty is null" ) ).containsExactly( "Walker's Haute Route" );
+		assertThat( names( "from Hike h where not h.country = 'France' and h.difficulty is not null order by h.id" ) ).containsExactly( "Haute Route", "Alta Via 1" );
+	}
+
+	@Test
+	public void testParametersAndPagination() {
+		inTransaction( session -> {
+			List<Hike> hikes = session.createQuery( "from Hike h where h.country = :country order by h.id", Hike.class )
+					.setParameter( "country", "Switzerland" )
+					.getResultList();
+			assertThat( hikes ).hasSize( 2 );
+
+			List<Hike> page = session.createQuery( "from Hike h order by h.id", Hike.class )
+					.setFirstResult( 1 )
+					.setMaxResults( 2 )
+					.getResultList();
+			assertThat( page ).onProperty( "id" ).containsExactly( 2L, 3L );
+		} );
+	}
+
+	@Test
+	public void testProjection() {
+		inTransaction( session -> {
+			List<?> result = session.createQuery( "select h.name, h.difficulty from Hike h where h.country = 'Italy'" ).getResultList();
+			assertThat( result ).hasSize( 1 );
+			assertThat( Arrays.asList( (Object[]) result.get( 0 ) ) ).containsExactly( "Alta Via 1", 3 );
+		} );
+	}
+
+	private List<String> names(String query) {
+		List<String> names = new ArrayList<>();
+		inTransaction( session -> names.addAll( session.createQuery( "select h.name " + query, String.class ).getResultList() ) );
+		return names;
+	}
+
+	private MapDatastoreProvider getProvider() {
+		return (MapDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( MapProperties.IN_MEMORY_QUERIES, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hike.class };
+	}
+
+	@Entity(name = "Hike")
+	@MapIndexes({
+		@MapIndex(column = "country"),
+		@MapIndex(column = "difficulty", type = MapIndexType.SORTED)
+	})
+	public static class Hike {
+
+		@Id
+		private Long id;
+		private String name;
+		private String country;
+		private Integer difficulty;
+
+		public Hike() {
+		}
+
+		public Hike(Long id, String name, String country, Integer difficulty) {
+			this.id = id;
+			this.name = name;
+			this.country = country;
+			this.difficulty = difficulty;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getCountry() {
+			return country;
+		}
+
+		public void setCountry(String country) {
+			this.country = country;
+		}
+
+		public Integer getDifficulty() {
+			return difficulty;
+		}
+
+		public void setDifficulty(Integer difficulty) {
+			this.difficulty = difficulty;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.TestHelper.inTransaction;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.OgmSessionFactory;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.Cloud;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.SnowFlake;
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.MapStorageType;
+import org.hibernate.ogm.utils.TestHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test the off-heap storage of the map datastore and its snapshot file.
+ */
+public class OffHeapMapStorageTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testEntitiesAndAssociationsAreStoredOffHeap() throws Exception {
+		try ( OgmSessionFactory sessionFactory = createSessionFactory( null ) ) {
+			String cloudId = persistCloud( sessionFactory );
+
+			inTransaction( sessionFactory, session -> {
+				Cloud cloud = session.get( Cloud.class, cloudId );
+				assertThat( cloud.getType() ).isEqualTo( "cumulus" );
+				assertThat( cloud.getProducedSnowFlakes() ).hasSize( 2 );
+
+				cloud.setLength( 20.5 );
+				SnowFlake removed = cloud.getProducedSnowFlakes().iterator().next();
+				cloud.getProducedSnowFlakes().remove( removed );
+				session.delete( removed );
+			} );
+
+			inTransaction( sessionFactory, session -> {
+				Cloud cloud = session.get( Cloud.class, cloudId );
+				assertThat( cloud.getLength() ).isEqualTo( 20.5 );
+				assertThat( cloud.getProducedSnowFlakes() ).hasSize( 1 );
+			} );
+
+			assertThat( TestHelper.getNumberOfEntities( sessionFactory ) ).isEqualTo( 2 );
+			assertThat( TestHelper.getNumberOfAssociations( sessionFactory ) ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testContentIsRestoredFromSnapshot() throws Exception {
+		File snapshot = new File( temporaryFolder.getRoot(), "map-datastore.snapshot" );
+
+		String cloudId;
+		try ( OgmSessionFactory sessionFactory = createSessionFactory( snapshot ) ) {
+			cloudId = persistCloud( sessionFactory );
+		}
+		assertThat( snapshot.exists() ).isTrue();
+
+		try ( OgmSessionFactory sessionFactory = createSessionFactory( snapshot ) ) {
+			assertThat( TestHelper.getNumberOfEntities( sessionFactory ) ).isEqualTo( 3 );
+			assertThat( TestHelper.getNumberOfAssociations( sessionFactory ) ).isEqualTo( 1 );
+
+			inTransaction( sessionFactory, session -> {
+				Cloud cloud = session.get( Cloud.class, cloudId );
+				assertThat( cloud.getType() ).isEqualTo( "cumulus" );
+				assertThat( cloud.getLength() ).isEqualTo( 12.5 );
+				assertThat( cloud.getProducedSnowFlakes() ).hasSize( 2 );
+			} );
+		}
+	}
+
+	private static String persistCloud(OgmSessionFactory sessionFactory) {
+		Cloud cloud = new Cloud();
+		cloud.setType( "cumulus" );
+		cloud.setLength( 12.5 );
+
+		inTransaction( sessionFactory, session -> {
+			for ( String description : new String[] { "Star", "Plate" } ) {
+				SnowFlake snowFlake = new SnowFlake();
+				snowFlake.setDescription( description );
+				session.persist( snowFlake );
+				cloud.getProducedSnowFlakes().add( snowFlake );
+			}
+			session.persist( cloud );
+		} );
+
+		return cloud.getId();
+	}
+
+	private static OgmSessionFactory createSessionFactory(File snapshot) {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( MapProperties.STORAGE, MapStorageType.OFF_HEAP );
+		if ( snapshot != null ) {
+			settings.put( MapProperties.SNAPSHOT_FILE, snapshot.getAbsolutePath() );
+		}
+		return TestHelper.getDefaultTestSessionFactory( settings, Cloud.class, SnowFlake.class );
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.metrics.DatastoreMetricsListener;
+import org.hibernate.ogm.metrics.DatastoreMetricsMBean;
+import org.hibernate.ogm.metrics.DatastoreOperationType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests the collection of datastore metrics, exposed via the listener SPI and via JMX.
+ */
+public class DatastoreMetricsTest extends OgmTestCase {
+
+	private static final String SESSION_FACTORY_NAME = "DatastoreMetricsTest";
+
+	private static final CollectingListener listener = new CollectingListener();
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.DATASTORE_METRICS_LISTENER, listener );
+		cfg.put( AvailableSettings.SESSION_FACTORY_NAME, SESSION_FACTORY_NAME );
+	}
+
+	@Test
+	public void listenerIsNotifiedAboutDatastoreOperations() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Sensor( "sensor-1", "Kitchen" ) );
+		transaction.commit();
+		session.clear();
+
+		listener.events.clear();
+
+		transaction = session.beginTransaction();
+		Sensor sensor = session.get( Sensor.class, "sensor-1" );
+		assertThat( sensor.getLocation() ).isEqualTo( "Kitchen" );
+		session.delete( sensor );
+		transaction.commit();
+		session.close();
+
+		DatastoreMetricsListener.DatastoreOperationEvent getTuple = listener.firstEvent( DatastoreOperationType.GET_TUPLE );
+		assertThat( getTuple ).isNotNull();
+		assertThat( getTuple.getTable() ).isEqualTo( "Sensor" );
+		assertThat( getTuple.getBatchSize() ).isEqualTo( 1 );
+		assertThat( getTuple.getPayloadSize() ).isEqualTo( 2 );
+		assertThat( getTuple.getDurationNanos() ).isGreaterThanOrEqualTo( 0 );
+		assertThat( getTuple.getException() ).isNull();
+
+		assertThat( listener.firstEvent( DatastoreOperationType.REMOVE_TUPLE ) ).isNotNull();
+	}
+
+	@Test
+	public void metricsAreExposedViaJmx() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Sensor( "sensor-2", "Garden" ) );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		session.delete( session.get( Sensor.class, "sensor-2" ) );
+		transaction.commit();
+		session.close();
+
+		ObjectName objectName = new ObjectName( DatastoreMetricsMBean.OBJECT_NAME_PREFIX + ObjectName.quote( SESSION_FACTORY_NAME ) );
+		DatastoreMetricsMBean metrics = JMX.newMBeanProxy( ManagementFactory.getPlatformMBeanServer(), objectName, DatastoreMetricsMBean.class );
+
+		assertThat( metrics.getTables() ).contains( "Sensor" );
+		assertThat( metrics.getOperations() ).contains( DatastoreOperationType.GET_TUPLE.name() );
+		assertThat( metrics.getOperationCount( DatastoreOperationType.GET_TUPLE.name(), "Sensor" ) ).isGreaterThanOrEqualTo( 1 );
+		assertThat( metrics.getOperationCount( null, null ) ).isGreaterThanOrEqualTo( metrics.getOperationCount( null, "Sensor" ) );
+		assertThat( metrics.getFailedOperationCount( null, null ) ).isEqualTo( 0 );
+
+		long histogramTotal = 0;
+		for ( long bucket : metrics.getLatencyHistogram( DatastoreOperationType.GET_TUPLE.name(), "Sensor" ) ) {
+			histogramTotal += bucket;
+		}
+		assertThat( histogramTotal ).isEqualTo( metrics.getOperationCount( DatastoreOperationType.GET_TUPLE.name(), "Sensor" ) );
+
+		metrics.clear();
+		assertThat( metrics.getOperationCount( null, null ) ).isEqualTo( 0 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Sensor.class };
+	}
+
+	private static class CollectingListener implements DatastoreMetricsListener {
+
+		private final List<DatastoreOperationEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onDatastoreOperation(DatastoreOperationEvent event) {
+			events.add( event );
+		}
+
+		DatastoreOperationEvent firstEvent(DatastoreOperationType operationType) {
+			List<DatastoreOperationEvent> matching = new ArrayList<>();
+			for ( DatastoreOperationEvent event : events ) {
+				if ( event.getOperationType() == operationType ) {
+					matching.add( event );
+				}
+			}
+			return matching.isEmpty() ? null : matching.get( 0 );
+		}
+	}
+}
@@ -90,6 +90,7 @@ public TupleTypeContext buildTupleTypeContext() {
 			return new TupleTypeContextImpl(
 					selectableColumns,
 					polymorphicEntityColumns,
+					Collections.<String>emptySet(),
 					associatedEntityMetadata,
 					roles,
 					optionsContext, null, null );
@@ -17,8 +17,11 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
@@ -26,6 +29,7 @@
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
 import org.hibernate.ogm.dialect.impl.ForwardingGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
@@ -124,6 +128,13 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return association;
 	}
 
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext) {
+		AssociationWithTargets associationWithTargets = super.getAssociationWithTargets( key, associationContext, targetTupleContext );
+		log( "getAssociationWithTargets", key.toString(), associationWithTargets != null ? associationWithTargets.toString() : "null" );
+		return associationWithTargets;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Association association = super.createAssociation( key, associationContext );
@@ -143,6 +154,26 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		log( "removeAssociation", key.toString(), "VOID" );
 	}
 
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		super.updateAssociationRows( key, changes, associationContext );
+		log( "updateAssociationRows", key.toString() + ", " + changes, "VOID" );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		int size = super.getAssociationSize( key, associationContext );
+		log( "getAssociationSize", key.toString(), String.valueOf( size ) );
+		return size;
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		boolean contained = super.containsAssociationRow( key, rowColumns, associationContext );
+		log( "containsAssociationRow", key.toString() + ", " + rowColumns, String.valueOf( contained ) );
+		return contained;
+	}
+
 	@Override
 	public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
 		boolean success = super.updateTupleWithOptimisticLock( entityKey, oldLockState, tuple, tupleContext );
@@ -179,6 +210,26 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<Serializable> qu
 	public void executeBatch(OperationsQueue queue) {
 		OperationsQueue newQueue = new OperationsQueue();
 		StringBuilder sb = new StringBuilder();
+		List<String> subOperations = drainQueue( queue, newQueue, sb );
+
+		super.executeBatch( newQueue );
+
+		log( "executeBatch[" + StringHelper.join( subOperations, "," ) + "]", sb.toString(), "VOID" );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		OperationsQueue newQueue = new OperationsQueue();
+		StringBuilder sb = new StringBuilder();
+		List<String> subOperations = drainQueue( queue, newQueue, sb );
+
+		CompletionStage<Void> result = super.executeBatchAsync( newQueue );
+
+		log( "executeBatchAsync[" + StringHelper.join( subOperations, "," ) + "]", sb.toString(), "STAGE" );
+		return result;
+	}
+
+	private List<String> drainQueue(OperationsQueue queue, OperationsQueue newQueue, StringBuilder sb) {
 		List<String> subOperations = new ArrayList<String>();
 
 		if ( !queue.isClosed() ) {
@@ -210,9 +261,7 @@ public void executeBatch(OperationsQueue queue) {
 			}
 		}
 
-		super.executeBatch( newQueue );
-
-		log( "executeBatch[" + StringHelper.join( subOperations, "," ) + "]", sb.toString(), "VOID" );
+		return subOperations;
 	}
 
 	private void appendSimpleOperation(StringBuilder log, List<String> subOperations, Operation operation) {
@@ -232,6 +281,10 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			log.append( "RemoveAssociation(" ).append( ( (RemoveAssociationOperation) operation ).getAssociationKey() ).append( " )" );
 			subOperations.add( "removeAssociation" );
 		}
+		else if ( operation instanceof UpdateAssociationRowsOperation ) {
+			log.append( "UpdateAssociationRows(" ).append( ( (UpdateAssociationRowsOperation) operation ).getAssociationKey() ).append( " )" );
+			subOperations.add( "updateAssociationRows" );
+		}
 	}
 
 	private void log(String operation, String parameters, String returnValue) {
@@ -6,12 +6,19 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
+import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 import org.hibernate.LockMode;
@@ -20,28 +27,44 @@
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.AssociationUpdateFunction;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanPessimisticWriteLockingStrategy;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanTupleSnapshot;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.LocalSessionFactories;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.TupleUpdateFunction;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.WholeEntryAssociationSnapshot;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedStoredProceduresManager;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.EntryStorageOption;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.locality.spi.DataLocalityAwareGridDialect;
+import org.hibernate.ogm.dialect.locality.spi.LocalTuplesConsumer;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.SessionFactoryLifecycleAwareDialect;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
 import org.hibernate.ogm.dialect.storedprocedure.spi.StoredProcedureAwareGridDialect;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
@@ -50,18 +73,28 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.options.spi.OptionsContext;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 import org.hibernate.ogm.util.impl.EffectivelyFinal;
 import org.hibernate.persister.entity.Lockable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 
+import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.stream.CacheCollectors;
+import org.infinispan.util.function.SerializableFunction;
 
 /**
  * EK is the entity cache key type
@@ -71,7 +104,10 @@
  * @author Emmanuel Bernard
  * @author Fabio Massimo Ercoli
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements StoredProcedureAwareGridDialect, ServiceRegistryAwareService {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements StoredProcedureAwareGridDialect, ServiceRegistryAwareService,
+		SessionFactoryLifecycleAwareDialect, DataLocalityAwareGridDialect, Stoppable {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private final InfinispanEmbeddedDatastoreProvider provider;
 	private final InfinispanEmbeddedStoredProceduresManager storedProceduresDelegate;
@@ -79,6 +115,12 @@
 	@EffectivelyFinal
 	private ClassLoaderService classLoaderService;
 
+	/**
+	 * Set when the session factory is registered for the mass indexing run by the other nodes
+	 */
+	@EffectivelyFinal
+	private SessionFactoryImplementor localSessionFactory;
+
 	public InfinispanDialect(InfinispanEmbeddedDatastoreProvider provider) {
 		this.provider = provider;
 		storedProceduresDelegate = new InfinispanEmbeddedStoredProceduresManager();
@@ -120,9 +162,17 @@ else if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+		if ( isStoredAsWholeEntry( operationContext ) ) {
+			return getTupleFromWholeEntry( cache.get( cacheKey ) );
+		}
 		return getTupleFromCacheKey( cacheKey, cache );
 	}
 
+	private static Tuple getTupleFromWholeEntry(Map<String, Object> entry) {
+		// the stored map is never modified, so it can be used as snapshot as is
+		return entry == null ? null : new Tuple( new MapTupleSnapshot( entry ), SnapshotType.UPDATE );
+	}
+
 	private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> cache) {
 		FineGrainedAtomicMap<String, Object> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap(
 				cache,
@@ -139,6 +189,11 @@ private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> ca
 
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
+		if ( isStoredAsWholeEntry( operationContext ) ) {
+			// the entry is written when the tuple is inserted
+			return new Tuple();
+		}
+
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
 		//should we improve?
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
@@ -150,15 +205,27 @@ public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
 		Tuple tuple = tuplePointer.getTuple();
-		Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
-		MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
+		if ( isStoredAsWholeEntry( tupleContext ) ) {
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+			EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+			cache.compute( cacheKey, new TupleUpdateFunction( tuple ) );
+		}
+		else {
+			Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
+			MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
+		}
 	}
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
-		AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		if ( isStoredAsWholeEntry( tupleContext ) ) {
+			cache.getAdvancedCache().withFlags( Flag.IGNORE_RETURN_VALUES ).remove( cacheKey );
+		}
+		else {
+			AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		}
 	}
 
 	@Override
@@ -167,12 +234,22 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 				key.getMetadata()
 		);
 		AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
+		if ( isStoredAsWholeEntry( associationContext ) ) {
+			// the stored map is never modified, so it can be used as snapshot as is
+			Map<RowKey, Map<String, Object>> entry = cache.get( cacheKey );
+			return entry == null ? null : new Association( new WholeEntryAssociationSnapshot( entry ) );
+		}
 		Map<RowKey, Map<String, Object>> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, false );
 		return atomicMap == null ? null : new Association( new MapAssociationSnapshot( atomicMap ) );
 	}
 
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+		if ( isStoredAsWholeEntry( associationContext ) ) {
+			// the entry is written when the association is inserted
+			return new Association( new WholeEntryAssociationSnapshot( null ) );
+		}
+
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
 		//should we improve?
 		Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache(
@@ -185,7 +262,17 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
-		MapHelpers.updateAssociation( association );
+		if ( isStoredAsWholeEntry( associationContext ) ) {
+			Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache( key.getMetadata() );
+			AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
+			Map<RowKey, Map<String, Object>> stored = cache.compute( cacheKey, new AssociationUpdateFunction( association ) );
+			// the next flush must only apply the later changes, not replay these ones on a value changed meanwhile
+			( (WholeEntryAssociationSnapshot) association.getSnapshot() ).setRows( stored );
+			association.reset();
+		}
+		else {
+			MapHelpers.updateAssociation( association );
+		}
 	}
 
 	@Override
@@ -194,7 +281,12 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 				key.getMetadata()
 		);
 		AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
-		AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		if ( isStoredAsWholeEntry( associationContext ) ) {
+			cache.getAdvancedCache().withFlags( Flag.IGNORE_RETURN_VALUES ).remove( cacheKey );
+		}
+		else {
+			AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		}
 	}
 
 	@Override
@@ -210,9 +302,10 @@ public Number nextValue(NextValueRequest request) {
 	@Override
 	public void forEachTuple( ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata ) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor( entityKeyMetadata );
+		boolean wholeEntry = tupleTypeContext != null && isStoredAsWholeEntry( tupleTypeContext.getOptionsContext() );
 
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = new HashMap<>();
+			Map<EK, Object> queryResult = new HashMap<>();
 
 			List<CacheEntry<EK, Map<String, Object>>> collect = bucket.getCache().getAdvancedCache().cacheEntrySet()
 				.stream()
@@ -220,14 +313,16 @@ public void forEachTuple( ModelConsumer consumer, TupleTypeContext tupleTypeCont
 				// also collector needs to be Serializable (for non local caches)
 				.collect( CacheCollectors.serializableCollector( () -> Collectors.toList() ) );
 
-			for ( CacheEntry<EK, Map<String, Object>> entry : collect ) {
+			// the values are not typed as maps, see below
+			for ( CacheEntry<EK, ?> entry : collect ) {
 				queryResult.put( entry.getKey(), entry.getValue() );
 			}
 
 			// At runtime values of queryResult will be members of class org.infinispan.atomic.impl.AtomicKeySetImpl
 			// this is because of the new implementation of FineGrainedAtomicMap Infinispan class (since 9.1)
-			// query result return anyway valid keys, the values will be reloaded later by the InfinispanTupleIterator
-			InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( bucket.getCache(), queryResult );
+			// query result return anyway valid keys, the values will be reloaded later by the InfinispanTupleIterator;
+			// whole entries are plain maps and are returned as is
+			InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( bucket.getCache(), queryResult, wholeEntry );
 			consumer.consume( supplier );
 		}
 	}
@@ -253,31 +348,138 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 	}
 
+	@Override
+	public void sessionFactoryCreated(SessionFactoryImplementor sessionFactoryImplementor) {
+		if ( provider.isMassIndexingDataLocality() ) {
+			// the tasks sent by the other nodes look the session factory up through the cache manager
+			LocalSessionFactories.getInstance( getCacheManager().getCacheManager() ).register( sessionFactoryImplementor );
+			localSessionFactory = sessionFactoryImplementor;
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( localSessionFactory != null ) {
+			LocalSessionFactories.getInstance( getCacheManager().getCacheManager() ).unregister( localSessionFactory );
+		}
+	}
+
+	@Override
+	public boolean isDataLocalityAware(EntityKeyMetadata entityKeyMetadata) {
+		if ( !provider.isMassIndexingDataLocality() ) {
+			return false;
+		}
+		CacheMode cacheMode = getCacheManager().getEntityCache( entityKeyMetadata ).getCacheConfiguration().clustering().cacheMode();
+		return cacheMode.isDistributed() || cacheMode.isReplicated();
+	}
+
+	@Override
+	public void forEachTupleWhereStored(LocalTuplesConsumer consumer, String entityName, EntityKeyMetadata entityKeyMetadata, LongConsumer progress) {
+		long timeout = provider.getMassIndexingTimeout();
+		LocalTuplesTask task = new LocalTuplesTask( consumer, entityName, entityKeyMetadata.getTable(), entityKeyMetadata.getColumnNames() );
+		List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+
+		CompletableFuture<Void> done = getCacheManager().getCacheManager().executor()
+				.timeout( timeout, TimeUnit.MILLISECONDS )
+				.submitConsumer( task, (address, count, throwable) -> {
+					if ( throwable != null ) {
+						failures.add( log.massIndexingFailedOnNode( entityName, address, throwable ) );
+					}
+					else {
+						progress.accept( count );
+					}
+				} );
+
+		try {
+			done.join();
+		}
+		catch (CompletionException e) {
+			failures.add( log.massIndexingFailed( entityName, e.getCause() ) );
+		}
+		if ( !failures.isEmpty() ) {
+			RuntimeException failure = failures.get( 0 );
+			for ( int i = 1; i < failures.size(); i++ ) {
+				failure.addSuppressed( failures.get( i ) );
+			}
+			throw failure;
+		}
+	}
+
+	/*
+	 * Runs on each node, with the dialect of that node
+	 */
+	private long consumeLocalTuples(LocalTuplesConsumer consumer, SessionFactoryImplementor sessionFactory, String entityName, EntityKeyMetadata entityKeyMetadata) {
+		OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( entityName );
+		boolean wholeEntry = isStoredAsWholeEntry( persister.getTupleTypeContext().getOptionsContext() );
+
+		long count = 0;
+		for ( Bucket<EK> bucket : getCacheManager().getWorkBucketsFor( entityKeyMetadata ) ) {
+			// the entries are collected before the consumer loads the tuples, as for forEachTuple()
+			Map<EK, Object> queryResult = primaryOwnerEntries( bucket.getCache(), entityKeyMetadata );
+			count += consumer.consume( sessionFactory, new InfinispanTuplesSupplier<>( bucket.getCache(), queryResult, wholeEntry ) );
+		}
+		return count;
+	}
+
+	/*
+	 * The entries stored on the current node for which it is the primary owner, so that each entry is consumed by a
+	 * single node
+	 */
+	private Map<EK, Object> primaryOwnerEntries(Cache<EK, Map<String, Object>> cache, EntityKeyMetadata entityKeyMetadata) {
+		AdvancedCache<EK, Map<String, Object>> localCache = cache.getAdvancedCache().withFlags( Flag.CACHE_MODE_LOCAL );
+		CacheStream<CacheEntry<EK, Map<String, Object>>> entries = localCache.cacheEntrySet().stream();
+
+		DistributionManager distributionManager = localCache.getDistributionManager();
+		if ( distributionManager != null ) {
+			entries = entries.filterKeySegments( primarySegments( distributionManager.getCacheTopology() ) );
+		}
+
+		Map<EK, Object> queryResult = new HashMap<>();
+		try ( CacheStream<CacheEntry<EK, Map<String, Object>>> filtered = entries.filter( getKeyProvider().getFilter( entityKeyMetadata ) ) ) {
+			filtered.forEach( entry -> queryResult.put( entry.getKey(), entry.getValue() ) );
+		}
+		return queryResult;
+	}
+
+	private static Set<Integer> primarySegments(LocalizedCacheTopology topology) {
+		Set<Integer> segments = new HashSet<>();
+		for ( Integer segment : topology.getLocalReadSegments() ) {
+			if ( topology.getSegmentDistribution( segment ).isPrimary() ) {
+				segments.add( segment );
+			}
+		}
+		return segments;
+	}
+
 	private class InfinispanTuplesSupplier<SEK> implements TuplesSupplier {
 
-		private final Map<SEK, Map<String, Object>> queryResult;
+		private final Map<SEK, Object> queryResult;
 		private final Cache<SEK, Map<String, Object>> cache;
+		private final boolean wholeEntry;
 
-		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, Map<SEK, Map<String, Object>> queryResult) {
+		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, Map<SEK, Object> queryResult, boolean wholeEntry) {
 			this.cache = cache;
 			this.queryResult = queryResult;
+			this.wholeEntry = wholeEntry;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			Iterator<Entry<SEK, Map<String, Object>>> iterator = queryResult.entrySet().iterator();
-			return new InfinispanTupleIterator( cache, iterator );
+			Iterator<Entry<SEK, Object>> iterator = queryResult.entrySet().iterator();
+			return new InfinispanTupleIterator( cache, iterator, wholeEntry );
 		}
 	}
 
 	private class InfinispanTupleIterator<IEK> implements ClosableIterator<Tuple> {
 
-		private final Iterator<Entry<IEK, Map<String, Object>>> iterator;
+		private final Iterator<Entry<IEK, Object>> iterator;
 		private final Cache<IEK, Map<String, Object>> cache;
+		private final boolean wholeEntry;
 
-		public InfinispanTupleIterator(Cache<IEK, Map<String, Object>> cache, Iterator<Entry<IEK, Map<String, Object>>> iterator) {
+		public InfinispanTupleIterator(Cache<IEK, Map<String, Object>> cache, Iterator<Entry<IEK, Object>> iterator, boolean wholeEntry) {
 			this.cache = cache;
 			this.iterator = iterator;
+			this.wholeEntry = wholeEntry;
 		}
 
 		@Override
@@ -286,8 +488,12 @@ public boolean hasNext() {
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public Tuple next() {
-			Entry<IEK, Map<String, Object>> entry = iterator.next();
+			Entry<IEK, Object> entry = iterator.next();
+			if ( wholeEntry ) {
+				return getTupleFromWholeEntry( (Map<String, Object>) entry.getValue() );
+			}
 			return getTupleFromCacheKey( (EK) entry.getKey(), (Cache<EK, Map<String, Object>>) cache );
 		}
 
@@ -296,6 +502,38 @@ public void close() {
 		}
 	}
 
+	/**
+	 * Consumes the tuples of an entity type on a node of the cluster, with the session factory and the dialect running
+	 * on that node.
+	 */
+	private static class LocalTuplesTask implements SerializableFunction<EmbeddedCacheManager, Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final LocalTuplesConsumer consumer;
+		private final String entityName;
+		private final String table;
+		private final String[] columnNames;
+
+		LocalTuplesTask(LocalTuplesConsumer consumer, String entityName, String table, String[] columnNames) {
+			this.consumer = consumer;
+			this.entityName = entityName;
+			this.table = table;
+			this.columnNames = columnNames;
+		}
+
+		@Override
+		public Long apply(EmbeddedCacheManager cacheManager) {
+			SessionFactoryImplementor sessionFactory = LocalSessionFactories.getInstance( cacheManager ).get( entityName );
+			if ( sessionFactory == null ) {
+				throw log.noSessionFactoryForMassIndexing( entityName, cacheManager.getAddress() );
+			}
+			GridDialect gridDialect = sessionFactory.getServiceRegistry().getService( GridDialect.class );
+			InfinispanDialect<?, ?, ?> dialect = GridDialects.getDelegateOrNull( gridDialect, InfinispanDialect.class );
+			return dialect.consumeLocalTuples( consumer, sessionFactory, entityName, new DefaultEntityKeyMetadata( table, columnNames ) );
+		}
+	}
+
 	/**
 	 * With the introduction of Infinispan clustered counter
 	 * SequenceGenerator strategy is now supported
@@ -307,4 +545,16 @@ public boolean supportsSequences() {
 		return true;
 	}
 
+	// the contexts are null when the dialect is invoked directly rather than by the persisters
+	private static boolean isStoredAsWholeEntry(OperationContext operationContext) {
+		return operationContext != null && isStoredAsWholeEntry( operationContext.getTupleTypeContext().getOptionsContext() );
+	}
+
+	private static boolean isStoredAsWholeEntry(AssociationContext associationContext) {
+		return associationContext != null && isStoredAsWholeEntry( associationContext.getAssociationTypeContext().getOptionsContext() );
+	}
+
+	private static boolean isStoredAsWholeEntry(OptionsContext optionsContext) {
+		return optionsContext.getUnique( EntryStorageOption.class ) == EntryStorageType.WHOLE_ENTRY;
+	}
 }
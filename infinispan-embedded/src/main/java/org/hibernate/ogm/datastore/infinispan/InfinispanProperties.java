@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.infinispan;
 
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
 import org.hibernate.ogm.datastore.keyvalue.cfg.KeyValueStoreProperties;
 
 /**
@@ -30,6 +31,43 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * Property for enabling the compact key format, which replaces the table and column names of each key by a small
+	 * id and writes the column values of the common id types without type information. It reduces the size of the
+	 * keys sent to other nodes, written to cache stores or kept in binary form. Only applies to the
+	 * {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType#CACHE_PER_KIND} cache mapping. Accepted
+	 * values are {@code true} and {@code false}, defaults to {@code false}.
+	 * <p>
+	 * Keys written in the previous format can still be read once this is enabled, and compact keys can still be read
+	 * after disabling it again. As all the nodes need to read the compact keys, enable it only once all the nodes of
+	 * the cluster run a version of Hibernate OGM supporting it and map the same entities.
+	 */
+	public static final String COMPACT_KEYS = "hibernate.ogm.infinispan.compact_keys";
+
+	/**
+	 * Property for setting how entities and associations are stored within their cache entries, unless configured
+	 * otherwise on the entity or property level. Supported values are the {@link EntryStorageType} enum or the String
+	 * representations of its constants. Defaults to {@link EntryStorageType#FINE_GRAINED_ATOMIC_MAP}.
+	 */
+	public static final String ENTRY_STORAGE = "hibernate.ogm.infinispan.entry_storage";
+
+	/**
+	 * Property for building the documents of the mass indexer on the nodes storing the entities, rather than on the
+	 * node running the mass indexer, when the entities are stored in distributed or replicated caches. Each node
+	 * indexes the entries of the segments it is the primary owner of. Accepted values are {@code true} and
+	 * {@code false}, defaults to {@code false}.
+	 * <p>
+	 * The session factory must run on every node of the cluster, and all the nodes must write to the same indexes,
+	 * e.g. through Elasticsearch or a shared directory. The topology of the cluster should not change while indexing.
+	 */
+	public static final String MASS_INDEXING_DATA_LOCALITY = "hibernate.ogm.infinispan.mass_indexing.data_locality";
+
+	/**
+	 * Property for setting how long, in milliseconds, the mass indexer waits for the nodes to index their entities,
+	 * when {@link #MASS_INDEXING_DATA_LOCALITY} is enabled. Defaults to one hour.
+	 */
+	public static final String MASS_INDEXING_TIMEOUT = "hibernate.ogm.infinispan.mass_indexing.timeout";
+
 	private InfinispanProperties() {
 	}
 }
@@ -8,12 +8,13 @@
 
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
-import org.hibernate.ogm.util.impl.Log;
-import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 
 /**
@@ -27,8 +28,13 @@ public class InfinispanConfiguration {
 
 	private static final String INFINISPAN_DEFAULT_CONFIG = "org/hibernate/ogm/datastore/infinispan/default-config.xml";
 
+	private static final long DEFAULT_MASS_INDEXING_TIMEOUT = TimeUnit.HOURS.toMillis( 1 );
+
 	private URL configUrl;
 	private String jndi;
+	private boolean compactKeys;
+	private boolean massIndexingDataLocality;
+	private long massIndexingTimeout;
 
 	/**
 	 * The location of the configuration file.
@@ -50,6 +56,36 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Whether keys should be written in the compact format.
+	 *
+	 * @see InfinispanProperties#COMPACT_KEYS
+	 * @return {@code true} if keys should be written in the compact format
+	 */
+	public boolean isCompactKeys() {
+		return compactKeys;
+	}
+
+	/**
+	 * Whether the mass indexer should build the documents on the nodes storing the entities.
+	 *
+	 * @see InfinispanProperties#MASS_INDEXING_DATA_LOCALITY
+	 * @return {@code true} if the documents should be built on the nodes storing the entities
+	 */
+	public boolean isMassIndexingDataLocality() {
+		return massIndexingDataLocality;
+	}
+
+	/**
+	 * How long the mass indexer waits for the nodes to index their entities.
+	 *
+	 * @see InfinispanProperties#MASS_INDEXING_TIMEOUT
+	 * @return the timeout in milliseconds
+	 */
+	public long getMassIndexingTimeout() {
+		return massIndexingTimeout;
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -68,6 +104,26 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.compactKeys = propertyReader
+				.property( InfinispanProperties.COMPACT_KEYS, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		this.massIndexingDataLocality = propertyReader
+				.property( InfinispanProperties.MASS_INDEXING_DATA_LOCALITY, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		this.massIndexingTimeout = propertyReader
+				.property( InfinispanProperties.MASS_INDEXING_TIMEOUT, long.class )
+				.withDefault( DEFAULT_MASS_INDEXING_TIMEOUT )
+				.withValidator( value -> {
+					if ( value <= 0 ) {
+						throw log.invalidMassIndexingTimeout( value );
+					}
+				} )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
 }
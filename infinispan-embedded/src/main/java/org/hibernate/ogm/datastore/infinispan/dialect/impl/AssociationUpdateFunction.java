@@ -0,0 +1,70 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.infinispan.util.function.SerializableBiFunction;
+
+/**
+ * Applies the changes of an {@link Association} to an association stored as {@link EntryStorageType#WHOLE_ENTRY}.
+ * <p>
+ * The stored map is never modified, a new one is returned instead; the entry is removed once the association has no
+ * more rows.
+ */
+public class AssociationUpdateFunction implements SerializableBiFunction<Object, Map<RowKey, Map<String, Object>>, Map<RowKey, Map<String, Object>>> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean cleared;
+
+	/**
+	 * The new rows and the keys of the removed rows, mapped to {@code null}
+	 */
+	private final LinkedHashMap<RowKey, Map<String, Object>> changes;
+
+	public AssociationUpdateFunction(Association association) {
+		boolean cleared = false;
+		this.changes = new LinkedHashMap<>();
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case CLEAR:
+					cleared = true;
+					changes.clear();
+					break;
+				case PUT:
+					changes.put( operation.getKey(), MapHelpers.associationRowToMap( operation.getValue() ) );
+					break;
+				case REMOVE:
+					changes.put( operation.getKey(), null );
+					break;
+			}
+		}
+		this.cleared = cleared;
+	}
+
+	@Override
+	public Map<RowKey, Map<String, Object>> apply(Object key, Map<RowKey, Map<String, Object>> current) {
+		Map<RowKey, Map<String, Object>> updated = current == null || cleared ? new HashMap<>( changes.size() ) : new HashMap<>( current );
+		for ( Map.Entry<RowKey, Map<String, Object>> change : changes.entrySet() ) {
+			if ( change.getValue() == null ) {
+				updated.remove( change.getKey() );
+			}
+			else {
+				updated.put( change.getKey(), change.getValue() );
+			}
+		}
+		return updated.isEmpty() ? null : updated;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.infinispan.factories.GlobalComponentRegistry;
+import org.infinispan.manager.EmbeddedCacheManager;
+
+/**
+ * The session factories running on the current node, by the names of the entities they map.
+ * <p>
+ * An instance is registered as a component of each cache manager, so that the tasks sent to a node by the other
+ * members of the cluster find the session factory of that node.
+ */
+public class LocalSessionFactories {
+
+	private final ConcurrentMap<String, SessionFactoryImplementor> sessionFactories = new ConcurrentHashMap<>();
+
+	private LocalSessionFactories() {
+	}
+
+	/**
+	 * Returns the session factories registered with the given cache manager.
+	 *
+	 * @param cacheManager the cache manager of the current node
+	 * @return the session factories of the current node
+	 */
+	public static synchronized LocalSessionFactories getInstance(EmbeddedCacheManager cacheManager) {
+		GlobalComponentRegistry componentRegistry = cacheManager.getGlobalComponentRegistry();
+		LocalSessionFactories instance = componentRegistry.getComponent( LocalSessionFactories.class );
+		if ( instance == null ) {
+			instance = new LocalSessionFactories();
+			componentRegistry.registerComponent( instance, LocalSessionFactories.class );
+		}
+		return instance;
+	}
+
+	/**
+	 * Registers the given session factory for all the entities it maps.
+	 *
+	 * @param sessionFactory the session factory to register
+	 */
+	public void register(SessionFactoryImplementor sessionFactory) {
+		for ( String entityName : sessionFactory.getMetamodel().getAllEntityNames() ) {
+			sessionFactories.put( entityName, sessionFactory );
+		}
+	}
+
+	/**
+	 * Unregisters the given session factory, once it is closed.
+	 *
+	 * @param sessionFactory the session factory to unregister
+	 */
+	public void unregister(SessionFactoryImplementor sessionFactory) {
+		sessionFactories.values().removeIf( registered -> registered == sessionFactory );
+	}
+
+	/**
+	 * Returns the session factory mapping the given entity.
+	 *
+	 * @param entityName the name of the entity
+	 * @return the session factory, {@code null} if no open session factory maps the entity on the current node
+	 */
+	public SessionFactoryImplementor get(String entityName) {
+		return sessionFactories.get( entityName );
+	}
+}
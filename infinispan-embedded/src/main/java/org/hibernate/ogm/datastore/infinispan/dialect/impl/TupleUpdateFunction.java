@@ -0,0 +1,60 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.infinispan.util.function.SerializableBiFunction;
+
+/**
+ * Applies the changes of a {@link Tuple} to an entity stored as {@link EntryStorageType#WHOLE_ENTRY}.
+ * <p>
+ * The stored map is never modified, a new one is returned instead. As the function is applied to the current value of
+ * the entry, concurrent changes to other columns are preserved.
+ */
+public class TupleUpdateFunction implements SerializableBiFunction<Object, Map<String, Object>, Map<String, Object>> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The new values of the changed columns; {@code null} for removed columns
+	 */
+	private final HashMap<String, Object> changes;
+
+	public TupleUpdateFunction(Tuple tuple) {
+		this.changes = new HashMap<>();
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			switch ( operation.getType() ) {
+				case PUT:
+					changes.put( operation.getColumn(), operation.getValue() );
+					break;
+				case REMOVE:
+				case PUT_NULL:
+					changes.put( operation.getColumn(), null );
+					break;
+			}
+		}
+	}
+
+	@Override
+	public Map<String, Object> apply(Object key, Map<String, Object> current) {
+		Map<String, Object> updated = current == null ? new HashMap<>( changes.size() ) : new HashMap<>( current );
+		for ( Map.Entry<String, Object> change : changes.entrySet() ) {
+			if ( change.getValue() == null ) {
+				updated.remove( change.getKey() );
+			}
+			else {
+				updated.put( change.getKey(), change.getValue() );
+			}
+		}
+		return updated;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+
+/**
+ * The snapshot of an association stored as {@link EntryStorageType#WHOLE_ENTRY}.
+ * <p>
+ * The stored maps are never modified; once the changes of the association have been written, the snapshot is moved to
+ * the stored map, so that the operations of the association can be reset.
+ */
+public final class WholeEntryAssociationSnapshot implements AssociationSnapshot {
+
+	private volatile Map<RowKey, Map<String, Object>> rows;
+
+	/**
+	 * @param rows the stored rows or {@code null} if the association is not stored yet
+	 */
+	public WholeEntryAssociationSnapshot(Map<RowKey, Map<String, Object>> rows) {
+		setRows( rows );
+	}
+
+	/**
+	 * @param rows the rows now stored or {@code null} if the entry has been removed
+	 */
+	public void setRows(Map<RowKey, Map<String, Object>> rows) {
+		this.rows = rows == null ? Collections.<RowKey, Map<String, Object>>emptyMap() : rows;
+	}
+
+	@Override
+	public Tuple get(RowKey rowKey) {
+		Map<String, Object> row = rows.get( rowKey );
+		return row == null ? null : new Tuple( new MapTupleSnapshot( row ), SnapshotType.UPDATE );
+	}
+
+	@Override
+	public boolean containsKey(RowKey rowKey) {
+		return rows.containsKey( rowKey );
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public Set<RowKey> getRowKeys() {
+		return rows.keySet();
+	}
+}
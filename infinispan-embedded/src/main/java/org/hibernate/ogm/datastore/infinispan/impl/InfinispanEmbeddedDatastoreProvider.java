@@ -113,7 +113,8 @@ public void initializePersistenceStrategy(CacheMappingType cacheMappingType, Set
 				jtaPlatform,
 				entityTypes,
 				associationTypes,
-				idSourceTypes
+				idSourceTypes,
+				config.isCompactKeys()
 		);
 
 		// creates handler for TableGenerator Id sources
@@ -152,10 +153,24 @@ private boolean hasIdGeneration(Set<IdSourceKeyMetadata> idSourceKeys) {
 		return persistenceStrategy.getKeyProvider();
 	}
 
+	/**
+	 * Whether the mass indexer should build the documents on the nodes storing the entities.
+	 */
+	public boolean isMassIndexingDataLocality() {
+		return config.isMassIndexingDataLocality();
+	}
+
+	/**
+	 * How long the mass indexer waits for the nodes to index their entities, in milliseconds.
+	 */
+	public long getMassIndexingTimeout() {
+		return config.getMassIndexingTimeout();
+	}
+
 	@Override
 	public void stop() {
 		if ( persistenceStrategy != null ) {
-			persistenceStrategy.getCacheManager().stop();
+			persistenceStrategy.stop();
 		}
 	}
 
@@ -61,4 +61,27 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1111, value = "Cannot instantiate stored procedure '%s' with resolved name '%s'.")
 	HibernateException cannotInstantiateStoredProcedure(String storedProcedureName, String className, @Cause Exception e);
+
+	@Message(id = 1112, value = "Cannot unmarshal key of type %1$s: no key meta-data is registered for the compact id %2$s."
+			+ " Make sure that all the nodes sharing the caches map the same entities.")
+	HibernateException unknownCompactKeyId(Class<?> clazz, int id);
+
+	@Message(id = 1113, value = "The key meta-data %2$s and %3$s are assigned the same compact id %1$s."
+			+ " Set the property '%4$s' to false to store the complete key meta-data.")
+	HibernateException compactKeyIdCollision(int id, String metadata, String otherMetadata, String property);
+
+	@Message(id = 1114, value = "Cannot unmarshal compact key: unexpected column value type %1$s.")
+	HibernateException unexpectedColumnValueType(byte type);
+
+	@Message(id = 1115, value = "The timeout of the mass indexing must be greater than 0, but was %d.")
+	HibernateException invalidMassIndexingTimeout(long timeout);
+
+	@Message(id = 1116, value = "Cannot index the entities of type '%1$s' on node %2$s: no session factory mapping them runs on that node.")
+	HibernateException noSessionFactoryForMassIndexing(String entityName, Object address);
+
+	@Message(id = 1117, value = "Mass indexing of the entities of type '%1$s' failed on node %2$s.")
+	HibernateException massIndexingFailedOnNode(String entityName, Object address, @Cause Throwable cause);
+
+	@Message(id = 1118, value = "Mass indexing of the entities of type '%1$s' failed.")
+	HibernateException massIndexingFailed(String entityName, @Cause Throwable cause);
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.ogm.datastore.infinispan.options.impl.EntryStorageConverter;
+import org.hibernate.ogm.options.spi.MappingOption;
+
+/**
+ * Specifies how an entity, or the associations of an entity, are stored within their cache entries. When given on an
+ * association property, it applies to that association only.
+ */
+@Target({ TYPE, METHOD, FIELD })
+@Retention(RUNTIME)
+@MappingOption(EntryStorageConverter.class)
+public @interface EntryStorage {
+
+	/**
+	 * How the entity or association should be stored within its cache entry
+	 *
+	 * @return the {@link EntryStorageType} to use
+	 */
+	EntryStorageType value();
+}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options;
+
+/**
+ * Specifies how entities and associations are stored within their cache entries.
+ */
+public enum EntryStorageType {
+
+	/**
+	 * Each entity or association is stored as a fine-grained atomic map: every column (or association row) is a
+	 * separate sub-entry with its own lock, and only the changed sub-entries are replicated. Suited for entities with
+	 * many columns which are updated concurrently.
+	 */
+	FINE_GRAINED_ATOMIC_MAP,
+
+	/**
+	 * Each entity or association is stored as one immutable map in a single cache value; updates replace that value
+	 * atomically. Reads and scans return the stored value as is, so this is suited for read-heavy entities with few
+	 * columns.
+	 * <p>
+	 * Existing data is not converted when switching between the storage types.
+	 */
+	WHOLE_ENTRY;
+}
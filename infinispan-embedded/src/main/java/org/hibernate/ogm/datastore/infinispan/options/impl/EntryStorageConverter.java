@@ -0,0 +1,22 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options.impl;
+
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorage;
+import org.hibernate.ogm.options.spi.AnnotationConverter;
+import org.hibernate.ogm.options.spi.OptionValuePair;
+
+/**
+ * Converts {@link EntryStorage} instances into an equivalent option value pair.
+ */
+public class EntryStorageConverter implements AnnotationConverter<EntryStorage> {
+
+	@Override
+	public OptionValuePair<?> convert(EntryStorage annotation) {
+		return OptionValuePair.getInstance( new EntryStorageOption(), annotation.value() );
+	}
+}
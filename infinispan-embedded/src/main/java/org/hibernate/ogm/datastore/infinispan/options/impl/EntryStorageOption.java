@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options.impl;
+
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Specifies how entities and associations are stored within their cache entries.
+ */
+public class EntryStorageOption extends UniqueOption<EntryStorageType> {
+
+	@Override
+	public EntryStorageType getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return propertyReader.property( InfinispanProperties.ENTRY_STORAGE, EntryStorageType.class )
+				.withDefault( EntryStorageType.FINE_GRAINED_ATOMIC_MAP )
+				.getValue();
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStoreEntityContext;
 
 /**
@@ -15,4 +16,12 @@
  * @author Gunnar Morling
  */
 public interface InfinispanEntityContext extends KeyValueStoreEntityContext<InfinispanEntityContext, InfinispanPropertyContext> {
+
+	/**
+	 * Specifies how this entity and its associations should be stored within their cache entries.
+	 *
+	 * @param entryStorage the entry storage type to be used when not configured on the property level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanEntityContext entryStorage(EntryStorageType entryStorage);
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStoreGlobalContext;
 
 /**
@@ -15,4 +16,12 @@
  * @author Gunnar Morling
  */
 public interface InfinispanGlobalContext extends KeyValueStoreGlobalContext<InfinispanGlobalContext, InfinispanEntityContext> {
+
+	/**
+	 * Specifies how entities and associations should be stored within their cache entries.
+	 *
+	 * @param entryStorage the entry storage type to be used when not configured on the entity or property level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanGlobalContext entryStorage(EntryStorageType entryStorage);
 }
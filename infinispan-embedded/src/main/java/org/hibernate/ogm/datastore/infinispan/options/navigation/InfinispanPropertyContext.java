@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStorePropertyContext;
 
 /**
@@ -14,4 +15,12 @@
  * @author Gunnar Morling
  */
 public interface InfinispanPropertyContext extends KeyValueStorePropertyContext<InfinispanEntityContext, InfinispanPropertyContext> {
+
+	/**
+	 * Specifies how the association represented by this property should be stored within its cache entry.
+	 *
+	 * @param entryStorage the entry storage type to be used; overrides any settings on the entity or global level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanPropertyContext entryStorage(EntryStorageType entryStorage);
 }
@@ -6,10 +6,13 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation.impl;
 
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.EntryStorageOption;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanEntityContext;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanPropertyContext;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.spi.BaseKeyValueStoreEntityContext;
 import org.hibernate.ogm.options.navigation.spi.ConfigurationContext;
+import org.hibernate.ogm.util.impl.Contracts;
 
 /**
  * Converts Infinispan entity-level options.
@@ -22,4 +25,11 @@ public abstract class InfinispanEntityContextImpl extends BaseKeyValueStoreEntit
 	public InfinispanEntityContextImpl(ConfigurationContext context) {
 		super( context );
 	}
+
+	@Override
+	public InfinispanEntityContext entryStorage(EntryStorageType entryStorage) {
+		Contracts.assertParameterNotNull( entryStorage, "entryStorage" );
+		addEntityOption( new EntryStorageOption(), entryStorage );
+		return this;
+	}
 }
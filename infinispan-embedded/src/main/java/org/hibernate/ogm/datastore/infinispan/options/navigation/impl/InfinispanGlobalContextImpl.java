@@ -6,10 +6,13 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation.impl;
 
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.EntryStorageOption;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanEntityContext;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanGlobalContext;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.spi.BaseKeyValueStoreGlobalContext;
 import org.hibernate.ogm.options.navigation.spi.ConfigurationContext;
+import org.hibernate.ogm.util.impl.Contracts;
 
 /**
  * Converts global Infinispan options.
@@ -22,4 +25,11 @@ public abstract class InfinispanGlobalContextImpl extends BaseKeyValueStoreGloba
 	public InfinispanGlobalContextImpl(ConfigurationContext context) {
 		super( context );
 	}
+
+	@Override
+	public InfinispanGlobalContext entryStorage(EntryStorageType entryStorage) {
+		Contracts.assertParameterNotNull( entryStorage, "entryStorage" );
+		addGlobalOption( new EntryStorageOption(), entryStorage );
+		return this;
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.lang.invoke.MethodHandles;
+import java.util.UUID;
+
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+
+/**
+ * Writes and reads the column values of compact keys.
+ * <p>
+ * The types commonly used as identifiers ({@code long}, {@code int}, {@code String} and {@code UUID}) are written
+ * with a one byte tag followed by their raw value; any other value is written as object by the marshaller.
+ */
+public final class ColumnValuesEncoding {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final byte NULL = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte STRING = 3;
+	private static final byte UUID_VALUE = 4;
+	private static final byte OBJECT = 5;
+
+	/**
+	 * Strings with up to this number of characters are guaranteed to fit into the 65535 bytes supported by
+	 * {@link ObjectOutput#writeUTF(String)}.
+	 */
+	private static final int MAX_UTF_LENGTH = 65535 / 3;
+
+	private ColumnValuesEncoding() {
+	}
+
+	public static void writeColumnValues(ObjectOutput output, Object[] values) throws IOException {
+		output.writeShort( values.length );
+		for ( Object value : values ) {
+			writeColumnValue( output, value );
+		}
+	}
+
+	public static Object[] readColumnValues(ObjectInput input) throws IOException, ClassNotFoundException {
+		Object[] values = new Object[input.readShort()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = readColumnValue( input );
+		}
+		return values;
+	}
+
+	public static void writeColumnValue(ObjectOutput output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value.getClass() == Long.class ) {
+			output.writeByte( LONG );
+			output.writeLong( (Long) value );
+		}
+		else if ( value.getClass() == Integer.class ) {
+			output.writeByte( INTEGER );
+			output.writeInt( (Integer) value );
+		}
+		else if ( value.getClass() == String.class && ( (String) value ).length() <= MAX_UTF_LENGTH ) {
+			output.writeByte( STRING );
+			output.writeUTF( (String) value );
+		}
+		else if ( value.getClass() == UUID.class ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( ( (UUID) value ).getMostSignificantBits() );
+			output.writeLong( ( (UUID) value ).getLeastSignificantBits() );
+		}
+		else {
+			output.writeByte( OBJECT );
+			output.writeObject( value );
+		}
+	}
+
+	public static Object readColumnValue(ObjectInput input) throws IOException, ClassNotFoundException {
+		byte type = input.readByte();
+		switch ( type ) {
+			case NULL:
+				return null;
+			case LONG:
+				return input.readLong();
+			case INTEGER:
+				return input.readInt();
+			case STRING:
+				return input.readUTF();
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case OBJECT:
+				return input.readObject();
+			default:
+				throw LOG.unexpectedColumnValueType( type );
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata.IdSourceType;
+
+/**
+ * Assigns compact ids to the key meta-data of the entities, associations and id sources mapped by the session
+ * factories, so that the externalizers can write that id instead of the table and column names of each key.
+ * <p>
+ * The ids are derived from the table and column names, so all the nodes mapping the same entities assign the same ids
+ * without any coordination. As the externalizers are shared by all the cache managers of the JVM, so is this
+ * dictionary: the meta-data of a session factory is registered when it starts and removed once no session factory
+ * maps it any longer.
+ * <p>
+ * Meta-data is always registered for reading, so that compact keys can be read whatever the configuration; the
+ * externalizers only write compact keys for the meta-data of session factories which enabled
+ * {@link InfinispanProperties#COMPACT_KEYS}.
+ */
+public final class KeyMetadataDictionary {
+
+	public static final KeyMetadataDictionary INSTANCE = new KeyMetadataDictionary();
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final Entries<EntityKeyMetadata> entityKeys = new Entries<>( EntityKey.class );
+	private final Entries<AssociationKeyMetadata> associationKeys = new Entries<>( AssociationKey.class );
+	private final Entries<IdSourceKeyMetadata> idSourceKeys = new Entries<>( IdSourceKey.class );
+
+	private KeyMetadataDictionary() {
+	}
+
+	/**
+	 * Registers the key meta-data of a session factory.
+	 *
+	 * @param entityTypes the meta-data of the entities
+	 * @param associationTypes the meta-data of the associations
+	 * @param idSourceTypes the meta-data of the id generators
+	 * @param compactWrites whether the keys of these types should be written in the compact format
+	 */
+	public synchronized void register(Set<EntityKeyMetadata> entityTypes, Set<AssociationKeyMetadata> associationTypes, Set<IdSourceKeyMetadata> idSourceTypes, boolean compactWrites) {
+		Map<KeyShape, EntityKeyMetadata> entities = entityShapes( entityTypes );
+		Map<KeyShape, AssociationKeyMetadata> associations = associationShapes( associationTypes );
+		Map<KeyShape, IdSourceKeyMetadata> idSources = idSourceShapes( idSourceTypes );
+
+		// make sure that nothing is registered if there is a collision
+		entityKeys.checkCollisions( entities.keySet() );
+		associationKeys.checkCollisions( associations.keySet() );
+		idSourceKeys.checkCollisions( idSources.keySet() );
+
+		entityKeys.register( entities, compactWrites );
+		associationKeys.register( associations, compactWrites );
+		idSourceKeys.register( idSources, compactWrites );
+	}
+
+	/**
+	 * Removes the key meta-data of a session factory, as registered with
+	 * {@link #register(Set, Set, Set, boolean)}.
+	 *
+	 * @param entityTypes the meta-data of the entities
+	 * @param associationTypes the meta-data of the associations
+	 * @param idSourceTypes the meta-data of the id generators
+	 * @param compactWrites whether the keys of these types have been registered for compact writes
+	 */
+	public synchronized void unregister(Set<EntityKeyMetadata> entityTypes, Set<AssociationKeyMetadata> associationTypes, Set<IdSourceKeyMetadata> idSourceTypes, boolean compactWrites) {
+		entityKeys.unregister( entityShapes( entityTypes ).keySet(), compactWrites );
+		associationKeys.unregister( associationShapes( associationTypes ).keySet(), compactWrites );
+		idSourceKeys.unregister( idSourceShapes( idSourceTypes ).keySet(), compactWrites );
+	}
+
+	/**
+	 * @param table the table of the entity key
+	 * @param columnNames the column names of the entity key
+	 * @return the id to write instead of the given meta-data or {@code null} if keys with this meta-data must be
+	 * written in full
+	 */
+	public Integer getEntityKeyMetadataId(String table, String[] columnNames) {
+		return entityKeys.getId( new KeyShape( table, columnNames ) );
+	}
+
+	public EntityKeyMetadata getEntityKeyMetadata(int id) {
+		return entityKeys.getMetadata( id );
+	}
+
+	/**
+	 * @param table the table of the association key
+	 * @param columnNames the column names of the association key
+	 * @return the id to write instead of the given meta-data or {@code null} if keys with this meta-data must be
+	 * written in full
+	 */
+	public Integer getAssociationKeyMetadataId(String table, String[] columnNames) {
+		return associationKeys.getId( new KeyShape( table, columnNames ) );
+	}
+
+	public AssociationKeyMetadata getAssociationKeyMetadata(int id) {
+		return associationKeys.getMetadata( id );
+	}
+
+	/**
+	 * @param table the table of the id source key
+	 * @param columnName the key column name of the id source key
+	 * @return the id to write instead of the given meta-data or {@code null} if keys with this meta-data must be
+	 * written in full
+	 */
+	public Integer getIdSourceKeyMetadataId(String table, String columnName) {
+		return idSourceKeys.getId( new KeyShape( table, new String[] { columnName } ) );
+	}
+
+	public IdSourceKeyMetadata getIdSourceKeyMetadata(int id) {
+		return idSourceKeys.getMetadata( id );
+	}
+
+	// The meta-data is re-created the same way the externalizers do when reading a key in the complete format, so a
+	// single instance is shared by all the keys read in the compact format
+
+	private static Map<KeyShape, EntityKeyMetadata> entityShapes(Set<EntityKeyMetadata> entityTypes) {
+		Map<KeyShape, EntityKeyMetadata> shapes = new HashMap<>();
+		for ( EntityKeyMetadata entityType : entityTypes ) {
+			shapes.put(
+					new KeyShape( entityType.getTable(), entityType.getColumnNames() ),
+					new DefaultEntityKeyMetadata( entityType.getTable(), entityType.getColumnNames() )
+			);
+		}
+		return shapes;
+	}
+
+	private static Map<KeyShape, AssociationKeyMetadata> associationShapes(Set<AssociationKeyMetadata> associationTypes) {
+		Map<KeyShape, AssociationKeyMetadata> shapes = new HashMap<>();
+		for ( AssociationKeyMetadata associationType : associationTypes ) {
+			shapes.put(
+					new KeyShape( associationType.getTable(), associationType.getColumnNames() ),
+					new DefaultAssociationKeyMetadata.Builder()
+							.table( associationType.getTable() )
+							.columnNames( associationType.getColumnNames() )
+							.build()
+			);
+		}
+		return shapes;
+	}
+
+	private static Map<KeyShape, IdSourceKeyMetadata> idSourceShapes(Set<IdSourceKeyMetadata> idSourceTypes) {
+		Map<KeyShape, IdSourceKeyMetadata> shapes = new HashMap<>();
+		for ( IdSourceKeyMetadata idSourceType : idSourceTypes ) {
+			// sequences are backed by clustered counters rather than by the id source cache
+			if ( idSourceType.getType() == IdSourceType.TABLE ) {
+				shapes.put(
+						new KeyShape( idSourceType.getName(), new String[] { idSourceType.getKeyColumnName() } ),
+						DefaultIdSourceKeyMetadata.forTable( idSourceType.getName(), idSourceType.getKeyColumnName(), null )
+				);
+			}
+		}
+		return shapes;
+	}
+
+	/**
+	 * The registered meta-data of one key type.
+	 */
+	private static final class Entries<M> {
+
+		private final Class<?> keyType;
+		private final ConcurrentMap<KeyShape, Entry<M>> entriesByShape = new ConcurrentHashMap<>();
+		private final ConcurrentMap<Integer, Entry<M>> entriesById = new ConcurrentHashMap<>();
+
+		private Entries(Class<?> keyType) {
+			this.keyType = keyType;
+		}
+
+		private void checkCollisions(Set<KeyShape> shapes) {
+			Map<Integer, KeyShape> pending = new HashMap<>();
+			for ( KeyShape shape : shapes ) {
+				Entry<M> registered = entriesById.get( shape.id );
+				KeyShape other = registered != null ? registered.shape : pending.put( shape.id, shape );
+				if ( other != null && !other.equals( shape ) ) {
+					throw LOG.compactKeyIdCollision( shape.id, shape.toString(), other.toString(), InfinispanProperties.COMPACT_KEYS );
+				}
+			}
+		}
+
+		private void register(Map<KeyShape, M> shapes, boolean compactWrites) {
+			for ( Map.Entry<KeyShape, M> shape : shapes.entrySet() ) {
+				Entry<M> entry = entriesByShape.get( shape.getKey() );
+				if ( entry == null ) {
+					entry = new Entry<>( shape.getKey(), shape.getValue() );
+					entriesById.put( entry.shape.id, entry );
+					entriesByShape.put( entry.shape, entry );
+				}
+				entry.references++;
+				if ( compactWrites ) {
+					entry.writers++;
+				}
+			}
+		}
+
+		private void unregister(Set<KeyShape> shapes, boolean compactWrites) {
+			for ( KeyShape shape : shapes ) {
+				Entry<M> entry = entriesByShape.get( shape );
+				if ( entry != null ) {
+					if ( compactWrites ) {
+						entry.writers--;
+					}
+					if ( --entry.references == 0 ) {
+						entriesByShape.remove( shape );
+						entriesById.remove( shape.id );
+					}
+				}
+			}
+		}
+
+		private Integer getId(KeyShape shape) {
+			Entry<M> entry = entriesByShape.get( shape );
+			return entry != null && entry.writers > 0 ? entry.shape.id : null;
+		}
+
+		private M getMetadata(int id) {
+			Entry<M> entry = entriesById.get( id );
+			if ( entry == null ) {
+				throw LOG.unknownCompactKeyId( keyType, id );
+			}
+			return entry.metadata;
+		}
+	}
+
+	private static final class Entry<M> {
+
+		private final KeyShape shape;
+		private final M metadata;
+
+		// only modified while holding the dictionary lock
+		private volatile int references;
+		private volatile int writers;
+
+		private Entry(KeyShape shape, M metadata) {
+			this.shape = shape;
+			this.metadata = metadata;
+		}
+	}
+
+	/**
+	 * The table and column names of a key; its hash code, which is the same on all the JVMs, is used as compact id.
+	 */
+	private static final class KeyShape {
+
+		private final String table;
+		private final String[] columnNames;
+		private final Integer id;
+
+		private KeyShape(String table, String[] columnNames) {
+			this.table = table;
+			this.columnNames = columnNames;
+			this.id = 31 * table.hashCode() + Arrays.hashCode( columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return id;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			KeyShape other = (KeyShape) obj;
+			return table.equals( other.table ) && Arrays.equals( columnNames, other.columnNames );
+		}
+
+		@Override
+		public String toString() {
+			return table + Arrays.toString( columnNames );
+		}
+	}
+}
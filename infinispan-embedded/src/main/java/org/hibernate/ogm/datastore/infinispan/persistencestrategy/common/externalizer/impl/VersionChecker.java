@@ -39,4 +39,26 @@ public static void readAndCheckVersion(ObjectInput input, int supportedVersion,
 			throw LOG.unexpectedKeyVersion( externalizedType, version, supportedVersion );
 		}
 	}
+
+	/**
+	 * Consumes the version field from the given input and raises an exception if the record is not in one of the
+	 * supported versions. Allows to read records written in an older format, e.g. before a migration.
+	 *
+	 * @param input the input to read from
+	 * @param oldestSupportedVersion the oldest type version supported by this version of OGM
+	 * @param latestSupportedVersion the latest type version supported by this version of OGM
+	 * @param externalizedType the type to be unmarshalled
+	 * @return the version of the record
+	 *
+	 * @throws IOException if an error occurs while reading the input
+	 */
+	public static int readAndCheckVersion(ObjectInput input, int oldestSupportedVersion, int latestSupportedVersion, Class<?> externalizedType) throws IOException {
+		int version = input.readInt();
+
+		if ( version < oldestSupportedVersion || version > latestSupportedVersion ) {
+			throw LOG.unexpectedKeyVersion( externalizedType, version, latestSupportedVersion );
+		}
+
+		return version;
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.KeyMetadataDictionary;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.impl.OnePerKindCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.impl.OnePerKindKeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.table.externalizer.impl.PersistentAssociationKey;
@@ -40,10 +41,12 @@
 
 	private final LocalCacheManager<EK, AK, ISK> cacheManager;
 	private final KeyProvider<EK, AK, ISK> keyProvider;
+	private final KeyMetadataRegistration keyMetadataRegistration;
 
-	private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProvider<EK, AK, ISK> keyProvider) {
+	private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProvider<EK, AK, ISK> keyProvider, KeyMetadataRegistration keyMetadataRegistration) {
 		this.cacheManager = cacheManager;
 		this.keyProvider = keyProvider;
+		this.keyMetadataRegistration = keyMetadataRegistration;
 	}
 
 	/**
@@ -56,6 +59,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 	 * @param entityTypes the meta-data of the entities
 	 * @param associationTypes the meta-data of the associations
 	 * @param idSourceTypes the meta-data of the id generators
+	 * @param compactKeys whether the keys should be written in the compact format
 	 * @return the persistence strategy
 	 */
 	public static PersistenceStrategy<?, ?, ?> getInstance(
@@ -65,13 +69,15 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 			JtaPlatform jtaPlatform,
 			Set<EntityKeyMetadata> entityTypes,
 			Set<AssociationKeyMetadata> associationTypes,
-			Set<IdSourceKeyMetadata> idSourceTypes ) {
+			Set<IdSourceKeyMetadata> idSourceTypes,
+			boolean compactKeys ) {
 
 		if ( cacheMapping == CacheMappingType.CACHE_PER_KIND ) {
 			return getPerKindStrategy(
 					externalCacheManager,
 					configurationUrl,
-					jtaPlatform
+					jtaPlatform,
+					new KeyMetadataRegistration( entityTypes, associationTypes, idSourceTypes, compactKeys )
 			);
 		}
 		else {
@@ -89,15 +95,28 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 	/**
 	 * Returns the "per-kind" persistence strategy. Three caches will be used: one for entities, one for associations
 	 * and one for id sources.
+	 * <p>
+	 * The key meta-data is registered with the {@link KeyMetadataDictionary} before the caches are started, as these
+	 * might read compact keys from their cache stores.
 	 */
-	private static PersistenceStrategy<?, ?, ?> getPerKindStrategy(EmbeddedCacheManager externalCacheManager, URL configUrl, JtaPlatform platform) {
+	private static PersistenceStrategy<?, ?, ?> getPerKindStrategy(EmbeddedCacheManager externalCacheManager, URL configUrl, JtaPlatform platform,
+			KeyMetadataRegistration keyMetadataRegistration) {
 		OnePerKindKeyProvider keyProvider = new OnePerKindKeyProvider();
 
-		OnePerKindCacheManager cacheManager = externalCacheManager != null ?
-				new OnePerKindCacheManager( externalCacheManager ) :
-				new OnePerKindCacheManager( configUrl, platform, keyProvider );
+		keyMetadataRegistration.register();
 
-		return new PersistenceStrategy<EntityKey, AssociationKey, IdSourceKey>( cacheManager, keyProvider );
+		OnePerKindCacheManager cacheManager;
+		try {
+			cacheManager = externalCacheManager != null ?
+					new OnePerKindCacheManager( externalCacheManager ) :
+					new OnePerKindCacheManager( configUrl, platform, keyProvider );
+		}
+		catch (RuntimeException e) {
+			keyMetadataRegistration.unregister();
+			throw e;
+		}
+
+		return new PersistenceStrategy<EntityKey, AssociationKey, IdSourceKey>( cacheManager, keyProvider, keyMetadataRegistration );
 	}
 
 	/**
@@ -118,7 +137,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 				new PerTableCacheManager( externalCacheManager, entityTypes, associationTypes, idSourceTypes ) :
 				new PerTableCacheManager( configUrl, platform, entityTypes, associationTypes, idSourceTypes );
 
-		return new PersistenceStrategy<PersistentEntityKey, PersistentAssociationKey, PersistentIdSourceKey>( cacheManager, keyProvider );
+		return new PersistenceStrategy<PersistentEntityKey, PersistentAssociationKey, PersistentIdSourceKey>( cacheManager, keyProvider, null );
 	}
 
 	/**
@@ -139,4 +158,46 @@ public LocalCacheManager<EK, AK, ISK> getCacheManager() {
 	public KeyProvider<EK, AK, ISK> getKeyProvider() {
 		return keyProvider;
 	}
+
+	/**
+	 * Stops the caches of this strategy and releases the key meta-data registered with the
+	 * {@link KeyMetadataDictionary}, once no more keys are written.
+	 */
+	public void stop() {
+		try {
+			cacheManager.stop();
+		}
+		finally {
+			if ( keyMetadataRegistration != null ) {
+				keyMetadataRegistration.unregister();
+			}
+		}
+	}
+
+	/**
+	 * The key meta-data registered by this strategy with the {@link KeyMetadataDictionary}.
+	 */
+	private static class KeyMetadataRegistration {
+
+		private final Set<EntityKeyMetadata> entityTypes;
+		private final Set<AssociationKeyMetadata> associationTypes;
+		private final Set<IdSourceKeyMetadata> idSourceTypes;
+		private final boolean compactWrites;
+
+		KeyMetadataRegistration(Set<EntityKeyMetadata> entityTypes, Set<AssociationKeyMetadata> associationTypes, Set<IdSourceKeyMetadata> idSourceTypes,
+				boolean compactWrites) {
+			this.entityTypes = entityTypes;
+			this.associationTypes = associationTypes;
+			this.idSourceTypes = idSourceTypes;
+			this.compactWrites = compactWrites;
+		}
+
+		void register() {
+			KeyMetadataDictionary.INSTANCE.register( entityTypes, associationTypes, idSourceTypes, compactWrites );
+		}
+
+		void unregister() {
+			KeyMetadataDictionary.INSTANCE.unregister( entityTypes, associationTypes, idSourceTypes, compactWrites );
+		}
+	}
 }
@@ -14,7 +14,9 @@
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ColumnValuesEncoding;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ExternalizerIds;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.KeyMetadataDictionary;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.VersionChecker;
 import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
@@ -38,10 +40,16 @@ public class AssociationKeyExternalizer implements AdvancedExternalizer<Associat
 	public static final AssociationKeyExternalizer INSTANCE = new AssociationKeyExternalizer();
 
 	/**
-	 * Format version of the key type; allows to apply version dependent deserialization logic in the future if
-	 * required; to be incremented when adding new fields to the serialized structure
+	 * Format version of keys written in full, with their table and column names; still written for the types which
+	 * are not registered for compact writes with the {@link KeyMetadataDictionary}
 	 */
-	private static final int VERSION = 1;
+	private static final int FULL_FORMAT_VERSION = 1;
+
+	/**
+	 * Format version of keys written in the compact format, with the id assigned by the {@link KeyMetadataDictionary}
+	 * to their meta-data; to be incremented when adding new fields to the serialized structure
+	 */
+	private static final int COMPACT_FORMAT_VERSION = 2;
 
 	private static final Set<Class<? extends AssociationKey>> TYPE_CLASSES = Collections.<Class<? extends AssociationKey>>singleton( AssociationKey.class );
 
@@ -50,24 +58,42 @@ private AssociationKeyExternalizer() {
 
 	@Override
 	public void writeObject(ObjectOutput output, AssociationKey key) throws IOException {
-		output.writeInt( VERSION );
-		output.writeUTF( key.getTable() );
-		output.writeObject( key.getColumnNames() );
-		output.writeObject( key.getColumnValues() );
+		Integer metadataId = KeyMetadataDictionary.INSTANCE.getAssociationKeyMetadataId( key.getTable(), key.getColumnNames() );
+
+		if ( metadataId != null ) {
+			output.writeInt( COMPACT_FORMAT_VERSION );
+			output.writeInt( metadataId );
+			ColumnValuesEncoding.writeColumnValues( output, key.getColumnValues() );
+		}
+		else {
+			output.writeInt( FULL_FORMAT_VERSION );
+			output.writeUTF( key.getTable() );
+			output.writeObject( key.getColumnNames() );
+			output.writeObject( key.getColumnValues() );
+		}
 	}
 
 	@Override
 	public AssociationKey readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-		VersionChecker.readAndCheckVersion( input, VERSION, AssociationKey.class );
+		int version = VersionChecker.readAndCheckVersion( input, FULL_FORMAT_VERSION, COMPACT_FORMAT_VERSION, AssociationKey.class );
+
+		AssociationKeyMetadata associationKeyMetadata;
+		Object[] values;
 
-		String tableName = input.readUTF();
-		String[] columnNames = (String[]) input.readObject();
-		Object[] values = (Object[]) input.readObject();
+		if ( version == COMPACT_FORMAT_VERSION ) {
+			associationKeyMetadata = KeyMetadataDictionary.INSTANCE.getAssociationKeyMetadata( input.readInt() );
+			values = ColumnValuesEncoding.readColumnValues( input );
+		}
+		else {
+			String tableName = input.readUTF();
+			String[] columnNames = (String[]) input.readObject();
+			values = (Object[]) input.readObject();
 
-		AssociationKeyMetadata associationKeyMetadata = new DefaultAssociationKeyMetadata.Builder()
-				.table( tableName )
-				.columnNames( columnNames )
-				.build();
+			associationKeyMetadata = new DefaultAssociationKeyMetadata.Builder()
+					.table( tableName )
+					.columnNames( columnNames )
+					.build();
+		}
 
 		// the engine never accesses deserialized key instances so it's ok to leave the additional attributes
 		// null; we should still consider extract these attributes to avoid potential confusion
@@ -14,10 +14,13 @@
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ColumnValuesEncoding;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ExternalizerIds;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.KeyMetadataDictionary;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.VersionChecker;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
 
 /**
@@ -37,10 +40,16 @@ public class EntityKeyExternalizer implements AdvancedExternalizer<EntityKey> {
 	public static final EntityKeyExternalizer INSTANCE = new EntityKeyExternalizer();
 
 	/**
-	 * Format version of the key type; allows to apply version dependent deserialization logic in the future if
-	 * required; to be incremented when adding new fields to the serialized structure
+	 * Format version of keys written in full, with their table and column names; still written for the types which
+	 * are not registered for compact writes with the {@link KeyMetadataDictionary}
 	 */
-	private static final int VERSION = 1;
+	private static final int FULL_FORMAT_VERSION = 1;
+
+	/**
+	 * Format version of keys written in the compact format, with the id assigned by the {@link KeyMetadataDictionary}
+	 * to their meta-data; to be incremented when adding new fields to the serialized structure
+	 */
+	private static final int COMPACT_FORMAT_VERSION = 2;
 
 	private static final Set<Class<? extends EntityKey>> TYPE_CLASSES = Collections.<Class<? extends EntityKey>>singleton( EntityKey.class );
 
@@ -49,15 +58,29 @@ private EntityKeyExternalizer() {
 
 	@Override
 	public void writeObject(ObjectOutput output, EntityKey key) throws IOException {
-		output.writeInt( VERSION );
-		output.writeUTF( key.getTable() );
-		output.writeObject( key.getColumnNames() );
-		output.writeObject( key.getColumnValues() );
+		Integer metadataId = KeyMetadataDictionary.INSTANCE.getEntityKeyMetadataId( key.getTable(), key.getColumnNames() );
+
+		if ( metadataId != null ) {
+			output.writeInt( COMPACT_FORMAT_VERSION );
+			output.writeInt( metadataId );
+			ColumnValuesEncoding.writeColumnValues( output, key.getColumnValues() );
+		}
+		else {
+			output.writeInt( FULL_FORMAT_VERSION );
+			output.writeUTF( key.getTable() );
+			output.writeObject( key.getColumnNames() );
+			output.writeObject( key.getColumnValues() );
+		}
 	}
 
 	@Override
 	public EntityKey readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-		VersionChecker.readAndCheckVersion( input, VERSION, EntityKey.class );
+		int version = VersionChecker.readAndCheckVersion( input, FULL_FORMAT_VERSION, COMPACT_FORMAT_VERSION, EntityKey.class );
+
+		if ( version == COMPACT_FORMAT_VERSION ) {
+			EntityKeyMetadata metadata = KeyMetadataDictionary.INSTANCE.getEntityKeyMetadata( input.readInt() );
+			return new EntityKey( metadata, ColumnValuesEncoding.readColumnValues( input ) );
+		}
 
 		String tableName = input.readUTF();
 		String[] columnNames = (String[]) input.readObject();
@@ -14,7 +14,9 @@
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ColumnValuesEncoding;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ExternalizerIds;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.KeyMetadataDictionary;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.VersionChecker;
 import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
@@ -38,10 +40,16 @@ public class IdSourceKeyExternalizer implements AdvancedExternalizer<IdSourceKey
 	public static final IdSourceKeyExternalizer INSTANCE = new IdSourceKeyExternalizer();
 
 	/**
-	 * Format version of the key type; allows to apply version dependent deserialization logic in the future if
-	 * required; to be incremented when adding new fields to the serialized structure
+	 * Format version of keys written in full, with their table and column names; still written for the types which
+	 * are not registered for compact writes with the {@link KeyMetadataDictionary}
 	 */
-	private static final int VERSION = 1;
+	private static final int FULL_FORMAT_VERSION = 1;
+
+	/**
+	 * Format version of keys written in the compact format, with the id assigned by the {@link KeyMetadataDictionary}
+	 * to their meta-data; to be incremented when adding new fields to the serialized structure
+	 */
+	private static final int COMPACT_FORMAT_VERSION = 2;
 
 	private static final Set<Class<? extends IdSourceKey>> TYPE_CLASSES = Collections.<Class<? extends IdSourceKey>>singleton( IdSourceKey.class );
 
@@ -50,17 +58,31 @@ private IdSourceKeyExternalizer() {
 
 	@Override
 	public void writeObject(ObjectOutput output, IdSourceKey key) throws IOException {
-		output.writeInt( VERSION );
-		output.writeUTF( key.getTable() );
-		//Wrapping in String[] and Object[] respectively as this used to be the format,
-		//to maintain compatibility with Hibernate OGM 5.0
-		output.writeObject( new String[] { key.getColumnName() } );
-		output.writeObject( new Object[] { key.getColumnValue() } );
+		Integer metadataId = KeyMetadataDictionary.INSTANCE.getIdSourceKeyMetadataId( key.getTable(), key.getColumnName() );
+
+		if ( metadataId != null ) {
+			output.writeInt( COMPACT_FORMAT_VERSION );
+			output.writeInt( metadataId );
+			ColumnValuesEncoding.writeColumnValue( output, key.getColumnValue() );
+		}
+		else {
+			output.writeInt( FULL_FORMAT_VERSION );
+			output.writeUTF( key.getTable() );
+			//Wrapping in String[] and Object[] respectively as this used to be the format,
+			//to maintain compatibility with Hibernate OGM 5.0
+			output.writeObject( new String[] { key.getColumnName() } );
+			output.writeObject( new Object[] { key.getColumnValue() } );
+		}
 	}
 
 	@Override
 	public IdSourceKey readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-		VersionChecker.readAndCheckVersion( input, VERSION, IdSourceKey.class );
+		int version = VersionChecker.readAndCheckVersion( input, FULL_FORMAT_VERSION, COMPACT_FORMAT_VERSION, IdSourceKey.class );
+
+		if ( version == COMPACT_FORMAT_VERSION ) {
+			IdSourceKeyMetadata metadata = KeyMetadataDictionary.INSTANCE.getIdSourceKeyMetadata( input.readInt() );
+			return IdSourceKey.forTable( metadata, (String) ColumnValuesEncoding.readColumnValue( input ) );
+		}
 
 		String tableName = input.readUTF();
 		String[] columnNames = (String[]) input.readObject();
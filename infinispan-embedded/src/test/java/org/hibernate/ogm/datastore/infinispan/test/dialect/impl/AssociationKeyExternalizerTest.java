@@ -9,10 +9,16 @@
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.KeyMetadataDictionary;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.externalizer.impl.AssociationKeyExternalizer;
 import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -56,4 +62,34 @@ public void shouldSerializeAndDeserializeAssociationKey() throws Exception {
 		assertTrue( unmarshalledKey.equals( key ) );
 		assertThat( unmarshalledKey.hashCode() ).isEqualTo( key.hashCode() );
 	}
+
+	@Test
+	public void shouldSerializeAndDeserializeAssociationKeyInCompactFormat() throws Exception {
+		AssociationKeyMetadata keyMetadata = new DefaultAssociationKeyMetadata.Builder()
+				.table( "Foobar" )
+				.columnNames( new String[] { "foo_id" } )
+				.build();
+
+		AssociationKey key = new AssociationKey( keyMetadata, new Object[] { 123L }, null );
+		byte[] fullBytes = externalizerHelper.marshall( key );
+
+		Set<AssociationKeyMetadata> associationTypes = Collections.singleton( keyMetadata );
+		KeyMetadataDictionary.INSTANCE.register( Collections.<EntityKeyMetadata>emptySet(), associationTypes, Collections.<IdSourceKeyMetadata>emptySet(), true );
+
+		try {
+			// when
+			byte[] bytes = externalizerHelper.marshall( key );
+			AssociationKey unmarshalledKey = externalizerHelper.unmarshall( bytes );
+
+			// then
+			assertThat( bytes.length ).isLessThan( fullBytes.length );
+			assertThat( unmarshalledKey.getTable() ).isEqualTo( key.getTable() );
+			assertThat( unmarshalledKey.getColumnNames() ).isEqualTo( key.getColumnNames() );
+			assertThat( unmarshalledKey.getColumnValues() ).isEqualTo( key.getColumnValues() );
+			assertTrue( key.equals( unmarshalledKey ) );
+		}
+		finally {
+			KeyMetadataDictionary.INSTANCE.unregister( Collections.<EntityKeyMetadata>emptySet(), associationTypes, Collections.<IdSourceKeyMetadata>emptySet(), true );
+		}
+	}
 }
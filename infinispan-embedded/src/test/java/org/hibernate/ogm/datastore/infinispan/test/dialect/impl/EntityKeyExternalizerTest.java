@@ -14,14 +14,19 @@
 import java.io.ObjectOutput;
 import java.util.Collections;
 import java.util.Set;
+import java.util.UUID;
 
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ExternalizerIds;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.KeyMetadataDictionary;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.externalizer.impl.EntityKeyExternalizer;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -38,12 +43,28 @@ public class EntityKeyExternalizerTest {
 	public ExpectedException thrown = ExpectedException.none();
 
 	private ExternalizerTestHelper<EntityKey, EntityKeyExternalizer> externalizerHelper;
+	private Set<EntityKeyMetadata> registeredMetadata;
 
 	@Before
 	public void setupMarshallerFactory() {
 		externalizerHelper = ExternalizerTestHelper.getInstance( EntityKeyExternalizer.INSTANCE );
 	}
 
+	@After
+	public void unregisterMetadata() {
+		if ( registeredMetadata != null ) {
+			KeyMetadataDictionary.INSTANCE.unregister( registeredMetadata, Collections.<AssociationKeyMetadata>emptySet(),
+					Collections.<IdSourceKeyMetadata>emptySet(), true );
+			registeredMetadata = null;
+		}
+	}
+
+	private void registerForCompactWrites(EntityKeyMetadata keyMetadata) {
+		registeredMetadata = Collections.singleton( keyMetadata );
+		KeyMetadataDictionary.INSTANCE.register( registeredMetadata, Collections.<AssociationKeyMetadata>emptySet(),
+				Collections.<IdSourceKeyMetadata>emptySet(), true );
+	}
+
 	@Test
 	public void shouldSerializeAndDeserializeEntityKey() throws Exception {
 		String[] columnNames = { "foo", "bar", "baz" };
@@ -67,6 +88,65 @@ public void shouldSerializeAndDeserializeEntityKey() throws Exception {
 		assertThat( unmarshalledKey.hashCode() ).isEqualTo( key.hashCode() );
 	}
 
+	@Test
+	public void shouldSerializeAndDeserializeEntityKeyInCompactFormat() throws Exception {
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", new String[] { "foo", "bar", "baz", "qux" } );
+		Object[] values = { 123, "Hello", 456L, UUID.randomUUID() };
+		EntityKey key = new EntityKey( keyMetadata, values );
+		byte[] fullBytes = externalizerHelper.marshall( key );
+
+		// given
+		registerForCompactWrites( keyMetadata );
+
+		// when
+		byte[] bytes = externalizerHelper.marshall( key );
+		EntityKey unmarshalledKey = externalizerHelper.unmarshall( bytes );
+
+		// then
+		assertThat( bytes.length ).isLessThan( fullBytes.length );
+		assertThat( unmarshalledKey.getTable() ).isEqualTo( key.getTable() );
+		assertThat( unmarshalledKey.getColumnNames() ).isEqualTo( key.getColumnNames() );
+		assertThat( unmarshalledKey.getColumnValues() ).isEqualTo( key.getColumnValues() );
+		assertThat( externalizerHelper.unmarshall( bytes ).getMetadata() ).isSameAs( unmarshalledKey.getMetadata() );
+
+		assertTrue( key.equals( unmarshalledKey ) );
+		assertThat( unmarshalledKey.hashCode() ).isEqualTo( key.hashCode() );
+	}
+
+	@Test
+	public void shouldDeserializeEntityKeyWrittenInFullFormatAfterEnablingCompactKeys() throws Exception {
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", new String[] { "foo" } );
+		EntityKey key = new EntityKey( keyMetadata, new Object[] { 123L } );
+
+		// given
+		byte[] bytes = externalizerHelper.marshall( key );
+		registerForCompactWrites( keyMetadata );
+
+		// when
+		EntityKey unmarshalledKey = externalizerHelper.unmarshall( bytes );
+
+		// then
+		assertTrue( key.equals( unmarshalledKey ) );
+	}
+
+	@Test
+	public void shouldRaiseErrorWhenUnmarshallingCompactKeyWithUnknownMetadata() throws Exception {
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", new String[] { "foo" } );
+		EntityKey key = new EntityKey( keyMetadata, new Object[] { "Hello" } );
+
+		// given
+		registerForCompactWrites( keyMetadata );
+		byte[] bytes = externalizerHelper.marshall( key );
+		unregisterMetadata();
+
+		// then
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM001112" );
+
+		// when
+		externalizerHelper.unmarshall( bytes );
+	}
+
 	@Test
 	public void shouldRaiseErrorWhenUnmarshallingBytesWithUnknownVersion() throws Exception {
 		ExternalizerTestHelper<EntityKey, FutureEntityKeyExternalizer> futureExternalizer = ExternalizerTestHelper.getInstance( new FutureEntityKeyExternalizer() );
@@ -0,0 +1,73 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.entrystorage;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorage;
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+
+@Entity
+@EntryStorage(EntryStorageType.WHOLE_ENTRY)
+public class Garden {
+
+	@Id
+	private String id;
+
+	private String name;
+
+	private String city;
+
+	@OneToMany
+	private Set<Flower> flowers = new HashSet<>();
+
+	Garden() {
+	}
+
+	public Garden(String id, String name, String city) {
+		this.id = id;
+		this.name = name;
+		this.city = city;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public Set<Flower> getFlowers() {
+		return flowers;
+	}
+
+	public void setFlowers(Set<Flower> flowers) {
+		this.flowers = flowers;
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.entrystorage;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.TestHelper.getNumberOfAssociations;
+import static org.hibernate.ogm.utils.TestHelper.getNumberOfEntities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.TestHelper;
+import org.infinispan.Cache;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test for entities and associations stored as {@link EntryStorageType#WHOLE_ENTRY}.
+ */
+public class WholeEntryStorageTest extends OgmTestCase {
+
+	@After
+	public void deleteEntities() {
+		deleteAll( Garden.class, "garden-1" );
+		deleteAll( Flower.class, "flower-1", "flower-2" );
+		checkCleanCache();
+	}
+
+	@Test
+	public void shouldStoreEntityAndAssociationAsPlainMaps() {
+		persistGarden();
+
+		for ( Map<String, Object> entry : getEntityCache( "Garden", "id" ).values() ) {
+			assertThat( entry.getClass() ).isEqualTo( HashMap.class );
+			assertThat( entry.get( "name" ) ).isEqualTo( "Jardin du Luxembourg" );
+		}
+		for ( Map<RowKey, Map<String, Object>> entry : getAssociationCache( "Garden_Flower", "Garden_id" ).values() ) {
+			assertThat( entry.getClass() ).isEqualTo( HashMap.class );
+			assertThat( entry ).hasSize( 2 );
+		}
+
+		inTransaction( session -> {
+			Garden garden = session.get( Garden.class, "garden-1" );
+			assertThat( garden.getName() ).isEqualTo( "Jardin du Luxembourg" );
+			assertThat( garden.getCity() ).isEqualTo( "Paris" );
+			assertThat( garden.getFlowers() ).onProperty( "color" ).containsOnly( "red", "blue" );
+		} );
+	}
+
+	@Test
+	public void shouldApplyChangesToStoredEntries() {
+		persistGarden();
+
+		inTransaction( session -> {
+			Garden garden = session.get( Garden.class, "garden-1" );
+			garden.setName( "Jardin des Plantes" );
+			garden.setCity( null );
+			garden.getFlowers().remove( session.load( Flower.class, "flower-1" ) );
+		} );
+
+		inTransaction( session -> {
+			Garden garden = session.get( Garden.class, "garden-1" );
+			assertThat( garden.getName() ).isEqualTo( "Jardin des Plantes" );
+			assertThat( garden.getCity() ).isNull();
+			assertThat( garden.getFlowers() ).onProperty( "id" ).containsOnly( "flower-2" );
+
+			garden.getFlowers().clear();
+		} );
+
+		inTransaction( session -> {
+			Garden garden = session.get( Garden.class, "garden-1" );
+			assertThat( garden.getFlowers() ).isEmpty();
+		} );
+
+		// the association entry is removed with its last row
+		assertThat( getAssociationCache( "Garden_Flower", "Garden_id" ).values() ).isEmpty();
+	}
+
+	@Test
+	public void shouldRemoveEntries() {
+		persistGarden();
+
+		inTransaction( session -> session.delete( session.get( Garden.class, "garden-1" ) ) );
+
+		assertThat( getNumberOfEntities( getSessionFactory() ) ).isEqualTo( 2 );
+		assertThat( getNumberOfAssociations( getSessionFactory() ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void shouldIterateOverStoredEntries() {
+		persistGarden();
+
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		OgmEntityPersister persister = (OgmEntityPersister) getSessionFactory().getMetamodel().entityPersister( Garden.class );
+
+		List<Tuple> tuples = new ArrayList<>();
+		ModelConsumer consumer = new ModelConsumer() {
+
+			@Override
+			public void consume(TuplesSupplier supplier) {
+				try ( ClosableIterator<Tuple> iterator = supplier.get( null ) ) {
+					while ( iterator.hasNext() ) {
+						tuples.add( iterator.next() );
+					}
+				}
+			}
+		};
+		gridDialect.forEachTuple( consumer, persister.getTupleTypeContext(), persister.getEntityKeyMetadata() );
+
+		assertThat( tuples ).hasSize( 1 );
+		assertThat( tuples.get( 0 ).get( "name" ) ).isEqualTo( "Jardin du Luxembourg" );
+		assertThat( tuples.get( 0 ).get( "city" ) ).isEqualTo( "Paris" );
+	}
+
+	@Test
+	public void shouldNotReplayWrittenAssociationChanges() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		OgmCollectionPersister persister = (OgmCollectionPersister) getSessionFactory().getMetamodel()
+				.collectionPersister( Garden.class.getName() + ".flowers" );
+		AssociationKeyMetadata metadata = persister.getAssociationKeyMetadata();
+		AssociationKey key = new AssociationKey( metadata, new Object[] { "garden-1" }, null );
+		AssociationContext context = new AssociationContextImpl( persister.getAssociationTypeContext(), new TuplePointer(), null );
+
+		Association association = gridDialect.createAssociation( key, context );
+		association.put( rowKey( metadata, "flower-1" ), row( metadata, "flower-1" ) );
+		gridDialect.insertOrUpdateAssociation( key, association, context );
+		assertThat( association.getOperations() ).isEmpty();
+
+		// another session removes the row written above
+		Association concurrent = gridDialect.getAssociation( key, context );
+		concurrent.remove( rowKey( metadata, "flower-1" ) );
+		gridDialect.insertOrUpdateAssociation( key, concurrent, context );
+
+		association.put( rowKey( metadata, "flower-2" ), row( metadata, "flower-2" ) );
+		gridDialect.insertOrUpdateAssociation( key, association, context );
+
+		Association stored = gridDialect.getAssociation( key, context );
+		assertThat( stored.size() ).isEqualTo( 1 );
+		assertThat( stored.get( rowKey( metadata, "flower-2" ) ) ).isNotNull();
+
+		gridDialect.removeAssociation( key, context );
+	}
+
+	private static RowKey rowKey(AssociationKeyMetadata metadata, String flowerId) {
+		return new RowKey( metadata.getRowKeyColumnNames(), new Object[] { "garden-1", flowerId } );
+	}
+
+	private static Tuple row(AssociationKeyMetadata metadata, String flowerId) {
+		Tuple tuple = new Tuple();
+		tuple.put( metadata.getRowKeyColumnNames()[0], "garden-1" );
+		tuple.put( metadata.getRowKeyColumnNames()[1], flowerId );
+		return tuple;
+	}
+
+	private void persistGarden() {
+		inTransaction( session -> {
+			Garden garden = new Garden( "garden-1", "Jardin du Luxembourg", "Paris" );
+			Flower rose = new Flower( "flower-1", "red" );
+			Flower iris = new Flower( "flower-2", "blue" );
+			garden.getFlowers().add( rose );
+			garden.getFlowers().add( iris );
+			persistAll( session, rose, iris, garden );
+		} );
+	}
+
+	private Cache<?, Map<String, Object>> getEntityCache(String tableName, String... columnNames) {
+		return getProvider().getCacheManager()
+				.getEntityCache( new DefaultEntityKeyMetadata( tableName, columnNames ) );
+	}
+
+	private Cache<?, Map<RowKey, Map<String, Object>>> getAssociationCache(String tableName, String... columnNames) {
+		DefaultAssociationKeyMetadata associationKeyMetadata = new DefaultAssociationKeyMetadata.Builder().table( tableName )
+				.columnNames( columnNames )
+				.build();
+
+		return getProvider().getCacheManager().getAssociationCache( associationKeyMetadata );
+	}
+
+	private InfinispanEmbeddedDatastoreProvider getProvider() {
+		return (InfinispanEmbeddedDatastoreProvider) getSessionFactory()
+				.getServiceRegistry()
+				.getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		TestHelper.enableCountersForInfinispan( cfg );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Garden.class, Flower.class };
+	}
+}
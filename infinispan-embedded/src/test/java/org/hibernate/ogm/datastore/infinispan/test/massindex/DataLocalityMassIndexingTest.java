@@ -0,0 +1,136 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.massindex;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.TestHelper.inTransaction;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.index.IndexReader;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.OgmSessionFactory;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.TestHelper;
+import org.hibernate.search.FullTextSession;
+import org.hibernate.search.Search;
+import org.hibernate.search.SearchFactory;
+import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.TestingUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the mass indexing with {@link InfinispanProperties#MASS_INDEXING_DATA_LOCALITY} enabled.
+ * <p>
+ * Each node has its own in-memory index, so the documents built by each node can be told apart.
+ */
+public class DataLocalityMassIndexingTest {
+
+	private static final int NUMBER_OF_BOOKS = 100;
+
+	private OgmSessionFactory sessionFactory1;
+	private OgmSessionFactory sessionFactory2;
+
+	@Before
+	public void startNodes() {
+		sessionFactory1 = createSessionFactory( "infinispan-dist.xml" );
+		sessionFactory2 = createSessionFactory( "infinispan-dist-alt-counter.xml" );
+		TestingUtil.blockUntilViewsReceived( 15000, cacheManager( sessionFactory1 ).getCache(), cacheManager( sessionFactory2 ).getCache() );
+	}
+
+	@After
+	public void stopNodes() {
+		if ( sessionFactory2 != null ) {
+			sessionFactory2.close();
+		}
+		if ( sessionFactory1 != null ) {
+			sessionFactory1.close();
+		}
+	}
+
+	@Test
+	public void shouldIndexEachEntityOnTheNodeOwningIt() throws Exception {
+		inTransaction( sessionFactory1, session -> {
+			for ( int i = 0; i < NUMBER_OF_BOOKS; i++ ) {
+				session.persist( new Book( "book-" + i, "Title " + i ) );
+			}
+		} );
+
+		CountingProgressMonitor monitor = new CountingProgressMonitor();
+		try ( FullTextSession session = Search.getFullTextSession( sessionFactory1.openSession() ) ) {
+			session.createIndexer( Book.class ).purgeAllOnStart( true ).progressMonitor( monitor ).startAndWait();
+		}
+
+		int documentsOnNode1 = numberOfDocuments( sessionFactory1 );
+		int documentsOnNode2 = numberOfDocuments( sessionFactory2 );
+
+		assertThat( documentsOnNode1 ).isGreaterThan( 0 );
+		assertThat( documentsOnNode2 ).isGreaterThan( 0 );
+		assertThat( documentsOnNode1 + documentsOnNode2 ).isEqualTo( NUMBER_OF_BOOKS );
+		assertThat( monitor.documentsBuilt.get() ).isEqualTo( NUMBER_OF_BOOKS );
+		assertThat( monitor.documentsAdded.get() ).isEqualTo( NUMBER_OF_BOOKS );
+	}
+
+	private static OgmSessionFactory createSessionFactory(String configuration) {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( InfinispanProperties.CONFIGURATION_RESOURCE_NAME, configuration );
+		settings.put( InfinispanProperties.MASS_INDEXING_DATA_LOCALITY, true );
+		return TestHelper.getDefaultTestSessionFactory( settings, Book.class );
+	}
+
+	private static EmbeddedCacheManager cacheManager(SessionFactory sessionFactory) {
+		InfinispanEmbeddedDatastoreProvider provider = (InfinispanEmbeddedDatastoreProvider) ( (SessionFactoryImplementor) sessionFactory )
+				.getServiceRegistry().getService( DatastoreProvider.class );
+		return provider.getCacheManager().getCacheManager();
+	}
+
+	private static int numberOfDocuments(SessionFactory sessionFactory) throws IOException {
+		try ( FullTextSession session = Search.getFullTextSession( sessionFactory.openSession() ) ) {
+			SearchFactory searchFactory = session.getSearchFactory();
+			try ( IndexReader indexReader = searchFactory.getIndexReaderAccessor().open( Book.class ) ) {
+				return indexReader.numDocs();
+			}
+		}
+	}
+
+	private static class CountingProgressMonitor implements MassIndexerProgressMonitor {
+
+		private final AtomicLong documentsBuilt = new AtomicLong();
+		private final AtomicLong documentsAdded = new AtomicLong();
+
+		@Override
+		public void documentsAdded(long increment) {
+			documentsAdded.addAndGet( increment );
+		}
+
+		@Override
+		public void documentsBuilt(int number) {
+			documentsBuilt.addAndGet( number );
+		}
+
+		@Override
+		public void entitiesLoaded(int size) {
+		}
+
+		@Override
+		public void addToTotalCount(long count) {
+		}
+
+		@Override
+		public void indexingCompleted() {
+		}
+	}
+}
@@ -16,6 +16,8 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
@@ -33,11 +35,17 @@
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationSizeGridDialect;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
 import org.hibernate.ogm.dialect.impl.AbstractGroupingByEntityDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -98,7 +106,8 @@
  * @author Sanne Grinovero
  * @author Fabio Massimo Ercoli
  */
-public class InfinispanRemoteDialect<EK, AK, ISK> extends AbstractGroupingByEntityDialect implements QueryableGridDialect<InfinispanRemoteQueryDescriptor>, MultigetGridDialect, StoredProcedureAwareGridDialect {
+public class InfinispanRemoteDialect<EK, AK, ISK> extends AbstractGroupingByEntityDialect implements QueryableGridDialect<InfinispanRemoteQueryDescriptor>, MultigetGridDialect, StoredProcedureAwareGridDialect,
+		AssociationRowsGridDialect, AssociationSizeGridDialect, AsyncGridDialect {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -158,6 +167,10 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 				RemoveAssociationOperation removeAssociationOperation = (RemoveAssociationOperation) operation;
 				owningEntity.removeAssociation( removeAssociationOperation );
 			}
+			else if ( operation instanceof UpdateAssociationRowsOperation ) {
+				UpdateAssociationRowsOperation rowsOperation = (UpdateAssociationRowsOperation) operation;
+				updateAssociationRows( rowsOperation.getAssociationKey(), rowsOperation.getChanges(), rowsOperation.getContext() );
+			}
 			else {
 				throw new IllegalStateException( operation.getClass().getSimpleName() + " not supported here" );
 			}
@@ -393,21 +406,7 @@ private static Map<RowKey, Map<String, Object>> loadRowKeysByQuery(InfinispanRem
 		ProtostreamAssociationMappingAdapter mapper = provider.getCollectionsDataMapper( cacheName );
 		return mapper.withinCacheEncodingContext( c -> {
 			QueryBuilder qb = Search.getQueryFactory( c ).from( provider.getEntityType( c ) );
-
-			final String[] columnNames = key.getColumnNames();
-			FilterConditionContext bqEnd = null;
-			boolean firstIteration = true;
-			for ( int i = 0; i < columnNames.length; i++ ) {
-				String fieldName = mapper.convertColumnNameToFieldName( columnNames[i] );
-				if ( firstIteration ) {
-					bqEnd = qb.having( fieldName ).eq( key.getColumnValues()[i] );
-					firstIteration = false;
-				}
-				else {
-					bqEnd = bqEnd.and().having( fieldName ).eq( key.getColumnValues()[i] );
-				}
-			}
-			Query query = bqEnd.toBuilder().build();
+			Query query = associationKeyCondition( qb, mapper, key ).toBuilder().build();
 			Map<RowKey,Map<String, Object>> resultsCollector = new HashMap<>();
 			try ( CloseableIterator<Entry<Object,Object>> iterator = c.retrieveEntriesByQuery( query, null, 100 ) ) {
 				while ( iterator.hasNext() ) {
@@ -422,6 +421,67 @@ private static Map<RowKey, Map<String, Object>> loadRowKeysByQuery(InfinispanRem
 		} );
 	}
 
+	/**
+	 * Counts the entries of the association, optionally restricted to the ones matching the given row columns. Only
+	 * the number of matching entries is transferred, not the entries themselves.
+	 */
+	private static int countRowsByQuery(InfinispanRemoteDatastoreProvider provider, AssociationKey key, Tuple rowColumns) {
+		final String cacheName = cacheName( key );
+		ProtostreamAssociationMappingAdapter mapper = provider.getCollectionsDataMapper( cacheName );
+		return mapper.withinCacheEncodingContext( c -> {
+			QueryBuilder qb = Search.getQueryFactory( c ).from( provider.getEntityType( c ) );
+			FilterConditionContext bqEnd = associationKeyCondition( qb, mapper, key );
+			if ( rowColumns != null ) {
+				for ( String columnName : rowColumns.getColumnNames() ) {
+					String fieldName = mapper.convertColumnNameToFieldName( columnName );
+					Object value = rowColumns.get( columnName );
+					if ( value == null ) {
+						bqEnd = bqEnd.and().having( fieldName ).isNull();
+					}
+					else {
+						bqEnd = bqEnd.and().having( fieldName ).eq( value );
+					}
+				}
+			}
+			Query query = bqEnd.toBuilder().maxResults( 1 ).build();
+			query.list();
+			return query.getResultSize();
+		} );
+	}
+
+	private static FilterConditionContext associationKeyCondition(QueryBuilder qb, ProtostreamAssociationMappingAdapter mapper, AssociationKey key) {
+		final String[] columnNames = key.getColumnNames();
+		FilterConditionContext bqEnd = null;
+		boolean firstIteration = true;
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			String fieldName = mapper.convertColumnNameToFieldName( columnNames[i] );
+			if ( firstIteration ) {
+				bqEnd = qb.having( fieldName ).eq( key.getColumnValues()[i] );
+				firstIteration = false;
+			}
+			else {
+				bqEnd = bqEnd.and().having( fieldName ).eq( key.getColumnValues()[i] );
+			}
+		}
+		return bqEnd;
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		if ( referencesDeleteEntity( key, associationContext ) ) {
+			return 0;
+		}
+		return countRowsByQuery( provider, key, null );
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		if ( referencesDeleteEntity( key, associationContext ) ) {
+			return false;
+		}
+		return countRowsByQuery( provider, key, rowColumns ) > 0;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String,Object>>();
@@ -451,6 +511,28 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 		}
 	}
 
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		if ( associationStoredWithinEntityEntry( key, associationContext ) ) {
+			// The rows are the entities of the other side, they are written with these entities
+			return;
+		}
+
+		// Each row is a dedicated entry identified by its row key, so there is no need to read the association
+		final String cacheName = cacheName( key );
+		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
+		log.debugf( "updateAssociationRows for key '%s' on cache '%s': %s", key, cacheName, changes );
+		for ( RowKey rowKey : changes.getRemovedRows() ) {
+			ProtostreamId idBuffer = mapper.createIdPayload( rowKey.getColumnNames(), rowKey.getColumnValues() );
+			mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+		}
+		for ( Entry<RowKey, Tuple> row : changes.getAddedRows().entrySet() ) {
+			ProtostreamId idBuffer = mapper.createIdPayload( row.getKey().getColumnNames(), row.getKey().getColumnValues() );
+			ProtostreamPayload valuePayload = mapper.createValuePayload( row.getValue() );
+			mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayload ) );
+		}
+	}
+
 	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, AssociationKey key) {
 		final String bridgeTable = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( bridgeTable );
@@ -548,6 +630,19 @@ else if ( keys.length == 1 ) {
 		}
 	}
 
+	// [Optional] implement AsyncGridDialect:
+	/**
+	 * With transactional caches, the operations are executed synchronously by the thread of the transaction.
+	 */
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		if ( provider.getAsyncExecutor() == null ) {
+			executeBatch( queue );
+			return CompletableFuture.completedFuture( null );
+		}
+		return CompletableFuture.runAsync( () -> executeBatch( queue ), provider.getAsyncExecutor() );
+	}
+
 	private static boolean associationStoredWithinEntityEntry(AssociationKey key, AssociationContext associationContext) {
 		final String cacheName = cacheName( key );
 		final String entityTableName = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getTable();
@@ -118,6 +118,31 @@ public final class InfinispanRemoteProperties implements KeyValueStoreProperties
 	 */
 	public static final String DEFAULT_TRANSACTION_MODE = TransactionMode.NON_DURABLE_XA.name();
 
+	/**
+	 * The number of results fetched from the server at once when iterating over the results of a query.
+	 * <p>
+	 * With a page size, results are retrieved page by page while they are iterated over, so that large result sets
+	 * don't have to fit in the client memory at once. Accepts a non-negative int value; {@code 0} fetches all the
+	 * results with a single request. Defaults to {@value #DEFAULT_QUERY_PAGE_SIZE}.
+	 */
+	public static final String QUERY_PAGE_SIZE = "hibernate.ogm.infinispan_remote.query_page_size";
+
+	/**
+	 * The default query page size: all the results are fetched with a single request.
+	 * @see #QUERY_PAGE_SIZE
+	 */
+	public static final int DEFAULT_QUERY_PAGE_SIZE = 0;
+
+	/**
+	 * The number of threads executing the asynchronous operations of the dialect, e.g. the batches of the different
+	 * caches written concurrently during a flush when {@link org.hibernate.ogm.cfg.OgmProperties#ASYNC_FLUSH_ENABLED}
+	 * is set. Only used if {@link #TRANSACTION_MODE} is {@code NONE}: the
+	 * operations of a transaction are executed by the thread of the transaction.
+	 * <p>
+	 * Accepts a positive int value. Defaults to the number of available processors.
+	 */
+	public static final String ASYNC_POOL_SIZE = "hibernate.ogm.infinispan_remote.async_pool_size";
+
 	private InfinispanRemoteProperties() {
 	}
 
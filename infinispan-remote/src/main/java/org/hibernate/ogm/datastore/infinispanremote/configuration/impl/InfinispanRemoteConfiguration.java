@@ -119,6 +119,10 @@ public class InfinispanRemoteConfiguration {
 
 	private TransactionMode transactionMode;
 
+	private int queryPageSize;
+
+	private int asyncPoolSize;
+
 	/**
 	 * The location of the configuration file.
 	 *
@@ -176,6 +180,26 @@ public TransactionMode getTransactionMode() {
 		return transactionMode;
 	}
 
+	/**
+	 * The number of query results fetched at once.
+	 *
+	 * @see InfinispanRemoteProperties#QUERY_PAGE_SIZE
+	 * @return the page size, {@code 0} if all the results are fetched with a single request
+	 */
+	public int getQueryPageSize() {
+		return queryPageSize;
+	}
+
+	/**
+	 * The number of threads executing the asynchronous operations.
+	 *
+	 * @see InfinispanRemoteProperties#ASYNC_POOL_SIZE
+	 * @return the size of the pool
+	 */
+	public int getAsyncPoolSize() {
+		return asyncPoolSize;
+	}
+
 	/**
 	 * Initialize the internal values from the given {@link Map}.
 	 *
@@ -236,6 +260,18 @@ public void initConfiguration(Map<?, ?> configurationMap, ServiceRegistryImpleme
 
 		this.transactionMode = extractTransactionMode( transactionModeString );
 
+		this.queryPageSize = propertyReader
+				.property( InfinispanRemoteProperties.QUERY_PAGE_SIZE, int.class )
+				.withDefault( InfinispanRemoteProperties.DEFAULT_QUERY_PAGE_SIZE )
+				.withValidator( InfinispanRemoteValidators.QUERY_PAGE_SIZE )
+				.getValue();
+
+		this.asyncPoolSize = propertyReader
+				.property( InfinispanRemoteProperties.ASYNC_POOL_SIZE, int.class )
+				.withDefault( Runtime.getRuntime().availableProcessors() )
+				.withValidator( InfinispanRemoteValidators.ASYNC_POOL_SIZE )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan Hot Rod client from configuration file at '%1$s'", configurationResource );
 	}
 
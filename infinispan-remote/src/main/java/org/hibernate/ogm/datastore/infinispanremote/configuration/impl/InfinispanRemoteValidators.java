@@ -30,6 +30,26 @@ public void validate(String schemaFileName) throws HibernateException {
 		}
 	};
 
+	public static final PropertyValidator<Integer> QUERY_PAGE_SIZE = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer pageSize) throws HibernateException {
+			if ( pageSize < 0 ) {
+				throw log.invalidQueryPageSize( pageSize );
+			}
+		}
+	};
+
+	public static final PropertyValidator<Integer> ASYNC_POOL_SIZE = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer poolSize) throws HibernateException {
+			if ( poolSize < 1 ) {
+				throw log.invalidAsyncPoolSize( poolSize );
+			}
+		}
+	};
+
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private InfinispanRemoteValidators() {
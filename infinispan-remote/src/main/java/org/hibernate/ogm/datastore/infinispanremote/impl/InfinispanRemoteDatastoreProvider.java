@@ -12,6 +12,8 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
@@ -78,6 +80,16 @@ public class InfinispanRemoteDatastoreProvider extends BaseDatastoreProvider
 	@EffectivelyFinal
 	private String cacheConfiguration;
 
+	@EffectivelyFinal
+	private int queryPageSize;
+
+	@EffectivelyFinal
+	private int asyncPoolSize;
+
+	// Only created if the caches are not transactional
+	@EffectivelyFinal
+	private ExecutorService asyncExecutor;
+
 	// The Hot Rod client; maintains TCP connections to the datagrid.
 	@EffectivelyFinal
 	private RemoteCacheManager hotrodClient;
@@ -136,10 +148,21 @@ public void start() {
 		// When https://issues.jboss.org/browse/ISPN-8020 is closed, we could remove it and reuse the common hotrodClient.
 		scriptManager = HotRodClientBuilder.builder().withConfiguration( config, new GenericJBossMarshaller() ).build();
 		config = null; //no longer needed
+
+		if ( transactionMode == TransactionMode.NONE ) {
+			asyncExecutor = Executors.newFixedThreadPool( asyncPoolSize, runnable -> {
+				Thread thread = new Thread( runnable, "Hibernate OGM Infinispan Remote async" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
 	}
 
 	@Override
 	public void stop() {
+		if ( asyncExecutor != null ) {
+			asyncExecutor.shutdown();
+		}
 		hotrodClient.stop();
 	}
 
@@ -155,6 +178,8 @@ public void configure(Map configurationValues) {
 		this.createCachesEnabled = config.isCreateCachesEnabled();
 		this.cacheConfiguration = config.getCacheConfiguration();
 		this.transactionMode = config.getTransactionMode();
+		this.queryPageSize = config.getQueryPageSize();
+		this.asyncPoolSize = config.getAsyncPoolSize();
 	}
 
 	@Override
@@ -237,6 +262,20 @@ public String getSchemaFileName() {
 		return schemaFileName;
 	}
 
+	public int getQueryPageSize() {
+		return queryPageSize;
+	}
+
+	/**
+	 * The executor running the asynchronous operations of the dialect.
+	 *
+	 * @return the executor or {@code null} if the caches are transactional, in which case the operations must be
+	 * executed by the thread of the transaction
+	 */
+	public ExecutorService getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
 	public String getConfiguration(String cacheName) {
 		return cacheHandler.getConfiguration( cacheName );
 	}
@@ -104,4 +104,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1725, value = "Provided ProtoBuf schema has an invalid cache definition: %s")
 	HibernateException providedSchemaHasAnInvalidCacheDefinition(String tableName);
+
+	@Message(id = 1726, value = "Invalid value for the query page size, it must be a non-negative number: %d")
+	HibernateException invalidQueryPageSize(int pageSize);
+
+	@Message(id = 1727, value = "Invalid value for the size of the pool executing the asynchronous operations, it must be a positive number: %d")
+	HibernateException invalidAsyncPoolSize(int poolSize);
 }
@@ -7,8 +7,9 @@
 package org.hibernate.ogm.datastore.infinispanremote.query.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Map;
+import java.util.Iterator;
 
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
@@ -18,16 +19,18 @@
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.RowSelection;
-import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.Search;
 import org.infinispan.query.dsl.Query;
-import org.infinispan.query.dsl.QueryFactory;
 
 /**
  * Handles the query execution on the infinispan server.
+ * <p>
+ * Queries are prepared once per cache and Ickle query, and then bound to the parameters of each execution. When a
+ * {@link org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties#QUERY_PAGE_SIZE query page size} is
+ * configured, results are fetched page by page while they are iterated over.
  *
  * @author Fabio Massimo Ercoli
  */
@@ -35,10 +38,15 @@ public class InfinispanRemoteQueryHandler {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int CACHE_CAPACITY = 1000;
+	private static final int CACHE_CONCURRENCY_LEVEL = 20;
+
 	private final InfinispanRemoteDatastoreProvider provider;
+	private final BoundedConcurrentHashMap<PreparedQueryKey, PreparedRemoteQuery> preparedQueries;
 
 	public InfinispanRemoteQueryHandler(InfinispanRemoteDatastoreProvider provider) {
 		this.provider = provider;
+		this.preparedQueries = new BoundedConcurrentHashMap<>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 	}
 
 	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<InfinispanRemoteQueryDescriptor> backendQuery, QueryParameters queryParameters) {
@@ -46,64 +54,75 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<InfinispanRemote
 				? null
 				: backendQuery.getSingleEntityMetadataInformationOrNull().getEntityKeyMetadata();
 
-		InfinispanRemoteQueryDescriptor queryDescriptor = backendQuery.getQuery();
-		RemoteCache<ProtostreamId, ProtostreamPayload> cache = provider.getCache( queryDescriptor.getCache() );
-
-		QueryFactory queryFactory = Search.getQueryFactory( cache );
-		Query query = queryFactory.create( queryDescriptor.getQuery() );
-
-		applyNamedParameters( queryParameters, query );
-		applyRowSelection( queryParameters, query );
-
-		boolean hasProjection = hasProjection( queryDescriptor );
-		if ( entityKeyMetadata != null && hasProjection ) {
+		PreparedRemoteQuery preparedQuery = getPreparedQuery( backendQuery.getQuery() );
+		if ( entityKeyMetadata != null && preparedQuery.hasProjection() ) {
 			throw log.addEntityNotAllowedInNativeQueriesUsingProjection( entityKeyMetadata.getTable(), backendQuery.toString() );
 		}
 
-		return hasProjection
-				? new RawTypeClosableIterator( query, queryDescriptor.getProjections() )
-				: new ProtostreamPayloadClosableIterator( query.list() );
-	}
+		Query query = preparedQuery.bind( queryParameters );
 
-	// We are using QueryDescriptor and not Query because the QueryFactory.create( ) doesn't initialize the projection field
-	private boolean hasProjection(InfinispanRemoteQueryDescriptor queryDescriptor) {
-		return queryDescriptor.getProjections() != null && queryDescriptor.getProjections().length > 0;
+		return preparedQuery.hasProjection()
+				? new RawTypeClosableIterator( fetchResults( query, queryParameters.getRowSelection() ), preparedQuery.getProjections() )
+				: new ProtostreamPayloadClosableIterator( this.<ProtostreamPayload>fetchResults( query, queryParameters.getRowSelection() ) );
 	}
 
-	private void applyNamedParameters(QueryParameters queryParameters, Query query) {
-		for ( Map.Entry<String, TypedGridValue> param : queryParameters.getNamedParameters().entrySet() ) {
-			query.setParameter( param.getKey(), getValue( param ) );
+	private PreparedRemoteQuery getPreparedQuery(InfinispanRemoteQueryDescriptor queryDescriptor) {
+		PreparedQueryKey key = new PreparedQueryKey( queryDescriptor.getCache(), queryDescriptor.getQuery() );
+		PreparedRemoteQuery preparedQuery = preparedQueries.get( key );
+		if ( preparedQuery == null ) {
+			RemoteCache<ProtostreamId, ProtostreamPayload> cache = provider.getCache( queryDescriptor.getCache() );
+			preparedQuery = new PreparedRemoteQuery( Search.getQueryFactory( cache ), queryDescriptor );
+			PreparedRemoteQuery cached = preparedQueries.putIfAbsent( key, preparedQuery );
+			if ( cached != null ) {
+				preparedQuery = cached;
+			}
 		}
+		return preparedQuery;
 	}
 
-	private Object getValue(Map.Entry<String, TypedGridValue> param) {
-		Object value = param.getValue().getValue();
-
-		// ProtoStream does not support natively Character or Byte types
-		if ( value instanceof Character ) {
-			return value.toString();
-		}
-		if ( value instanceof Byte ) {
-			return ( (Byte) value ).intValue();
-		}
-
-		return value;
-	}
+	private <T> Iterator<T> fetchResults(Query query, RowSelection rowSelection) {
+		Integer firstRow = rowSelection == null ? null : rowSelection.getFirstRow();
+		Integer maxRows = rowSelection == null ? null : rowSelection.getMaxRows();
 
-	private void applyRowSelection(QueryParameters queryParameters, Query query) {
-		RowSelection rowSelection = queryParameters.getRowSelection();
-		if ( rowSelection == null ) {
-			return;
+		int pageSize = provider.getQueryPageSize();
+		if ( pageSize > 0 ) {
+			return new PagedQueryResultIterator<T>( query, pageSize, firstRow == null ? 0 : firstRow, maxRows );
 		}
 
-		Integer firstRow = rowSelection.getFirstRow();
-		Integer maxRows = rowSelection.getMaxRows();
-
 		if ( firstRow != null ) {
 			query.startOffset( firstRow );
 		}
 		if ( maxRows != null ) {
 			query.maxResults( maxRows );
 		}
+		return query.<T>list().iterator();
+	}
+
+	private static final class PreparedQueryKey {
+
+		private final String cache;
+		private final String query;
+
+		private PreparedQueryKey(String cache, String query) {
+			this.cache = cache;
+			this.query = query;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			PreparedQueryKey other = (PreparedQueryKey) obj;
+			return cache.equals( other.cache ) && query.equals( other.query );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * cache.hashCode() + query.hashCode();
+		}
 	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.query.impl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.infinispan.query.dsl.Query;
+
+/**
+ * Iterates over the results of an Infinispan query, fetching them from the server one page at a time.
+ * <p>
+ * The next page is only requested once the current one has been consumed, so at most one page of results is held in
+ * memory. Pages are requested by offset: results which are added or removed while iterating may shift the following
+ * pages, unless the query has a stable order.
+ *
+ * @param <T> the type of the results
+ */
+public class PagedQueryResultIterator<T> implements Iterator<T> {
+
+	private final Query query;
+	private final int pageSize;
+
+	private long offset;
+	private Integer remaining;
+	private Iterator<T> page = Collections.emptyIterator();
+	private boolean lastPage;
+
+	/**
+	 * @param query the query to execute, with its parameters bound
+	 * @param pageSize the number of results to fetch at once
+	 * @param firstRow the offset of the first result
+	 * @param maxRows the maximum number of results, {@code null} for all of them
+	 */
+	public PagedQueryResultIterator(Query query, int pageSize, long firstRow, Integer maxRows) {
+		this.query = query;
+		this.pageSize = pageSize;
+		this.offset = firstRow;
+		this.remaining = maxRows;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while ( !page.hasNext() && !lastPage ) {
+			fetchNextPage();
+		}
+		return page.hasNext();
+	}
+
+	@Override
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return page.next();
+	}
+
+	private void fetchNextPage() {
+		int size = remaining == null ? pageSize : Math.min( pageSize, remaining );
+		if ( size == 0 ) {
+			lastPage = true;
+			return;
+		}
+
+		query.startOffset( offset );
+		query.maxResults( size );
+		List<T> results = query.list();
+
+		offset += results.size();
+		if ( remaining != null ) {
+			remaining -= results.size();
+		}
+		lastPage = results.size() < size;
+		page = results.iterator();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.query.impl;
+
+import java.util.Map;
+
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.infinispan.query.dsl.Query;
+import org.infinispan.query.dsl.QueryFactory;
+
+/**
+ * A query prepared for a given cache, which can be executed any number of times with different parameters.
+ * <p>
+ * {@link Query} instances hold the parameters, the pagination and the results of an execution, so they cannot be
+ * shared between executions; a prepared query keeps what can be: the query factory of the cache and the Ickle query.
+ * Instances are immutable and thread-safe.
+ */
+public class PreparedRemoteQuery {
+
+	private final QueryFactory queryFactory;
+	private final String query;
+	private final String[] projections;
+
+	public PreparedRemoteQuery(QueryFactory queryFactory, InfinispanRemoteQueryDescriptor queryDescriptor) {
+		this.queryFactory = queryFactory;
+		this.query = queryDescriptor.getQuery();
+		// We are using QueryDescriptor and not Query because the QueryFactory.create( ) doesn't initialize the projection field
+		this.projections = queryDescriptor.getProjections() != null && queryDescriptor.getProjections().length > 0
+				? queryDescriptor.getProjections()
+				: null;
+	}
+
+	/**
+	 * Creates a query ready to be executed, with the given parameters bound.
+	 *
+	 * @param queryParameters the parameters of this execution
+	 * @return a new query
+	 */
+	public Query bind(QueryParameters queryParameters) {
+		Query bound = queryFactory.create( query );
+		for ( Map.Entry<String, TypedGridValue> param : queryParameters.getNamedParameters().entrySet() ) {
+			bound.setParameter( param.getKey(), getValue( param ) );
+		}
+		return bound;
+	}
+
+	private Object getValue(Map.Entry<String, TypedGridValue> param) {
+		Object value = param.getValue().getValue();
+
+		// ProtoStream does not support natively Character or Byte types
+		if ( value instanceof Character ) {
+			return value.toString();
+		}
+		if ( value instanceof Byte ) {
+			return ( (Byte) value ).intValue();
+		}
+
+		return value;
+	}
+
+	public boolean hasProjection() {
+		return projections != null;
+	}
+
+	public String[] getProjections() {
+		return projections;
+	}
+
+	public String getQuery() {
+		return query;
+	}
+
+	@Override
+	public String toString() {
+		return "PreparedRemoteQuery [query=" + query + "]";
+	}
+}
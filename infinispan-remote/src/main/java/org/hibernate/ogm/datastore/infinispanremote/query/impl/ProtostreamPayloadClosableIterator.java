@@ -7,7 +7,6 @@
 package org.hibernate.ogm.datastore.infinispanremote.query.impl;
 
 import java.util.Iterator;
-import java.util.List;
 
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
@@ -23,8 +22,8 @@ public class ProtostreamPayloadClosableIterator implements ClosableIterator<Tupl
 
 	private final Iterator<ProtostreamPayload> delegate;
 
-	public ProtostreamPayloadClosableIterator(List<ProtostreamPayload> queryResult) {
-		this.delegate = queryResult.iterator();
+	public ProtostreamPayloadClosableIterator(Iterator<ProtostreamPayload> queryResult) {
+		this.delegate = queryResult;
 	}
 
 	@Override
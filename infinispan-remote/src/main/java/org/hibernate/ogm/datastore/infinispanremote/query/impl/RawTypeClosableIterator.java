@@ -13,7 +13,6 @@
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.model.spi.Tuple;
-import org.infinispan.query.dsl.Query;
 
 /**
  * Iterates over the result of an Infinispan query, when each result is a <b>partial</b> cache entry.
@@ -28,8 +27,8 @@ public class RawTypeClosableIterator implements ClosableIterator<Tuple> {
 	private final Iterator<?> queryResultIterator;
 	private final String[] projections;
 
-	public RawTypeClosableIterator(Query query, String[] projections) {
-		this.queryResultIterator = query.list().iterator();
+	public RawTypeClosableIterator(Iterator<?> queryResultIterator, String[] projections) {
+		this.queryResultIterator = queryResultIterator;
 		// Note that we are not using query.getProjection() because at
 		// QueryFactory.create( ) doesn't populate the projection field
 		this.projections = projections;
@@ -39,8 +39,13 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		return parseQuery( sessionFactory, queryString, Collections.emptyMap(), 0 );
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters, int keysetSize) {
 		QueryParser queryParser = new QueryParser();
-		InfinispanRemoteProcessingChain processingChain = createProcessingChain( sessionFactory );
+		InfinispanRemoteProcessingChain processingChain = createProcessingChain( sessionFactory, keysetSize );
 		InfinispanRemoteQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
 
 		log.createdQuery( queryString, result );
@@ -53,9 +58,9 @@ public boolean supportsParameters() {
 		return true;
 	}
 
-	private InfinispanRemoteProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory) {
+	private InfinispanRemoteProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, int keysetSize) {
 		EntityNamesResolver entityNamesResolver = getDefinedEntityNames( sessionFactory );
-		return new InfinispanRemoteProcessingChain( sessionFactory, entityNamesResolver, Collections.emptyMap() );
+		return new InfinispanRemoteProcessingChain( sessionFactory, entityNamesResolver, Collections.emptyMap(), keysetSize );
 	}
 
 	private EntityNamesResolver getDefinedEntityNames(SessionFactory sessionFactory) {
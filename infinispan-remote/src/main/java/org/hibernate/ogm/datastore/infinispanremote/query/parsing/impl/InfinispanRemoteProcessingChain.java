@@ -30,9 +30,14 @@ public class InfinispanRemoteProcessingChain implements AstProcessingChain<Infin
 	private final InfinispanRemoteQueryRendererDelegate rendererDelegate;
 
 	public InfinispanRemoteProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNamesResolver, Map<String, Object> namedParameters) {
+		this( sessionFactory, entityNamesResolver, namedParameters, 0 );
+	}
+
+	public InfinispanRemoteProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNamesResolver, Map<String, Object> namedParameters,
+			int keysetSize) {
 		HibernateOGMQueryResolverDelegate resolverDelegate = new HibernateOGMQueryResolverDelegate();
 		rendererDelegate = new InfinispanRemoteQueryRendererDelegate(
-				sessionFactory, entityNamesResolver, new InfinispanRemotePropertyHelper( sessionFactory, entityNamesResolver ), namedParameters );
+				sessionFactory, entityNamesResolver, new InfinispanRemotePropertyHelper( sessionFactory, entityNamesResolver ), namedParameters, keysetSize );
 		this.resolverProcessor = new QueryResolverProcessor( resolverDelegate );
 		this.rendererProcessor = new QueryRendererProcessor( rendererDelegate );
 	}
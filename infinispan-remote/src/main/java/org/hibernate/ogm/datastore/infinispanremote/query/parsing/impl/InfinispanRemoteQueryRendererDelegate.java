@@ -21,6 +21,7 @@
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.LoggerFactory;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.query.parsing.impl.KeepNamedParametersQueryRendererDelegate;
+import org.hibernate.ogm.query.parsing.impl.KeysetRestriction;
 
 /**
  * Parser delegate which creates Infinispan Remote queries in form of {@link StringBuilder}s.
@@ -32,15 +33,17 @@ public class InfinispanRemoteQueryRendererDelegate extends KeepNamedParametersQu
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private final SessionFactoryImplementor sessionFactory;
+	private final KeysetRestriction keyset;
 	private InfinispanRemoteQueryBuilder sortClause;
 
 	public InfinispanRemoteQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames,
-			InfinispanRemotePropertyHelper propertyHelper, Map<String, Object> namedParameters) {
+			InfinispanRemotePropertyHelper propertyHelper, Map<String, Object> namedParameters, int keysetSize) {
 		super(
 				propertyHelper, entityNames, getSingleEntityQueryBuilder( sessionFactory, propertyHelper ),
 				namedParameters
 		);
 		this.sessionFactory = sessionFactory;
+		this.keyset = KeysetRestriction.forKeyset( keysetSize );
 	}
 
 	private static SingleEntityQueryBuilder<InfinispanRemoteQueryBuilder> getSingleEntityQueryBuilder(SessionFactoryImplementor sessionFactory,
@@ -58,6 +61,10 @@ public InfinispanRemoteQueryParsingResult getResult() {
 				.getEntityKeyMetadata()
 				.getTable();
 
+		if ( keyset != null ) {
+			keyset.applyTo( builder, this::parameterValue );
+		}
+
 		InfinispanRemoteQueryBuilder queryBuilder;
 
 		if ( projections.isEmpty() ) {
@@ -145,6 +152,18 @@ protected void addSortField(PropertyPath propertyPath, String collateName, boole
 		}
 
 		appendSortField( isAscending, columnName );
+
+		if ( keyset != null ) {
+			keyset.addSortField( resolveAlias( propertyPath ), isAscending );
+		}
+	}
+
+	@Override
+	public void pushWhereStrategy() {
+		super.pushWhereStrategy();
+		if ( keyset != null ) {
+			keyset.beginWhereClause( builder );
+		}
 	}
 
 	private String getColumnName(PropertyPath propertyPath) {
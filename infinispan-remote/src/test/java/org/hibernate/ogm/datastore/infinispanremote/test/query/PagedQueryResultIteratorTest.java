@@ -0,0 +1,138 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispanremote.query.impl.PagedQueryResultIterator;
+import org.infinispan.query.dsl.Query;
+import org.junit.Test;
+
+/**
+ * Unit test to verify the behaviour of the target class {@link PagedQueryResultIterator}
+ */
+public class PagedQueryResultIteratorTest {
+
+	private static final List<String> RESULTS = Arrays.asList( "a", "b", "c", "d", "e", "f", "g" );
+
+	@Test
+	public void shouldFetchAllResultsPageByPage() {
+		ListQuery query = new ListQuery( RESULTS );
+
+		assertThat( toList( new PagedQueryResultIterator<String>( query, 3, 0, null ) ) ).isEqualTo( RESULTS );
+		assertThat( query.requestedPages ).containsExactly( "0+3", "3+3", "6+3" );
+	}
+
+	@Test
+	public void shouldStopWhenTheLastPageIsFull() {
+		ListQuery query = new ListQuery( RESULTS.subList( 0, 6 ) );
+
+		assertThat( toList( new PagedQueryResultIterator<String>( query, 3, 0, null ) ) ).containsExactly( "a", "b", "c", "d", "e", "f" );
+		assertThat( query.requestedPages ).containsExactly( "0+3", "3+3", "6+3" );
+	}
+
+	@Test
+	public void shouldApplyRowSelection() {
+		ListQuery query = new ListQuery( RESULTS );
+
+		assertThat( toList( new PagedQueryResultIterator<String>( query, 2, 1, 3 ) ) ).containsExactly( "b", "c", "d" );
+		assertThat( query.requestedPages ).containsExactly( "1+2", "3+1" );
+	}
+
+	@Test
+	public void shouldNotFetchAnythingBeforeIterating() {
+		ListQuery query = new ListQuery( RESULTS );
+
+		Iterator<String> iterator = new PagedQueryResultIterator<String>( query, 2, 0, null );
+		assertThat( query.requestedPages ).isEmpty();
+
+		iterator.next();
+		iterator.next();
+		assertThat( query.requestedPages ).containsExactly( "0+2" );
+	}
+
+	private static List<String> toList(Iterator<String> iterator) {
+		List<String> list = new ArrayList<>();
+		while ( iterator.hasNext() ) {
+			list.add( iterator.next() );
+		}
+		return list;
+	}
+
+	/**
+	 * A query returning the requested page of a list, recording the pages which have been requested.
+	 */
+	private static class ListQuery implements Query {
+
+		private final List<String> results;
+		private final List<String> requestedPages = new ArrayList<>();
+
+		private long startOffset;
+		private int maxResults = -1;
+
+		private ListQuery(List<String> results) {
+			this.results = results;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> List<T> list() {
+			requestedPages.add( startOffset + "+" + maxResults );
+			int from = (int) Math.min( startOffset, results.size() );
+			int to = maxResults < 0 ? results.size() : Math.min( from + maxResults, results.size() );
+			return (List<T>) new ArrayList<>( results.subList( from, to ) );
+		}
+
+		@Override
+		public Query startOffset(long startOffset) {
+			this.startOffset = startOffset;
+			return this;
+		}
+
+		@Override
+		public Query maxResults(int maxResults) {
+			this.maxResults = maxResults;
+			return this;
+		}
+
+		@Override
+		public String getQueryString() {
+			return "from Letter";
+		}
+
+		@Override
+		public int getResultSize() {
+			return results.size();
+		}
+
+		@Override
+		public String[] getProjection() {
+			return null;
+		}
+
+		@Override
+		public Map<String, Object> getParameters() {
+			return null;
+		}
+
+		@Override
+		public Query setParameter(String paramName, Object paramValue) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Query setParameters(Map<String, Object> paramValues) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -16,6 +16,7 @@
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -24,7 +25,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -39,6 +43,7 @@
 import org.hibernate.ogm.datastore.document.impl.EmbeddableStateFinder;
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
 import org.hibernate.ogm.datastore.document.options.MapStorageType;
+import org.hibernate.ogm.datastore.document.options.spi.MapStorageOption;
 import org.hibernate.ogm.datastore.document.options.spi.AssociationStorageOption;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.binarystorage.GridFSStorageManager;
@@ -56,6 +61,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryOptions;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.MongoDBQueryDescriptorBuilder;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.NativeQueryParser;
 import org.hibernate.ogm.datastore.mongodb.type.GeoCollection;
@@ -80,6 +86,12 @@
 import org.hibernate.ogm.datastore.mongodb.type.impl.StringAsObjectIdGridType;
 import org.hibernate.ogm.datastore.mongodb.type.impl.StringAsObjectIdType;
 import org.hibernate.ogm.datastore.mongodb.utils.DocumentUtil;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationSizeGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
@@ -88,6 +100,9 @@
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleWithOptimisticLockOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateAssociationRowsOperation;
+import org.hibernate.ogm.dialect.batch.spi.UpdateTupleWithOptimisticLockOperation;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
@@ -120,6 +135,8 @@
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleOperation;
@@ -164,13 +181,17 @@
 import com.mongodb.client.model.CollationCaseFirst;
 import com.mongodb.client.model.CollationMaxVariable;
 import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.MapReduceAction;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -203,7 +224,7 @@
  * @author Aleksandr Mylnikov
  */
 public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect,
-		StoredProcedureAwareGridDialect {
+		StoredProcedureAwareGridDialect, AssociationRowsGridDialect, AssociationSizeGridDialect, AssociationTargetsGridDialect, AsyncGridDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -211,6 +232,8 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	public static final String TABLE_FIELDNAME = "table";
 	public static final String ASSOCIATIONS_COLLECTION_PREFIX = "associations_";
 
+	private static final String TARGETS_FIELDNAME = "__targets";
+
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	/**
@@ -266,6 +289,14 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		}
 	}
 
+	/**
+	 * The synchronous driver is used: the operations are run by the executor of the datastore provider.
+	 */
+	@Override
+	public CompletionStage<Void> executeBatchAsync(OperationsQueue queue) {
+		return CompletableFuture.runAsync( () -> executeBatch( queue ), provider.getAsyncExecutor() );
+	}
+
 	/*
 	 * This method assumes that the entries in the cursor might not be in the same order as the keys and some keys might
 	 * not have a matching result in the db.
@@ -314,11 +345,12 @@ public Tuple createTuple(EntityKey key, OperationContext OperationContext) {
 	 * Returns a {@link Document} representing the entity which embeds the specified association.
 	 */
 	private Document getEmbeddingEntity(AssociationKey key, AssociationContext associationContext) {
-		Document embeddingEntityDocument = associationContext.getEntityTuplePointer().getTuple() != null ?
-				( (MongoDBTupleSnapshot) associationContext.getEntityTuplePointer().getTuple().getSnapshot() ).getDbObject() : null;
+		MongoDBTupleSnapshot embeddingEntitySnapshot = associationContext.getEntityTuplePointer().getTuple() != null ?
+				(MongoDBTupleSnapshot) associationContext.getEntityTuplePointer().getTuple().getSnapshot() : null;
 
-		if ( embeddingEntityDocument != null ) {
-			return embeddingEntityDocument;
+		// The association might have been left out when reading the entity with a query
+		if ( embeddingEntitySnapshot != null && !embeddingEntitySnapshot.isExcluded( key.getMetadata().getCollectionRole() ) ) {
+			return embeddingEntitySnapshot.getDbObject();
 		}
 		else {
 			MongoCollection<Document> collection = getCollection( key.getEntityKey(), associationContext.getAssociationTypeContext().getOptionsContext() );
@@ -517,20 +549,15 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 	@Override
 	//TODO deal with dotted column names once this method is used for ALL / Dirty optimistic locking
 	public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
-		Document idObject = prepareIdObject( entityKey );
-
-		for ( String versionColumn : oldLockState.getColumnNames() ) {
-			idObject.put( versionColumn, oldLockState.get( versionColumn ) );
-		}
+		Document idObject = versionedObject( entityKey, oldLockState );
 
 		Document updater = objectForUpdate( tuple, tupleContext );
 		if ( updater.isEmpty() ) {
 			return false;
 		}
 
-		Document doc = getCollection( entityKey ).findOneAndUpdate( idObject, updater );
-
-		return doc != null;
+		// The matched count is enough to detect a stale entity, no need to ship the document back
+		return getCollection( entityKey ).withWriteConcern( WriteConcern.ACKNOWLEDGED ).updateOne( idObject, updater ).getMatchedCount() > 0;
 	}
 
 	@Override
@@ -629,16 +656,10 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public boolean removeTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
-		Document toDelete = prepareIdObject( entityKey );
+		Document toDelete = versionedObject( entityKey, oldLockState );
 
-		for ( String versionColumn : oldLockState.getColumnNames() ) {
-			toDelete.put( versionColumn, oldLockState.get( versionColumn ) );
-		}
-
-		MongoCollection<Document> collection = getCollection( entityKey );
-		Document deleted = collection.findOneAndDelete( toDelete );
-
-		return deleted != null;
+		MongoCollection<Document> collection = getCollection( entityKey ).withWriteConcern( WriteConcern.ACKNOWLEDGED );
+		return collection.deleteOne( toDelete ).getDeletedCount() > 0;
 	}
 
 	//not for embedded
@@ -659,6 +680,21 @@ private static Document getProjection(AssociationKey key, boolean embedded) {
 		}
 	}
 
+	/**
+	 * Executes the queued operations touching the owner and the table of the association, or one of the given
+	 * additional tables, the other operations staying queued.
+	 */
+	private void executePendingOperations(AssociationKey key, AssociationContext associationContext, String... additionalTables) {
+		OperationsQueue queue = associationContext.getOperationsQueue();
+		if ( queue != null ) {
+			List<String> tables = new ArrayList<>( 2 + additionalTables.length );
+			tables.add( key.getEntityKey().getTable() );
+			tables.add( key.getTable() );
+			Collections.addAll( tables, additionalTables );
+			queue.flushOperationsOn( tables, this::executeBatch );
+		}
+	}
+
 	private static boolean isInTheInsertionQueue(EntityKey key, AssociationContext associationContext) {
 		OperationsQueue queue = associationContext.getOperationsQueue();
 		return queue != null && queue.isInTheInsertionQueue( key );
@@ -676,7 +712,7 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 
 		// We need to execute the previous operations first or it won't be able to find the key that should have
 		// been created
-		executeBatch( associationContext.getOperationsQueue() );
+		executePendingOperations( key, associationContext );
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
 			Document entity = getEmbeddingEntity( key, associationContext );
 
@@ -696,6 +732,79 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext) {
+		if ( !hasTargetIdRows( key ) ) {
+			return AssociationWithTargets.withoutTargets( getAssociation( key, associationContext ) );
+		}
+
+		EntityKeyMetadata targetMetadata = key.getMetadata().getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
+		executePendingOperations( key, associationContext, targetMetadata.getTable() );
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+		String rowsField = getRowsField( key, storageStrategy );
+		MongoCollection<Document> targetCollection = getCollection( targetMetadata.getTable(), targetTupleContext.getTupleTypeContext().getOptionsContext() );
+
+		Document document;
+		Collection<Document> targetDocuments;
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY && associationContext.getEntityTuplePointer().getTuple() != null ) {
+			// The rows are available already, the targets are read with a single query
+			document = getEmbeddingEntity( key, associationContext );
+			if ( !hasField( document, rowsField ) ) {
+				return null;
+			}
+			Collection<?> targetIds = MongoHelpers.getValueOrNull( document, rowsField, Collection.class );
+			targetDocuments = targetIds == null || targetIds.isEmpty()
+					? Collections.<Document>emptyList()
+					: targetCollection.find( new Document( ID_FIELDNAME, new Document( "$in", targetIds ) ) )
+							.projection( getProjection( targetTupleContext ) )
+							.into( new ArrayList<Document>() );
+		}
+		else {
+			// The rows and their targets are read with a single aggregation
+			// db.collection.aggregate( [ { $match: { _id: ... } }, { $project: { rows: 1 } },
+			//     { $lookup: { from: "Target", localField: "rows", foreignField: "_id", as: "__targets" } } ] )
+			List<Document> pipeline = new ArrayList<>( 3 );
+			pipeline.add( new Document( "$match", getAssociationOwnerQuery( key, storageStrategy ) ) );
+			pipeline.add( new Document( "$project", new Document( rowsField, 1 ) ) );
+			pipeline.add( new Document( "$lookup", new Document( "from", targetCollection.getNamespace().getCollectionName() )
+					.append( "localField", rowsField )
+					.append( "foreignField", ID_FIELDNAME )
+					.append( "as", TARGETS_FIELDNAME ) ) );
+
+			document = getAssociationOwnerCollection( key, storageStrategy, associationContext ).aggregate( pipeline ).first();
+			if ( document == null || !hasField( document, rowsField ) ) {
+				return null;
+			}
+			targetDocuments = (Collection<Document>) document.remove( TARGETS_FIELDNAME );
+		}
+
+		List<Tuple> targets = new ArrayList<>( targetDocuments.size() );
+		for ( Document targetDocument : targetDocuments ) {
+			provider.getBinaryStorageManager().loadContentFromBinaryStorage( targetDocument, targetMetadata );
+			targets.add( new Tuple( new MongoDBTupleSnapshot( targetDocument, targetMetadata ), SnapshotType.UPDATE ) );
+		}
+		return new AssociationWithTargets( new Association( new MongoDBAssociationSnapshot( document, key, storageStrategy ) ), targets );
+	}
+
+	/**
+	 * Whether the rows of the given association are stored as the plain ids of the entities it targets, so that the
+	 * target documents can be looked up by these values. That's the case for collections of entities with a single id
+	 * column and without index column.
+	 */
+	private static boolean hasTargetIdRows(AssociationKey key) {
+		AssociationKeyMetadata metadata = key.getMetadata();
+		if ( metadata.getAssociationKind() != AssociationKind.ASSOCIATION || metadata.getAssociationType() == AssociationType.ONE_TO_ONE ) {
+			return false;
+		}
+
+		String[] targetColumns = metadata.getAssociatedEntityKeyMetadata().getAssociationKeyColumns();
+		return targetColumns.length == 1
+				&& targetColumns[0].equals( metadata.getSingleRowKeyColumnNotContainedInAssociationKey() )
+				&& metadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getColumnNames().length == 1;
+	}
+
 	private static boolean isEmbeddedAssociation(AssociationKey key) {
 		return AssociationKind.EMBEDDED_COLLECTION == key.getMetadata().getAssociationKind();
 	}
@@ -797,6 +906,56 @@ private static Object getAssociationRow(Tuple row, AssociationKey associationKey
 		}
 	}
 
+	/**
+	 * Whether the rows of the given association are stored as a plain array, in which case changes can be applied
+	 * row by row using {@code $push} and {@code $pull} instead of rewriting the whole array.
+	 */
+	private static boolean isStoredAsList(Association association, AssociationKey key, AssociationContext associationContext) {
+		return key.getMetadata().getAssociationType() != AssociationType.ONE_TO_ONE
+				&& association.getSnapshot() instanceof MongoDBAssociationSnapshot
+				&& !DotPatternMapHelpers.organizeAssociationMapByRowKey( association, key, associationContext );
+	}
+
+	/**
+	 * Whether the rows of the given association contain the index of the element, as for lists. Changing an element
+	 * then usually shifts the index of the following ones, so the whole array is rewritten instead of pulling and
+	 * pushing most of its rows.
+	 */
+	private static boolean isIndexed(AssociationKey key) {
+		return key.getMetadata().getRowKeyIndexColumnNames().length > 0;
+	}
+
+	private static boolean isUpdated(Document updateStatement, String column) {
+		for ( Object subQuery : updateStatement.values() ) {
+			if ( ( (Document) subQuery ).containsKey( column ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a condition matching the given association row as stored in the database. Row documents are matched on
+	 * each of their fields (using the dot notation for nested fields) so that the order of the fields does not matter.
+	 */
+	private static Object getAssociationRowCondition(Tuple row, AssociationKey associationKey) {
+		String[] rowKeyColumnsToPersist = associationKey.getMetadata().getColumnsWithoutKeyColumns( row.getColumnNames() );
+
+		if ( rowKeyColumnsToPersist.length == 1 ) {
+			return row.get( rowKeyColumnsToPersist[0] );
+		}
+		else {
+			String prefix = getColumnSharedPrefixOfAssociatedEntityLink( associationKey );
+
+			Document condition = new Document();
+			for ( String column : rowKeyColumnsToPersist ) {
+				String columnName = column.startsWith( prefix ) ? column.substring( prefix.length() ) : column;
+				condition.put( columnName, row.get( column ) );
+			}
+			return condition;
+		}
+	}
+
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
 		throw new UnsupportedOperationException( "Method not supported in GridDialect anymore" );
@@ -807,6 +966,128 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		throw new UnsupportedOperationException( "Method not supported in GridDialect anymore" );
 	}
 
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		GroupedChangesToEntityOperation groupedOperation = new GroupedChangesToEntityOperation( key.getEntityKey() );
+		groupedOperation.addOperation( new UpdateAssociationRowsOperation( key, changes, associationContext ) );
+		executeBatchUpdate( new HashMap<MongoCollection<Document>, BatchInsertionTask>(), new ArrayList<Tuple>(), groupedOperation );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		if ( !isAssociationQueryable( key, associationContext ) ) {
+			Association association = getAssociation( key, associationContext );
+			return association == null ? 0 : association.size();
+		}
+
+		executePendingOperations( key, associationContext );
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+		String rowsField = getRowsField( key, storageStrategy );
+
+		// db.collection.aggregate( [ { $match: { _id: ... } }, { $project: { _id: 0, size: { $size: { $ifNull: [ "$rows", [] ] } } } } ] )
+		List<Document> pipeline = new ArrayList<>( 2 );
+		pipeline.add( new Document( "$match", getAssociationOwnerQuery( key, storageStrategy ) ) );
+		pipeline.add( new Document( "$project", new Document( ID_FIELDNAME, 0 )
+				.append( "size", new Document( "$size", new Document( "$ifNull", Arrays.asList( "$" + rowsField, Collections.emptyList() ) ) ) ) ) );
+
+		Document result = getAssociationOwnerCollection( key, storageStrategy, associationContext ).aggregate( pipeline ).first();
+		return result == null ? 0 : ( (Number) result.get( "size" ) ).intValue();
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		if ( !isAssociationQueryable( key, associationContext ) ) {
+			Association association = getAssociation( key, associationContext );
+			if ( association != null ) {
+				for ( RowKey rowKey : association.getKeys() ) {
+					if ( containsColumns( association.get( rowKey ), rowColumns ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		executePendingOperations( key, associationContext );
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+		Document query = getAssociationOwnerQuery( key, storageStrategy );
+		query.putAll( getRowExistenceCondition( getRowsField( key, storageStrategy ), rowColumns, key ) );
+
+		return getAssociationOwnerCollection( key, storageStrategy, associationContext ).countDocuments( query, new CountOptions().limit( 1 ) ) > 0;
+	}
+
+	/**
+	 * Whether the rows of the given association can be counted or searched for in the datastore. That's not the case
+	 * for one-to-one associations and for maps possibly organized by row key, as well as for associations whose
+	 * embedding entity is already available in memory, in which case there is no need to ask the datastore.
+	 */
+	private static boolean isAssociationQueryable(AssociationKey key, AssociationContext associationContext) {
+		if ( key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ) {
+			return false;
+		}
+
+		if ( key.getMetadata().getRowKeyIndexColumnNames().length == 1
+				&& associationContext.getAssociationTypeContext().getOptionsContext().getUnique( MapStorageOption.class ) == MapStorageType.BY_KEY ) {
+			return false;
+		}
+
+		if ( getAssociationStorageStrategy( key, associationContext ) == AssociationStorageStrategy.IN_ENTITY ) {
+			return associationContext.getEntityTuplePointer().getTuple() == null
+					&& !isInTheInsertionQueue( key.getEntityKey(), associationContext );
+		}
+
+		return true;
+	}
+
+	private static String getRowsField(AssociationKey key, AssociationStorageStrategy storageStrategy) {
+		return storageStrategy == AssociationStorageStrategy.IN_ENTITY ? key.getMetadata().getCollectionRole() : ROWS_FIELDNAME;
+	}
+
+	private static Document getAssociationOwnerQuery(AssociationKey key, AssociationStorageStrategy storageStrategy) {
+		return storageStrategy == AssociationStorageStrategy.IN_ENTITY ? prepareIdObject( key.getEntityKey() ) : associationKeyToObject( key, storageStrategy );
+	}
+
+	private MongoCollection<Document> getAssociationOwnerCollection(AssociationKey key, AssociationStorageStrategy storageStrategy, AssociationContext associationContext) {
+		return storageStrategy == AssociationStorageStrategy.IN_ENTITY
+				? getCollection( key.getEntityKey(), associationContext.getAssociationTypeContext().getOptionsContext() )
+				: getAssociationCollection( key, storageStrategy, associationContext );
+	}
+
+	/**
+	 * Returns a condition matching the documents whose rows field contains a row with the given column values. Rows
+	 * made of a single column are stored as plain values, so both representations are looked for in that case.
+	 */
+	private static Document getRowExistenceCondition(String rowsField, Tuple rowColumns, AssociationKey associationKey) {
+		String prefix = getColumnSharedPrefixOfAssociatedEntityLink( associationKey );
+
+		Document rowCondition = new Document();
+		for ( String column : rowColumns.getColumnNames() ) {
+			String columnName = column.startsWith( prefix ) ? column.substring( prefix.length() ) : column;
+			rowCondition.put( columnName, rowColumns.get( column ) );
+		}
+
+		Document documentRowCondition = new Document( rowsField, new Document( "$elemMatch", rowCondition ) );
+		Object singleValue = rowColumns.getColumnNames().size() == 1 ? rowColumns.get( rowColumns.getColumnNames().iterator().next() ) : null;
+
+		if ( singleValue != null ) {
+			return new Document( "$or", Arrays.asList( new Document( rowsField, singleValue ), documentRowCondition ) );
+		}
+		else {
+			return documentRowCondition;
+		}
+	}
+
+	private static boolean containsColumns(Tuple row, Tuple columns) {
+		for ( String column : columns.getColumnNames() ) {
+			if ( !Objects.equals( row.get( column ), columns.get( column ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		String valueColumnName = request.getKey().getMetadata().getValueColumnName();
@@ -937,17 +1218,20 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 			throw new UnsupportedOperationException( "Positional parameters are not yet supported for MongoDB native queries." );
 		}
 
+		MongoDBQueryOptions queryOptions = MongoDBQueryOptions.from( queryParameters.getQueryHints(), typeContext );
+
 		switch ( queryDescriptor.getOperation() ) {
 			case FIND:
-				return doFind( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				Set<String> excludedFields = getExcludedFields( queryDescriptor, queryOptions, entityKeyMetadata, tupleContext );
+				return doFind( queryDescriptor, queryParameters, queryOptions, excludedFields, collection, entityKeyMetadata );
 			case FINDONE:
 				return doFindOne( queryDescriptor, collection, entityKeyMetadata );
 			case FINDANDMODIFY:
 				return doFindAndModify( queryDescriptor, collection, entityKeyMetadata );
 			case AGGREGATE:
-				return doAggregate( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doAggregate( queryDescriptor, queryParameters, queryOptions, collection, entityKeyMetadata );
 			case AGGREGATE_PIPELINE:
-				return doAggregatePipeline( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doAggregatePipeline( queryDescriptor, queryParameters, queryOptions, collection, entityKeyMetadata );
 			case COUNT:
 				return doCount( queryDescriptor, collection );
 			case DISTINCT:
@@ -1042,7 +1326,18 @@ public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(En
 		return DuplicateInsertPreventionStrategy.NATIVE;
 	}
 
-	private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+	/**
+	 * Returns the lazily loaded collections embedded in the documents of the queried entity, if they should be left out
+	 * of the documents returned by the given query.
+	 */
+	private static Set<String> getExcludedFields(MongoDBQueryDescriptor query, MongoDBQueryOptions queryOptions, EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext) {
+		if ( entityKeyMetadata == null || query.getProjection() != null || !queryOptions.isExcludeLazyAssociations() ) {
+			return Collections.emptySet();
+		}
+		return tupleContext.getTupleTypeContext().getLazyEmbeddedCollectionColumns();
+	}
+
+	private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoDBQueryOptions queryOptions, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
 		List<Document> pipeline = new ArrayList<Document>();
 
 		pipeline.add( stage( "$match", query.getCriteria() ) );
@@ -1069,10 +1364,20 @@ private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query,
 
 		applyMaxResults( queryParameters, pipeline );
 
-		AggregateIterable<Document> output = collection.aggregate( pipeline );
+		AggregateIterable<Document> output = applyCursorOptions( collection.aggregate( pipeline ), queryOptions );
 		return new MongoDBAggregationOutput( output, entityKeyMetadata );
 	}
 
+	private static AggregateIterable<Document> applyCursorOptions(AggregateIterable<Document> output, MongoDBQueryOptions queryOptions) {
+		if ( queryOptions.getCursorBatchSize() != null ) {
+			output.batchSize( queryOptions.getCursorBatchSize() );
+		}
+		if ( queryOptions.isAllowDiskUse() ) {
+			output.allowDiskUse( true );
+		}
+		return output;
+	}
+
 	private static final OptionsContext getOptionsContext(TupleContext tupleContext) {
 		return tupleContext.getTupleTypeContext().getOptionsContext();
 	}
@@ -1089,14 +1394,14 @@ private static void applyFirstResult(QueryParameters queryParameters, List<Docum
 		}
 	}
 
-	private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+	private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoDBQueryOptions queryOptions, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
 
 		// create a pipeline that could be modified by this request adding pagination parameters
 		List<Document> pipeline = new ArrayList<>( query.getPipeline() );
 
 		applyFirstResult( queryParameters, pipeline );
 		applyMaxResults( queryParameters, pipeline );
-		AggregateIterable<Document> output = collection.aggregate( pipeline );
+		AggregateIterable<Document> output = applyCursorOptions( collection.aggregate( pipeline ), queryOptions );
 		return new MongoDBAggregationOutput( output, entityKeyMetadata );
 	}
 
@@ -1227,7 +1532,8 @@ private static Collation getCollation(Document dbObject) {
 		return collation;
 	}
 
-	private ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+	private ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoDBQueryOptions queryOptions, Set<String> excludedFields,
+			MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
 		Document criteria = query.getCriteria();
 		Document orderby = query.getOrderBy();
 		FindIterable<Document> prepareFind = collection.find();
@@ -1271,7 +1577,16 @@ else if ( hint instanceof Bson ) {
 			prepareFind.filter( criteria );
 		}
 
-		prepareFind = prepareFind.projection( query.getProjection() );
+		if ( excludedFields.isEmpty() ) {
+			prepareFind = prepareFind.projection( query.getProjection() );
+		}
+		else {
+			Document projection = new Document();
+			for ( String field : excludedFields ) {
+				projection.put( field, 0 );
+			}
+			prepareFind = prepareFind.projection( projection );
+		}
 
 		if ( orderby != null ) {
 			prepareFind.sort( orderby );
@@ -1291,8 +1606,15 @@ else if ( hint instanceof Bson ) {
 			return new SingleTupleIterator( prepareFind.explain(), null, entityKeyMetadata );
 		}
 
+		if ( queryOptions.getCursorBatchSize() != null ) {
+			prepareFind.batchSize( queryOptions.getCursorBatchSize() );
+		}
+		if ( queryOptions.isNoCursorTimeout() ) {
+			prepareFind.noCursorTimeout( true );
+		}
+
 		MongoCursor<Document> iterator = prepareFind.iterator();
-		return new MongoDBResultsCursor( iterator, entityKeyMetadata, provider.getBinaryStorageManager() );
+		return new MongoDBResultsCursor( iterator, entityKeyMetadata, excludedFields, provider.getBinaryStorageManager() );
 	}
 
 	private static ClosableIterator<Tuple> doFindOne(final MongoDBQueryDescriptor query, final MongoCollection<Document> collection,
@@ -1596,24 +1918,57 @@ private static AssociationStorageStrategy getAssociationStorageStrategy(Associat
 	@Override
 	public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
+			List<Operation> operations = new ArrayList<>();
+			List<Operation> versionedWrites = new ArrayList<>();
+			Set<EntityKey> insertedKeys = new HashSet<>();
 			Operation operation = queue.poll();
-			Map<MongoCollection<Document>, BatchInsertionTask> inserts = new HashMap<MongoCollection<Document>, BatchInsertionTask>();
+			while ( operation != null ) {
+				if ( operation instanceof UpdateTupleWithOptimisticLockOperation || operation instanceof RemoveTupleWithOptimisticLockOperation ) {
+					versionedWrites.add( operation );
+				}
+				else {
+					if ( operation instanceof GroupedChangesToEntityOperation && isInsertion( (GroupedChangesToEntityOperation) operation ) ) {
+						insertedKeys.add( ( (GroupedChangesToEntityOperation) operation ).getEntityKey() );
+					}
+					operations.add( operation );
+				}
+				operation = queue.poll();
+			}
+			queue.clear();
 
-			List<Tuple> insertTuples = new ArrayList<Tuple>();
+			// The version checks come first, so that the changes to a stale entity, e.g. to its embedded associations,
+			// are never upserted; only the entities inserted by the batch itself must be written before
+			List<Operation> earlyVersionedWrites = new ArrayList<>( versionedWrites.size() );
+			List<Operation> lateVersionedWrites = new ArrayList<>();
+			for ( Operation versionedWrite : versionedWrites ) {
+				( insertedKeys.contains( getEntityKey( versionedWrite ) ) ? lateVersionedWrites : earlyVersionedWrites ).add( versionedWrite );
+			}
+			flushVersionedWrites( earlyVersionedWrites );
 
-			while ( operation != null ) {
-				if ( operation instanceof GroupedChangesToEntityOperation ) {
-					GroupedChangesToEntityOperation entityOperation = (GroupedChangesToEntityOperation) operation;
-					executeBatchUpdate( inserts, insertTuples, entityOperation );
+			Set<EntityKey> removedKeys = new HashSet<>();
+			for ( Operation versionedWrite : earlyVersionedWrites ) {
+				if ( versionedWrite instanceof RemoveTupleWithOptimisticLockOperation ) {
+					removedKeys.add( getEntityKey( versionedWrite ) );
 				}
-				else if ( operation instanceof RemoveTupleOperation ) {
-					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
+			}
+
+			Map<MongoCollection<Document>, BatchInsertionTask> inserts = new HashMap<MongoCollection<Document>, BatchInsertionTask>();
+			List<Tuple> insertTuples = new ArrayList<Tuple>();
+			for ( Operation queuedOperation : operations ) {
+				if ( queuedOperation instanceof GroupedChangesToEntityOperation ) {
+					GroupedChangesToEntityOperation entityOperation = (GroupedChangesToEntityOperation) queuedOperation;
+					// the document is gone, the upsert would create it again
+					if ( !removedKeys.contains( entityOperation.getEntityKey() ) ) {
+						executeBatchUpdate( inserts, insertTuples, entityOperation );
+					}
+				}
+				else if ( queuedOperation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) queuedOperation;
 					executeBatchRemove( inserts, removeTupleOperation );
 				}
 				else {
-					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+					throw new UnsupportedOperationException( "Operation not supported: " + queuedOperation.getClass().getSimpleName() );
 				}
-				operation = queue.poll();
 			}
 
 			flushInserts( provider, inserts );
@@ -1621,8 +1976,137 @@ else if ( operation instanceof RemoveTupleOperation ) {
 				insertTuple.setSnapshotType( SnapshotType.UPDATE );
 			}
 
-			queue.clear();
+			flushVersionedWrites( lateVersionedWrites );
+		}
+	}
+
+	private static boolean isInsertion(GroupedChangesToEntityOperation groupedOperation) {
+		for ( Operation operation : groupedOperation.getOperations() ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation
+					&& ( (InsertOrUpdateTupleOperation) operation ).getTuplePointer().getTuple().getSnapshotType() == SnapshotType.INSERT ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static EntityKey getEntityKey(Operation versionedWrite) {
+		return versionedWrite instanceof UpdateTupleWithOptimisticLockOperation
+				? ( (UpdateTupleWithOptimisticLockOperation) versionedWrite ).getEntityKey()
+				: ( (RemoveTupleWithOptimisticLockOperation) versionedWrite ).getEntityKey();
+	}
+
+	@Override
+	public boolean supportsBatchedOptimisticLocking() {
+		return true;
+	}
+
+	/**
+	 * Sends the version-checked updates and removals of each collection in one ordered {@code bulkWrite}.
+	 * <p>
+	 * The bulk write only returns the number of matched and deleted documents, so if some writes did not match, the
+	 * stale entities are found with one query per write of the collection: an updated document must have the new
+	 * version, a removed document must be gone. The first stale entity is reported by its operation, usually raising a
+	 * {@link org.hibernate.StaleObjectStateException}.
+	 */
+	private void flushVersionedWrites(List<Operation> versionedWrites) {
+		if ( versionedWrites.isEmpty() ) {
+			return;
+		}
+
+		Map<MongoCollection<Document>, List<Operation>> writesPerCollection = new LinkedHashMap<>();
+		for ( Operation operation : versionedWrites ) {
+			writesPerCollection.computeIfAbsent( getCollection( getEntityKey( operation ) ), c -> new ArrayList<>() ).add( operation );
+		}
+
+		for ( Map.Entry<MongoCollection<Document>, List<Operation>> entry : writesPerCollection.entrySet() ) {
+			MongoCollection<Document> collection = entry.getKey();
+			if ( !collection.getWriteConcern().isAcknowledged() ) {
+				// the matched counts are needed to detect the stale entities
+				collection = collection.withWriteConcern( WriteConcern.ACKNOWLEDGED );
+			}
+
+			List<WriteModel<Document>> writes = new ArrayList<>( entry.getValue().size() );
+			List<Operation> stale = new ArrayList<>();
+			int updates = 0;
+			int removals = 0;
+			for ( Operation operation : entry.getValue() ) {
+				if ( operation instanceof UpdateTupleWithOptimisticLockOperation ) {
+					UpdateTupleWithOptimisticLockOperation update = (UpdateTupleWithOptimisticLockOperation) operation;
+					Document updater = objectForUpdate( update.getTuple(), update.getTupleContext() );
+					if ( updater.isEmpty() ) {
+						// same outcome as updateTupleWithOptimisticLock()
+						stale.add( operation );
+					}
+					else {
+						writes.add( new UpdateOneModel<Document>( versionedObject( update.getEntityKey(), update.getOldLockState() ), updater ) );
+						updates++;
+					}
+				}
+				else {
+					RemoveTupleWithOptimisticLockOperation removal = (RemoveTupleWithOptimisticLockOperation) operation;
+					writes.add( new DeleteOneModel<Document>( versionedObject( removal.getEntityKey(), removal.getOldLockState() ) ) );
+					removals++;
+				}
+			}
+
+			if ( !writes.isEmpty() ) {
+				BulkWriteResult result = collection.bulkWrite( writes, new BulkWriteOptions().ordered( true ) );
+				if ( result.getMatchedCount() < updates || result.getDeletedCount() < removals ) {
+					stale.addAll( findStaleWrites( collection, entry.getValue(), result.getMatchedCount() < updates, result.getDeletedCount() < removals ) );
+				}
+			}
+
+			if ( !stale.isEmpty() ) {
+				Operation operation = stale.get( 0 );
+				if ( operation instanceof UpdateTupleWithOptimisticLockOperation ) {
+					( (UpdateTupleWithOptimisticLockOperation) operation ).onStaleState();
+				}
+				else {
+					( (RemoveTupleWithOptimisticLockOperation) operation ).onStaleState();
+				}
+			}
+		}
+	}
+
+	private List<Operation> findStaleWrites(MongoCollection<Document> collection, List<Operation> writes, boolean staleUpdates, boolean staleRemovals) {
+		List<Operation> stale = new ArrayList<>();
+		RemoveTupleWithOptimisticLockOperation firstRemoval = null;
+		for ( Operation operation : writes ) {
+			if ( operation instanceof UpdateTupleWithOptimisticLockOperation ) {
+				UpdateTupleWithOptimisticLockOperation update = (UpdateTupleWithOptimisticLockOperation) operation;
+				if ( staleUpdates ) {
+					// the version columns have been set to their new value by the update
+					Document updated = prepareIdObject( update.getEntityKey() );
+					for ( String versionColumn : update.getOldLockState().getColumnNames() ) {
+						updated.put( versionColumn, update.getTuple().get( versionColumn ) );
+					}
+					if ( collection.countDocuments( updated, new CountOptions().limit( 1 ) ) == 0 ) {
+						stale.add( operation );
+					}
+				}
+			}
+			else if ( staleRemovals ) {
+				RemoveTupleWithOptimisticLockOperation removal = (RemoveTupleWithOptimisticLockOperation) operation;
+				firstRemoval = firstRemoval == null ? removal : firstRemoval;
+				if ( collection.countDocuments( prepareIdObject( removal.getEntityKey() ), new CountOptions().limit( 1 ) ) > 0 ) {
+					stale.add( operation );
+				}
+			}
+		}
+		if ( stale.isEmpty() && firstRemoval != null ) {
+			// a removed entity has been removed concurrently as well, it can't be told apart from the others
+			stale.add( firstRemoval );
+		}
+		return stale;
+	}
+
+	private Document versionedObject(EntityKey entityKey, Tuple oldLockState) {
+		Document versionedObject = prepareIdObject( entityKey );
+		for ( String versionColumn : oldLockState.getColumnNames() ) {
+			versionedObject.put( versionColumn, oldLockState.get( versionColumn ) );
 		}
+		return versionedObject;
 	}
 
 	private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
@@ -1644,6 +2128,7 @@ private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTas
 		MongoCollection<Document> collection = getCollection( entityKey );
 		Document insertStatement = null;
 		Document updateStatement = new Document();
+		Document pullStatement = new Document();
 		WriteConcern writeConcern = null;
 
 		final UpdateOptions updateOptions = new UpdateOptions().upsert( true );
@@ -1674,7 +2159,16 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 				AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( associationKey, associationContext );
 				String collectionRole = associationKey.getMetadata().getCollectionRole();
 
-				Object rows = getAssociationRows( association, associationKey, associationContext );
+				boolean storedAsList = isStoredAsList( association, associationKey, associationContext );
+				AssociationRowsDelta delta = null;
+				if ( storedAsList && !isIndexed( associationKey ) && insertStatement == null && !isUpdated( updateStatement, collectionRole ) ) {
+					delta = AssociationRowsDelta.getInstance( association, associationKey );
+				}
+
+				Object rows = null;
+				if ( delta == null || ( storageStrategy == AssociationStorageStrategy.IN_ENTITY && associationContext.getEntityTuplePointer().getTuple() != null ) ) {
+					rows = getAssociationRows( association, associationKey, associationContext );
+				}
 				Object toStore = associationKey.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
 
 				if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
@@ -1685,7 +2179,19 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					}
 					else {
 						// The association is updated on an existing document
-						addSetToQuery( updateStatement, collectionRole, toStore );
+						if ( delta != null ) {
+							// Only the changed rows are sent; the removals need a separate update as MongoDB does not
+							// allow to $pull from and $push to the same array within one update
+							if ( delta.hasRemovedRows() ) {
+								addSubQuery( "$pull", pullStatement, collectionRole, delta.getRemovedRowsCondition() );
+							}
+							if ( delta.hasAddedRows() ) {
+								addSubQuery( "$push", updateStatement, collectionRole, new Document( "$each", delta.getAddedRows() ) );
+							}
+						}
+						else {
+							addSetToQuery( updateStatement, collectionRole, toStore );
+						}
 
 						Document document = getDocument( association, associationContext );
 
@@ -1699,8 +2205,89 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					MongoDBAssociationSnapshot associationSnapshot = (MongoDBAssociationSnapshot) association.getSnapshot();
 					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
 					Document query = associationSnapshot.getQueryObject();
-					Document update = new Document( "$set", new Document( ROWS_FIELDNAME, toStore ) );
-					associationCollection.updateOne( query, update, updateOptions );
+					if ( delta != null ) {
+						if ( delta.hasRemovedRows() ) {
+							Document pull = new Document( "$pull", new Document( ROWS_FIELDNAME, delta.getRemovedRowsCondition() ) );
+							associationCollection.updateOne( query, pull );
+						}
+						if ( delta.hasAddedRows() ) {
+							Document push = new Document( "$push", new Document( ROWS_FIELDNAME, new Document( "$each", delta.getAddedRows() ) ) );
+							associationCollection.updateOne( query, push, updateOptions );
+						}
+					}
+					else {
+						Document update = new Document( "$set", new Document( ROWS_FIELDNAME, toStore ) );
+						associationCollection.updateOne( query, update, updateOptions );
+					}
+				}
+
+				// Keep the snapshot in sync with the datastore so that the next flush only sends the new changes
+				if ( storedAsList ) {
+					MongoDBAssociationSnapshot associationSnapshot = (MongoDBAssociationSnapshot) association.getSnapshot();
+					if ( delta != null ) {
+						associationSnapshot.updateRows( delta.getRemovedRowKeys(), delta.getAddedRows() );
+					}
+					else {
+						associationSnapshot.replaceRows( (List<?>) rows );
+					}
+					association.reset();
+				}
+			}
+			else if ( operation instanceof UpdateAssociationRowsOperation ) {
+				UpdateAssociationRowsOperation rowsOperation = (UpdateAssociationRowsOperation) operation;
+				AssociationKey associationKey = rowsOperation.getAssociationKey();
+				AssociationContext associationContext = rowsOperation.getContext();
+				AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( associationKey, associationContext );
+				String collectionRole = associationKey.getMetadata().getCollectionRole();
+
+				List<Object> removedRowConditions = new ArrayList<>();
+				for ( RowKey rowKey : rowsOperation.getChanges().getRemovedRows() ) {
+					removedRowConditions.add( getAssociationRowCondition( toTuple( rowKey ), associationKey ) );
+				}
+				List<Object> addedRows = new ArrayList<>();
+				for ( Tuple row : rowsOperation.getChanges().getAddedRows().values() ) {
+					addedRows.add( getAssociationRow( row, associationKey ) );
+				}
+
+				if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+					writeConcern = mergeWriteConcern( writeConcern, getWriteConcern( associationContext ) );
+					if ( insertStatement != null ) {
+						// The rows are added to a new document
+						applyAssociationRowsChanges( insertStatement, collectionRole, removedRowConditions, addedRows );
+					}
+					else {
+						if ( isUpdated( updateStatement, collectionRole ) || isUpdated( pullStatement, collectionRole ) ) {
+							// MongoDB does not allow several changes to the same field within one update
+							executeEntityUpdate( collection, entityKey, pullStatement, updateStatement, writeConcern, updateOptions );
+							pullStatement = new Document();
+							updateStatement = new Document();
+						}
+						if ( !removedRowConditions.isEmpty() ) {
+							addSubQuery( "$pull", pullStatement, collectionRole, getRowsCondition( removedRowConditions ) );
+						}
+						if ( !addedRows.isEmpty() ) {
+							addSubQuery( "$addToSet", updateStatement, collectionRole, new Document( "$each", addedRows ) );
+						}
+
+						// The document might be null if the entity has not been read
+						Document document = getDocument( null, associationContext );
+						if ( document != null ) {
+							applyAssociationRowsChanges( document, collectionRole, removedRowConditions, addedRows );
+						}
+					}
+				}
+				else {
+					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext )
+							.withWriteConcern( getWriteConcern( associationContext ) );
+					Document query = associationKeyToObject( associationKey, storageStrategy );
+					if ( !removedRowConditions.isEmpty() ) {
+						Document pull = new Document( "$pull", new Document( ROWS_FIELDNAME, getRowsCondition( removedRowConditions ) ) );
+						associationCollection.updateOne( query, pull );
+					}
+					if ( !addedRows.isEmpty() ) {
+						Document addToSet = new Document( "$addToSet", new Document( ROWS_FIELDNAME, new Document( "$each", addedRows ) ) );
+						associationCollection.updateOne( query, addToSet, updateOptions );
+					}
 				}
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
@@ -1740,6 +2327,15 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			}
 		}
 
+		executeEntityUpdate( collection, entityKey, pullStatement, updateStatement, writeConcern, updateOptions );
+	}
+
+	private void executeEntityUpdate(MongoCollection<Document> collection, EntityKey entityKey, Document pullStatement, Document updateStatement,
+			WriteConcern writeConcern, UpdateOptions updateOptions) {
+		if ( !pullStatement.isEmpty() ) {
+			collection.withWriteConcern( writeConcern ).updateOne( prepareIdObject( entityKey ), pullStatement );
+		}
+
 		if ( updateStatement != null && !updateStatement.isEmpty() ) {
 			Document documentId = prepareIdObject( entityKey );
 
@@ -1753,6 +2349,66 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 		}
 	}
 
+	/**
+	 * Applies the given row changes to the association stored as a list in the given document, as {@code $pull} and
+	 * {@code $addToSet} would do on the server side.
+	 */
+	private static void applyAssociationRowsChanges(Document document, String collectionRole, List<Object> removedRowConditions, List<Object> addedRows) {
+		Object currentRows = MongoHelpers.getValueOrNull( document, collectionRole );
+		List<Object> rows = currentRows instanceof List ? new ArrayList<>( (List<?>) currentRows ) : new ArrayList<>();
+
+		for ( Object condition : removedRowConditions ) {
+			Iterator<Object> iterator = rows.iterator();
+			while ( iterator.hasNext() ) {
+				if ( matches( iterator.next(), condition ) ) {
+					iterator.remove();
+				}
+			}
+		}
+		for ( Object addedRow : addedRows ) {
+			if ( !rows.contains( addedRow ) ) {
+				rows.add( addedRow );
+			}
+		}
+
+		MongoHelpers.setValue( document, collectionRole, rows );
+	}
+
+	private static boolean matches(Object row, Object condition) {
+		if ( condition instanceof Document ) {
+			if ( !( row instanceof Document ) ) {
+				return false;
+			}
+			for ( Map.Entry<String, Object> field : ( (Document) condition ).entrySet() ) {
+				if ( !Objects.equals( MongoHelpers.getValueOrNull( (Document) row, field.getKey() ), field.getValue() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return Objects.equals( row, condition );
+	}
+
+	private static Tuple toTuple(RowKey rowKey) {
+		Tuple row = new Tuple();
+		for ( int i = 0; i < rowKey.getColumnNames().length; i++ ) {
+			row.put( rowKey.getColumnNames()[i], rowKey.getColumnValues()[i] );
+		}
+		return row;
+	}
+
+	/**
+	 * Returns the {@code $pull} condition matching all the given rows.
+	 */
+	private static Object getRowsCondition(List<Object> rowConditions) {
+		if ( rowConditions.get( 0 ) instanceof Document ) {
+			return rowConditions.size() == 1 ? rowConditions.get( 0 ) : new Document( "$or", rowConditions );
+		}
+		else {
+			return new Document( "$in", rowConditions );
+		}
+	}
+
 	private Document getDocument(Association association, AssociationContext associationContext) {
 		TuplePointer tuplePointer = associationContext.getEntityTuplePointer();
 		if ( tuplePointer.getTuple() != null ) {
@@ -2026,7 +2682,7 @@ public MongoDBTuplesSupplier(MongoCollection<Document> collection, EntityKeyMeta
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MongoDBResultsCursor( collection.find().iterator(), entityKeyMetadata, binaryStorageManager );
+			return new MongoDBResultsCursor( collection.find().iterator(), entityKeyMetadata, Collections.<String>emptySet(), binaryStorageManager );
 		}
 	}
 
@@ -2034,11 +2690,13 @@ private static class MongoDBResultsCursor implements ClosableIterator<Tuple> {
 
 		private final MongoCursor<Document> cursor;
 		private final EntityKeyMetadata metadata;
+		private final Set<String> excludedFields;
 		private final GridFSStorageManager binaryStorageManager;
 
-		public MongoDBResultsCursor(MongoCursor<Document> cursor, EntityKeyMetadata metadata, GridFSStorageManager binaryStorageManager) {
+		public MongoDBResultsCursor(MongoCursor<Document> cursor, EntityKeyMetadata metadata, Set<String> excludedFields, GridFSStorageManager binaryStorageManager) {
 			this.cursor = cursor;
 			this.metadata = metadata;
+			this.excludedFields = excludedFields;
 			this.binaryStorageManager = binaryStorageManager;
 		}
 
@@ -2051,7 +2709,7 @@ public boolean hasNext() {
 		public Tuple next() {
 			Document dbObject = cursor.next();
 			binaryStorageManager.loadContentFromBinaryStorage( dbObject, metadata );
-			return new Tuple( new MongoDBTupleSnapshot( dbObject, metadata ), SnapshotType.UPDATE );
+			return new Tuple( new MongoDBTupleSnapshot( dbObject, metadata, excludedFields ), SnapshotType.UPDATE );
 		}
 
 		@Override
@@ -2108,6 +2766,81 @@ public void close() {
 		}
 	}
 
+	/**
+	 * The changes applied to an association since it has been read, as to be sent to MongoDB using {@code $pull} and
+	 * {@code $push}.
+	 */
+	private static class AssociationRowsDelta {
+
+		private final List<RowKey> removedRowKeys = new ArrayList<>();
+		private final List<Object> removedRowConditions = new ArrayList<>();
+		private final List<Object> addedRows = new ArrayList<>();
+
+		/**
+		 * Returns the delta of the given association or {@code null} if the association has been cleared, in which
+		 * case the rows have to be written as a whole.
+		 */
+		static AssociationRowsDelta getInstance(Association association, AssociationKey associationKey) {
+			AssociationSnapshot snapshot = association.getSnapshot();
+			AssociationRowsDelta delta = new AssociationRowsDelta();
+
+			for ( AssociationOperation operation : association.getOperations() ) {
+				RowKey rowKey = operation.getKey();
+				Tuple previousRow = snapshot.get( rowKey );
+
+				switch ( operation.getType() ) {
+					case CLEAR:
+						return null;
+					case PUT:
+						Object row = getAssociationRow( operation.getValue(), associationKey );
+						if ( previousRow != null ) {
+							if ( Objects.equals( row, getAssociationRow( previousRow, associationKey ) ) ) {
+								continue;
+							}
+							delta.removeRow( rowKey, previousRow, associationKey );
+						}
+						delta.addedRows.add( row );
+						break;
+					case REMOVE:
+						if ( previousRow != null ) {
+							delta.removeRow( rowKey, previousRow, associationKey );
+						}
+						break;
+				}
+			}
+
+			return delta;
+		}
+
+		private void removeRow(RowKey rowKey, Tuple row, AssociationKey associationKey) {
+			removedRowKeys.add( rowKey );
+			removedRowConditions.add( getAssociationRowCondition( row, associationKey ) );
+		}
+
+		boolean hasRemovedRows() {
+			return !removedRowKeys.isEmpty();
+		}
+
+		boolean hasAddedRows() {
+			return !addedRows.isEmpty();
+		}
+
+		List<RowKey> getRemovedRowKeys() {
+			return removedRowKeys;
+		}
+
+		List<Object> getAddedRows() {
+			return addedRows;
+		}
+
+		/**
+		 * Returns the {@code $pull} condition matching all the removed rows.
+		 */
+		Object getRemovedRowsCondition() {
+			return getRowsCondition( removedRowConditions );
+		}
+	}
+
 	private static class BatchInsertionTask {
 
 		private final EntityKeyMetadata entityKeyMetadata;
@@ -67,6 +67,48 @@ public final class MongoDBProperties implements DocumentStoreProperties {
 	 */
 	public static final String ASSOCIATION_DOCUMENT_STORAGE = "hibernate.ogm.mongodb.association_document_storage";
 
+	/**
+	 * Configuration property for setting the number of documents fetched per round trip by the cursors of queries.
+	 * Larger batches mean less {@code getMore} round trips when iterating over large results. Accepts an int.
+	 * <p>
+	 * Defaults to the batch size chosen by the server.
+	 */
+	public static final String CURSOR_BATCH_SIZE = "hibernate.ogm.mongodb.cursor_batch_size";
+
+	/**
+	 * Configuration property for preventing the server from closing idle query cursors after its timeout. Accepts
+	 * {@code true} or {@code false}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String NO_CURSOR_TIMEOUT = "hibernate.ogm.mongodb.no_cursor_timeout";
+
+	/**
+	 * Configuration property for allowing aggregation queries to write temporary data to disk, e.g. when sorting
+	 * large results. Accepts {@code true} or {@code false}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String ALLOW_DISK_USE = "hibernate.ogm.mongodb.allow_disk_use";
+
+	/**
+	 * Configuration property for excluding the lazily loaded collections embedded in the entity documents (see
+	 * {@link AssociationStorageType#IN_ENTITY}) from the documents returned by queries. They are fetched when the
+	 * collection is initialized instead. Accepts {@code true} or {@code false}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String EXCLUDE_LAZY_ASSOCIATIONS = "hibernate.ogm.mongodb.exclude_lazy_associations";
+
+	/**
+	 * Configuration property for setting the number of threads executing the asynchronous operations of the dialect,
+	 * e.g. the batches of the different collections written concurrently during a flush when
+	 * {@link org.hibernate.ogm.cfg.OgmProperties#ASYNC_FLUSH_ENABLED} is set. Accepts an int.
+	 * <p>
+	 * Defaults to the number of available processors.
+	 */
+	public static final String ASYNC_POOL_SIZE = "hibernate.ogm.mongodb.async_pool_size";
+
 	/**
 	 * Specify the authentication mechanism that MongoDB will use to authenticate the connection.
 	 * Possible values are listed in {@link org.hibernate.ogm.datastore.mongodb.options.AuthenticationMechanismType}.
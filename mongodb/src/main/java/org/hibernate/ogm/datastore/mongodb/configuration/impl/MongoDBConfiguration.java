@@ -51,6 +51,7 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 	private final AuthenticationMechanismType authenticationMechanism;
 	private final ConfigurationPropertyReader propertyReader;
 	private final String authenticationDatabaseName;
+	private final int asyncPoolSize;
 
 	/**
 	 * Creates a new {@link MongoDBConfiguration}.
@@ -68,6 +69,14 @@ public MongoDBConfiguration(ConfigurationPropertyReader propertyReader, OptionsC
 		this.authenticationDatabaseName = propertyReader.property( MongoDBProperties.AUTHENTICATION_DATABASE, String.class )
 				.withDefault( DEFAULT_AUTHENTICATION_DATABASE )
 				.getValue();
+		this.asyncPoolSize = propertyReader.property( MongoDBProperties.ASYNC_POOL_SIZE, int.class )
+				.withDefault( Runtime.getRuntime().availableProcessors() )
+				.withValidator( value -> {
+					if ( value < 1 ) {
+						throw log.invalidAsyncPoolSize( value );
+					}
+				} )
+				.getValue();
 		this.writeConcern = globalOptions.getUnique( WriteConcernOption.class );
 		this.readConcern = globalOptions.getUnique( ReadConcernOption.class );
 		this.readPreference = globalOptions.getUnique( ReadPreferenceOption.class );
@@ -138,6 +147,13 @@ private Map<String, Method> createSettingsMap() {
 		return settingsMap;
 	}
 
+	/**
+	 * @return the number of threads executing the asynchronous operations of the dialect
+	 */
+	public int getAsyncPoolSize() {
+		return asyncPoolSize;
+	}
+
 	private String getAuthenticationDatabaseName() {
 		return authenticationDatabaseName;
 	}
@@ -18,6 +18,7 @@
 import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationType;
+import org.hibernate.ogm.model.key.spi.RowKey;
 
 import org.bson.Document;
 
@@ -135,6 +136,33 @@ private static Collection<?> getRowsFromMapAssociation(AssociationKey associatio
 		return rows;
 	}
 
+	/**
+	 * Replaces the rows of this snapshot with the given rows, as written to the datastore.
+	 *
+	 * @param rows the rows of the association as stored in MongoDB
+	 */
+	public void replaceRows(Collection<?> rows) {
+		removeAllRows();
+		for ( Object row : rows ) {
+			addRow( row );
+		}
+	}
+
+	/**
+	 * Applies the given changes, as written to the datastore, to the rows of this snapshot.
+	 *
+	 * @param removedRows the keys of the rows removed from the association
+	 * @param addedRows the rows added to the association as stored in MongoDB
+	 */
+	public void updateRows(Collection<RowKey> removedRows, Collection<?> addedRows) {
+		for ( RowKey rowKey : removedRows ) {
+			removeRow( rowKey );
+		}
+		for ( Object row : addedRows ) {
+			addRow( row );
+		}
+	}
+
 	// TODO This only is used for tests; Can we get rid of it?
 	public Document getDocument() {
 		return this.dbObject;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.mongodb.dialect.impl;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -29,10 +30,21 @@ public class MongoDBTupleSnapshot implements TupleSnapshot {
 
 	private final Document dbObject;
 	private final EntityKeyMetadata keyMetadata;
+	private final Set<String> excludedFields;
 
 	public MongoDBTupleSnapshot(Document dbObject, EntityKeyMetadata meta) {
+		this( dbObject, meta, Collections.<String>emptySet() );
+	}
+
+	/**
+	 * @param dbObject the document read from the datastore
+	 * @param meta the meta-data of the entity key, if the document represents an entity
+	 * @param excludedFields the fields of the entity left out of the projection when reading the document
+	 */
+	public MongoDBTupleSnapshot(Document dbObject, EntityKeyMetadata meta, Set<String> excludedFields) {
 		this.dbObject = dbObject;
 		this.keyMetadata = meta;
+		this.excludedFields = excludedFields;
 	}
 
 	public Document getDbObject() {
@@ -49,6 +61,17 @@ public boolean isEmpty() {
 		return dbObject.keySet().isEmpty();
 	}
 
+	/**
+	 * Whether the given field has been left out when reading the document, so that it must be read from the datastore
+	 * if needed.
+	 *
+	 * @param field the name of the field
+	 * @return {@code true} if the field is not part of the document because of the projection used to read it
+	 */
+	public boolean isExcluded(String field) {
+		return excludedFields.contains( field );
+	}
+
 	public boolean isKeyColumn(String column) {
 		return keyMetadata != null && keyMetadata.isKeyColumn( column );
 	}
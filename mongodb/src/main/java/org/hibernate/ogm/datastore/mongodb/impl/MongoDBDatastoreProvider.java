@@ -9,6 +9,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientOptions;
@@ -62,6 +64,8 @@ public class MongoDBDatastoreProvider extends BaseDatastoreProvider implements S
 
 	private GridFSStorageManager binaryStorageManager;
 
+	private ExecutorService asyncExecutor;
+
 	public MongoDBDatastoreProvider() {
 	}
 
@@ -124,6 +128,11 @@ public void start() {
 		else {
 			lookupDatabase();
 		}
+		asyncExecutor = Executors.newFixedThreadPool( config.getAsyncPoolSize(), runnable -> {
+			Thread thread = new Thread( runnable, "Hibernate OGM MongoDB async" );
+			thread.setDaemon( true );
+			return thread;
+		} );
 
 		// clear resources
 		this.jndiService = null;
@@ -176,6 +185,9 @@ protected MongoClient createMongoClient(MongoDBConfiguration config) {
 	@Override
 	public void stop() {
 		log.disconnectingFromMongo();
+		if ( asyncExecutor != null ) {
+			asyncExecutor.shutdown();
+		}
 		mongo.close();
 	}
 
@@ -183,6 +195,15 @@ public MongoDatabase getDatabase() {
 		return mongoDb;
 	}
 
+	/**
+	 * The executor running the asynchronous operations of the dialect on the synchronous driver.
+	 *
+	 * @return the executor of the asynchronous operations
+	 */
+	public ExecutorService getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
 	private MongoDatabase extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
@@ -144,4 +144,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1240, value = "Procedures returning muliple documents are not supported. Procedure '%1$s' returned %2$d results")
 	HibernateException multipleDocumentReturnedByStoredProcedure(String storedProcedureName, int size);
+
+	@Message(id = 1241, value = "Invalid MongoDB query hint '%1$s'")
+	HibernateException invalidQueryHint(String hint);
+
+	@Message(id = 1242, value = "The size of the pool executing the asynchronous operations must be greater than 0, but was %1$d")
+	HibernateException invalidAsyncPoolSize(int size);
 }
@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Option for specifying whether the stages of MongoDB aggregations may write temporary data to disk, e.g. to sort more
+ * documents than allowed in memory.
+ */
+public class AllowDiskUseOption extends UniqueOption<Boolean> {
+
+	@Override
+	public Boolean getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return propertyReader.property( MongoDBProperties.ALLOW_DISK_USE, boolean.class )
+				.withDefault( false )
+				.getValue();
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Option for specifying the number of documents returned by MongoDB in each batch of a query cursor. If not given,
+ * the batch size is chosen by the server.
+ */
+public class CursorBatchSizeOption extends UniqueOption<Integer> {
+
+	@Override
+	public Integer getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return propertyReader.property( MongoDBProperties.CURSOR_BATCH_SIZE, Integer.class )
+				.withDefault( null )
+				.getValue();
+	}
+}
@@ -78,4 +78,38 @@ public interface MongoDBEntityContext extends DocumentStoreEntityContext<MongoDB
 	 * @return this context, allowing for further fluent API invocations
 	 */
 	MongoDBEntityContext associationDocumentStorage(AssociationDocumentStorageType associationDocumentStorage);
+
+	/**
+	 * Defines the number of documents fetched per round trip by the cursors of queries for the current entity.
+	 *
+	 * @param batchSize the batch size, must be positive
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBEntityContext cursorBatchSize(int batchSize);
+
+	/**
+	 * Specifies whether the server should keep the idle cursors of queries for the current entity open instead of closing them
+	 * after its timeout.
+	 *
+	 * @param noCursorTimeout {@code true} to disable the cursor timeout
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBEntityContext noCursorTimeout(boolean noCursorTimeout);
+
+	/**
+	 * Specifies whether aggregation queries for the current entity may write temporary data to disk.
+	 *
+	 * @param allowDiskUse {@code true} to allow the use of disk
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBEntityContext allowDiskUse(boolean allowDiskUse);
+
+	/**
+	 * Specifies whether the lazily loaded collections embedded in the entity documents should be left out of the
+	 * documents returned by queries for the current entity. They are fetched when the collection is initialized instead.
+	 *
+	 * @param excludeLazyAssociations {@code true} to exclude the lazily loaded collections
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBEntityContext excludeLazyAssociations(boolean excludeLazyAssociations);
 }
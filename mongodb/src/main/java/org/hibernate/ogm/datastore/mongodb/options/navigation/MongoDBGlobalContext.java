@@ -79,4 +79,38 @@ public interface MongoDBGlobalContext extends DocumentStoreGlobalContext<MongoDB
 	 * @return this context, allowing for further fluent API invocations
 	 */
 	MongoDBGlobalContext associationDocumentStorage(AssociationDocumentStorageType associationDocumentStorage);
+
+	/**
+	 * Defines the number of documents fetched per round trip by the cursors of queries executed against the datastore.
+	 *
+	 * @param batchSize the batch size, must be positive
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBGlobalContext cursorBatchSize(int batchSize);
+
+	/**
+	 * Specifies whether the server should keep the idle cursors of queries executed against the datastore open instead of closing them
+	 * after its timeout.
+	 *
+	 * @param noCursorTimeout {@code true} to disable the cursor timeout
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBGlobalContext noCursorTimeout(boolean noCursorTimeout);
+
+	/**
+	 * Specifies whether aggregation queries executed against the datastore may write temporary data to disk.
+	 *
+	 * @param allowDiskUse {@code true} to allow the use of disk
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBGlobalContext allowDiskUse(boolean allowDiskUse);
+
+	/**
+	 * Specifies whether the lazily loaded collections embedded in the entity documents should be left out of the
+	 * documents returned by queries executed against the datastore. They are fetched when the collection is initialized instead.
+	 *
+	 * @param excludeLazyAssociations {@code true} to exclude the lazily loaded collections
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBGlobalContext excludeLazyAssociations(boolean excludeLazyAssociations);
 }
@@ -12,7 +12,11 @@
 import org.hibernate.ogm.datastore.mongodb.options.ReadConcernType;
 import org.hibernate.ogm.datastore.mongodb.options.ReadPreferenceType;
 import org.hibernate.ogm.datastore.mongodb.options.WriteConcernType;
+import org.hibernate.ogm.datastore.mongodb.options.impl.AllowDiskUseOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.AssociationDocumentStorageOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorBatchSizeOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.ExcludeLazyAssociationsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.NoCursorTimeoutOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadConcernOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
@@ -78,4 +82,29 @@ public MongoDBGlobalContext associationDocumentStorage(AssociationDocumentStorag
 		addGlobalOption( new AssociationDocumentStorageOption(), associationDocumentStorage );
 		return this;
 	}
+
+	@Override
+	public MongoDBGlobalContext cursorBatchSize(int batchSize) {
+		Contracts.assertTrue( batchSize > 0, "batchSize must be positive" );
+		addGlobalOption( new CursorBatchSizeOption(), batchSize );
+		return this;
+	}
+
+	@Override
+	public MongoDBGlobalContext noCursorTimeout(boolean noCursorTimeout) {
+		addGlobalOption( new NoCursorTimeoutOption(), noCursorTimeout );
+		return this;
+	}
+
+	@Override
+	public MongoDBGlobalContext allowDiskUse(boolean allowDiskUse) {
+		addGlobalOption( new AllowDiskUseOption(), allowDiskUse );
+		return this;
+	}
+
+	@Override
+	public MongoDBGlobalContext excludeLazyAssociations(boolean excludeLazyAssociations) {
+		addGlobalOption( new ExcludeLazyAssociationsOption(), excludeLazyAssociations );
+		return this;
+	}
 }
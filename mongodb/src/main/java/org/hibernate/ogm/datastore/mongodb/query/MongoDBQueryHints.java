@@ -0,0 +1,81 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query;
+
+import org.hibernate.ogm.datastore.mongodb.options.navigation.MongoDBEntityContext;
+
+/**
+ * Query hints overriding, for a single query, the cursor options configured for the queried entity (see
+ * {@link MongoDBEntityContext}) or globally:
+ *
+ * <pre>
+ * List&lt;Poem&gt; poems = session.createQuery( "from Poem p", Poem.class )
+ *     .addQueryHint( MongoDBQueryHints.cursorBatchSize( 1000 ) )
+ *     .addQueryHint( MongoDBQueryHints.noCursorTimeout( true ) )
+ *     .list();
+ * </pre>
+ *
+ * With JPA, the hints are added to the query unwrapped as {@code org.hibernate.query.Query}.
+ */
+public final class MongoDBQueryHints {
+
+	/**
+	 * The prefix of the hints handled by the MongoDB dialect.
+	 */
+	public static final String HINT_PREFIX = "ogm-mongodb:";
+
+	public static final String CURSOR_BATCH_SIZE = "cursorBatchSize";
+
+	public static final String NO_CURSOR_TIMEOUT = "noCursorTimeout";
+
+	public static final String ALLOW_DISK_USE = "allowDiskUse";
+
+	public static final String EXCLUDE_LAZY_ASSOCIATIONS = "excludeLazyAssociations";
+
+	private MongoDBQueryHints() {
+	}
+
+	/**
+	 * @param batchSize the number of documents fetched per round trip by the cursor of the query
+	 * @return the hint to add to the query
+	 */
+	public static String cursorBatchSize(int batchSize) {
+		if ( batchSize <= 0 ) {
+			throw new IllegalArgumentException( "The batch size must be positive" );
+		}
+		return hint( CURSOR_BATCH_SIZE, batchSize );
+	}
+
+	/**
+	 * @param noCursorTimeout whether the server should keep the cursor of the query open when idle
+	 * @return the hint to add to the query
+	 */
+	public static String noCursorTimeout(boolean noCursorTimeout) {
+		return hint( NO_CURSOR_TIMEOUT, noCursorTimeout );
+	}
+
+	/**
+	 * @param allowDiskUse whether an aggregation query may write temporary data to disk
+	 * @return the hint to add to the query
+	 */
+	public static String allowDiskUse(boolean allowDiskUse) {
+		return hint( ALLOW_DISK_USE, allowDiskUse );
+	}
+
+	/**
+	 * @param excludeLazyAssociations whether the lazily loaded collections embedded in the entity documents should be
+	 * left out of the results of the query
+	 * @return the hint to add to the query
+	 */
+	public static String excludeLazyAssociations(boolean excludeLazyAssociations) {
+		return hint( EXCLUDE_LAZY_ASSOCIATIONS, excludeLazyAssociations );
+	}
+
+	private static String hint(String name, Object value) {
+		return HINT_PREFIX + name + "=" + value;
+	}
+}
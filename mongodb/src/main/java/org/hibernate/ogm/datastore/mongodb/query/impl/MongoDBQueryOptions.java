@@ -0,0 +1,128 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
+import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.options.impl.AllowDiskUseOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorBatchSizeOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.ExcludeLazyAssociationsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.NoCursorTimeoutOption;
+import org.hibernate.ogm.datastore.mongodb.query.MongoDBQueryHints;
+import org.hibernate.ogm.options.spi.OptionsContext;
+
+/**
+ * The cursor options applying to the execution of a query: the {@link MongoDBQueryHints} given with the query take
+ * precedence over the options of the queried entity.
+ */
+public class MongoDBQueryOptions {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private Integer cursorBatchSize;
+	private boolean noCursorTimeout;
+	private boolean allowDiskUse;
+	private boolean excludeLazyAssociations;
+
+	private MongoDBQueryOptions() {
+	}
+
+	/**
+	 * @param queryHints the hints given with the query, may be {@code null}
+	 * @param optionsContext the options of the queried entity, may be {@code null} if the query doesn't return entities
+	 * @return the options applying to the query
+	 */
+	public static MongoDBQueryOptions from(List<String> queryHints, OptionsContext optionsContext) {
+		MongoDBQueryOptions options = new MongoDBQueryOptions();
+		if ( optionsContext != null ) {
+			options.cursorBatchSize = optionsContext.getUnique( CursorBatchSizeOption.class );
+			options.noCursorTimeout = Boolean.TRUE.equals( optionsContext.getUnique( NoCursorTimeoutOption.class ) );
+			options.allowDiskUse = Boolean.TRUE.equals( optionsContext.getUnique( AllowDiskUseOption.class ) );
+			options.excludeLazyAssociations = Boolean.TRUE.equals( optionsContext.getUnique( ExcludeLazyAssociationsOption.class ) );
+		}
+
+		if ( queryHints != null ) {
+			for ( String hint : queryHints ) {
+				if ( hint.startsWith( MongoDBQueryHints.HINT_PREFIX ) ) {
+					options.apply( hint );
+				}
+			}
+		}
+		return options;
+	}
+
+	private void apply(String hint) {
+		int separator = hint.indexOf( '=' );
+		if ( separator < 0 ) {
+			throw log.invalidQueryHint( hint );
+		}
+
+		String name = hint.substring( MongoDBQueryHints.HINT_PREFIX.length(), separator );
+		String value = hint.substring( separator + 1 );
+		switch ( name ) {
+			case MongoDBQueryHints.CURSOR_BATCH_SIZE:
+				cursorBatchSize = parseBatchSize( hint, value );
+				break;
+			case MongoDBQueryHints.NO_CURSOR_TIMEOUT:
+				noCursorTimeout = parseBoolean( hint, value );
+				break;
+			case MongoDBQueryHints.ALLOW_DISK_USE:
+				allowDiskUse = parseBoolean( hint, value );
+				break;
+			case MongoDBQueryHints.EXCLUDE_LAZY_ASSOCIATIONS:
+				excludeLazyAssociations = parseBoolean( hint, value );
+				break;
+			default:
+				throw log.invalidQueryHint( hint );
+		}
+	}
+
+	private static int parseBatchSize(String hint, String value) {
+		try {
+			int batchSize = Integer.parseInt( value );
+			if ( batchSize > 0 ) {
+				return batchSize;
+			}
+		}
+		catch (NumberFormatException e) {
+			// reported below
+		}
+		throw log.invalidQueryHint( hint );
+	}
+
+	private static boolean parseBoolean(String hint, String value) {
+		if ( "true".equals( value ) ) {
+			return true;
+		}
+		if ( "false".equals( value ) ) {
+			return false;
+		}
+		throw log.invalidQueryHint( hint );
+	}
+
+	/**
+	 * @return the number of documents to fetch per round trip or {@code null} to use the default of the server
+	 */
+	public Integer getCursorBatchSize() {
+		return cursorBatchSize;
+	}
+
+	public boolean isNoCursorTimeout() {
+		return noCursorTimeout;
+	}
+
+	public boolean isAllowDiskUse() {
+		return allowDiskUse;
+	}
+
+	public boolean isExcludeLazyAssociations() {
+		return excludeLazyAssociations;
+	}
+}
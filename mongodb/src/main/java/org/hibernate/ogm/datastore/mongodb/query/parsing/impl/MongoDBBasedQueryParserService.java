@@ -34,8 +34,13 @@ public class MongoDBBasedQueryParserService extends BaseQueryParserService {
 
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters) {
+		return parseQuery( sessionFactory, queryString, namedParameters, 0 );
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters, int keysetSize) {
 		QueryParser queryParser = new QueryParser();
-		MongoDBProcessingChain processingChain = createProcessingChain( sessionFactory, unwrap( namedParameters ) );
+		MongoDBProcessingChain processingChain = createProcessingChain( sessionFactory, unwrap( namedParameters ), keysetSize );
 
 		MongoDBQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
 		log.createdQuery( queryString, result );
@@ -54,13 +59,14 @@ public boolean supportsParameters() {
 		return false;
 	}
 
-	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters) {
+	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters, int keysetSize) {
 		EntityNamesResolver entityNamesResolver = getDefinedEntityNames( sessionFactory );
 
 		return new MongoDBProcessingChain(
 				sessionFactory,
 				entityNamesResolver,
-				namedParameters );
+				namedParameters,
+				keysetSize );
 	}
 
 	private EntityNamesResolver getDefinedEntityNames(SessionFactory sessionFactory) {
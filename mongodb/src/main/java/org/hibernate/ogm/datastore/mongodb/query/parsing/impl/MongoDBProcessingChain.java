@@ -32,6 +32,10 @@ public class MongoDBProcessingChain implements AstProcessingChain<MongoDBQueryPa
 	private final MongoDBQueryRendererDelegate rendererDelegate;
 
 	public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, Map<String, Object> namedParameters) {
+		this( sessionFactory, entityNames, namedParameters, 0 );
+	}
+
+	public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, Map<String, Object> namedParameters, int keysetSize) {
 		this.resolverProcessor = new QueryResolverProcessor( new HibernateOGMQueryResolverDelegate() );
 
 		MongoDBPropertyHelper propertyHelper = new MongoDBPropertyHelper( sessionFactory, entityNames );
@@ -39,7 +43,8 @@ public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNa
 				sessionFactory,
 				entityNames,
 				propertyHelper,
-				namedParameters
+				namedParameters,
+				keysetSize
 		);
 		this.rendererProcessor = new QueryRendererProcessor( rendererDelegate );
 		this.rendererDelegate = rendererDelegate;
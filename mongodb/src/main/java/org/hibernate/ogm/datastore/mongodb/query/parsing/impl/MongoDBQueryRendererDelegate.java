@@ -27,6 +27,7 @@
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.parsing.impl.KeysetRestriction;
 import org.hibernate.ogm.util.impl.StringHelper;
 
 /**
@@ -43,12 +44,15 @@ public class MongoDBQueryRendererDelegate extends SingleEntityQueryRendererDeleg
 	private Document orderBy;
 	private AggregationRenderer aggregation;
 	private MongoDBHavingQueryBuilder mongoDBHavingQueryBuilder = new MongoDBHavingQueryBuilder();
+	private final Map<String, Object> namedParameters;
+	private final KeysetRestriction keyset;
 	/*
 	 * The fields for which needs to be aggregated using $unwind when running the query
 	 */
 	private List<String> unwinds;
 
-	public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, MongoDBPropertyHelper propertyHelper, Map<String, Object> namedParameters) {
+	public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, MongoDBPropertyHelper propertyHelper, Map<String, Object> namedParameters,
+			int keysetSize) {
 		super(
 				propertyHelper,
 				entityNames,
@@ -57,12 +61,18 @@ public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, En
 
 		this.sessionFactory = sessionFactory;
 		this.propertyHelper = propertyHelper;
+		this.namedParameters = namedParameters;
+		this.keyset = KeysetRestriction.forKeyset( keysetSize );
 	}
 
 	@Override
 	public MongoDBQueryParsingResult getResult() {
 		OgmEntityPersister entityPersister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( targetType );
 
+		if ( keyset != null ) {
+			keyset.applyTo( builder, parameter -> namedParameters.get( parameter.substring( 1 ) ) );
+		}
+
 		Document query = appendDiscriminatorClause( entityPersister, builder.build() );
 
 		return new MongoDBQueryParsingResult(
@@ -206,11 +216,22 @@ public void activateAggregation(AggregationPropertyPath.Type aggregationType) {
 		super.activateAggregation( aggregationType );
 	}
 
+	@Override
+	public void pushWhereStrategy() {
+		super.pushWhereStrategy();
+		if ( keyset != null ) {
+			keyset.beginWhereClause( builder );
+		}
+	}
+
 	@Override
 	protected void addSortField(PropertyPath propertyPath, String collateName, boolean isAscending) {
 		if ( orderBy == null ) {
 			orderBy = new Document();
 		}
+		if ( keyset != null ) {
+			keyset.addSortField( resolveAlias( propertyPath ), isAscending );
+		}
 
 		String columnName = propertyHelper.getColumnName( targetType, propertyPath.getNodeNamesWithoutAlias() );
 
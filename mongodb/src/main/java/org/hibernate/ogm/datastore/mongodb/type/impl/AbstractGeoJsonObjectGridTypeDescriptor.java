@@ -11,7 +11,7 @@
 import org.bson.Document;
 import org.hibernate.ogm.datastore.mongodb.type.AbstractGeoJsonObject;
 import org.hibernate.ogm.model.spi.Tuple;
-import org.hibernate.ogm.type.descriptor.impl.BasicGridBinder;
+import org.hibernate.ogm.type.descriptor.impl.SingleColumnGridBinder;
 import org.hibernate.ogm.type.descriptor.impl.GridTypeDescriptor;
 import org.hibernate.ogm.type.descriptor.impl.GridValueBinder;
 import org.hibernate.ogm.type.descriptor.impl.GridValueExtractor;
@@ -36,13 +36,13 @@ protected AbstractGeoJsonObjectGridTypeDescriptor(Class<T> geoObjectClass, Funct
 
 	@Override
 	public <X> GridValueBinder<X> getBinder(final JavaTypeDescriptor<X> javaTypeDescriptor) {
-		return new BasicGridBinder<X>( javaTypeDescriptor, this ) {
+		return new SingleColumnGridBinder<X>( javaTypeDescriptor, this ) {
 
 			@Override
-			protected void doBind(Tuple resultset, X value, String[] names, WrapperOptions options) {
+			protected Object toColumnValue(X value, WrapperOptions options) {
 				T geoObject = javaTypeDescriptor.unwrap( value, geoObjectClass, options );
 
-				resultset.put( names[0], geoObject.toBsonDocument() );
+				return geoObject.toBsonDocument();
 			}
 		};
 	}
@@ -9,7 +9,7 @@
 import org.bson.BsonBinary;
 import org.bson.types.Binary;
 import org.hibernate.ogm.model.spi.Tuple;
-import org.hibernate.ogm.type.descriptor.impl.BasicGridBinder;
+import org.hibernate.ogm.type.descriptor.impl.SingleColumnGridBinder;
 import org.hibernate.ogm.type.descriptor.impl.GridTypeDescriptor;
 import org.hibernate.ogm.type.descriptor.impl.GridValueBinder;
 import org.hibernate.ogm.type.descriptor.impl.GridValueExtractor;
@@ -28,12 +28,12 @@ public class BinaryMappedGridTypeDescriptor implements GridTypeDescriptor {
 
 	@Override
 	public <X> GridValueBinder<X> getBinder(final JavaTypeDescriptor<X> javaTypeDescriptor) {
-		return new BasicGridBinder<X>( javaTypeDescriptor, this ) {
+		return new SingleColumnGridBinder<X>( javaTypeDescriptor, this ) {
 
 			@Override
-			protected void doBind(Tuple resultset, X value, String[] names, WrapperOptions options) {
+			protected Object toColumnValue(X value, WrapperOptions options) {
 				byte[] data = javaTypeDescriptor.unwrap( value, byte[].class, options );
-				resultset.put( names[0], new BsonBinary( data ) );
+				return new BsonBinary( data );
 			}
 		};
 	}
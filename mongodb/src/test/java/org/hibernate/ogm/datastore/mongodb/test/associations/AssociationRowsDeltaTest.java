@@ -0,0 +1,248 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.associations.collection.types.Address;
+import org.hibernate.ogm.backendtck.associations.collection.types.GrandChild;
+import org.hibernate.ogm.backendtck.associations.collection.types.GrandMother;
+import org.hibernate.ogm.backendtck.associations.collection.types.PhoneNumber;
+import org.hibernate.ogm.backendtck.associations.collection.types.User;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.spi.Hosts;
+import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
+import com.mongodb.ServerAddress;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Makes sure only the changed association rows are sent to MongoDB and that the rows are kept consistent, including
+ * across several flushes of the same session.
+ */
+public class AssociationRowsDeltaTest extends OgmTestCase {
+
+	private static final List<BsonDocument> userUpdates = Collections.synchronizedList( new ArrayList<>() );
+	private static final List<BsonDocument> grandMotherUpdates = Collections.synchronizedList( new ArrayList<>() );
+
+	private String grandMotherId;
+	private String userId;
+
+	@Before
+	public void clearUpdates() {
+		userUpdates.clear();
+		grandMotherUpdates.clear();
+	}
+
+	@After
+	public void deleteEntities() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		if ( grandMotherId != null ) {
+			session.delete( session.get( GrandMother.class, grandMotherId ) );
+		}
+		if ( userId != null ) {
+			session.delete( session.get( User.class, userId ) );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testOnlyChangedRowsAreSent() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		User user = new User();
+		user.getNicknames().add( "idrA" );
+		user.getNicknames().add( "day[9]" );
+		session.persist( user );
+		transaction.commit();
+		session.clear();
+		userId = user.getId();
+
+		userUpdates.clear();
+		transaction = session.beginTransaction();
+		user = session.get( User.class, userId );
+		user.getNicknames().add( "Chopin" );
+		session.flush();
+		user.getNicknames().remove( "idrA" );
+		transaction.commit();
+		session.clear();
+
+		assertThat( userUpdates ).contains(
+				BsonDocument.parse( "{ '$pull' : { 'nicknames' : { '$in' : [ 'idrA' ] } } }" ),
+				BsonDocument.parse( "{ '$push' : { 'nicknames' : { '$each' : [ 'Chopin' ] } } }" ) );
+		// the row pushed by the first flush is not sent again by the second one
+		assertThat( updatedFields( userUpdates, "$push" ) ).containsExactly( "nicknames" );
+		assertThat( updatedFields( userUpdates, "$set" ) ).excludes( "nicknames" );
+
+		transaction = session.beginTransaction();
+		user = session.get( User.class, userId );
+		assertThat( user.getNicknames() ).containsOnly( "day[9]", "Chopin" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testIndexedListIsRewritten() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		GrandMother grandMother = new GrandMother();
+		grandMother.getGrandChildren().add( new GrandChild( "Luke" ) );
+		grandMother.getGrandChildren().add( new GrandChild( "Leia" ) );
+		session.persist( grandMother );
+		transaction.commit();
+		session.clear();
+		grandMotherId = grandMother.getId();
+
+		grandMotherUpdates.clear();
+		transaction = session.beginTransaction();
+		grandMother = session.get( GrandMother.class, grandMotherId );
+		grandMother.getGrandChildren().remove( 0 );
+		grandMother.getGrandChildren().add( new GrandChild( "Han" ) );
+		transaction.commit();
+		session.close();
+
+		// removing the first element shifts the index of the others
+		assertThat( updatedFields( grandMotherUpdates, "$set" ) ).contains( "grandChildren" );
+		assertThat( updatedFields( grandMotherUpdates, "$push" ) ).isEmpty();
+		assertThat( updatedFields( grandMotherUpdates, "$pull" ) ).isEmpty();
+	}
+
+	@Test
+	public void testRowsAddedAndRemovedAcrossSeveralFlushes() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		GrandMother grandMother = new GrandMother();
+		grandMother.getGrandChildren().add( new GrandChild( "Luke" ) );
+		grandMother.getGrandChildren().add( new GrandChild( "Leia" ) );
+		session.persist( grandMother );
+		transaction.commit();
+		session.clear();
+		grandMotherId = grandMother.getId();
+
+		transaction = session.beginTransaction();
+		grandMother = session.get( GrandMother.class, grandMotherId );
+		grandMother.getGrandChildren().add( new GrandChild( "Han" ) );
+		session.flush();
+		grandMother.getGrandChildren().add( new GrandChild( "Chewbacca" ) );
+		session.flush();
+		grandMother.getGrandChildren().remove( 0 );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		grandMother = session.get( GrandMother.class, grandMotherId );
+		assertThat( names( grandMother.getGrandChildren() ) ).containsExactly( "Leia", "Han", "Chewbacca" );
+		grandMother.getGrandChildren().clear();
+		grandMother.getGrandChildren().add( new GrandChild( "Rey" ) );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		grandMother = session.get( GrandMother.class, grandMotherId );
+		assertThat( names( grandMother.getGrandChildren() ) ).containsExactly( "Rey" );
+		transaction.commit();
+		session.close();
+	}
+
+	private static List<String> updatedFields(List<BsonDocument> updates, String operator) {
+		List<String> fields = new ArrayList<>();
+		synchronized ( updates ) {
+			for ( BsonDocument update : updates ) {
+				if ( update.containsKey( operator ) ) {
+					fields.addAll( update.getDocument( operator ).keySet() );
+				}
+			}
+		}
+		return fields;
+	}
+
+	private static List<String> names(List<GrandChild> grandChildren) {
+		List<String> names = new ArrayList<>();
+		for ( GrandChild grandChild : grandChildren ) {
+			names.add( grandChild.getName() );
+		}
+		return names;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, UpdateRecordingDatastoreProvider.class.getName() );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { GrandMother.class, User.class, Address.class, PhoneNumber.class };
+	}
+
+	/**
+	 * Records the update documents sent to the collections of the tested entities.
+	 */
+	public static class UpdateRecordingDatastoreProvider extends MongoDBDatastoreProvider {
+
+		@Override
+		protected MongoClient createMongoClient(MongoDBConfiguration config) {
+			MongoClientOptions options = MongoClientOptions.builder( config.buildOptions() )
+					.addCommandListener( new UpdateRecorder() )
+					.build();
+			List<ServerAddress> serverAddresses = new ArrayList<>( config.getHosts().size() );
+			for ( Hosts.HostAndPort hostAndPort : config.getHosts() ) {
+				serverAddresses.add( new ServerAddress( hostAndPort.getHost(), hostAndPort.getPort() ) );
+			}
+			return config.buildCredential() == null
+					? new MongoClient( serverAddresses, options )
+					: new MongoClient( serverAddresses, config.buildCredential(), options );
+		}
+	}
+
+	private static class UpdateRecorder implements CommandListener {
+
+		@Override
+		public void commandStarted(CommandStartedEvent event) {
+			if ( !"update".equals( event.getCommandName() ) ) {
+				return;
+			}
+			String collection = event.getCommand().getString( "update" ).getValue();
+			List<BsonDocument> updates = "User".equals( collection ) ? userUpdates
+					: "GrandMother".equals( collection ) ? grandMotherUpdates
+					: null;
+			if ( updates != null ) {
+				for ( BsonValue update : event.getCommand().getArray( "updates" ) ) {
+					updates.add( update.asDocument().getDocument( "u" ) );
+				}
+			}
+		}
+
+		@Override
+		public void commandSucceeded(CommandSucceededEvent event) {
+		}
+
+		@Override
+		public void commandFailed(CommandFailedEvent event) {
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.optimisticlocking;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.datastore.mongodb.utils.MongoDBTestHelper.assertDocument;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the changes to the embedded associations of a stale versioned entity are not written, the version checks
+ * being sent before the other changes of the batch.
+ */
+public class BatchedOptimisticLockingInEntityTest extends OgmTestCase {
+
+	@Before
+	public void persistPlanet() {
+		inTransaction( session -> {
+			Planet planet = new Planet( "planet-1", "Jupiter" );
+			planet.getMoons().add( "Io" );
+			session.persist( planet );
+		} );
+	}
+
+	@After
+	public void removePlanet() {
+		inTransaction( session -> {
+			Planet planet = session.get( Planet.class, "planet-1" );
+			if ( planet != null ) {
+				session.delete( planet );
+			}
+		} );
+	}
+
+	@Test
+	public void testEmbeddedAssociationOfStaleEntityIsNotUpdated() {
+		try ( OgmSession session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Planet planet = session.get( Planet.class, "planet-1" );
+
+			inTransaction( concurrentSession -> concurrentSession.get( Planet.class, "planet-1" ).setName( "Saturn" ) );
+
+			planet.setName( "Neptune" );
+			planet.getMoons().add( "Europa" );
+			assertStale( transaction );
+		}
+
+		assertDocument(
+				getSessionFactory(),
+				"Planet",
+				"{ '_id' : 'planet-1' }",
+				"{ 'name' : 1, 'moons' : 1, 'version' : 1 }",
+				"{ '_id' : 'planet-1', 'name' : 'Saturn', 'moons' : [ 'Io' ], 'version' : 1 }"
+		);
+	}
+
+	@Test
+	public void testRemovedStaleEntityIsNotRecreated() {
+		try ( OgmSession session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Planet planet = session.get( Planet.class, "planet-1" );
+
+			inTransaction( concurrentSession -> concurrentSession.delete( concurrentSession.get( Planet.class, "planet-1" ) ) );
+
+			planet.setName( "Neptune" );
+			planet.getMoons().add( "Europa" );
+			assertStale( transaction );
+		}
+
+		inTransaction( session -> assertThat( session.get( Planet.class, "planet-1" ) ).isNull() );
+	}
+
+	private void assertStale(Transaction transaction) {
+		try {
+			transaction.commit();
+			fail( "Expected the stale entity to be detected" );
+		}
+		catch (Exception e) {
+			Throwable cause = e;
+			while ( cause != null && !( cause instanceof StaleObjectStateException ) ) {
+				cause = cause.getCause();
+			}
+			assertThat( cause ).isInstanceOf( StaleObjectStateException.class );
+		}
+		finally {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Planet.class };
+	}
+
+	@Entity(name = "Planet")
+	public static class Planet {
+
+		@Id
+		private String id;
+		private String name;
+
+		@ElementCollection
+		private List<String> moons = new ArrayList<>();
+
+		@Version
+		private int version;
+
+		public Planet() {
+		}
+
+		public Planet(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<String> getMoons() {
+			return moons;
+		}
+
+		public void setMoons(List<String> moons) {
+			this.moons = moons;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+
+		public void setVersion(int version) {
+			this.version = version;
+		}
+	}
+}
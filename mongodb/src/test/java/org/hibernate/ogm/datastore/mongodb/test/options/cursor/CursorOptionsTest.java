@@ -0,0 +1,114 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.options.cursor;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.mongodb.MongoDB;
+import org.hibernate.ogm.datastore.mongodb.options.impl.AllowDiskUseOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorBatchSizeOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.ExcludeLazyAssociationsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.NoCursorTimeoutOption;
+import org.hibernate.ogm.datastore.mongodb.options.navigation.MongoDBGlobalContext;
+import org.hibernate.ogm.datastore.mongodb.query.MongoDBQueryHints;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryOptions;
+import org.hibernate.ogm.options.container.impl.OptionsContainer;
+import org.hibernate.ogm.options.navigation.impl.AppendableConfigurationContext;
+import org.hibernate.ogm.options.navigation.impl.ConfigurationContextImpl;
+import org.hibernate.ogm.options.navigation.source.impl.OptionValueSource;
+import org.hibernate.ogm.options.navigation.source.impl.ProgrammaticOptionValueSource;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for the cursor options, set programmatically or with {@link MongoDBQueryHints}.
+ */
+public class CursorOptionsTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private MongoDBGlobalContext mongoOptions;
+	private AppendableConfigurationContext context;
+
+	@Before
+	public void setupBuilder() {
+		context = new AppendableConfigurationContext();
+		mongoOptions = new MongoDB().getConfigurationBuilder( new ConfigurationContextImpl( context ) );
+	}
+
+	@Test
+	public void testCursorOptionsGivenOnGlobalLevel() throws Exception {
+		mongoOptions
+			.cursorBatchSize( 500 )
+			.noCursorTimeout( true );
+
+		OptionsContainer options = getSource().getGlobalOptions();
+		assertThat( options.getUnique( CursorBatchSizeOption.class ) ).isEqualTo( 500 );
+		assertThat( options.getUnique( NoCursorTimeoutOption.class ) ).isTrue();
+	}
+
+	@Test
+	public void testCursorOptionsGivenOnEntityLevel() throws Exception {
+		mongoOptions
+			.entity( MyEntity.class )
+				.cursorBatchSize( 20 )
+				.allowDiskUse( true )
+				.excludeLazyAssociations( true );
+
+		OptionsContainer options = getSource().getEntityOptions( MyEntity.class );
+		assertThat( options.getUnique( CursorBatchSizeOption.class ) ).isEqualTo( 20 );
+		assertThat( options.getUnique( AllowDiskUseOption.class ) ).isTrue();
+		assertThat( options.getUnique( ExcludeLazyAssociationsOption.class ) ).isTrue();
+	}
+
+	@Test
+	public void testQueryHintsAreApplied() throws Exception {
+		MongoDBQueryOptions options = MongoDBQueryOptions.from( Arrays.asList(
+				"some other hint",
+				MongoDBQueryHints.cursorBatchSize( 1000 ),
+				MongoDBQueryHints.noCursorTimeout( true ),
+				MongoDBQueryHints.allowDiskUse( true ),
+				MongoDBQueryHints.excludeLazyAssociations( true ) ), null );
+
+		assertThat( options.getCursorBatchSize() ).isEqualTo( 1000 );
+		assertThat( options.isNoCursorTimeout() ).isTrue();
+		assertThat( options.isAllowDiskUse() ).isTrue();
+		assertThat( options.isExcludeLazyAssociations() ).isTrue();
+	}
+
+	@Test
+	public void testDefaultsWithoutHints() throws Exception {
+		MongoDBQueryOptions options = MongoDBQueryOptions.from( Collections.<String>emptyList(), null );
+
+		assertThat( options.getCursorBatchSize() ).isNull();
+		assertThat( options.isNoCursorTimeout() ).isFalse();
+		assertThat( options.isAllowDiskUse() ).isFalse();
+		assertThat( options.isExcludeLazyAssociations() ).isFalse();
+	}
+
+	@Test
+	public void testInvalidQueryHint() throws Exception {
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM001241" );
+
+		MongoDBQueryOptions.from( Arrays.asList( MongoDBQueryHints.HINT_PREFIX + "cursorBatchSize=many" ), null );
+	}
+
+	private OptionValueSource getSource() {
+		return new ProgrammaticOptionValueSource( context );
+	}
+
+	private static final class MyEntity {
+	}
+}
@@ -25,6 +25,7 @@
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.inheritance.singletable.EmployeeST;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.inheritance.singletable.PersonST;
 import org.hibernate.ogm.datastore.mongodb.utils.MapBasedEntityNamesResolver;
+import org.hibernate.ogm.query.parsing.impl.KeysetRestriction;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -216,6 +217,29 @@ public void shouldCreateNumericBetweenQuery() {
 				"]}" );
 	}
 
+	@Test
+	public void shouldRestrictQueryToResultsFollowingKeyset() {
+		Map<String, Object> namedParameters = new HashMap<String, Object>();
+		namedParameters.put( KeysetRestriction.parameterName( 0 ), 20L );
+		namedParameters.put( KeysetRestriction.parameterName( 1 ), "4" );
+
+		MongoDBQueryParsingResult parsingResult = queryParser.parseQuery(
+				"select e from IndexedEntity e where e.name = 'same' order by e.position desc, e.id",
+				setUpMongoDbProcessingChain( namedParameters, 2 ) );
+
+		assertThat( parsingResult.getQuery().toJson( jsonWriterSettings ) ).isEqualTo(
+				"{\"$and\": [" +
+					"{\"entityName\": \"same\"}, " +
+					"{\"$or\": [" +
+						"{\"position\": {\"$lt\": {\"$numberLong\": \"20\"}}}, " +
+						"{\"$and\": [" +
+							"{\"position\": {\"$numberLong\": \"20\"}}, " +
+							"{\"_id\": {\"$gt\": \"4\"}}" +
+						"]}" +
+					"]}" +
+				"]}" );
+	}
+
 	@Test
 	public void shouldCreateInQuery() {
 		assertMongoDbQuery(
@@ -317,6 +341,10 @@ private MongoDBQueryParsingResult parseQuery(String queryString, Map<String, Obj
 	}
 
 	private MongoDBProcessingChain setUpMongoDbProcessingChain(Map<String, Object> namedParameters) {
+		return setUpMongoDbProcessingChain( namedParameters, 0 );
+	}
+
+	private MongoDBProcessingChain setUpMongoDbProcessingChain(Map<String, Object> namedParameters, int keysetSize) {
 		Map<String, Class<?>> entityNames = new HashMap<String, Class<?>>();
 		entityNames.put( "com.acme.IndexedEntity", IndexedEntity.class );
 		entityNames.put( "IndexedEntity", IndexedEntity.class );
@@ -325,7 +353,7 @@ private MongoDBProcessingChain setUpMongoDbProcessingChain(Map<String, Object> n
 		entityNames.put( "EmployeeST", EmployeeST.class );
 		EntityNamesResolver nameResolver = new MapBasedEntityNamesResolver( entityNames );
 
-		return new MongoDBProcessingChain( getSessionFactory(), nameResolver, namedParameters );
+		return new MongoDBProcessingChain( getSessionFactory(), nameResolver, namedParameters, keysetSize );
 	}
 
 	@Override
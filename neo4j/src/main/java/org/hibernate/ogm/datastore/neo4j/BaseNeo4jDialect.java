@@ -17,6 +17,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -25,6 +26,10 @@
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jTypeConverter;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.DiscriminatorAwareKeyMetadata;
 import org.hibernate.ogm.datastore.neo4j.query.impl.Neo4jParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsChanges;
+import org.hibernate.ogm.dialect.association.spi.AssociationRowsGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationSizeGridDialect;
+import org.hibernate.ogm.dialect.association.spi.AssociationTargetsGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
@@ -42,6 +47,7 @@
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
@@ -63,7 +69,8 @@
  * @author Davide D'Alto
  */
 public abstract class BaseNeo4jDialect<E extends BaseNeo4jEntityQueries, A extends BaseNeo4jAssociationQueries> extends BaseGridDialect
-		implements QueryableGridDialect<String>, ServiceRegistryAwareService, SessionFactoryLifecycleAwareDialect, MultigetGridDialect {
+		implements QueryableGridDialect<String>, ServiceRegistryAwareService, SessionFactoryLifecycleAwareDialect, MultigetGridDialect, AssociationRowsGridDialect,
+		AssociationSizeGridDialect, AssociationTargetsGridDialect {
 
 	public static final String CONSTRAINT_VIOLATION_CODE = "Neo.ClientError.Schema.ConstraintValidationFailed";
 
@@ -122,6 +129,98 @@ public Association createAssociation(AssociationKey associationKey, AssociationC
 		return new Association();
 	}
 
+	@Override
+	public void updateAssociationRows(AssociationKey key, AssociationRowsChanges changes, AssociationContext associationContext) {
+		// The relationships are managed from the main side of the association, so there is nothing to read or write
+		// for the inverse side
+		if ( key.getMetadata().isInverse() ) {
+			return;
+		}
+
+		// Each row maps to one relationship which is created or deleted on its own, so the rows can be applied
+		// on top of an empty association
+		Association association = new Association();
+		for ( RowKey rowKey : changes.getRemovedRows() ) {
+			association.remove( rowKey );
+		}
+		for ( Entry<RowKey, Tuple> row : changes.getAddedRows().entrySet() ) {
+			association.put( row.getKey(), row.getValue() );
+		}
+		insertOrUpdateAssociation( key, association, associationContext );
+	}
+
+	@Override
+	public boolean containsAssociationRow(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		if ( isAssociationRowQueryable( key, rowColumns, associationContext ) ) {
+			String[] rowColumnNames = ArrayHelper.toStringArray( rowColumns.getColumnNames() );
+			Object[] rowColumnValues = new Object[rowColumnNames.length];
+			for ( int i = 0; i < rowColumnNames.length; i++ ) {
+				rowColumnValues[i] = rowColumns.get( rowColumnNames[i] );
+			}
+			return associationRowExists( key, rowColumnNames, rowColumnValues, associationContext );
+		}
+
+		Association association = getAssociation( key, associationContext );
+		if ( association != null ) {
+			for ( RowKey rowKey : association.getKeys() ) {
+				if ( containsColumns( association.get( rowKey ), rowColumns ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the relationship matching the given row columns can be looked for with a single query. That's the case
+	 * if the columns map to properties of the relationship (index columns) or to the key properties of the target node,
+	 * but not for embedded collections or columns stored in embedded nodes.
+	 */
+	private static boolean isAssociationRowQueryable(AssociationKey key, Tuple rowColumns, AssociationContext associationContext) {
+		if ( key.getMetadata().getAssociationKind() != AssociationKind.ASSOCIATION
+				|| isPartOfEmbedded( associationContext.getAssociationTypeContext().getRoleOnMainSide() ) ) {
+			return false;
+		}
+
+		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = key.getMetadata().getAssociatedEntityKeyMetadata();
+		for ( String column : rowColumns.getColumnNames() ) {
+			if ( rowColumns.get( column ) == null ) {
+				return false;
+			}
+			if ( !ArrayHelper.contains( key.getMetadata().getRowKeyIndexColumnNames(), column ) ) {
+				if ( !ArrayHelper.contains( associatedEntityKeyMetadata.getAssociationKeyColumns(), column )
+						|| isPartOfEmbedded( associatedEntityKeyMetadata.getCorrespondingEntityKeyColumn( column ) ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the nodes targeted by the given association are entity nodes, which can be returned as tuples together
+	 * with the rows of the association.
+	 */
+	protected static boolean hasEntityTargets(AssociationKey key, AssociationContext associationContext) {
+		return key.getMetadata().getAssociationKind() == AssociationKind.ASSOCIATION
+				&& !isPartOfEmbedded( associationContext.getAssociationTypeContext().getRoleOnMainSide() );
+	}
+
+	private static boolean containsColumns(Tuple row, Tuple columns) {
+		for ( String column : columns.getColumnNames() ) {
+			if ( !Objects.equals( row.get( column ), columns.get( column ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the association contains a relationship whose properties (for index columns) or target node properties
+	 * match the given values.
+	 */
+	protected abstract boolean associationRowExists(AssociationKey key, String[] rowColumnNames, Object[] rowColumnValues, AssociationContext associationContext);
+
 	@Override
 	public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
 		return false;
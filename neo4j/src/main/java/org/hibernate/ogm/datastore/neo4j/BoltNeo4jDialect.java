@@ -36,6 +36,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -421,23 +422,72 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
 		EntityKey entityKey = associationKey.getEntityKey();
-		Transaction tx = transaction( associationContext );
-		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext ).findEntity( tx, entityKey.getColumnValues() );
-		if ( node == null ) {
+		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, null );
+		if ( tuples == null ) {
 			return null;
 		}
-
-		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey );
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
-	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey) {
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey associationKey, AssociationContext associationContext, TupleContext targetTupleContext) {
+		if ( !hasEntityTargets( associationKey, associationContext ) ) {
+			return AssociationWithTargets.withoutTargets( getAssociation( associationKey, associationContext ) );
+		}
+
+		EntityKey entityKey = associationKey.getEntityKey();
+		List<NodeWithEmbeddedNodes> targetNodes = new ArrayList<>();
+		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, targetNodes );
+		if ( tuples == null ) {
+			return null;
+		}
+
+		EntityKeyMetadata targetMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
+		BoltNeo4jEntityQueries targetQueries = getEntityQueries( targetMetadata, targetTupleContext );
+		Transaction tx = transaction( associationContext );
+		// The same node is returned once for each relationship pointing to it
+		Map<Long, Tuple> targets = new HashMap<>();
+		for ( NodeWithEmbeddedNodes targetNode : targetNodes ) {
+			if ( !targets.containsKey( targetNode.getOwner().id() ) ) {
+				Map<String, Node> toOneEntities = BoltNeo4jAssociatedNodesHelper.findAssociatedNodes( tx, targetNode, targetMetadata,
+						targetTupleContext.getTupleTypeContext(), targetQueries );
+				BoltNeo4jTupleSnapshot snapshot = new BoltNeo4jTupleSnapshot( targetNode, targetMetadata, toOneEntities, targetTupleContext.getTupleTypeContext() );
+				targets.put( targetNode.getOwner().id(), new Tuple( snapshot, SnapshotType.UPDATE ) );
+			}
+		}
+		return new AssociationWithTargets( new Association( new RemoteNeo4jAssociationSnapshot( tuples ) ), new ArrayList<>( targets.values() ) );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey associationKey, AssociationContext associationContext) {
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.countAssociation( transaction( associationContext ), entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+	}
+
+	@Override
+	protected boolean associationRowExists(AssociationKey associationKey, String[] rowColumnNames, Object[] rowColumnValues, AssociationContext associationContext) {
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.associationRowExists( transaction( associationContext ), entityKey.getColumnValues(), relationshipType, associationKey.getMetadata(), rowColumnNames,
+						rowColumnValues );
+	}
+
+	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey,
+			List<NodeWithEmbeddedNodes> targetNodes) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
-		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
 
 		Transaction tx = transaction( associationContext );
 		ClosableIterator<RemoteNeo4jAssociationPropertiesRow> relationships = getEntityQueries( entityKey.getMetadata(), associationContext )
-				.findAssociation( tx, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+				.findAssociation( tx, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata(), targetNodes );
+		if ( relationships == null ) {
+			// The owner does not exist
+			return null;
+		}
+
+		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
 		while ( relationships.hasNext() ) {
 			RemoteNeo4jAssociationPropertiesRow row = relationships.next();
 			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
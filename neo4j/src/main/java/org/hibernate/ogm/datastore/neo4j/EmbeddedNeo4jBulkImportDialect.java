@@ -0,0 +1,341 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j;
+
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jAssociationQueries;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jBulkImportTupleSnapshot;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jBulkImporter;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jTypeConverter;
+import org.hibernate.ogm.datastore.neo4j.embedded.impl.EmbeddedNeo4jDatastoreProvider;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+
+/**
+ * Writes the entities and associations into an embedded Neo4j database through the Neo4j {@code BatchInserter}, see
+ * {@link Neo4jProperties#BULK_IMPORT}.
+ * <p>
+ * The nodes, labels, properties and relationships are the same as the ones written by the {@link EmbeddedNeo4jDialect},
+ * but they are written without transactions and without the overhead of Cypher. Only the insertion of new entities and
+ * associations is supported: the entities imported so far can be read by id, but they cannot be removed and queries
+ * cannot be executed.
+ */
+public class EmbeddedNeo4jBulkImportDialect extends BaseNeo4jDialect<EmbeddedNeo4jEntityQueries, EmbeddedNeo4jAssociationQueries> {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final EmbeddedNeo4jDatastoreProvider provider;
+
+	public EmbeddedNeo4jBulkImportDialect(EmbeddedNeo4jDatastoreProvider provider) {
+		super( EmbeddedNeo4jTypeConverter.INSTANCE );
+		this.provider = provider;
+	}
+
+	@Override
+	protected EmbeddedNeo4jAssociationQueries createNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, AssociationKeyMetadata associationKeyMetadata) {
+		return new EmbeddedNeo4jAssociationQueries( ownerEntityKeyMetadata, associationKeyMetadata );
+	}
+
+	@Override
+	protected EmbeddedNeo4jEntityQueries createNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeContext tupleTypeContext) {
+		return new EmbeddedNeo4jEntityQueries( entityKeyMetadata, tupleTypeContext );
+	}
+
+	@Override
+	protected EntityKeyMetadata entityKeyMetadata(EntityKeyMetadata keyMetadata, TupleTypeContext tupleTypeContext) {
+		// Same labels as the ones written by the EmbeddedNeo4jDialect
+		return keyMetadata;
+	}
+
+	private EmbeddedNeo4jBulkImporter importer() {
+		return provider.getBulkImporter();
+	}
+
+	@Override
+	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		Long node = importer().findEntityNode( key );
+		if ( node == null ) {
+			return null;
+		}
+		return new Tuple( EmbeddedNeo4jBulkImportTupleSnapshot.fromNode( node, importer().getNodeProperties( node ) ), SnapshotType.UPDATE );
+	}
+
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			tuples.add( getTuple( key, tupleContext ) );
+		}
+		return tuples;
+	}
+
+	@Override
+	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
+		return new Tuple( EmbeddedNeo4jBulkImportTupleSnapshot.emptySnapshot(), SnapshotType.INSERT );
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
+		Tuple tuple = tuplePointer.getTuple();
+		EmbeddedNeo4jBulkImportTupleSnapshot snapshot = (EmbeddedNeo4jBulkImportTupleSnapshot) tuple.getSnapshot();
+		TupleTypeContext tupleTypeContext = tupleContext.getTupleTypeContext();
+
+		// The properties of the node are written together with the node, the rest once it exists
+		Map<String, Object> properties = new HashMap<>();
+		List<TupleOperation> operations = new ArrayList<>( tuple.getOperations().size() );
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			if ( snapshot.isNew() && isNodeProperty( key, operation.getColumn(), tupleTypeContext ) ) {
+				if ( operation.getType() == TupleOperationType.PUT ) {
+					properties.put( operation.getColumn(), operation.getValue() );
+				}
+			}
+			else {
+				operations.add( operation );
+			}
+		}
+
+		if ( snapshot.isNew() ) {
+			snapshot.setNode( importer().createEntityNode( key, properties ) );
+		}
+
+		long node = snapshot.getNode();
+		Set<String> processedAssociationRoles = new HashSet<>();
+		for ( TupleOperation operation : operations ) {
+			String column = operation.getColumn();
+			if ( tupleTypeContext.isPartOfAssociation( column ) ) {
+				String role = tupleTypeContext.getRole( column );
+				if ( processedAssociationRoles.add( role ) ) {
+					applyToOneAssociation( tuple, node, column, role, tupleTypeContext );
+				}
+			}
+			else if ( isPartOfRegularEmbedded( key.getColumnNames(), column ) ) {
+				applyEmbeddedProperty( node, operation );
+			}
+			else if ( operation.getType() == TupleOperationType.PUT ) {
+				importer().setNodeProperty( node, column, operation.getValue() );
+			}
+			else {
+				importer().removeNodeProperty( node, column );
+			}
+		}
+	}
+
+	private static boolean isNodeProperty(EntityKey key, String column, TupleTypeContext tupleTypeContext) {
+		return !tupleTypeContext.isPartOfAssociation( column ) && !isPartOfRegularEmbedded( key.getColumnNames(), column );
+	}
+
+	private void applyEmbeddedProperty(long node, TupleOperation operation) {
+		String[] path = split( operation.getColumn() );
+		String property = path[path.length - 1];
+		if ( operation.getType() == TupleOperationType.PUT ) {
+			long embeddedNode = importer().getOrCreateEmbeddedNode( node, path, path.length - 1 );
+			importer().setNodeProperty( embeddedNode, property, operation.getValue() );
+		}
+		else {
+			Long embeddedNode = importer().findEmbeddedNode( node, path, path.length - 1 );
+			if ( embeddedNode != null ) {
+				importer().removeNodeProperty( embeddedNode, property );
+			}
+		}
+	}
+
+	/**
+	 * The existing relationships cannot be removed, so a to-one association can only be set if there is none.
+	 */
+	private void applyToOneAssociation(Tuple tuple, long node, String column, String role, TupleTypeContext tupleTypeContext) {
+		boolean exists = importer().hasOutgoingRelationship( node, role );
+		EntityKey targetKey = getEntityKey( tuple, tupleTypeContext.getAssociatedEntityKeyMetadata( column ) );
+		if ( isNull( targetKey ) ) {
+			if ( exists ) {
+				throw log.operationNotSupportedInBulkImport( "removal of the association " + role + " of node " + node );
+			}
+		}
+		else if ( exists ) {
+			throw log.operationNotSupportedInBulkImport( "update of the association " + role + " of node " + node );
+		}
+		else {
+			importer().createRelationship( node, targetKey, role, null );
+		}
+	}
+
+	private static boolean isNull(EntityKey key) {
+		for ( Object value : key.getColumnValues() ) {
+			if ( value != null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		throw log.operationNotSupportedInBulkImport( "removal of entity " + key );
+	}
+
+	@Override
+	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		// The relationships created so far are not read back, the rows are only added on top of them
+		return null;
+	}
+
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey key, AssociationContext associationContext, TupleContext targetTupleContext) {
+		return null;
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		throw log.operationNotSupportedInBulkImport( "size of association " + key );
+	}
+
+	@Override
+	protected boolean associationRowExists(AssociationKey key, String[] rowColumnNames, Object[] rowColumnValues, AssociationContext associationContext) {
+		throw log.operationNotSupportedInBulkImport( "lookup of a row of association " + key );
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		// The relationships of a bi-directional association are created from the main side
+		if ( key.getMetadata().isInverse() ) {
+			return;
+		}
+
+		Long owner = importer().findEntityNode( key.getEntityKey() );
+		if ( owner == null ) {
+			throw log.operationNotSupportedInBulkImport( "update of association " + key + " of an entity which has not been imported" );
+		}
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case PUT:
+					createRelationship( owner, key, operation.getValue(), associationContext );
+					break;
+				case CLEAR:
+					removeAssociation( key, associationContext );
+					break;
+				case REMOVE:
+					throw log.operationNotSupportedInBulkImport( "removal of row " + operation.getKey() + " of association " + key );
+			}
+		}
+	}
+
+	private void createRelationship(long owner, AssociationKey key, Tuple row, AssociationContext associationContext) {
+		Map<String, Object> relationshipProperties = new HashMap<>();
+		for ( String indexColumn : key.getMetadata().getRowKeyIndexColumnNames() ) {
+			relationshipProperties.put( indexColumn, row.get( indexColumn ) );
+		}
+
+		EntityKey targetKey = getEntityKey( row, associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata() );
+		String collectionRole = key.getMetadata().getCollectionRole();
+		switch ( key.getMetadata().getAssociationKind() ) {
+			case ASSOCIATION:
+				importer().createRelationship( owner, targetKey, collectionRole, relationshipProperties );
+				break;
+			case EMBEDDED_COLLECTION:
+				String[] path = split( collectionRole );
+				long start = importer().getOrCreateEmbeddedNode( owner, path, path.length - 1 );
+				long element = createEmbeddedElement( key, targetKey, path[path.length - 1] );
+				importer().createRelationship( start, element, path[path.length - 1], relationshipProperties );
+				break;
+			default:
+				throw new AssertionFailure( "Unrecognized associationKind: " + key.getMetadata().getAssociationKind() );
+		}
+	}
+
+	/**
+	 * Creates the node of an element of an embedded collection: a collection of basic values is stored as a property
+	 * named after the relationship, the embedded properties of the components in nested embedded nodes.
+	 */
+	private long createEmbeddedElement(AssociationKey key, EntityKey elementKey, String relationshipType) {
+		String collectionRole = key.getMetadata().getCollectionRole();
+		String[] columns = elementKey.getColumnNames();
+		Object[] values = elementKey.getColumnValues();
+		if ( columns.length == 1 && collectionRole.equals( columns[0] ) ) {
+			Map<String, Object> properties = new HashMap<>();
+			properties.put( relationshipType, values[0] );
+			return importer().createEmbeddedNode( properties, key.getTable() );
+		}
+
+		Map<String, Object> properties = new HashMap<>();
+		Map<String, Object> embeddedProperties = new HashMap<>();
+		for ( int i = 0; i < columns.length; i++ ) {
+			if ( values[i] != null ) {
+				String column = columns[i].startsWith( collectionRole + "." ) ? columns[i].substring( collectionRole.length() + 1 ) : columns[i];
+				( isPartOfEmbedded( column ) ? embeddedProperties : properties ).put( column, values[i] );
+			}
+		}
+
+		long element = importer().createEmbeddedNode( properties, elementKey.getTable() );
+		for ( Map.Entry<String, Object> embeddedProperty : embeddedProperties.entrySet() ) {
+			String[] path = split( embeddedProperty.getKey() );
+			long embeddedNode = importer().getOrCreateEmbeddedNode( element, path, path.length - 1 );
+			importer().setNodeProperty( embeddedNode, path[path.length - 1], embeddedProperty.getValue() );
+		}
+		return element;
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		if ( key.getMetadata().isInverse() ) {
+			return;
+		}
+
+		// Nothing to remove if the association has never been written
+		Long owner = importer().findEntityNode( key.getEntityKey() );
+		if ( owner != null && importer().hasOutgoingRelationship( owner, split( key.getMetadata().getCollectionRole() )[0] ) ) {
+			throw log.operationNotSupportedInBulkImport( "removal of association " + key );
+		}
+	}
+
+	@Override
+	public Number nextValue(NextValueRequest request) {
+		return importer().nextValue( request );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
+		throw log.operationNotSupportedInBulkImport( "iteration over the entities of " + entityKeyMetadata );
+	}
+
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		throw log.operationNotSupportedInBulkImport( "query " + query.getQuery() );
+	}
+}
@@ -9,6 +9,7 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 import static org.neo4j.graphdb.RelationshipType.withName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,6 +18,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -34,6 +36,7 @@
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -299,11 +302,59 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 			return null;
 		}
 
-		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey );
+		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, null );
 		return new Association( new EmbeddedNeo4jAssociationSnapshot( tuples ) );
 	}
 
-	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey) {
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey associationKey, AssociationContext associationContext, TupleContext targetTupleContext) {
+		if ( !hasEntityTargets( associationKey, associationContext ) ) {
+			return AssociationWithTargets.withoutTargets( getAssociation( associationKey, associationContext ) );
+		}
+
+		EntityKey entityKey = associationKey.getEntityKey();
+		Node entityNode = getEntityQueries( entityKey.getMetadata(), associationContext ).findEntity( dataBase, entityKey.getColumnValues() );
+		GraphLogger.log( "Found owner node: %1$s", entityNode );
+		if ( entityNode == null ) {
+			return null;
+		}
+
+		// The same node is reached once for each relationship pointing to it
+		Map<Long, Node> targetNodes = new HashMap<>();
+		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, relationship -> {
+			Node targetNode = relationship.getOtherNode( entityNode );
+			targetNodes.put( targetNode.getId(), targetNode );
+		} );
+
+		EntityKeyMetadata targetMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
+		List<Tuple> targets = new ArrayList<>( targetNodes.size() );
+		for ( Node targetNode : targetNodes.values() ) {
+			targets.add( new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( targetNode,
+					targetTupleContext.getTupleTypeContext().getAllAssociatedEntityKeyMetadata(),
+					targetTupleContext.getTupleTypeContext().getAllRoles(),
+					targetMetadata ), SnapshotType.UPDATE ) );
+		}
+		return new AssociationWithTargets( new Association( new EmbeddedNeo4jAssociationSnapshot( tuples ) ), targets );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey associationKey, AssociationContext associationContext) {
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.countAssociation( dataBase, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+	}
+
+	@Override
+	protected boolean associationRowExists(AssociationKey associationKey, String[] rowColumnNames, Object[] rowColumnValues, AssociationContext associationContext) {
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.associationRowExists( dataBase, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata(), rowColumnNames, rowColumnValues );
+	}
+
+	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey,
+			Consumer<Relationship> relationshipConsumer) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
 		ResourceIterator<Relationship> relationships = getEntityQueries( entityKey.getMetadata(), associationContext )
 				.findAssociation( dataBase, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
@@ -312,6 +363,9 @@ private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, A
 		try {
 			while ( relationships.hasNext() ) {
 				Relationship relationship = relationships.next();
+				if ( relationshipConsumer != null ) {
+					relationshipConsumer.accept( relationship );
+				}
 				AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
 				EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, associationKey, associatedEntityKeyMetadata );
 				RowKey rowKey = convert( associationKey, snapshot );
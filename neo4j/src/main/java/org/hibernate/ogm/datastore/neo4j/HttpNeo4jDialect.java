@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.neo4j;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +43,8 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StreamingStatementResult;
+import org.hibernate.ogm.dialect.association.spi.AssociationWithTargets;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -320,23 +323,75 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
 		EntityKey entityKey = associationKey.getEntityKey();
-		Long transactionId = transactionId( associationContext.getTransactionContext() );
-		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext.getTupleTypeContext() ).findEntity( client, transactionId, entityKey.getColumnValues() );
-		if ( node == null ) {
+		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, associationContext.getTransactionContext(), null );
+		if ( tuples == null ) {
 			return null;
 		}
-
-		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, associationContext.getTransactionContext() );
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
-	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey, TransactionContext transactionContext) {
+	@Override
+	public AssociationWithTargets getAssociationWithTargets(AssociationKey associationKey, AssociationContext associationContext, TupleContext targetTupleContext) {
+		if ( !hasEntityTargets( associationKey, associationContext ) ) {
+			return AssociationWithTargets.withoutTargets( getAssociation( associationKey, associationContext ) );
+		}
+
+		EntityKey entityKey = associationKey.getEntityKey();
+		List<NodeWithEmbeddedNodes> targetNodes = new ArrayList<>();
+		Map<RowKey, Tuple> tuples = createAssociationMap( associationKey, associationContext, entityKey, associationContext.getTransactionContext(), targetNodes );
+		if ( tuples == null ) {
+			return null;
+		}
+
+		EntityKeyMetadata targetMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
+		HttpNeo4jEntityQueries targetQueries = getEntityQueries( targetMetadata, targetTupleContext );
+		Long txId = transactionId( associationContext.getTransactionContext() );
+		// The same node is returned once for each relationship pointing to it
+		Map<List<Object>, Tuple> targets = new HashMap<>();
+		for ( NodeWithEmbeddedNodes targetNode : targetNodes ) {
+			List<Object> targetId = Arrays.asList( columnValues( targetNode.getOwner(), targetMetadata ) );
+			if ( !targets.containsKey( targetId ) ) {
+				Map<String, Node> toOneEntities = HttpNeo4jAssociatedNodesHelper.findAssociatedNodes( client, txId, targetNode, targetMetadata,
+						targetTupleContext.getTupleTypeContext(), targetQueries );
+				HttpNeo4jTupleSnapshot snapshot = new HttpNeo4jTupleSnapshot( targetNode, targetMetadata, toOneEntities, targetTupleContext.getTupleTypeContext() );
+				targets.put( targetId, new Tuple( snapshot, SnapshotType.UPDATE ) );
+			}
+		}
+		return new AssociationWithTargets( new Association( new RemoteNeo4jAssociationSnapshot( tuples ) ), new ArrayList<>( targets.values() ) );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey associationKey, AssociationContext associationContext) {
+		EntityKey entityKey = associationKey.getEntityKey();
+		Long transactionId = transactionId( associationContext.getTransactionContext() );
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext.getTupleTypeContext() )
+				.countAssociation( client, transactionId, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+	}
+
+	@Override
+	protected boolean associationRowExists(AssociationKey associationKey, String[] rowColumnNames, Object[] rowColumnValues, AssociationContext associationContext) {
+		EntityKey entityKey = associationKey.getEntityKey();
+		Long transactionId = transactionId( associationContext.getTransactionContext() );
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext.getTupleTypeContext() )
+				.associationRowExists( client, transactionId, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata(), rowColumnNames,
+						rowColumnValues );
+	}
+
+	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey, TransactionContext transactionContext,
+			List<NodeWithEmbeddedNodes> targetNodes) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
-		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
 
 		Long txId = transactionId( transactionContext );
 		ClosableIterator<RemoteNeo4jAssociationPropertiesRow> relationships = getEntityQueries( entityKey.getMetadata(), associationContext )
-				.findAssociation( client, txId, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+				.findAssociation( client, txId, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata(), targetNodes );
+		if ( relationships == null ) {
+			// The owner does not exist
+			return null;
+		}
+
+		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
 		while ( relationships.hasNext() ) {
 			RemoteNeo4jAssociationPropertiesRow row = relationships.next();
 			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
@@ -498,19 +553,20 @@ public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName,
 		Statements statements = new Statements();
 		statements.addStatement( statement );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
-		if ( !response.getErrors().isEmpty() ) {
-			ErrorResponse errorResponse = response.getErrors().get( 0 );
-			switch ( errorResponse.getCode() ) {
-				case BaseNeo4jDialect.PROCEDURE_CALL_FAILED_CODE:
-					throw log.cannotExecuteStoredProcedure( storedProcedureName, null );
-				case BaseNeo4jDialect.PROCEDURE_NOT_FOUND_CODE:
-					throw log.procedureWithResolvedNameDoesNotExist( storedProcedureName, null );
-				default:
-					throw new HibernateException( errorResponse.getMessage() );
-			}
+		StreamingStatementResult result = client.executeQueriesAndStreamResult( txId, statements,
+				errorResponse -> storedProcedureException( storedProcedureName, errorResponse ) );
+		return new HttpNeo4jMapsTupleIterator( result );
+	}
+
+	private static HibernateException storedProcedureException(String storedProcedureName, ErrorResponse errorResponse) {
+		switch ( errorResponse.getCode() ) {
+			case BaseNeo4jDialect.PROCEDURE_CALL_FAILED_CODE:
+				return log.cannotExecuteStoredProcedure( storedProcedureName, null );
+			case BaseNeo4jDialect.PROCEDURE_NOT_FOUND_CODE:
+				return log.procedureWithResolvedNameDoesNotExist( storedProcedureName, null );
+			default:
+				return new HibernateException( errorResponse.getMessage() );
 		}
-		return new HttpNeo4jMapsTupleIterator( response.getResults().get( 0 ) );
 	}
 
 	private static class HttpTuplesSupplier implements TuplesSupplier {
@@ -548,9 +604,8 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> backendQ
 		statements.addStatement( statement );
 
 		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse response = null;
 		if ( backendQuery.getSingleEntityMetadataInformationOrNull() != null ) {
-			response = client.executeQueriesInOpenTransaction( txId, statements );
+			StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
 			validate( response, nativeQuery );
 			EntityKeyMetadata entityKeyMetadata = backendQuery.getSingleEntityMetadataInformationOrNull().getEntityKeyMetadata();
 			HttpNeo4jEntityQueries queries = getEntityQueries( entityKeyMetadata, tupleContext );
@@ -574,9 +629,9 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> backendQ
 		}
 		else {
 			statement.setResultDataContents( Arrays.asList( Statement.AS_ROW ) );
-			response = client.executeQueriesInOpenTransaction( txId, statements );
-			validate( response, nativeQuery );
-			return new HttpNeo4jMapsTupleIterator( response.getResults().get( 0 ) );
+			StreamingStatementResult result = client.executeQueriesAndStreamResult( txId, statements,
+					errorResponse -> log.nativeQueryException( errorResponse.getCode(), errorResponse.getMessage(), null ) );
+			return new HttpNeo4jMapsTupleIterator( result );
 		}
 	}
 
@@ -34,6 +34,16 @@ public final class Neo4jProperties implements OgmProperties {
 	 */
 	public static final String SEQUENCE_QUERY_CACHE_MAX_SIZE = "hibernate.ogm.neo4j.sequence_query_cache_max_size";
 
+	/**
+	 * Whether the embedded Neo4j database should be loaded in bulk import mode: the entities are written through the
+	 * Neo4j {@code BatchInserter}, without transactions, and the missing indexes and unique constraints are built when
+	 * the session factory is closed. Only the insertion of new entities and associations is supported in this mode.
+	 * The import must be run by a single thread and needs memory proportional to the number of imported nodes.
+	 * <p>
+	 * Only for the embedded Neo4j. Default is {@code false}.
+	 */
+	public static final String BULK_IMPORT = "hibernate.ogm.neo4j.bulk_import";
+
 	/**
 	 * Socket inactivity timeout in milliseconds.
 	 */
@@ -12,6 +12,7 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +26,7 @@
 import org.hibernate.ogm.model.key.spi.AssociationKind;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.util.impl.ArrayHelper;
 import org.hibernate.ogm.util.impl.EmbeddedHelper;
 
 /**
@@ -44,6 +46,7 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	public static final String EMBEDDED_ALIAS = "emb_2";
 	public static final String FIRST_EMBEDDED_REL_ALIAS = "r";
 	public static final String EMBEDDED_REL_ALIAS = "r2";
+	public static final String ROW_COUNT_ALIAS = "rowCount";
 
 	private static final int CACHE_CAPACITY = 1000;
 	private static final int CACHE_CONCURRENCY_LEVEL = 20;
@@ -61,6 +64,8 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 
 	private final BoundedConcurrentHashMap<String, String> updateEmbeddedPropertyQueryCache;
 	private final BoundedConcurrentHashMap<String, String> findAssociationQueryCache;
+	private final BoundedConcurrentHashMap<String, String> findAssociationWithOwnerQueryCache;
+	private final BoundedConcurrentHashMap<String, String> countAssociationQueryCache;
 	private final BoundedConcurrentHashMap<Integer, String> multiGetQueryCache;
 
 	private final String removeToOneAssociation;
@@ -90,6 +95,8 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.includeEmbedded = includeEmbedded;
 		this.updateEmbeddedPropertyQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.findAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.findAssociationWithOwnerQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.countAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.multiGetQueryCache = new BoundedConcurrentHashMap<Integer, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 
 		this.findAssociationPartialQuery = initMatchOwnerEntityNode( entityKeyMetadata );
@@ -347,25 +354,91 @@ private String completeFindAssociationQuery(String relationshipType, Association
 	 * Example:
 	 *
 	 * MATCH (owner:ENTITY:Car {`carId.maker`: {0}, `carId.model`: {1}}) <-[r:tires]- (target)
+	 * RETURN count(r) AS rowCount
+	 */
+	private String completeCountAssociationQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
+		StringBuilder queryBuilder = findAssociationPartialQuery( relationshipType, associationKeyMetadata );
+		queryBuilder.append( "RETURN count(r) AS " );
+		queryBuilder.append( ROW_COUNT_ALIAS );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:Person {id: {0}}) -[r:addresses]-> (target:ENTITY:Address)
+	 * WHERE r.`addressType` = {1} AND target.`id` = {2}
+	 * WITH r LIMIT 1
+	 * RETURN count(r) AS rowCount
+	 *
+	 * Index columns are properties of the relationship, the other columns are properties of the target node.
+	 */
+	private String completeCountAssociationRowQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata, String[] rowColumnNames) {
+		StringBuilder queryBuilder = findAssociationPartialQuery( relationshipType, associationKeyMetadata );
+		int offset = keyColumns.length;
+		queryBuilder.append( "WHERE " );
+		for ( int i = 0; i < rowColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				queryBuilder.append( " AND " );
+			}
+			if ( ArrayHelper.contains( associationKeyMetadata.getRowKeyIndexColumnNames(), rowColumnNames[i] ) ) {
+				queryBuilder.append( "r." );
+				escapeIdentifier( queryBuilder, rowColumnNames[i] );
+			}
+			else {
+				queryBuilder.append( "target." );
+				escapeIdentifier( queryBuilder, associationKeyMetadata.getAssociatedEntityKeyMetadata().getCorrespondingEntityKeyColumn( rowColumnNames[i] ) );
+			}
+			queryBuilder.append( " = {" );
+			queryBuilder.append( offset + i );
+			queryBuilder.append( "}" );
+		}
+		queryBuilder.append( " WITH r LIMIT 1 RETURN count(r) AS " );
+		queryBuilder.append( ROW_COUNT_ALIAS );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:Car {`carId.maker`: {0}, `carId.model`: {1}})
+	 * OPTIONAL MATCH (owner) <-[r:tires]- (target)
 	 * OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED)
-	 * RETURN id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)
+	 * RETURN id(r), r, owner, target, extract(n IN x| type(n)), e ORDER BY id(r)
 	 *
 	 * or for embedded associations:
 	 *
-	 * MATCH (owner:ENTITY:StoryGame {id: {0}}) -[:evilBranch]-> (:EMBEDDED) -[r:additionalEndings]-> (target:EMBEDDED)
+	 * MATCH (owner:ENTITY:StoryGame {id: {0}})
+	 * OPTIONAL MATCH (owner) -[:evilBranch]-> (:EMBEDDED) -[r:additionalEndings]-> (target:EMBEDDED)
 	 * OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED)
-	 * RETURN id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)
+	 * RETURN id(r), r, owner, target, extract(n IN x| type(n)), e ORDER BY id(r)
+	 *
+	 * The result is empty if the owner does not exist; if the association is empty, there is a single row with a null
+	 * relationship. There is a row for each embedded node of a target, rows of the same relationship are consecutive.
 	 */
-	protected String getFindAssociationTargetEmbeddedValues(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
-		StringBuilder queryBuilder = findAssociationPartialQuery( relationshipType, associationKeyMetadata );
+	private String completeFindAssociationWithOwnerQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder( findAssociationPartialQuery );
+		queryBuilder.append( " OPTIONAL MATCH (" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ")" );
+		appendAssociationPath( queryBuilder, relationshipType, associationKeyMetadata );
 		queryBuilder.append( "OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED) " );
-		// Should we split this in two Queries?
-		queryBuilder.append( "RETURN id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)" );
+		queryBuilder.append( "RETURN id(r), r, " );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ", target, extract(n IN x| type(n)), e ORDER BY id(r)" );
 		return queryBuilder.toString();
 	}
 
 	private StringBuilder findAssociationPartialQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
 		StringBuilder queryBuilder = new StringBuilder( findAssociationPartialQuery );
+		appendAssociationPath( queryBuilder, relationshipType, associationKeyMetadata );
+		return queryBuilder;
+	}
+
+	/*
+	 * Appends the path from the owner node to the target nodes of the association.
+	 */
+	private void appendAssociationPath(StringBuilder queryBuilder, String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
 		if ( isPartOfEmbedded( relationshipType ) ) {
 			String[] path = split( relationshipType );
 			int index = 0;
@@ -399,7 +472,6 @@ private StringBuilder findAssociationPartialQuery(String relationshipType, Assoc
 			}
 			queryBuilder.append( ' ' );
 		}
-		return queryBuilder;
 	}
 
 	/*
@@ -623,6 +695,32 @@ public String getFindAssociationQuery(String relationshipType, AssociationKeyMet
 		);
 	}
 
+	/**
+	 * Returns the query finding the rows of an association together with the embedded values of the targets, also
+	 * telling whether the owner exists, so that an association can be loaded with a single statement.
+	 *
+	 * @param relationshipType the type of the relationships of the association
+	 * @param associationKeyMetadata the metadata of the association
+	 * @return the query, parameterized with the key of the owner
+	 */
+	public String getFindAssociationWithOwnerQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
+		return findAssociationWithOwnerQueryCache.computeIfAbsent( associationKeyMetadata.getCollectionRole(),
+				role -> completeFindAssociationWithOwnerQuery( relationshipType, associationKeyMetadata )
+		);
+	}
+
+	public String getCountAssociationQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
+		return countAssociationQueryCache.computeIfAbsent( associationKeyMetadata.getCollectionRole(),
+				role -> completeCountAssociationQuery( relationshipType, associationKeyMetadata )
+		);
+	}
+
+	public String getCountAssociationRowQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata, String[] rowColumnNames) {
+		return countAssociationQueryCache.computeIfAbsent( associationKeyMetadata.getCollectionRole() + Arrays.toString( rowColumnNames ),
+				role -> completeCountAssociationRowQuery( relationshipType, associationKeyMetadata, rowColumnNames )
+		);
+	}
+
 	/*
 	 * When the id is mapped on several properties
 	 */
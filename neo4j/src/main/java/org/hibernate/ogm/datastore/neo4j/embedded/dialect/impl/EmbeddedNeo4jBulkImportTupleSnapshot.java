@@ -0,0 +1,68 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * Represents the Tuple snapshot of an entity written by a bulk import.
+ * <p>
+ * Only the properties stored on the node of the entity are available, the embedded properties and the to-one
+ * associations are not read back.
+ */
+public final class EmbeddedNeo4jBulkImportTupleSnapshot implements TupleSnapshot {
+
+	private Long node;
+	private final Map<String, Object> properties;
+
+	private EmbeddedNeo4jBulkImportTupleSnapshot(Long node, Map<String, Object> properties) {
+		this.node = node;
+		this.properties = properties;
+	}
+
+	public static EmbeddedNeo4jBulkImportTupleSnapshot emptySnapshot() {
+		return new EmbeddedNeo4jBulkImportTupleSnapshot( null, Collections.<String, Object>emptyMap() );
+	}
+
+	public static EmbeddedNeo4jBulkImportTupleSnapshot fromNode(long node, Map<String, Object> properties) {
+		return new EmbeddedNeo4jBulkImportTupleSnapshot( node, properties );
+	}
+
+	@Override
+	public Object get(String column) {
+		return properties.get( column );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return properties.isEmpty();
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		return properties.keySet();
+	}
+
+	public Long getNode() {
+		return node;
+	}
+
+	public void setNode(long node) {
+		this.node = node;
+	}
+
+	/**
+	 * Whether the node of the entity has not been created yet.
+	 */
+	public boolean isNew() {
+		return node == null;
+	}
+}
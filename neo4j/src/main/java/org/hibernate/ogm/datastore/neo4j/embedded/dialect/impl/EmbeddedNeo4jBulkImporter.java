@@ -0,0 +1,342 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
+
+import static org.neo4j.graphdb.RelationshipType.withName;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata.IdSourceType;
+import org.neo4j.collection.primitive.Primitive;
+import org.neo4j.collection.primitive.PrimitiveLongLongMap;
+import org.neo4j.graphdb.Label;
+import org.neo4j.unsafe.batchinsert.BatchInserter;
+import org.neo4j.unsafe.batchinsert.BatchRelationship;
+
+/**
+ * Writes the nodes and relationships of a bulk import through a Neo4j {@link BatchInserter}.
+ * <p>
+ * The {@link BatchInserter} cannot look up nodes by property, its indexes being only built at the end of the import,
+ * so the id of the node of each imported entity is kept in memory, to create the relationships targeting it. The
+ * memory needed is therefore proportional to the number of imported entities: the node ids of entities with an
+ * integral id are kept off-heap, as primitive values, the others in a map. Relationships targeting entities which
+ * have not been imported yet are kept in memory as well and created when the target is imported, so the targets are
+ * best imported first. The values of the sequences are kept in memory too, they are written back to the database at
+ * the end of the import.
+ * <p>
+ * Like the {@link BatchInserter}, the importer is not thread-safe: the import is meant to be run by a single thread,
+ * using one session at a time.
+ */
+public class EmbeddedNeo4jBulkImporter {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final long NO_NODE = -1;
+
+	private final BatchInserter inserter;
+	private final Map<String, EntityNodes> entityNodes = new HashMap<>();
+	private final Map<EntityKey, List<PendingRelationship>> pendingRelationships = new HashMap<>();
+	private final Map<IdSourceKey, Long> sequenceValues;
+	private final Map<String, Label> labels = new HashMap<>();
+
+	private long nodeCount;
+	private long relationshipCount;
+
+	public EmbeddedNeo4jBulkImporter(BatchInserter inserter, Map<IdSourceKey, Long> sequenceValues) {
+		this.inserter = inserter;
+		this.sequenceValues = new HashMap<>( sequenceValues );
+	}
+
+	/**
+	 * Returns the id of the node of an entity imported so far.
+	 *
+	 * @param key the key of the entity
+	 * @return the id of the node, {@code null} if the entity has not been imported
+	 */
+	public Long findEntityNode(EntityKey key) {
+		EntityNodes nodes = entityNodes.get( key.getTable() );
+		if ( nodes == null ) {
+			return null;
+		}
+		long node = nodes.get( id( key ) );
+		return node == NO_NODE ? null : node;
+	}
+
+	public Map<String, Object> getNodeProperties(long node) {
+		return inserter.getNodeProperties( node );
+	}
+
+	/**
+	 * Creates the node of an entity and the pending relationships targeting it.
+	 *
+	 * @param key the key of the entity
+	 * @param properties the properties of the node
+	 * @return the id of the new node
+	 * @throws TupleAlreadyExistsException if the entity has already been imported
+	 */
+	public long createEntityNode(EntityKey key, Map<String, Object> properties) {
+		EntityNodes nodes = entityNodes.computeIfAbsent( key.getTable(), table -> new EntityNodes() );
+		Object id = id( key );
+		if ( nodes.get( id ) != NO_NODE ) {
+			throw new TupleAlreadyExistsException( key );
+		}
+
+		long node = createNode( properties, NodeLabel.ENTITY, label( key.getTable() ) );
+		nodes.put( id, node );
+
+		List<PendingRelationship> relationships = pendingRelationships.remove( key );
+		if ( relationships != null ) {
+			for ( PendingRelationship relationship : relationships ) {
+				createRelationship( relationship.start, node, relationship.type, relationship.properties );
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Creates an embedded node, without relationships.
+	 *
+	 * @param properties the properties of the node
+	 * @param table the table of the embedded collection, if the node is an element of one
+	 * @return the id of the new node
+	 */
+	public long createEmbeddedNode(Map<String, Object> properties, String table) {
+		return table == null ? createNode( properties, NodeLabel.EMBEDDED ) : createNode( properties, NodeLabel.EMBEDDED, label( table ) );
+	}
+
+	/**
+	 * Follows the path of embedded nodes starting from the given node, creating the missing ones.
+	 *
+	 * @param node the node owning the embedded nodes
+	 * @param path the relationship types leading to the embedded node
+	 * @param length the number of elements of the path to follow
+	 * @return the id of the embedded node at the end of the path
+	 */
+	public long getOrCreateEmbeddedNode(long node, String[] path, int length) {
+		long current = node;
+		for ( int i = 0; i < length; i++ ) {
+			Long embedded = findEmbeddedNode( current, path[i] );
+			if ( embedded == null ) {
+				embedded = createNode( Collections.emptyMap(), NodeLabel.EMBEDDED );
+				createRelationship( current, embedded, path[i], null );
+			}
+			current = embedded;
+		}
+		return current;
+	}
+
+	/**
+	 * Follows the path of embedded nodes starting from the given node.
+	 *
+	 * @param node the node owning the embedded nodes
+	 * @param path the relationship types leading to the embedded node
+	 * @param length the number of elements of the path to follow
+	 * @return the id of the embedded node at the end of the path, {@code null} if there is no such node
+	 */
+	public Long findEmbeddedNode(long node, String[] path, int length) {
+		Long current = node;
+		for ( int i = 0; i < length && current != null; i++ ) {
+			current = findEmbeddedNode( current, path[i] );
+		}
+		return current;
+	}
+
+	public void setNodeProperty(long node, String property, Object value) {
+		inserter.setNodeProperty( node, property, value );
+	}
+
+	public void removeNodeProperty(long node, String property) {
+		if ( inserter.nodeHasProperty( node, property ) ) {
+			inserter.removeNodeProperty( node, property );
+		}
+	}
+
+	/**
+	 * Whether the given node is the start of a relationship of the given type.
+	 */
+	public boolean hasOutgoingRelationship(long node, String type) {
+		for ( BatchRelationship relationship : inserter.getRelationships( node ) ) {
+			if ( relationship.getStartNode() == node && relationship.getType().name().equals( type ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void createRelationship(long start, long end, String type, Map<String, Object> properties) {
+		inserter.createRelationship( start, end, withName( type ), properties );
+		relationshipCount++;
+	}
+
+	/**
+	 * Creates a relationship targeting the node of an entity; if the entity has not been imported yet, the
+	 * relationship is created once it is.
+	 */
+	public void createRelationship(long start, EntityKey target, String type, Map<String, Object> properties) {
+		Long end = findEntityNode( target );
+		if ( end == null ) {
+			pendingRelationships.computeIfAbsent( target, key -> new ArrayList<>( 1 ) ).add( new PendingRelationship( start, type, properties ) );
+		}
+		else {
+			createRelationship( start, end, type, properties );
+		}
+	}
+
+	/**
+	 * Generates the next value of a sequence, starting from the value it had in the database when the import started.
+	 *
+	 * @param request the details about how to obtain the next value
+	 * @return the next value of the sequence
+	 */
+	public long nextValue(NextValueRequest request) {
+		IdSourceKey key = request.getKey();
+		Long value = sequenceValues.get( key );
+		if ( value == null ) {
+			// sequence nodes are expected to have been created up-front, table sequences upon first usage
+			if ( key.getMetadata().getType() == IdSourceType.SEQUENCE ) {
+				throw log.sequenceNotFound( key.getMetadata().getName() );
+			}
+			value = (long) request.getInitialValue();
+		}
+		sequenceValues.put( key, value + request.getIncrement() );
+		return value;
+	}
+
+	/**
+	 * Shuts the {@link BatchInserter} down, which builds the deferred indexes and constraints.
+	 *
+	 * @return the values reached by the sequences during the import
+	 */
+	public Map<IdSourceKey, Long> close() {
+		if ( !pendingRelationships.isEmpty() ) {
+			int count = 0;
+			for ( List<PendingRelationship> relationships : pendingRelationships.values() ) {
+				count += relationships.size();
+			}
+			log.bulkImportMissingTargets( count, String.valueOf( pendingRelationships.keySet() ) );
+		}
+		pendingRelationships.clear();
+		for ( EntityNodes nodes : entityNodes.values() ) {
+			nodes.close();
+		}
+		entityNodes.clear();
+
+		String storeDir = inserter.getStoreDir();
+		inserter.shutdown();
+		log.bulkImportCompleted( storeDir, nodeCount, relationshipCount );
+		return sequenceValues;
+	}
+
+	private Long findEmbeddedNode(long node, String type) {
+		for ( BatchRelationship relationship : inserter.getRelationships( node ) ) {
+			if ( relationship.getStartNode() == node && relationship.getType().name().equals( type )
+					&& inserter.nodeHasLabel( relationship.getEndNode(), NodeLabel.EMBEDDED ) ) {
+				return relationship.getEndNode();
+			}
+		}
+		return null;
+	}
+
+	private long createNode(Map<String, Object> properties, Label... nodeLabels) {
+		nodeCount++;
+		return inserter.createNode( properties, nodeLabels );
+	}
+
+	private Label label(String name) {
+		return labels.computeIfAbsent( name, Label::label );
+	}
+
+	private static Object id(EntityKey key) {
+		Object[] values = key.getColumnValues();
+		return values.length == 1 ? values[0] : Arrays.asList( values );
+	}
+
+	private static class PendingRelationship {
+
+		private final long start;
+		private final String type;
+		private final Map<String, Object> properties;
+
+		PendingRelationship(long start, String type, Map<String, Object> properties) {
+			this.start = start;
+			this.type = type;
+			this.properties = compact( properties );
+		}
+
+		private static Map<String, Object> compact(Map<String, Object> properties) {
+			if ( properties == null || properties.isEmpty() ) {
+				return null;
+			}
+			if ( properties.size() == 1 ) {
+				Map.Entry<String, Object> property = properties.entrySet().iterator().next();
+				return Collections.singletonMap( property.getKey(), property.getValue() );
+			}
+			return properties;
+		}
+	}
+
+	/**
+	 * The ids of the nodes of the entities of a table, by entity id. Integral ids are kept in an off-heap map of
+	 * primitive values, which has to be closed; the other ids, e.g. strings or composite ids, in a regular map.
+	 */
+	private static class EntityNodes {
+
+		private PrimitiveLongLongMap integralIds;
+		private Map<Object, Long> otherIds;
+
+		/**
+		 * @return the id of the node, {@link #NO_NODE} if there is none
+		 */
+		long get(Object id) {
+			if ( isIntegral( id ) ) {
+				return integralIds == null ? NO_NODE : integralIds.get( ( (Number) id ).longValue() );
+			}
+			Long node = otherIds == null ? null : otherIds.get( id );
+			return node == null ? NO_NODE : node;
+		}
+
+		void put(Object id, long node) {
+			if ( isIntegral( id ) ) {
+				if ( integralIds == null ) {
+					integralIds = Primitive.offHeapLongLongMap();
+				}
+				integralIds.put( ( (Number) id ).longValue(), node );
+			}
+			else {
+				if ( otherIds == null ) {
+					otherIds = new HashMap<>();
+				}
+				otherIds.put( id, node );
+			}
+		}
+
+		void close() {
+			if ( integralIds != null ) {
+				integralIds.close();
+				integralIds = null;
+			}
+			otherIds = null;
+		}
+
+		private static boolean isIntegral(Object id) {
+			return id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+		}
+	}
+}
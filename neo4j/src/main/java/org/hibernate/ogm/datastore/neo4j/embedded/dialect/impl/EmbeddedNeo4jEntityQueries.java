@@ -56,6 +56,49 @@ public ResourceIterator<Relationship> findAssociation(GraphDatabaseService execu
 		return executionEngine.execute( query, params( columnValues ) ).columnAs( "r" );
 	}
 
+	/**
+	 * Count the relationships representing the association.
+	 *
+	 * @param executionEngine the queries executor
+	 * @param columnValues the values for the entity key column names of the owner node
+	 * @param role the relationship type mapping the role of the association
+	 * @param associationKeyMetadata the association meta-data
+	 * @return the number of relationships
+	 */
+	public int countAssociation(GraphDatabaseService executionEngine, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		String query = getCountAssociationQuery( role, associationKeyMetadata );
+		return count( executionEngine, query, params( columnValues ) );
+	}
+
+	/**
+	 * Whether the association contains a relationship matching the given row columns.
+	 *
+	 * @param executionEngine the queries executor
+	 * @param columnValues the values for the entity key column names of the owner node
+	 * @param role the relationship type mapping the role of the association
+	 * @param associationKeyMetadata the association meta-data
+	 * @param rowColumnNames the names of the index columns or of the columns referencing the target node
+	 * @param rowColumnValues the values of the row columns
+	 * @return {@code true} if such a relationship exists, {@code false} otherwise
+	 */
+	public boolean associationRowExists(GraphDatabaseService executionEngine, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata,
+			String[] rowColumnNames, Object[] rowColumnValues) {
+		String query = getCountAssociationRowQuery( role, associationKeyMetadata, rowColumnNames );
+		Map<String, Object> params = params( columnValues );
+		params.putAll( params( rowColumnValues, columnValues.length ) );
+		return count( executionEngine, query, params ) > 0;
+	}
+
+	private static int count(GraphDatabaseService executionEngine, String query, Map<String, Object> params) {
+		ResourceIterator<Number> result = executionEngine.execute( query, params ).columnAs( ROW_COUNT_ALIAS );
+		try {
+			return result.next().intValue();
+		}
+		finally {
+			result.close();
+		}
+	}
+
 	/**
 	 * Create a single node representing an embedded element.
 	 *
@@ -8,6 +8,10 @@
 
 import static java.util.Collections.singletonMap;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jSequenceGenerator;
@@ -108,6 +112,64 @@ public void createUniqueConstraintsForTableSequences(Iterable<IdSourceKeyMetadat
 		}
 	}
 
+	/**
+	 * Reads the current value of the sequences, e.g. to generate the next values without the database during a bulk
+	 * import.
+	 *
+	 * @param idSourceKeyMetadata the metadata of the id generators
+	 * @return the current value of each existing sequence and table-based sequence
+	 */
+	public Map<IdSourceKey, Long> getSequenceValues(Iterable<IdSourceKeyMetadata> idSourceKeyMetadata) {
+		Map<IdSourceKey, Long> values = new HashMap<>();
+		try ( Transaction tx = neo4jDb.beginTx() ) {
+			for ( IdSourceKeyMetadata metadata : idSourceKeyMetadata ) {
+				if ( metadata.getType() == IdSourceType.SEQUENCE ) {
+					IdSourceKey key = IdSourceKey.forSequence( metadata );
+					Node sequence = getSequence( key );
+					if ( sequence != null ) {
+						values.put( key, ( (Number) sequence.getProperty( SEQUENCE_VALUE_PROPERTY ) ).longValue() );
+					}
+				}
+				else {
+					try ( ResourceIterator<Node> sequences = neo4jDb.findNodes( Label.label( metadata.getName() ) ) ) {
+						while ( sequences.hasNext() ) {
+							Node sequence = sequences.next();
+							if ( sequence.hasLabel( NodeLabel.TABLE_BASED_SEQUENCE ) ) {
+								IdSourceKey key = IdSourceKey.forTable( metadata, (String) sequence.getProperty( metadata.getKeyColumnName() ) );
+								values.put( key, ( (Number) sequence.getProperty( metadata.getValueColumnName() ) ).longValue() );
+							}
+						}
+					}
+				}
+			}
+			tx.success();
+		}
+		return values;
+	}
+
+	/**
+	 * Sets the current value of the given sequences, creating the missing table-based sequences.
+	 *
+	 * @param values the value of each sequence
+	 */
+	public void setSequenceValues(Map<IdSourceKey, Long> values) {
+		try ( Transaction tx = neo4jDb.beginTx() ) {
+			for ( Entry<IdSourceKey, Long> entry : values.entrySet() ) {
+				IdSourceKey key = entry.getKey();
+				Node sequence = getSequence( key );
+				if ( sequence == null ) {
+					if ( key.getMetadata().getType() == IdSourceType.SEQUENCE ) {
+						throw logger.sequenceNotFound( sequenceName( key ) );
+					}
+					addTableSequence( new NextValueRequest( key, 0, 0 ) );
+					sequence = getSequence( key );
+				}
+				sequence.setProperty( valueProperty( key ), entry.getValue() );
+			}
+			tx.success();
+		}
+	}
+
 	private void addUniqueConstraintForSequences() {
 		Transaction tx = null;
 		try {
@@ -268,10 +330,14 @@ private String getTableQuery(IdSourceKey idSourceKey) {
 	}
 
 	private Long updateSequenceValue(IdSourceKey idSourceKey, Node sequence, int increment) {
-		String valueProperty = idSourceKey.getMetadata().getType() == IdSourceType.TABLE ? idSourceKey.getMetadata().getValueColumnName() : SEQUENCE_VALUE_PROPERTY;
+		String valueProperty = valueProperty( idSourceKey );
 		Number currentValue = (Number) sequence.getProperty( valueProperty );
 		long updatedValue = currentValue.longValue() + increment;
 		sequence.setProperty( valueProperty, updatedValue );
 		return currentValue.longValue();
 	}
+
+	private String valueProperty(IdSourceKey idSourceKey) {
+		return idSourceKey.getMetadata().getType() == IdSourceType.TABLE ? idSourceKey.getMetadata().getValueColumnName() : SEQUENCE_VALUE_PROPERTY;
+	}
 }
@@ -0,0 +1,79 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.embedded.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.neo4j.unsafe.batchinsert.BatchInserter;
+import org.neo4j.unsafe.batchinsert.BatchInserters;
+
+/**
+ * Creates the {@link BatchInserter} used by the bulk import, with the same database location and configuration as
+ * the {@link EmbeddedNeo4jGraphDatabaseFactory}.
+ */
+public class EmbeddedNeo4jBatchInserterFactory {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final File dbLocation;
+
+	private final Map<String, String> configuration = new HashMap<>();
+
+	public EmbeddedNeo4jBatchInserterFactory(Map<?, ?> properties) {
+		ConfigurationPropertyReader configurationPropertyReader = new ConfigurationPropertyReader( properties );
+
+		String path = configurationPropertyReader.property( Neo4jProperties.DATABASE_PATH, String.class )
+				.required()
+				.getValue();
+
+		this.dbLocation = new File( path );
+
+		URL configurationLocation = configurationPropertyReader
+				.property( Neo4jProperties.CONFIGURATION_RESOURCE_NAME, URL.class )
+				.getValue();
+
+		if ( configurationLocation != null ) {
+			loadConfiguration( configurationLocation );
+		}
+		for ( Map.Entry<?, ?> entry : properties.entrySet() ) {
+			configuration.put( String.valueOf( entry.getKey() ), String.valueOf( entry.getValue() ) );
+		}
+	}
+
+	private void loadConfiguration(URL configurationLocation) {
+		Properties properties = new Properties();
+		try ( InputStream stream = configurationLocation.openStream() ) {
+			properties.load( stream );
+		}
+		catch (IOException e) {
+			throw log.unableToStartBulkImport( dbLocation.getPath(), e );
+		}
+		for ( String name : properties.stringPropertyNames() ) {
+			configuration.put( name, properties.getProperty( name ) );
+		}
+	}
+
+	public BatchInserter create() {
+		try {
+			return BatchInserters.inserter( dbLocation, configuration );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToStartBulkImport( dbLocation.getPath(), e );
+		}
+	}
+}
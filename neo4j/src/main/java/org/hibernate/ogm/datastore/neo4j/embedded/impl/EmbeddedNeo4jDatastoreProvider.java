@@ -6,21 +6,29 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.impl;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.ogm.datastore.neo4j.EmbeddedNeo4jBulkImportDialect;
 import org.hibernate.ogm.datastore.neo4j.EmbeddedNeo4jDialect;
 import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jBulkImporter;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jSequenceGenerator;
 import org.hibernate.ogm.datastore.neo4j.embedded.transaction.impl.EmbeddedNeo4jTransactionCoordinatorBuilder;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
+import org.hibernate.ogm.datastore.neo4j.impl.BaseNeo4jSchemaDefiner.UniqueConstraintDetails;
+import org.hibernate.ogm.datastore.neo4j.index.impl.Neo4jIndexSpec;
 import org.hibernate.ogm.datastore.neo4j.query.parsing.impl.Neo4jBasedQueryParserService;
 import org.hibernate.ogm.datastore.neo4j.spi.GraphDatabaseServiceFactory;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
@@ -30,9 +38,15 @@
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.schema.IndexCreator;
+import org.neo4j.unsafe.batchinsert.BatchInserter;
 
 /**
  * Provides access to the Neo4j system.
+ * <p>
+ * When {@link Neo4jProperties#BULK_IMPORT} is enabled, the database is only opened to set up the schema: it is then
+ * replaced by a {@link BatchInserter} until the provider is stopped, at which point the values of the sequences are
+ * written back to the database.
  *
  * @author Davide D'Alto
  */
@@ -51,6 +65,12 @@ public class EmbeddedNeo4jDatastoreProvider extends BaseDatastoreProvider implem
 
 	private Integer sequenceCacheMaxSize;
 
+	private boolean bulkImport;
+
+	private EmbeddedNeo4jBatchInserterFactory batchInserterFactory;
+
+	private EmbeddedNeo4jBulkImporter bulkImporter;
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.registry = serviceRegistry;
@@ -68,11 +88,31 @@ public void configure(Map cfg) {
 			.property( Neo4jProperties.SEQUENCE_QUERY_CACHE_MAX_SIZE, int.class )
 			.withDefault( DEFAULT_SEQUENCE_QUERY_CACHE_MAX_SIZE )
 			.getValue();
+		bulkImport = new ConfigurationPropertyReader( cfg )
+			.property( Neo4jProperties.BULK_IMPORT, boolean.class )
+			.withDefault( false )
+			.getValue();
+		if ( bulkImport ) {
+			batchInserterFactory = new EmbeddedNeo4jBatchInserterFactory( cfg );
+		}
 	}
 
 	@Override
 	public void stop() {
-		neo4jDb.shutdown();
+		if ( bulkImporter != null ) {
+			Map<IdSourceKey, Long> sequenceValues = bulkImporter.close();
+			bulkImporter = null;
+			GraphDatabaseService database = graphDbFactory.create();
+			try {
+				new EmbeddedNeo4jSequenceGenerator( database, sequenceCacheMaxSize ).setSequenceValues( sequenceValues );
+			}
+			finally {
+				database.shutdown();
+			}
+		}
+		else if ( neo4jDb != null ) {
+			neo4jDb.shutdown();
+		}
 	}
 
 	@Override
@@ -80,8 +120,11 @@ public void start() {
 		try {
 			this.neo4jDb = graphDbFactory.create();
 			this.sequenceGenerator = new EmbeddedNeo4jSequenceGenerator( neo4jDb, sequenceCacheMaxSize );
-			this.graphDbFactory = null;
-			this.sequenceCacheMaxSize = null;
+			if ( !bulkImport ) {
+				// Still needed to write back the sequences at the end of a bulk import
+				this.graphDbFactory = null;
+				this.sequenceCacheMaxSize = null;
+			}
 		}
 		catch (Exception e) {
 			throw LOG.unableToStartDatastoreProvider( e );
@@ -90,7 +133,46 @@ public void start() {
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
-		return EmbeddedNeo4jDialect.class;
+		return bulkImport ? EmbeddedNeo4jBulkImportDialect.class : EmbeddedNeo4jDialect.class;
+	}
+
+	/**
+	 * Replaces the database with a {@link BatchInserter}, once the schema has been initialized.
+	 * <p>
+	 * The current values of the sequences are read before the database is shut down, the missing indexes and
+	 * constraints are registered on the {@link BatchInserter} and built at the end of the import.
+	 *
+	 * @param indexes the indexes missing in the database
+	 * @param constraints the unique constraints missing in the database
+	 * @param allIdSourceKeyMetadata the metadata of all the sequences
+	 */
+	public void startBulkImport(List<Neo4jIndexSpec> indexes, List<UniqueConstraintDetails> constraints, Set<IdSourceKeyMetadata> allIdSourceKeyMetadata) {
+		Map<IdSourceKey, Long> sequenceValues = sequenceGenerator.getSequenceValues( allIdSourceKeyMetadata );
+		neo4jDb.shutdown();
+		neo4jDb = null;
+		sequenceGenerator = null;
+
+		BatchInserter inserter = batchInserterFactory.create();
+		batchInserterFactory = null;
+		for ( Neo4jIndexSpec index : indexes ) {
+			IndexCreator indexCreator = inserter.createDeferredSchemaIndex( index.getLabel() );
+			for ( String property : index.getProperties() ) {
+				indexCreator = indexCreator.on( property );
+			}
+			indexCreator.create();
+		}
+		for ( UniqueConstraintDetails constraint : constraints ) {
+			inserter.createDeferredConstraint( constraint.getLabel() ).assertPropertyIsUnique( constraint.getProperty() ).create();
+		}
+		bulkImporter = new EmbeddedNeo4jBulkImporter( inserter, sequenceValues );
+	}
+
+	public boolean isBulkImport() {
+		return bulkImport;
+	}
+
+	public EmbeddedNeo4jBulkImporter getBulkImporter() {
+		return bulkImporter;
 	}
 
 	public GraphDatabaseService getDatabase() {
@@ -108,6 +190,10 @@ public Class<? extends SchemaDefiner> getSchemaDefinerType() {
 
 	@Override
 	public TransactionCoordinatorBuilder getTransactionCoordinatorBuilder(TransactionCoordinatorBuilder coordinatorBuilder) {
+		if ( bulkImport ) {
+			// The batch inserter is not transactional
+			return coordinatorBuilder;
+		}
 		return new EmbeddedNeo4jTransactionCoordinatorBuilder( coordinatorBuilder, this );
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -45,6 +46,9 @@
  * value to {@link UniqueConstraintSchemaUpdateStrategy#RECREATE_QUIETLY} or
  * {@link UniqueConstraintSchemaUpdateStrategy#DROP_RECREATE_QUIETLY} will have the same effect: keep the existing
  * constraints and create the missing one.
+ * <p>
+ * When the datastore is configured for a bulk import, the missing indexes and constraints are not created right away:
+ * they are registered on the {@link org.neo4j.unsafe.batchinsert.BatchInserter} and built at the end of the import.
  *
  * @author Davide D'Alto
  * @author Gunnar Morling
@@ -53,6 +57,23 @@ public class EmbeddedNeo4jSchemaDefiner extends BaseNeo4jSchemaDefiner {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
+	private final List<Neo4jIndexSpec> deferredIndexes = new ArrayList<>();
+
+	private final List<UniqueConstraintDetails> deferredConstraints = new ArrayList<>();
+
+	@Override
+	public void initializeSchema(SchemaDefinitionContext context) {
+		super.initializeSchema( context );
+
+		EmbeddedNeo4jDatastoreProvider neo4jProvider = (EmbeddedNeo4jDatastoreProvider) context.getSessionFactory()
+				.getServiceRegistry().getService( DatastoreProvider.class );
+		if ( neo4jProvider.isBulkImport() ) {
+			neo4jProvider.startBulkImport( deferredIndexes, deferredConstraints, context.getAllIdSourceKeyMetadata() );
+			deferredIndexes.clear();
+			deferredConstraints.clear();
+		}
+	}
+
 	@Override
 	protected void createSequences(List<Sequence> sequences, Set<IdSourceKeyMetadata> allIdSourceKeyMetadata, DatastoreProvider provider) {
 		EmbeddedNeo4jDatastoreProvider neo4jProvider = (EmbeddedNeo4jDatastoreProvider) provider;
@@ -66,7 +87,12 @@ protected void createIndexesIfMissing(DatastoreProvider provider, List<Neo4jInde
 		GraphDatabaseService neo4jDb = neo4jProvider.getDatabase();
 		try ( Transaction tx = neo4jDb.beginTx() ) {
 			for ( Neo4jIndexSpec index : indexes ) {
-				createIndex( neo4jDb, index );
+				if ( !neo4jProvider.isBulkImport() ) {
+					createIndex( neo4jDb, index );
+				}
+				else if ( isIndexMissing( neo4jDb, index ) ) {
+					deferredIndexes.add( index );
+				}
 			}
 			tx.success();
 		}
@@ -79,7 +105,12 @@ protected void createUniqueConstraintsIfMissing(DatastoreProvider provider, List
 		Transaction tx = neo4jDb.beginTx();
 		try {
 			for ( UniqueConstraintDetails constraint : constraints ) {
-				createUniqueConstraint( neo4jDb, constraint );
+				if ( !neo4jProvider.isBulkImport() ) {
+					createUniqueConstraint( neo4jDb, constraint );
+				}
+				else if ( isMissingUniqueConstraint( neo4jDb, constraint ) ) {
+					deferredConstraints.add( constraint );
+				}
 			}
 			tx.success();
 		}
@@ -99,4 +99,21 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@LogMessage(level = WARN)
 	@Message(id = 1422, value = "Neo4j does not support named indexes. Property name='%1$s' is ignored!")
 	void cannotSetNameForIndex(String name);
+
+	@Message(id = 1423, value = "Operation %1$s is not supported when the embedded Neo4j database is in bulk import mode, only new entities and associations can be inserted")
+	HibernateException operationNotSupportedInBulkImport(String operation);
+
+	@Message(id = 1424, value = "Unable to start the bulk import into the Neo4j database %1$s")
+	HibernateException unableToStartBulkImport(String databasePath, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 1425, value = "%1$d relationships have not been created by the bulk import because the nodes they target have not been imported: %2$s")
+	void bulkImportMissingTargets(int count, String targets);
+
+	@LogMessage(level = INFO)
+	@Message(id = 1426, value = "Bulk import into the Neo4j database %1$s completed: %2$d nodes and %3$d relationships created")
+	void bulkImportCompleted(String databasePath, long nodes, long relationships);
+
+	@Message(id = 1427, value = "Unable to read the result of the query from the Neo4j server")
+	HibernateException unableToReadQueryResult(@Cause Exception e);
 }
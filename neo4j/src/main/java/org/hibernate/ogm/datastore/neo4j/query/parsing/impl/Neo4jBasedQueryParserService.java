@@ -36,8 +36,13 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		return parseQuery( sessionFactory, queryString, Collections.<String, Object>emptyMap(), 0 );
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters, int keysetSize) {
 		QueryParser queryParser = new QueryParser();
-		Neo4jProcessingChain processingChain = createProcessingChain( sessionFactory );
+		Neo4jProcessingChain processingChain = createProcessingChain( sessionFactory, keysetSize );
 		Neo4jQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
 
 		log.createdQuery( queryString, result );
@@ -50,9 +55,9 @@ public boolean supportsParameters() {
 		return true;
 	}
 
-	private Neo4jProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory) {
+	private Neo4jProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, int keysetSize) {
 		EntityNamesResolver entityNamesResolver = getDefinedEntityNames( sessionFactory );
-		return new Neo4jProcessingChain( sessionFactory, entityNamesResolver, Collections.<String, Object>emptyMap() );
+		return new Neo4jProcessingChain( sessionFactory, entityNamesResolver, Collections.<String, Object>emptyMap(), keysetSize );
 	}
 
 	private EntityNamesResolver getDefinedEntityNames(SessionFactory sessionFactory) {
@@ -29,6 +29,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.query.parsing.impl.KeepNamedParametersQueryRendererDelegate;
+import org.hibernate.ogm.query.parsing.impl.KeysetRestriction;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
 
@@ -47,6 +48,7 @@ public class Neo4jQueryRendererDelegate extends KeepNamedParametersQueryRenderer
 	private final Neo4jPropertyHelper propertyHelper;
 	private final SessionFactoryImplementor sessionFactory;
 	private final Neo4jAliasResolver aliasResolver;
+	private final KeysetRestriction keyset;
 	private List<OrderByClause> orderByExpressions;
 
 	/**
@@ -54,11 +56,13 @@ public class Neo4jQueryRendererDelegate extends KeepNamedParametersQueryRenderer
 	 */
 	private JoinType joinType;
 
-	public Neo4jQueryRendererDelegate(SessionFactoryImplementor sessionFactory, Neo4jAliasResolver aliasResolver, EntityNamesResolver entityNames, Neo4jPropertyHelper propertyHelper, Map<String, Object> namedParameters) {
+	public Neo4jQueryRendererDelegate(SessionFactoryImplementor sessionFactory, Neo4jAliasResolver aliasResolver, EntityNamesResolver entityNames, Neo4jPropertyHelper propertyHelper, Map<String, Object> namedParameters,
+			int keysetSize) {
 		super( propertyHelper, entityNames, singleEntityQueryBuilder( propertyHelper ), namedParameters );
 		this.sessionFactory = sessionFactory;
 		this.aliasResolver = aliasResolver;
 		this.propertyHelper = propertyHelper;
+		this.keyset = KeysetRestriction.forKeyset( keysetSize );
 	}
 
 	private static SingleEntityQueryBuilder<StringBuilder> singleEntityQueryBuilder(Neo4jPropertyHelper propertyHelper) {
@@ -79,6 +83,10 @@ private OgmEntityPersister getEntityPersister(Class<?> entityType) {
 
 	@Override
 	public Neo4jQueryParsingResult getResult() {
+		if ( keyset != null ) {
+			keyset.applyTo( builder, this::parameterValue );
+		}
+
 		String targetAlias = aliasResolver.findAliasForType( targetTypeName );
 		String label = getKeyMetaData( targetType ).getTable();
 		StringBuilder queryBuilder = new StringBuilder();
@@ -287,6 +295,18 @@ protected void addSortField(PropertyPath propertyPath, String collateName, boole
 
 		OrderByClause order = new OrderByClause( identifier.getAlias(), identifier.getPropertyName(), isAscending );
 		orderByExpressions.add( order );
+
+		if ( keyset != null ) {
+			keyset.addSortField( propertyPathWithoutAlias, isAscending );
+		}
+	}
+
+	@Override
+	public void pushWhereStrategy() {
+		super.pushWhereStrategy();
+		if ( keyset != null ) {
+			keyset.beginWhereClause( builder );
+		}
 	}
 
 	@Override
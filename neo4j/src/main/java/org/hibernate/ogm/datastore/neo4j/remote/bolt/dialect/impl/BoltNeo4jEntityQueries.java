@@ -282,61 +282,86 @@ public void removeEntity(Transaction transaction, Object[] columnValues) {
 		transaction.run( getRemoveEntityQuery(), params( columnValues ) );
 	}
 
+	/**
+	 * Finds the rows of an association, running a single statement which also checks that the owner exists.
+	 *
+	 * @return the rows of the association or {@code null} if the owner does not exist
+	 */
 	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
-		// Find the target node
-		String queryForAssociation = getFindAssociationQuery( role, associationKeyMetadata );
-
-		// Find the embedded properties of the target node
-		String queryForEmbedded = getFindAssociationTargetEmbeddedValues( role, associationKeyMetadata );
-
-		// Execute the queries
-		Map<String, Object> params = params( columnValues );
-
-		Statement associationStatement = new Statement( queryForAssociation, params );
-		StatementResult associationResult = tx.run( associationStatement );
+		return findAssociation( tx, columnValues, role, associationKeyMetadata, null );
+	}
 
-		Statement embeddedStatement = new Statement( queryForEmbedded, params );
-		StatementResult embeddedResult = tx.run( embeddedStatement );
+	/**
+	 * Finds the rows of an association, running a single statement which also checks that the owner exists.
+	 * <p>
+	 * The nodes targeted by the association, with their embedded nodes, are returned by the same statement: they are
+	 * added to the given list, one entry for each row.
+	 *
+	 * @param targets receives the target nodes, can be {@code null} if they are not needed
+	 * @return the rows of the association or {@code null} if the owner does not exist
+	 */
+	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata,
+			List<NodeWithEmbeddedNodes> targets) {
+		String query = getFindAssociationWithOwnerQuery( role, associationKeyMetadata );
+		StatementResult result = tx.run( new Statement( query, params( columnValues ) ) );
+		if ( !result.hasNext() ) {
+			return null;
+		}
 
 		List<RemoteNeo4jAssociationPropertiesRow> responseRows = new ArrayList<>();
-		Record embeddedRecord = null;
-		while ( associationResult.hasNext() ) {
-			Record record = associationResult.next();
-			Object idTarget = record.get( 0 );
-			Map<String, Object> ownerNode = record.get( ENTITY_ALIAS ).asMap();
-			Map<String, Object> targetNode = new HashMap<>( record.get( "target" ).asMap() );
-			Map<String, Object> rel = record.get( "r" ).asMap();
-
-			while ( embeddedResult.hasNext() || embeddedRecord != null ) {
-				if ( embeddedRecord == null ) {
-					embeddedRecord = embeddedResult.next();
-				}
-				Object embeddedOwnerId = embeddedRecord.get( 0 );
-				if ( embeddedOwnerId.equals( idTarget ) ) {
-					addTargetEmbeddedProperties( targetNode, embeddedRecord );
-					if ( embeddedResult.hasNext() ) {
-						embeddedRecord = embeddedResult.next();
-					}
-					else {
-						embeddedRecord = null;
-					}
+		Value currentRelationshipId = null;
+		Map<String, Object> rel = null;
+		Map<String, Object> ownerNode = null;
+		Map<String, Object> targetNode = null;
+		Map<String, Collection<Node>> targetEmbeddedNodes = null;
+		while ( result.hasNext() ) {
+			Record record = result.next();
+			Value relationshipId = record.get( 0 );
+			if ( relationshipId.isNull() ) {
+				// The owner exists but the association is empty
+				continue;
+			}
+			if ( !relationshipId.equals( currentRelationshipId ) ) {
+				if ( currentRelationshipId != null ) {
+					responseRows.add( new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode ) );
 				}
-				else {
-					break;
+				currentRelationshipId = relationshipId;
+				rel = record.get( "r" ).asMap();
+				ownerNode = record.get( ENTITY_ALIAS ).asMap();
+				targetNode = new HashMap<>( record.get( "target" ).asMap() );
+				if ( targets != null ) {
+					targetEmbeddedNodes = new HashMap<>();
+					targets.add( new NodeWithEmbeddedNodes( record.get( "target" ).asNode(), targetEmbeddedNodes ) );
 				}
 			}
-
-			RemoteNeo4jAssociationPropertiesRow associationPropertiesRow = new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode );
-			responseRows.add( associationPropertiesRow );
+			addTargetEmbeddedProperties( targetNode, record );
+			if ( targets != null && !record.get( 4 ).isNull() ) {
+				collectEmbeddedNode( record.get( 5 ).asNode(), targetEmbeddedNodes, new StringBuilder( "." ).append( concat( record.get( 4 ).asList() ) ) );
+			}
+		}
+		if ( currentRelationshipId != null ) {
+			responseRows.add( new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode ) );
 		}
 		if ( responseRows.isEmpty() ) {
 			return EMPTY_RELATIONSHIPS;
 		}
 		return new ClosableIteratorAdapter<>( responseRows.iterator() );
-
 	}
 
 	@SuppressWarnings("unchecked")
+	public int countAssociation(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		String query = getCountAssociationQuery( role, associationKeyMetadata );
+		return tx.run( query, params( columnValues ) ).single().get( ROW_COUNT_ALIAS ).asInt();
+	}
+
+	public boolean associationRowExists(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata,
+			String[] rowColumnNames, Object[] rowColumnValues) {
+		String query = getCountAssociationRowQuery( role, associationKeyMetadata, rowColumnNames );
+		Map<String, Object> params = params( columnValues );
+		params.putAll( params( rowColumnValues, columnValues.length ) );
+		return tx.run( query, params ).single().get( ROW_COUNT_ALIAS ).asInt() > 0;
+	}
+
 	private <T> List<T> asList(Record embeddeds, String alias) {
 		Value value = embeddeds.get( alias );
 		if ( value.isNull() ) {
@@ -346,9 +371,9 @@ private <T> List<T> asList(Record embeddeds, String alias) {
 	}
 
 	private void addTargetEmbeddedProperties(Map<String, Object> targetNode, Record row) {
-		if ( !row.get( 1 ).isNull() ) {
-			List<Object> pathToNode = row.get( 1 ).asList();
-			Map<String, Object> embeddedNodeProperties = (Map<String, Object>) row.get( 3 ).asMap();
+		if ( !row.get( 4 ).isNull() ) {
+			List<Object> pathToNode = row.get( 4 ).asList();
+			Map<String, Object> embeddedNodeProperties = (Map<String, Object>) row.get( 5 ).asMap();
 			String path = concat( pathToNode );
 			for ( Map.Entry<String, Object> entry : embeddedNodeProperties.entrySet() ) {
 				targetNode.put( path + "." + entry.getKey(), entry.getValue() );
@@ -15,6 +15,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
@@ -32,6 +33,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StreamingStatementResult;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
@@ -190,6 +192,12 @@ public void removeEntity(HttpNeo4jClient executionEngine, Long txId, Object[] co
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(HttpNeo4jClient executionEngine, Long txId) {
 		Statements statements = new Statements();
 		statements.addStatement( getFindEntitiesQuery() );
+		if ( txId == null ) {
+			// The rows are read while iterating, the other queries run meanwhile don't need the transaction of this one
+			StreamingStatementResult rows = executionEngine.executeQueriesAndStreamResult( null, statements,
+					errorResponse -> new HibernateException( String.valueOf( errorResponse ) ) );
+			return new StreamingNodesIterator( rows );
+		}
 		List<StatementResult> result = executeQuery( executionEngine, txId, statements );
 		return closableIterator( result );
 	}
@@ -369,63 +377,109 @@ public Statement removeEmptyEmbeddedNodesStatement(Object[] keyValues, String em
 		return new Statement( query, params );
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Finds the rows of an association, running a single statement which also checks that the owner exists.
+	 *
+	 * @return the rows of the association or {@code null} if the owner does not exist
+	 */
 	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String role,
 			AssociationKeyMetadata associationKeyMetadata) {
-		// Find the target node
-		String queryForAssociation = getFindAssociationQuery( role, associationKeyMetadata );
-
-		// Find the embedded properties of the target node
-		String queryForEmbedded = getFindAssociationTargetEmbeddedValues( role, associationKeyMetadata );
+		return findAssociation( executionEngine, txId, columnValues, role, associationKeyMetadata, null );
+	}
 
-		// Execute the queries
-		Map<String, Object> params = params( columnValues );
-		Statements statements = new Statements();
-		statements.addStatement( queryForAssociation, params, Statement.AS_ROW );
-		statements.addStatement( queryForEmbedded, params, Statement.AS_ROW );
-		List<StatementResult> response = executeQuery( executionEngine, txId, statements );
-
-		if ( response != null ) {
-			List<Row> data = response.get( 0 ).getData();
-			List<Row> embeddedNodes = response.get( 1 ).getData();
-			int embeddedNodesIndex = 0;
-			List<RemoteNeo4jAssociationPropertiesRow> responseRows = new ArrayList<>( data.size() );
-			for ( int i = 0; i < data.size(); i++ ) {
-				String idTarget = String.valueOf( data.get( i ).getRow().get( 0 ) );
+	/**
+	 * Finds the rows of an association, running a single statement which also checks that the owner exists.
+	 * <p>
+	 * The nodes targeted by the association, with their embedded nodes, are returned by the same statement: they are
+	 * added to the given list, one entry for each row. As the statement returns rows, these nodes only have properties.
+	 *
+	 * @param targets receives the target nodes, can be {@code null} if they are not needed
+	 * @return the rows of the association or {@code null} if the owner does not exist
+	 */
+	@SuppressWarnings("unchecked")
+	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String role,
+			AssociationKeyMetadata associationKeyMetadata, List<NodeWithEmbeddedNodes> targets) {
+		String query = getFindAssociationWithOwnerQuery( role, associationKeyMetadata );
+		List<StatementResult> response = executeQuery( executionEngine, txId, query, params( columnValues ), Statement.AS_ROW );
+		if ( response == null ) {
+			return null;
+		}
 
+		List<Row> data = response.get( 0 ).getData();
+		List<RemoteNeo4jAssociationPropertiesRow> responseRows = new ArrayList<>( data.size() );
+		Object currentRelationshipId = null;
+		Map<String, Object> rel = null;
+		Map<String, Object> ownerNode = null;
+		Map<String, Object> targetNode = null;
+		Map<String, Collection<Node>> targetEmbeddedNodes = null;
+		for ( Row row : data ) {
+			Object relationshipId = row.getRow().get( 0 );
+			if ( relationshipId == null ) {
+				// The owner exists but the association is empty
+				continue;
+			}
+			if ( !relationshipId.equals( currentRelationshipId ) ) {
+				if ( currentRelationshipId != null ) {
+					responseRows.add( new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode ) );
+				}
 				// Read the properties of the owner, the target and the relationship that joins them
-				Map<String, Object> rel = (Map<String, Object>) data.get( i ).getRow().get( 1 );
-				Map<String, Object> ownerNode = (Map<String, Object>) data.get( i ).getRow().get( 2 );
-				Map<String, Object> targetNode = (Map<String, Object>) data.get( i ).getRow().get( 3 );
-
-				// Read the embedded column and add them to the target node
-				while ( embeddedNodesIndex < embeddedNodes.size() ) {
-					Row row = embeddedNodes.get( embeddedNodesIndex );
-					String embeddedOwnerId = row.getRow().get( 0 ).toString();
-					if ( embeddedOwnerId.equals( idTarget ) ) {
-						addTargetEmbeddedProperties( targetNode, row );
-						embeddedNodesIndex++;
-					}
-					else {
-						break;
-					}
+				currentRelationshipId = relationshipId;
+				rel = (Map<String, Object>) row.getRow().get( 1 );
+				ownerNode = (Map<String, Object>) row.getRow().get( 2 );
+				targetNode = new HashMap<>( (Map<String, Object>) row.getRow().get( 3 ) );
+				if ( targets != null ) {
+					targetEmbeddedNodes = new HashMap<>();
+					targets.add( new NodeWithEmbeddedNodes( nodeWithProperties( (Map<String, Object>) row.getRow().get( 3 ) ), targetEmbeddedNodes ) );
 				}
-				RemoteNeo4jAssociationPropertiesRow associationPropertiesRow = new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode );
-				responseRows.add( associationPropertiesRow );
 			}
-			if ( responseRows.isEmpty() ) {
-				return EMPTY_RELATIONSHIPS;
+			// Read the embedded column and add them to the target node
+			addTargetEmbeddedProperties( targetNode, row );
+			if ( targets != null && row.getRow().get( 4 ) != null ) {
+				String path = concat( (List<String>) row.getRow().get( 4 ) );
+				targetEmbeddedNodes.put( path, Collections.singletonList( nodeWithProperties( (Map<String, Object>) row.getRow().get( 5 ) ) ) );
 			}
-			return new ClosableIteratorAdapter<>( responseRows.iterator() );
 		}
-		return EMPTY_RELATIONSHIPS;
+		if ( currentRelationshipId != null ) {
+			responseRows.add( new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode ) );
+		}
+		if ( responseRows.isEmpty() ) {
+			return EMPTY_RELATIONSHIPS;
+		}
+		return new ClosableIteratorAdapter<>( responseRows.iterator() );
+	}
+
+	public int countAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		String query = getCountAssociationQuery( role, associationKeyMetadata );
+		return count( executionEngine, txId, query, params( columnValues ) );
+	}
+
+	public boolean associationRowExists(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata,
+			String[] rowColumnNames, Object[] rowColumnValues) {
+		String query = getCountAssociationRowQuery( role, associationKeyMetadata, rowColumnNames );
+		Map<String, Object> params = params( columnValues );
+		params.putAll( params( rowColumnValues, columnValues.length ) );
+		return count( executionEngine, txId, query, params ) > 0;
+	}
+
+	private int count(HttpNeo4jClient executionEngine, Long txId, String query, Map<String, Object> params) {
+		List<StatementResult> results = executeQuery( executionEngine, txId, query, params, Statement.AS_ROW );
+		if ( results == null ) {
+			return 0;
+		}
+		return ( (Number) results.get( 0 ).getData().get( 0 ).getRow().get( 0 ) ).intValue();
 	}
 
 	@SuppressWarnings("unchecked")
+	private static Node nodeWithProperties(Map<String, Object> properties) {
+		Node node = new Node();
+		node.setProperties( properties );
+		return node;
+	}
+
 	private void addTargetEmbeddedProperties(Map<String, Object> targetNode, Row row) {
-		List<String> pathToNode = (List<String>) row.getRow().get( 1 );
+		List<String> pathToNode = (List<String>) row.getRow().get( 4 );
 		if ( pathToNode != null ) {
-			Map<String, Object> embeddedNodeProperties = (Map<String, Object>) row.getRow().get( 3 );
+			Map<String, Object> embeddedNodeProperties = (Map<String, Object>) row.getRow().get( 5 );
 			String path = concat( pathToNode );
 			for ( Map.Entry<String, Object> entry : embeddedNodeProperties.entrySet() ) {
 				targetNode.put( path + "." + entry.getKey(), entry.getValue() );
@@ -455,6 +509,63 @@ public void removeToOneAssociation(HttpNeo4jClient executionEngine, Long txId, O
 		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
 	}
 
+	/**
+	 * Groups the rows of a streamed result by owner entity.
+	 * <p>
+	 * The embedded nodes are matched starting from each owner, the rows of the same owner are therefore next to each
+	 * other.
+	 */
+	private class StreamingNodesIterator implements ClosableIterator<NodeWithEmbeddedNodes> {
+
+		private final StreamingStatementResult rows;
+		private Row nextRow;
+
+		public StreamingNodesIterator(StreamingStatementResult rows) {
+			this.rows = rows;
+			this.nextRow = nextRowWithNodes();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextRow != null;
+		}
+
+		@Override
+		public NodeWithEmbeddedNodes next() {
+			if ( nextRow == null ) {
+				throw new NoSuchElementException();
+			}
+			Node owner = findEntity( nextRow.getGraph().getNodes() );
+			Map<String, Collection<Node>> embeddedNodesMap = new HashMap<>();
+			do {
+				updateEmbeddedNodesMap( embeddedNodesMap, nextRow.getGraph().getNodes(), nextRow.getGraph().getRelationships(), owner );
+				nextRow = nextRowWithNodes();
+			}
+			while ( nextRow != null && owner.equals( findEntity( nextRow.getGraph().getNodes() ) ) );
+			return new NodeWithEmbeddedNodes( owner, embeddedNodesMap );
+		}
+
+		private Row nextRowWithNodes() {
+			while ( rows.hasNext() ) {
+				Row row = rows.next();
+				if ( row.getGraph().getNodes().size() > 0 ) {
+					return row;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public void close() {
+			rows.close();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
 
 		private final Iterator<T> iterator;
@@ -13,7 +13,7 @@
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jMapsTupleIterator;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Row;
-import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StreamingStatementResult;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 
 /**
@@ -23,8 +23,11 @@
  */
 public class HttpNeo4jMapsTupleIterator extends RemoteNeo4jMapsTupleIterator<Row> {
 
-	public HttpNeo4jMapsTupleIterator(StatementResult result) {
-		super( result.getData().iterator(), result.getColumns() );
+	private final StreamingStatementResult result;
+
+	public HttpNeo4jMapsTupleIterator(StreamingStatementResult result) {
+		super( result, result.getColumns() );
+		this.result = result;
 	}
 
 	@Override
@@ -36,4 +39,9 @@ protected TupleSnapshot tupleSnapshot(Row next, List<String> keys) {
 		}
 		return new MapTupleSnapshot( properties );
 	}
+
+	@Override
+	public void close() {
+		result.close();
+	}
 }
@@ -6,8 +6,10 @@
  */
 package org.hibernate.ogm.datastore.neo4j.remote.http.impl;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import javax.ws.rs.core.Response;
 
@@ -16,8 +18,10 @@
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.neo4j.remote.common.impl.RemoteNeo4jConfiguration;
 import org.hibernate.ogm.datastore.neo4j.remote.common.impl.RemoteNeo4jDatabaseIdentifier;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StreamingStatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.request.impl.HttpNeo4jAuthenticationFacade;
 import org.hibernate.ogm.datastore.neo4j.remote.http.request.impl.HttpNeo4jTransactionFacade;
 import org.hibernate.ogm.datastore.neo4j.remote.http.request.impl.XStreamRequestHeaderFilter;
@@ -121,6 +125,30 @@ public StatementsResponse executeQueriesInNewTransaction(Statements statements)
 		}
 	}
 
+	/**
+	 * Executes the statements and reads the rows of the result of the first one while they are received.
+	 * <p>
+	 * The HTTP connection is held until the returned result has been read or closed. The transaction cannot be used
+	 * by other requests in the meantime.
+	 *
+	 * @param txId the id of the open transaction, {@code null} to execute the statements in a new transaction
+	 * @param statements the statements to execute
+	 * @param errorHandler creates the exception thrown for the first error returned by the server
+	 * @return the result of the first statement
+	 */
+	public StreamingStatementResult executeQueriesAndStreamResult(Long txId, Statements statements, Function<ErrorResponse, RuntimeException> errorHandler) {
+		Response response = txId == null
+				? neo4jFacade.executeQuery( statements )
+				: neo4jFacade.executeQuery( txId, statements );
+		try {
+			return new StreamingStatementResult( response.readEntity( InputStream.class ), response::close, errorHandler );
+		}
+		catch (RuntimeException e) {
+			response.close();
+			throw e;
+		}
+	}
+
 	public HttpNeo4jTransaction beginTx() {
 		Response response = neo4jFacade.beginTransaction();
 		try {
@@ -0,0 +1,218 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.http.json.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the rows of the first {@link StatementResult} of a {@link StatementsResponse} while they are received.
+ * <p>
+ * Only the current row is deserialized: the parser stays positioned in the {@code data} array of the result until the
+ * next row is requested. The response is closed, releasing the HTTP connection, once the rows have been read or when
+ * {@link #close()} is called.
+ * <p>
+ * The server reports the errors after the results: the errors found before the first row are reported when the
+ * result is opened, the other ones after the last row.
+ */
+public class StreamingStatementResult implements ClosableIterator<Row> {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final String RESULTS = "results";
+	private static final String COLUMNS = "columns";
+	private static final String DATA = "data";
+	private static final String ERRORS = "errors";
+
+	private static final TypeReference<List<String>> COLUMNS_TYPE = new TypeReference<List<String>>() { };
+	private static final TypeReference<List<ErrorResponse>> ERRORS_TYPE = new TypeReference<List<ErrorResponse>>() { };
+
+	/**
+	 * Thread-safe as per the docs.
+	 */
+	private static final ObjectMapper mapper = new ObjectMapper().disable( DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES );
+
+	private final JsonParser parser;
+	private final AutoCloseable response;
+	private final Function<ErrorResponse, RuntimeException> errorHandler;
+
+	private List<String> columns = Collections.emptyList();
+	private List<ErrorResponse> errors = Collections.emptyList();
+	private Row next;
+	private boolean closed;
+
+	/**
+	 * @param content the body of the response
+	 * @param response the response, closed with the result
+	 * @param errorHandler creates the exception thrown for the first error returned by the server
+	 */
+	public StreamingStatementResult(InputStream content, AutoCloseable response, Function<ErrorResponse, RuntimeException> errorHandler) {
+		this.response = response;
+		this.errorHandler = errorHandler;
+		try {
+			this.parser = mapper.getFactory().createParser( content );
+			if ( open() ) {
+				next = readRow();
+			}
+			else {
+				finish();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			close();
+			throw e instanceof RuntimeException ? (RuntimeException) e : log.unableToReadQueryResult( e );
+		}
+	}
+
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return next != null;
+	}
+
+	@Override
+	public Row next() {
+		if ( next == null ) {
+			throw new NoSuchElementException();
+		}
+		Row current = next;
+		try {
+			next = readRow();
+		}
+		catch (IOException | RuntimeException e) {
+			close();
+			throw e instanceof RuntimeException ? (RuntimeException) e : log.unableToReadQueryResult( e );
+		}
+		return current;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			next = null;
+			try {
+				if ( parser != null ) {
+					parser.close();
+				}
+				response.close();
+			}
+			catch (Exception e) {
+				throw log.unableToReadQueryResult( e );
+			}
+		}
+	}
+
+	/*
+	 * Moves the parser to the data array of the first result.
+	 *
+	 * Returns false if there is no such array, the whole response has been read in that case.
+	 */
+	private boolean open() throws IOException {
+		if ( parser.nextToken() != JsonToken.START_OBJECT ) {
+			return false;
+		}
+		String field;
+		while ( ( field = parser.nextFieldName() ) != null ) {
+			JsonToken token = parser.nextToken();
+			if ( RESULTS.equals( field ) && token == JsonToken.START_ARRAY ) {
+				if ( parser.nextToken() == JsonToken.START_OBJECT ) {
+					if ( openFirstResult() ) {
+						return true;
+					}
+					skipToEndOfArray();
+				}
+			}
+			else {
+				readResponseField( field );
+			}
+		}
+		return false;
+	}
+
+	private boolean openFirstResult() throws IOException {
+		String field;
+		while ( ( field = parser.nextFieldName() ) != null ) {
+			JsonToken token = parser.nextToken();
+			if ( COLUMNS.equals( field ) && token == JsonToken.START_ARRAY ) {
+				columns = mapper.readValue( parser, COLUMNS_TYPE );
+			}
+			else if ( DATA.equals( field ) && token == JsonToken.START_ARRAY ) {
+				return true;
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+		return false;
+	}
+
+	private Row readRow() throws IOException {
+		if ( parser.nextToken() == JsonToken.START_OBJECT ) {
+			return mapper.readValue( parser, Row.class );
+		}
+		// End of the data array: skip the remaining results, then read the errors
+		while ( parser.nextFieldName() != null ) {
+			parser.nextToken();
+			parser.skipChildren();
+		}
+		skipToEndOfArray();
+		String field;
+		while ( ( field = parser.nextFieldName() ) != null ) {
+			parser.nextToken();
+			readResponseField( field );
+		}
+		finish();
+		return null;
+	}
+
+	private void readResponseField(String field) throws IOException {
+		if ( ERRORS.equals( field ) && parser.getCurrentToken() == JsonToken.START_ARRAY ) {
+			errors = mapper.readValue( parser, ERRORS_TYPE );
+		}
+		else {
+			parser.skipChildren();
+		}
+	}
+
+	private void skipToEndOfArray() throws IOException {
+		JsonToken token;
+		while ( ( token = parser.nextToken() ) != JsonToken.END_ARRAY && token != null ) {
+			parser.skipChildren();
+		}
+	}
+
+	private void finish() {
+		close();
+		if ( !errors.isEmpty() ) {
+			throw errorHandler.apply( errors.get( 0 ) );
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.embedded.bulkimport;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.isA;
+import static org.hibernate.ogm.utils.TestHelper.inTransaction;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.persistence.PersistenceException;
+
+import org.fest.util.Files;
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Environment;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.neo4j.Neo4j;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.embedded.impl.EmbeddedNeo4jGraphDatabaseFactory;
+import org.hibernate.ogm.datastore.neo4j.utils.EmbeddedNeo4jTestHelperDelegate;
+import org.hibernate.ogm.utils.TestHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.schema.ConstraintDefinition;
+import org.neo4j.graphdb.schema.IndexDefinition;
+
+/**
+ * Test the import of entities with {@link Neo4jProperties#BULK_IMPORT} enabled, then the access to them through a
+ * regular session factory.
+ */
+public class BulkImportTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private String dbLocation;
+
+	@Before
+	public void setup() {
+		dbLocation = EmbeddedNeo4jTestHelperDelegate.dbLocation();
+	}
+
+	@After
+	public void tearDown() {
+		Files.delete( new File( dbLocation ) );
+	}
+
+	@Test
+	public void testImportedEntitiesCanBeLoaded() throws Exception {
+		List<Long> sensorIds = new ArrayList<>();
+		try ( SessionFactory sessionFactory = sessionFactory( true ) ) {
+			inTransaction( sessionFactory, session -> {
+				for ( int i = 0; i < 10; i++ ) {
+					Sensor sensor = new Sensor( "sensor-" + i, "tag-" + i, "common" );
+					session.persist( sensor );
+					session.persist( new Reading( "reading-" + i, i * 0.5, sensor ) );
+					sensorIds.add( sensor.getId() );
+				}
+			} );
+		}
+
+		try ( SessionFactory sessionFactory = sessionFactory( false ) ) {
+			inTransaction( sessionFactory, session -> {
+				for ( int i = 0; i < 10; i++ ) {
+					Reading reading = session.get( Reading.class, "reading-" + i );
+					assertThat( reading.getValue() ).isEqualTo( i * 0.5 );
+					assertThat( reading.getSensor().getId() ).isEqualTo( sensorIds.get( i ) );
+					assertThat( reading.getSensor().getName() ).isEqualTo( "sensor-" + i );
+					assertThat( reading.getSensor().getTags() ).containsOnly( "tag-" + i, "common" );
+				}
+
+				// The sequence continues from the value reached by the import
+				Sensor sensor = new Sensor( "sensor-after-import" );
+				session.persist( sensor );
+				assertThat( sensorIds ).excludes( sensor.getId() );
+				assertThat( sensor.getId() ).isGreaterThan( sensorIds.get( sensorIds.size() - 1 ) );
+			} );
+		}
+
+		GraphDatabaseService database = graphDatabase();
+		try ( org.neo4j.graphdb.Transaction tx = database.beginTx() ) {
+			Label label = Label.label( Sensor.TABLE_NAME );
+			assertThat( uniqueConstraintProperties( database, label ) ).contains( "id" );
+			assertThat( indexedProperties( database, label ) ).contains( "name" );
+			tx.success();
+		}
+		finally {
+			database.shutdown();
+		}
+	}
+
+	@Test
+	public void testRelationshipToEntityImportedLaterIsCreated() throws Exception {
+		List<Long> sensorIds = new ArrayList<>();
+		try ( SessionFactory sessionFactory = sessionFactory( true ) ) {
+			inTransaction( sessionFactory, session -> {
+				Sensor sensor = new Sensor( "first" );
+				session.persist( sensor );
+				sensorIds.add( sensor.getId() );
+			} );
+
+			// references the sensor the sequence is going to generate next
+			inTransaction( sessionFactory, session -> {
+				Sensor notImportedYet = new Sensor( "later" );
+				notImportedYet.setId( sensorIds.get( 0 ) + 1 );
+				session.persist( new Reading( "early-reading", 1.5, notImportedYet ) );
+			} );
+
+			inTransaction( sessionFactory, session -> {
+				Sensor sensor = new Sensor( "later" );
+				session.persist( sensor );
+				sensorIds.add( sensor.getId() );
+			} );
+		}
+
+		assertThat( sensorIds.get( 1 ) ).isEqualTo( sensorIds.get( 0 ) + 1 );
+
+		try ( SessionFactory sessionFactory = sessionFactory( false ) ) {
+			inTransaction( sessionFactory, session -> {
+				Reading reading = session.get( Reading.class, "early-reading" );
+				assertThat( reading.getSensor().getId() ).isEqualTo( sensorIds.get( 1 ) );
+				assertThat( reading.getSensor().getName() ).isEqualTo( "later" );
+			} );
+		}
+	}
+
+	@Test
+	public void testRemovalIsNotSupported() throws Exception {
+		thrown.expect( PersistenceException.class );
+		thrown.expectCause( isA( HibernateException.class ) );
+		thrown.expectMessage( "OGM001423" );
+
+		try ( SessionFactory sessionFactory = sessionFactory( true ) ) {
+			inTransaction( sessionFactory, session -> {
+				Sensor sensor = new Sensor( "sensor" );
+				session.persist( sensor );
+				session.flush();
+				session.delete( sensor );
+			} );
+		}
+	}
+
+	private SessionFactory sessionFactory(boolean bulkImport) {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, Neo4j.EMBEDDED_DATASTORE_PROVIDER_NAME );
+		settings.put( Neo4jProperties.DATABASE_PATH, dbLocation );
+		settings.put( Neo4jProperties.BULK_IMPORT, bulkImport );
+		settings.put( Environment.UNIQUE_CONSTRAINT_SCHEMA_UPDATE_STRATEGY, bulkImport ? "recreate_quietly" : "skip" );
+		return TestHelper.getDefaultTestSessionFactory( settings, Sensor.class, Reading.class );
+	}
+
+	private GraphDatabaseService graphDatabase() {
+		Properties properties = new Properties();
+		properties.put( Neo4jProperties.DATABASE_PATH, dbLocation );
+		EmbeddedNeo4jGraphDatabaseFactory factory = new EmbeddedNeo4jGraphDatabaseFactory();
+		factory.initialize( properties );
+		return factory.create();
+	}
+
+	private static List<String> uniqueConstraintProperties(GraphDatabaseService database, Label label) {
+		List<String> properties = new ArrayList<>();
+		for ( ConstraintDefinition constraint : database.schema().getConstraints( label ) ) {
+			for ( String property : constraint.getPropertyKeys() ) {
+				properties.add( property );
+			}
+		}
+		return properties;
+	}
+
+	private static List<String> indexedProperties(GraphDatabaseService database, Label label) {
+		List<String> properties = new ArrayList<>();
+		for ( IndexDefinition index : database.schema().getIndexes( label ) ) {
+			for ( String property : index.getPropertyKeys() ) {
+				properties.add( property );
+			}
+		}
+		return properties;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.embedded.bulkimport;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = Sensor.TABLE_NAME, indexes = @Index(columnList = "name"))
+public class Sensor {
+
+	public static final String TABLE_NAME = "Sensor";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sensorGenerator")
+	@SequenceGenerator(name = "sensorGenerator", sequenceName = "sensor_sequence", allocationSize = 1)
+	private Long id;
+
+	private String name;
+
+	@ElementCollection
+	private Set<String> tags = new HashSet<>();
+
+	public Sensor() {
+	}
+
+	public Sensor(String name, String... tags) {
+		this.name = name;
+		for ( String tag : tags ) {
+			this.tags.add( tag );
+		}
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Set<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(Set<String> tags) {
+		this.tags = tags;
+	}
+}
@@ -218,6 +218,25 @@ public void shouldCreateIsNotNullQuery() {
 				"MATCH (e:IndexedEntity) WHERE EXISTS(e.title) RETURN e" );
 	}
 
+	@Test
+	public void shouldRestrictQueryToResultsFollowingKeyset() {
+		Neo4jQueryParsingResult parsingResult = queryParser.parseQuery(
+				"select e from IndexedEntity e where e.title = 'same' or e.title = :title order by e.position desc, e.id",
+				setUpProcessingChain( null, 2 ) );
+
+		assertThat( parsingResult.getQueryObject() ).isEqualTo( "MATCH (e:IndexedEntity) WHERE ((e.title = \"same\") OR (e.title = {title}))"
+				+ " AND ((e.position < {ogmKeyset0}) OR ((e.position = {ogmKeyset0}) AND (e.id > {ogmKeyset1}))) RETURN e ORDER BY e.position DESC, e.id" );
+	}
+
+	@Test
+	public void shouldRestrictQueryWithoutWhereClauseToResultsFollowingKeyset() {
+		Neo4jQueryParsingResult parsingResult = queryParser.parseQuery(
+				"select e from IndexedEntity e order by e.position",
+				setUpProcessingChain( null, 1 ) );
+
+		assertThat( parsingResult.getQueryObject() ).isEqualTo( "MATCH (e:IndexedEntity) WHERE e.position > {ogmKeyset0} RETURN e ORDER BY e.position" );
+	}
+
 	private void assertQuery(String hqlQuery, String expectedQuery) {
 		assertQuery( hqlQuery, null, expectedQuery );
 	}
@@ -256,6 +275,10 @@ private Neo4jQueryParsingResult parseQuery(String queryString, Map<String, Objec
 	}
 
 	private Neo4jProcessingChain setUpProcessingChain(Map<String, Object> namedParameters) {
+		return setUpProcessingChain( namedParameters, 0 );
+	}
+
+	private Neo4jProcessingChain setUpProcessingChain(Map<String, Object> namedParameters, int keysetSize) {
 		Map<String, Class<?>> entityNames = new HashMap<String, Class<?>>();
 		entityNames.put( "com.acme.IndexedEntity", IndexedEntity.class );
 		entityNames.put( "IndexedEntity", IndexedEntity.class );
@@ -264,7 +287,7 @@ private Neo4jProcessingChain setUpProcessingChain(Map<String, Object> namedParam
 		entityNames.put( "EmployeeST", EmployeeST.class );
 		EntityNamesResolver nameResolver = new MapBasedEntityNamesResolver( entityNames );
 
-		return new Neo4jProcessingChain( getSessionFactory(), nameResolver, namedParameters );
+		return new Neo4jProcessingChain( getSessionFactory(), nameResolver, namedParameters, keysetSize );
 	}
 
 	@Override
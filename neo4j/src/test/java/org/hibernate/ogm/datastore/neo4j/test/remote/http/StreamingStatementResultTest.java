@@ -0,0 +1,111 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote.http;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StreamingStatementResult;
+import org.junit.Test;
+
+/**
+ * Test the parsing of the responses of the Neo4j transactional HTTP endpoint by {@link StreamingStatementResult}.
+ */
+public class StreamingStatementResultTest {
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	@Test
+	public void shouldReadRowsOfFirstResult() {
+		StreamingStatementResult result = result( "{\"results\":["
+				+ "{\"columns\":[\"name\",\"age\"],\"data\":["
+				+ "{\"row\":[\"Alice\",31],\"meta\":[null,null]},"
+				+ "{\"row\":[\"Bob\",27],\"meta\":[null,null]}"
+				+ "],\"stats\":{\"nodes_created\":0}},"
+				+ "{\"columns\":[\"ignored\"],\"data\":[{\"row\":[1]}]}"
+				+ "],\"errors\":[]}" );
+
+		assertThat( result.getColumns() ).containsExactly( "name", "age" );
+		assertThat( closed.get() ).isFalse();
+
+		List<List<Object>> rows = new ArrayList<>();
+		while ( result.hasNext() ) {
+			rows.add( result.next().getRow() );
+		}
+		assertThat( rows ).hasSize( 2 );
+		assertThat( rows.get( 0 ) ).containsExactly( "Alice", 31 );
+		assertThat( rows.get( 1 ) ).containsExactly( "Bob", 27 );
+		assertThat( closed.get() ).isTrue();
+	}
+
+	@Test
+	public void shouldReadGraphRows() {
+		StreamingStatementResult result = result( "{\"results\":[{\"columns\":[\"n\"],\"data\":["
+				+ "{\"graph\":{\"nodes\":[{\"id\":\"12\",\"labels\":[\"ENTITY\",\"Person\"],\"properties\":{\"name\":\"Alice\"}}],"
+				+ "\"relationships\":[]}}"
+				+ "]}],\"errors\":[]}" );
+
+		Row row = result.next();
+		assertThat( row.getGraph().getNodes() ).hasSize( 1 );
+		assertThat( row.getGraph().getNodes().get( 0 ).getId() ).isEqualTo( 12L );
+		assertThat( row.getGraph().getNodes().get( 0 ).getProperties().get( "name" ) ).isEqualTo( "Alice" );
+		assertThat( result.hasNext() ).isFalse();
+		assertThat( closed.get() ).isTrue();
+	}
+
+	@Test
+	public void shouldReportErrorsWhenOpened() {
+		try {
+			result( "{\"results\":[],\"errors\":[{\"code\":\"Neo.ClientError.Statement.SyntaxError\",\"message\":\"Invalid input\"}]}" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).isEqualTo( "Neo.ClientError.Statement.SyntaxError: Invalid input" );
+			assertThat( closed.get() ).isTrue();
+			return;
+		}
+		throw new AssertionError( "The error has not been reported" );
+	}
+
+	@Test
+	public void shouldReportErrorsAfterLastRow() {
+		StreamingStatementResult result = result( "{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]}]}],"
+				+ "\"errors\":[{\"code\":\"Neo.DatabaseError.Statement.ExecutionFailed\",\"message\":\"Failed\"}]}" );
+
+		try {
+			result.next();
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).isEqualTo( "Neo.DatabaseError.Statement.ExecutionFailed: Failed" );
+			assertThat( closed.get() ).isTrue();
+			return;
+		}
+		throw new AssertionError( "The error has not been reported" );
+	}
+
+	@Test
+	public void shouldCloseResponseBeforeLastRow() {
+		StreamingStatementResult result = result( "{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]},{\"row\":[2]}]}],\"errors\":[]}" );
+
+		result.next();
+		result.close();
+
+		assertThat( closed.get() ).isTrue();
+		assertThat( result.hasNext() ).isFalse();
+	}
+
+	private StreamingStatementResult result(String json) {
+		return new StreamingStatementResult( new ByteArrayInputStream( json.getBytes( StandardCharsets.UTF_8 ) ), () -> closed.set( true ),
+				errorResponse -> new HibernateException( String.valueOf( errorResponse ) ) );
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.cfg.Configurable;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.OptionConfigurator;
+import org.hibernate.ogm.datastore.infinispan.InfinispanEmbedded;
+import org.hibernate.ogm.datastore.infinispan.options.EntryStorageType;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark comparing the read, update and scan throughput of the Infinispan Embedded entry storage types.
+ * <p>
+ * It uses a local, in-memory cache container, so only the cost of the storage type itself is measured.
+ */
+public class EntryStorageBenchmark {
+
+	private static final int NUMBER_OF_ENTITIES = 1000;
+
+	@State(Scope.Benchmark)
+	public static class SessionFactoryHolder {
+
+		@Param({ "FINE_GRAINED_ATOMIC_MAP", "WHOLE_ENTRY" })
+		EntryStorageType entryStorage;
+
+		SessionFactory sessionFactory;
+		GridDialect gridDialect;
+		OgmEntityPersister persister;
+
+		private StandardServiceRegistry serviceRegistry;
+
+		@Setup
+		public void setupSessionFactory() {
+			serviceRegistry = new StandardServiceRegistryBuilder()
+					.applySetting( OgmProperties.ENABLED, true )
+					.applySetting( OgmProperties.DATASTORE_PROVIDER, InfinispanEmbedded.DATASTORE_PROVIDER_NAME )
+					.applySetting( OgmProperties.OPTION_CONFIGURATOR, new OptionConfigurator() {
+
+						@Override
+						public void configure(Configurable configurable) {
+							configurable.configureOptionsFor( InfinispanEmbedded.class )
+								.entryStorage( entryStorage );
+						}
+					} )
+					.build();
+
+			sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Sensor.class )
+					.buildMetadata()
+					.buildSessionFactory();
+
+			gridDialect = serviceRegistry.getService( GridDialect.class );
+			persister = (OgmEntityPersister) ( (SessionFactoryImplementor) sessionFactory ).getMetamodel().entityPersister( Sensor.class );
+
+			try ( Session session = sessionFactory.openSession() ) {
+				Transaction transaction = session.beginTransaction();
+				for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+					session.persist( new Sensor( i, "sensor-" + i, "room-" + ( i % 10 ), i * 0.5d, i ) );
+				}
+				transaction.commit();
+			}
+		}
+
+		@TearDown
+		public void closeSessionFactory() {
+			sessionFactory.close();
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Benchmark
+	public Sensor read(SessionFactoryHolder holder) {
+		try ( Session session = holder.sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Sensor sensor = session.get( Sensor.class, randomId() );
+			transaction.commit();
+			return sensor;
+		}
+	}
+
+	@Benchmark
+	public Sensor update(SessionFactoryHolder holder) {
+		try ( Session session = holder.sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Sensor sensor = session.get( Sensor.class, randomId() );
+			sensor.setReadings( sensor.getReadings() + 1 );
+			transaction.commit();
+			return sensor;
+		}
+	}
+
+	@Benchmark
+	public void scan(SessionFactoryHolder holder, Blackhole blackhole) {
+		holder.gridDialect.forEachTuple(
+				supplier -> {
+					try ( ClosableIterator<Tuple> tuples = supplier.get( null ) ) {
+						while ( tuples.hasNext() ) {
+							blackhole.consume( tuples.next().get( "value" ) );
+						}
+					}
+				},
+				holder.persister.getTupleTypeContext(),
+				holder.persister.getEntityKeyMetadata()
+		);
+	}
+
+	private static long randomId() {
+		return ThreadLocalRandom.current().nextInt( NUMBER_OF_ENTITIES );
+	}
+
+	@Entity
+	public static class Sensor {
+
+		@Id
+		private long id;
+
+		private String name;
+
+		private String location;
+
+		private double value;
+
+		private long readings;
+
+		public Sensor() {
+		}
+
+		public Sensor(long id, String name, String location, double value, long readings) {
+			this.id = id;
+			this.name = name;
+			this.location = location;
+			this.value = value;
+			this.readings = readings;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getLocation() {
+			return location;
+		}
+
+		public void setLocation(String location) {
+			this.location = location;
+		}
+
+		public double getValue() {
+			return value;
+		}
+
+		public void setValue(double value) {
+			this.value = value;
+		}
+
+		public long getReadings() {
+			return readings;
+		}
+
+		public void setReadings(long readings) {
+			this.readings = readings;
+		}
+	}
+}
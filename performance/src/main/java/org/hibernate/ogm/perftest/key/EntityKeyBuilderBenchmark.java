@@ -0,0 +1,192 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.key;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A JMH benchmark measuring the throughput of building {@link EntityKey}s from entity identifiers, for simple and
+ * embedded ids.
+ * <p>
+ * It doesn't need any datastore: the session factory is bootstrapped with the in-memory map datastore and only the
+ * conversion of the identifiers into key column values is measured.
+ */
+public class EntityKeyBuilderBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class SessionFactoryHolder {
+
+		SharedSessionContractImplementor sessionImplementor;
+		OgmEntityPersister simpleIdPersister;
+		OgmEntityPersister embeddedIdPersister;
+
+		Long simpleId;
+		CompositeKey embeddedId;
+		String[] simpleIdColumnNames;
+
+		private StandardServiceRegistry serviceRegistry;
+		private SessionFactoryImplementor sessionFactory;
+		private Session session;
+
+		@Setup
+		public void setupSessionFactory() {
+			serviceRegistry = new StandardServiceRegistryBuilder()
+					.applySetting( OgmProperties.ENABLED, true )
+					.applySetting( OgmProperties.DATASTORE_PROVIDER, "map" )
+					.build();
+
+			sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( SimpleIdEntity.class )
+					.addAnnotatedClass( EmbeddedIdEntity.class )
+					.buildMetadata()
+					.buildSessionFactory();
+
+			session = sessionFactory.openSession();
+			sessionImplementor = (SharedSessionContractImplementor) session;
+
+			simpleIdPersister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( SimpleIdEntity.class );
+			embeddedIdPersister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( EmbeddedIdEntity.class );
+
+			simpleId = 42L;
+			embeddedId = new CompositeKey( "Hibernate", 42 );
+			simpleIdColumnNames = simpleIdPersister.getEntityKeyMetadata().getColumnNames();
+		}
+
+		@TearDown
+		public void closeSessionFactory() {
+			session.close();
+			sessionFactory.close();
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Benchmark
+	public EntityKey buildKeyForSimpleId(SessionFactoryHolder holder) {
+		return EntityKeyBuilder.fromPersister( holder.simpleIdPersister, holder.simpleId, holder.sessionImplementor );
+	}
+
+	@Benchmark
+	public EntityKey buildKeyForEmbeddedId(SessionFactoryHolder holder) {
+		return EntityKeyBuilder.fromPersister( holder.embeddedIdPersister, holder.embeddedId, holder.sessionImplementor );
+	}
+
+	/**
+	 * Builds the key the way it used to be done, writing the id into a temporary {@link Tuple}; kept as baseline.
+	 */
+	@Benchmark
+	public EntityKey buildKeyForSimpleIdThroughTuple(SessionFactoryHolder holder) {
+		Tuple tuple = new Tuple();
+		holder.simpleIdPersister.getGridIdentifierType().nullSafeSet( tuple, holder.simpleId, holder.simpleIdColumnNames, holder.sessionImplementor );
+
+		Object[] columnValues = new Object[holder.simpleIdColumnNames.length];
+		for ( int i = 0; i < columnValues.length; i++ ) {
+			columnValues[i] = tuple.get( holder.simpleIdColumnNames[i] );
+		}
+		return new EntityKey( holder.simpleIdPersister.getEntityKeyMetadata(), columnValues );
+	}
+
+	@Entity
+	public static class SimpleIdEntity {
+
+		@Id
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity
+	public static class EmbeddedIdEntity {
+
+		@EmbeddedId
+		private CompositeKey id;
+
+		public CompositeKey getId() {
+			return id;
+		}
+
+		public void setId(CompositeKey id) {
+			this.id = id;
+		}
+	}
+
+	@Embeddable
+	public static class CompositeKey implements Serializable {
+
+		private String name;
+		private int number;
+
+		public CompositeKey() {
+		}
+
+		public CompositeKey(String name, int number) {
+			this.name = name;
+			this.number = number;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getNumber() {
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			CompositeKey that = (CompositeKey) o;
+			return number == that.number && Objects.equals( name, that.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name, number );
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.map;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.MapStorageType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A JMH benchmark comparing the heap and off-heap storage of the map datastore.
+ * <p>
+ * The data set is kept resident during the whole run, so the garbage collector has to trace it with the heap storage
+ * only; run it with {@code -prof gc} to compare the allocation rate and the time spent in GC besides the throughput.
+ */
+public class MapStorageBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class SessionFactoryHolder {
+
+		@Param({ "HEAP", "OFF_HEAP" })
+		MapStorageType storage;
+
+		@Param({ "100000" })
+		int numberOfEntities;
+
+		SessionFactory sessionFactory;
+
+		private StandardServiceRegistry serviceRegistry;
+
+		@Setup
+		public void setupSessionFactory() {
+			serviceRegistry = new StandardServiceRegistryBuilder()
+					.applySetting( OgmProperties.ENABLED, true )
+					.applySetting( OgmProperties.DATASTORE_PROVIDER, "map" )
+					.applySetting( MapProperties.STORAGE, storage )
+					.build();
+
+			sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Measurement.class )
+					.buildMetadata()
+					.buildSessionFactory();
+
+			for ( int batch = 0; batch < numberOfEntities; batch += 1000 ) {
+				try ( Session session = sessionFactory.openSession() ) {
+					Transaction transaction = session.beginTransaction();
+					for ( int i = batch; i < Math.min( batch + 1000, numberOfEntities ); i++ ) {
+						session.persist( new Measurement( i, "station-" + ( i % 100 ), "temperature", i * 0.5d, i ) );
+					}
+					transaction.commit();
+				}
+			}
+		}
+
+		@TearDown
+		public void closeSessionFactory() {
+			sessionFactory.close();
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+
+		long randomId() {
+			return ThreadLocalRandom.current().nextInt( numberOfEntities );
+		}
+	}
+
+	@Benchmark
+	public Measurement read(SessionFactoryHolder holder) {
+		try ( Session session = holder.sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Measurement measurement = session.get( Measurement.class, holder.randomId() );
+			transaction.commit();
+			return measurement;
+		}
+	}
+
+	@Benchmark
+	public Measurement update(SessionFactoryHolder holder) {
+		try ( Session session = holder.sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Measurement measurement = session.get( Measurement.class, holder.randomId() );
+			measurement.setSamples( measurement.getSamples() + 1 );
+			transaction.commit();
+			return measurement;
+		}
+	}
+
+	@Entity
+	public static class Measurement {
+
+		@Id
+		private long id;
+
+		private String station;
+
+		private String quantity;
+
+		private double value;
+
+		private long samples;
+
+		public Measurement() {
+		}
+
+		public Measurement(long id, String station, String quantity, double value, long samples) {
+			this.id = id;
+			this.station = station;
+			this.quantity = quantity;
+			this.value = value;
+			this.samples = samples;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getStation() {
+			return station;
+		}
+
+		public void setStation(String station) {
+			this.station = station;
+		}
+
+		public String getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(String quantity) {
+			this.quantity = quantity;
+		}
+
+		public double getValue() {
+			return value;
+		}
+
+		public void setValue(double value) {
+			this.value = value;
+		}
+
+		public long getSamples() {
+			return samples;
+		}
+
+		public void setSamples(long samples) {
+			this.samples = samples;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.persister;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.type.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A JMH benchmark comparing the per-entity hydrators and dehydrators built by {@link OgmEntityPersister} with the
+ * generic path going property by property through the {@link GridType} methods.
+ */
+public class HydrationBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class PersisterHolder {
+
+		@Param({ "10", "50", "200" })
+		int numberOfColumns;
+
+		OgmEntityPersister persister;
+		GridType[] gridTypes;
+		Object[] values;
+		boolean[] includeProperties;
+		Tuple tuple;
+		SharedSessionContractImplementor session;
+
+		private StandardServiceRegistry serviceRegistry;
+		private SessionFactory sessionFactory;
+
+		@Setup
+		public void setupPersister() throws Exception {
+			Class<?> entityType = Class.forName( HydrationBenchmark.class.getPackage().getName() + ".WideEntity" + numberOfColumns );
+
+			serviceRegistry = new StandardServiceRegistryBuilder()
+					.applySetting( OgmProperties.ENABLED, true )
+					.applySetting( OgmProperties.DATASTORE_PROVIDER, "map" )
+					.build();
+
+			sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( entityType )
+					.buildMetadata()
+					.buildSessionFactory();
+
+			SessionFactoryImplementor factory = sessionFactory.unwrap( SessionFactoryImplementor.class );
+			persister = (OgmEntityPersister) factory.getMetamodel().entityPersister( entityType );
+			session = (SharedSessionContractImplementor) sessionFactory.openSession();
+
+			Type[] types = persister.getPropertyTypes();
+			TypeTranslator typeTranslator = factory.getServiceRegistry().getService( TypeTranslator.class );
+			gridTypes = new GridType[types.length];
+			values = new Object[types.length];
+			for ( int i = 0; i < types.length; i++ ) {
+				gridTypes[i] = typeTranslator.getType( types[i] );
+				values[i] = createValue( types[i].getReturnedClass(), i );
+			}
+			includeProperties = new boolean[types.length];
+			Arrays.fill( includeProperties, true );
+
+			Tuple written = new Tuple();
+			persister.getDehydrator().dehydrate( written, values, includeProperties, session );
+			Map<String, Object> columns = new HashMap<>();
+			for ( String column : written.getColumnNames() ) {
+				columns.put( column, written.get( column ) );
+			}
+			tuple = new Tuple( new MapTupleSnapshot( columns ), SnapshotType.UPDATE );
+		}
+
+		@TearDown
+		public void closeSessionFactory() {
+			( (Session) session ).close();
+			sessionFactory.close();
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+
+		private static Object createValue(Class<?> type, int index) {
+			if ( type == Integer.class ) {
+				return index;
+			}
+			else if ( type == Long.class ) {
+				return (long) index;
+			}
+			else if ( type == Double.class ) {
+				return index * 0.5d;
+			}
+			return "value-" + index;
+		}
+	}
+
+	@Benchmark
+	public Object[] hydrate(PersisterHolder holder) {
+		return holder.persister.getHydrator().hydrate( holder.tuple, false, holder.session, null );
+	}
+
+	@Benchmark
+	public Object[] hydratePerProperty(PersisterHolder holder) {
+		Object[] hydrated = new Object[holder.gridTypes.length];
+		for ( int i = 0; i < hydrated.length; i++ ) {
+			hydrated[i] = holder.gridTypes[i].hydrate( holder.tuple, holder.persister.getPropertyColumnNames( i ), holder.session, null );
+		}
+		return hydrated;
+	}
+
+	@Benchmark
+	public Tuple dehydrate(PersisterHolder holder) {
+		Tuple tuple = new Tuple();
+		holder.persister.getDehydrator().dehydrate( tuple, holder.values, holder.includeProperties, holder.session );
+		return tuple;
+	}
+
+	@Benchmark
+	public Tuple dehydratePerProperty(PersisterHolder holder) {
+		Tuple tuple = new Tuple();
+		boolean[] insertability = holder.persister.getPropertyInsertability();
+		for ( int i = 0; i < holder.gridTypes.length; i++ ) {
+			if ( holder.includeProperties[i] ) {
+				holder.gridTypes[i].nullSafeSet( tuple, holder.values[i], holder.persister.getPropertyColumnNames( i ), new boolean[] { insertability[i] }, holder.session );
+			}
+		}
+		return tuple;
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.persister;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * An entity with 10 basic columns, see {@link HydrationBenchmark}.
+ */
+@Entity
+public class WideEntity10 {
+
+	@Id
+	private long id;
+	private String column1;
+	private Integer column2;
+	private Long column3;
+	private Double column4;
+	private String column5;
+	private Integer column6;
+	private Long column7;
+	private Double column8;
+	private String column9;
+	private Integer column10;
+}
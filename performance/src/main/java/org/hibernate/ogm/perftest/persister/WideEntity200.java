@@ -0,0 +1,220 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.persister;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * An entity with 200 basic columns, see {@link HydrationBenchmark}.
+ */
+@Entity
+public class WideEntity200 {
+
+	@Id
+	private long id;
+	private String column1;
+	private Integer column2;
+	private Long column3;
+	private Double column4;
+	private String column5;
+	private Integer column6;
+	private Long column7;
+	private Double column8;
+	private String column9;
+	private Integer column10;
+	private Long column11;
+	private Double column12;
+	private String column13;
+	private Integer column14;
+	private Long column15;
+	private Double column16;
+	private String column17;
+	private Integer column18;
+	private Long column19;
+	private Double column20;
+	private String column21;
+	private Integer column22;
+	private Long column23;
+	private Double column24;
+	private String column25;
+	private Integer column26;
+	private Long column27;
+	private Double column28;
+	private String column29;
+	private Integer column30;
+	private Long column31;
+	private Double column32;
+	private String column33;
+	private Integer column34;
+	private Long column35;
+	private Double column36;
+	private String column37;
+	private Integer column38;
+	private Long column39;
+	private Double column40;
+	private String column41;
+	private Integer column42;
+	private Long column43;
+	private Double column44;
+	private String column45;
+	private Integer column46;
+	private Long column47;
+	private Double column48;
+	private String column49;
+	private Integer column50;
+	private Long column51;
+	private Double column52;
+	private String column53;
+	private Integer column54;
+	private Long column55;
+	private Double column56;
+	private String column57;
+	private Integer column58;
+	private Long column59;
+	private Double column60;
+	private String column61;
+	private Integer column62;
+	private Long column63;
+	private Double column64;
+	private String column65;
+	private Integer column66;
+	private Long column67;
+	private Double column68;
+	private String column69;
+	private Integer column70;
+	private Long column71;
+	private Double column72;
+	private String column73;
+	private Integer column74;
+	private Long column75;
+	private Double column76;
+	private String column77;
+	private Integer column78;
+	private Long column79;
+	private Double column80;
+	private String column81;
+	private Integer column82;
+	private Long column83;
+	private Double column84;
+	private String column85;
+	private Integer column86;
+	private Long column87;
+	private Double column88;
+	private String column89;
+	private Integer column90;
+	private Long column91;
+	private Double column92;
+	private String column93;
+	private Integer column94;
+	private Long column95;
+	private Double column96;
+	private String column97;
+	private Integer column98;
+	private Long column99;
+	private Double column100;
+	private String column101;
+	private Integer column102;
+	private Long column103;
+	private Double column104;
+	private String column105;
+	private Integer column106;
+	private Long column107;
+	private Double column108;
+	private String column109;
+	private Integer column110;
+	private Long column111;
+	private Double column112;
+	private String column113;
+	private Integer column114;
+	private Long column115;
+	private Double column116;
+	private String column117;
+	private Integer column118;
+	private Long column119;
+	private Double column120;
+	private String column121;
+	private Integer column122;
+	private Long column123;
+	private Double column124;
+	private String column125;
+	private Integer column126;
+	private Long column127;
+	private Double column128;
+	private String column129;
+	private Integer column130;
+	private Long column131;
+	private Double column132;
+	private String column133;
+	private Integer column134;
+	private Long column135;
+	private Double column136;
+	private String column137;
+	private Integer column138;
+	private Long column139;
+	private Double column140;
+	private String column141;
+	private Integer column142;
+	private Long column143;
+	private Double column144;
+	private String column145;
+	private Integer column146;
+	private Long column147;
+	private Double column148;
+	private String column149;
+	private Integer column150;
+	private Long column151;
+	private Double column152;
+	private String column153;
+	private Integer column154;
+	private Long column155;
+	private Double column156;
+	private String column157;
+	private Integer column158;
+	private Long column159;
+	private Double column160;
+	private String column161;
+	private Integer column162;
+	private Long column163;
+	private Double column164;
+	private String column165;
+	private Integer column166;
+	private Long column167;
+	private Double column168;
+	private String column169;
+	private Integer column170;
+	private Long column171;
+	private Double column172;
+	private String column173;
+	private Integer column174;
+	private Long column175;
+	private Double column176;
+	private String column177;
+	private Integer column178;
+	private Long column179;
+	private Double column180;
+	private String column181;
+	private Integer column182;
+	private Long column183;
+	private Double column184;
+	private String column185;
+	private Integer column186;
+	private Long column187;
+	private Double column188;
+	private String column189;
+	private Integer column190;
+	private Long column191;
+	private Double column192;
+	private String column193;
+	private Integer column194;
+	private Long column195;
+	private Double column196;
+	private String column197;
+	private Integer column198;
+	private Long column199;
+	private Double column200;
+}
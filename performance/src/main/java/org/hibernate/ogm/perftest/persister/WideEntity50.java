@@ -0,0 +1,70 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.persister;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * An entity with 50 basic columns, see {@link HydrationBenchmark}.
+ */
+@Entity
+public class WideEntity50 {
+
+	@Id
+	private long id;
+	private String column1;
+	private Integer column2;
+	private Long column3;
+	private Double column4;
+	private String column5;
+	private Integer column6;
+	private Long column7;
+	private Double column8;
+	private String column9;
+	private Integer column10;
+	private Long column11;
+	private Double column12;
+	private String column13;
+	private Integer column14;
+	private Long column15;
+	private Double column16;
+	private String column17;
+	private Integer column18;
+	private Long column19;
+	private Double column20;
+	private String column21;
+	private Integer column22;
+	private Long column23;
+	private Double column24;
+	private String column25;
+	private Integer column26;
+	private Long column27;
+	private Double column28;
+	private String column29;
+	private Integer column30;
+	private Long column31;
+	private Double column32;
+	private String column33;
+	private Integer column34;
+	private Long column35;
+	private Double column36;
+	private String column37;
+	private Integer column38;
+	private Long column39;
+	private Double column40;
+	private String column41;
+	private Integer column42;
+	private Long column43;
+	private Double column44;
+	private String column45;
+	private Integer column46;
+	private Long column47;
+	private Double column48;
+	private String column49;
+	private Integer column50;
+}